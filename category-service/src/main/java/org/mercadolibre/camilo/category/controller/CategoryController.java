@@ -7,14 +7,19 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.mercadolibre.camilo.category.dto.AncestryResponse;
 import org.mercadolibre.camilo.category.dto.BreadcrumbNode;
+import org.mercadolibre.camilo.category.dto.BreadcrumbsRequest;
+import org.mercadolibre.camilo.category.dto.BreadcrumbsResponse;
 import org.mercadolibre.camilo.category.dto.CategoryResponse;
 import org.mercadolibre.camilo.category.model.ErrorResponse;
 import org.mercadolibre.camilo.category.service.CategoryService;
+import org.mercadolibre.camilo.category.utils.ETags;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -32,16 +37,51 @@ public class CategoryController {
             description = "Obtiene todas las categorías o, si se especifica parentId, únicamente los hijos directos.")
     @ApiResponse(responseCode = "200", description = "Lista de categorías (puede ser vacía)",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = CategoryResponse.class))))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
     @ApiResponse(responseCode = "400", description = "Petición inválida",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "500", description = "Error inesperado",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping
     public ResponseEntity<Flux<CategoryResponse>> getAll(
-            @RequestParam(value = "parentId", required = false) String parentId) {
+            @RequestParam(value = "parentId", required = false) String parentId,
+            ServerWebExchange exchange) {
 
+        String etag = ETags.of(service.dataVersion(), "list", parentId);
+        if (ETags.matches(exchange, etag)) {
+            return ETags.notModified(etag);
+        }
         Flux<CategoryResponse> body = service.findAll(parentId);
         return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @Operation(summary = "Busca categorías por prefijo del nombre",
+            description = "Coincide con el inicio del nombre o de cualquiera de sus palabras, sin distinguir "
+                    + "mayúsculas ni acentos. Cada resultado incluye pathFromRoot y childrenCount.")
+    @ApiResponse(responseCode = "200", description = "Categorías encontradas (puede ser vacío)",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = CategoryResponse.class))))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
+    @ApiResponse(responseCode = "400", description = "Petición inválida",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Error inesperado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/search")
+    public ResponseEntity<Flux<CategoryResponse>> search(
+            @Parameter(description = "Prefijo a buscar", example = "tel")
+            @RequestParam("prefix") String prefix,
+            @Parameter(description = "Máximo de resultados (1-50, default 10)")
+            @RequestParam(value = "limit", required = false) Integer limit,
+            ServerWebExchange exchange) {
+        String etag = ETags.of(service.dataVersion(), "search", prefix, limit);
+        if (ETags.matches(exchange, etag)) {
+            return ETags.notModified(etag);
+        }
+        Flux<CategoryResponse> body = service.searchByPrefix(prefix, limit);
+        return ResponseEntity.ok()
+                .eTag(etag)
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(body);
     }
@@ -49,6 +89,7 @@ public class CategoryController {
     @Operation(summary = "Obtiene una categoría por id (incluye pathFromRoot y childrenCount)")
     @ApiResponse(responseCode = "200", description = "Categoría encontrada",
             content = @Content(schema = @Schema(implementation = CategoryResponse.class)))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
     @ApiResponse(responseCode = "404", description = "No encontrada",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "400", description = "Petición inválida",
@@ -56,17 +97,22 @@ public class CategoryController {
     @ApiResponse(responseCode = "500", description = "Error inesperado",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping("/{id}")
-    public Mono<ResponseEntity<CategoryResponse>> get(@PathVariable String id) {
+    public Mono<ResponseEntity<CategoryResponse>> get(@PathVariable String id, ServerWebExchange exchange) {
+        String etag = ETags.of(service.dataVersion(), id);
         return service.getWithDerived(id)
-                .map(body -> ResponseEntity.ok()
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .body(body));
+                .map(body -> ETags.matches(exchange, etag)
+                        ? ETags.<CategoryResponse>notModified(etag)
+                        : ResponseEntity.ok()
+                                .eTag(etag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(body));
     }
 
     @Operation(summary = "Breadcrumb (pathFromRoot) de una categoría",
             description = "Devuelve el breadcrumb incluyendo el nodo raíz y la propia categoría.")
     @ApiResponse(responseCode = "200", description = "Breadcrumb de la categoría",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = BreadcrumbNode.class))))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
     @ApiResponse(responseCode = "404", description = "No encontrada",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "400", description = "Petición inválida",
@@ -76,10 +122,91 @@ public class CategoryController {
     @GetMapping("/{id}/breadcrumb")
     public Mono<ResponseEntity<List<BreadcrumbNode>>> breadcrumb(
             @Parameter(description = "Identificador de la categoría")
-            @PathVariable String id) {
+            @PathVariable String id,
+            ServerWebExchange exchange) {
+        String etag = ETags.of(service.dataVersion(), "breadcrumb", id);
         return service.breadcrumb(id)
-                .map(path -> ResponseEntity.ok()
+                .map(path -> ETags.matches(exchange, etag)
+                        ? ETags.<List<BreadcrumbNode>>notModified(etag)
+                        : ResponseEntity.ok()
+                                .eTag(etag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(path));
+    }
+
+    @Operation(summary = "Breadcrumbs de varias categorías en una sola llamada",
+            description = "Devuelve un mapa id → breadcrumb (máximo 100 ids). Los ids inexistentes se listan en "
+                    + "missing en lugar de producir un 404.")
+    @ApiResponse(responseCode = "200", description = "Breadcrumbs resueltos",
+            content = @Content(schema = @Schema(implementation = BreadcrumbsResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Petición inválida (sin ids, id en blanco o demasiados ids)",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Error inesperado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @PostMapping(path = "/breadcrumbs", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<BreadcrumbsResponse>> breadcrumbs(
+            @RequestBody(required = false) BreadcrumbsRequest request) {
+        return service.breadcrumbs(request == null ? null : request.getIds())
+                .map(body -> ResponseEntity.ok()
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body(path));
+                        .body(body));
+    }
+
+    @Operation(summary = "Lista todos los descendientes de una categoría",
+            description = "Devuelve el subárbol completo (sin incluir la categoría) en pre-orden. "
+                    + "Con leavesOnly=true solo se devuelven las categorías hoja.")
+    @ApiResponse(responseCode = "200", description = "Descendientes (puede ser vacío)",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = CategoryResponse.class))))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
+    @ApiResponse(responseCode = "404", description = "No encontrada",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Petición inválida",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Error inesperado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/{id}/descendants")
+    public Mono<ResponseEntity<Flux<CategoryResponse>>> descendants(
+            @Parameter(description = "Identificador de la categoría")
+            @PathVariable String id,
+            @Parameter(description = "Solo categorías hoja (default false)")
+            @RequestParam(value = "leavesOnly", defaultValue = "false") boolean leavesOnly,
+            ServerWebExchange exchange) {
+        String etag = ETags.of(service.dataVersion(), "descendants", id, leavesOnly);
+        // La raíz se resuelve antes de comparar el ETag: un id inexistente responde 404 y no 304.
+        return service.getWithDerived(id)
+                .map(root -> ETags.matches(exchange, etag)
+                        ? ETags.<Flux<CategoryResponse>>notModified(etag)
+                        : ResponseEntity.ok()
+                                .eTag(etag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(service.descendants(id, leavesOnly)));
+    }
+
+    @Operation(summary = "Indica si una categoría es ancestro de otra",
+            description = "true si {id} está en el camino desde la raíz de {other} (sin contar la propia categoría).")
+    @ApiResponse(responseCode = "200", description = "Resultado de la comprobación",
+            content = @Content(schema = @Schema(implementation = AncestryResponse.class)))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
+    @ApiResponse(responseCode = "404", description = "Alguna de las categorías no existe",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Petición inválida",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Error inesperado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/{id}/is-ancestor-of/{other}")
+    public Mono<ResponseEntity<AncestryResponse>> isAncestorOf(
+            @Parameter(description = "Categoría candidata a ancestro")
+            @PathVariable String id,
+            @Parameter(description = "Categoría candidata a descendiente")
+            @PathVariable String other,
+            ServerWebExchange exchange) {
+        String etag = ETags.of(service.dataVersion(), "is-ancestor-of", id, other);
+        return service.isAncestorOf(id, other)
+                .map(body -> ETags.matches(exchange, etag)
+                        ? ETags.<AncestryResponse>notModified(etag)
+                        : ResponseEntity.ok()
+                                .eTag(etag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(body));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package org.mercadolibre.camilo.category.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@Schema(description = "Resultado de la comprobación de ancestro entre dos categorías")
+public class AncestryResponse {
+
+    @Schema(description = "Categoría candidata a ancestro", example = "MLA_CAT_ELECTRONICS")
+    String ancestorId;
+
+    @Schema(description = "Categoría candidata a descendiente", example = "MLA_CAT_SMARTPHONES")
+    String descendantId;
+
+    @Schema(description = "true si ancestorId es un ancestro propio de descendantId", example = "true")
+    boolean ancestor;
+}
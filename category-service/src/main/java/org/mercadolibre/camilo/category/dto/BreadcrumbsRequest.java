@@ -0,0 +1,22 @@
+package org.mercadolibre.camilo.category.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+@Value
+@Builder
+@Jacksonized
+@Schema(description = "Petición de breadcrumbs en lote")
+public class BreadcrumbsRequest {
+
+    @Singular
+    @ArraySchema(arraySchema = @Schema(description = "IDs de categoría (máximo 100 por petición)"),
+            schema = @Schema(example = "MLA1051"))
+    List<String> ids;
+}
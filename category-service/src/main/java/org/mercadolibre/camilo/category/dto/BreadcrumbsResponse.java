@@ -0,0 +1,22 @@
+package org.mercadolibre.camilo.category.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+@Value
+@Builder
+@Schema(description = "Breadcrumbs de varias categorías resueltos en una sola llamada")
+public class BreadcrumbsResponse {
+
+    @Schema(description = "Breadcrumb (pathFromRoot) por id de categoría, en el orden de la petición")
+    Map<String, List<BreadcrumbNode>> breadcrumbs;
+
+    @ArraySchema(arraySchema = @Schema(description = "IDs solicitados que no existen"),
+            schema = @Schema(example = "MLA_UNKNOWN"))
+    List<String> missing;
+}
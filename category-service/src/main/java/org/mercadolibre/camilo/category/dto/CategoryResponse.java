@@ -2,7 +2,6 @@ package org.mercadolibre.camilo.category.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
-import lombok.Singular;
 import lombok.Value;
 
 import java.util.List;
@@ -21,7 +20,6 @@ public class CategoryResponse {
     @Schema(description = "ID del padre (puede ser null en raíz)", example = "MLA1055", nullable = true)
     String parentId;
 
-    @Singular("crumb")
     @Schema(description = "Ruta desde la raíz (incluye raíz y la categoría)")
     List<BreadcrumbNode> pathFromRoot;
 
@@ -1,5 +1,6 @@
 package org.mercadolibre.camilo.category.repository;
 
+import org.mercadolibre.camilo.category.dto.BreadcrumbNode;
 import org.mercadolibre.camilo.category.model.Category;
 
 import java.util.List;
@@ -24,10 +25,72 @@ public interface CategoryRepository {
      */
     List<Category> childrenOf(String id);
 
+    /**
+     * Breadcrumb precalculado de la categoría, desde la raíz hasta ella misma (incluidas).
+     * Si falta algún ancestro, el camino empieza en el primer ancestro disponible.
+     *
+     * @param id identificador de la categoría
+     * @return lista inmutable; vacía si la categoría no existe
+     */
+    List<BreadcrumbNode> pathFromRoot(String id);
+
+    /**
+     * Profundidad de la categoría (0 para una raíz).
+     *
+     * @param id identificador de la categoría
+     * @return profundidad; {@code -1} si la categoría no existe
+     */
+    int depthOf(String id);
+
+    /**
+     * Cantidad de hijos directos de la categoría.
+     *
+     * @param id identificador de la categoría
+     * @return cantidad de hijos; 0 si no tiene o no existe
+     */
+    int childrenCount(String id);
+
+    /**
+     * Indica si {@code ancestorId} es un ancestro propio de {@code descendantId}.
+     * Se resuelve con dos comparaciones sobre la numeración en pre-orden.
+     *
+     * @param ancestorId   candidata a ancestro
+     * @param descendantId candidata a descendiente
+     * @return {@code false} si alguna no existe o si son la misma categoría
+     */
+    boolean isAncestor(String ancestorId, String descendantId);
+
+    /**
+     * Todos los descendientes (no solo hijos directos) de la categoría, en pre-orden.
+     *
+     * @param id identificador de la categoría
+     * @return vista inmutable sin copia; vacía si no existe o no tiene descendientes
+     */
+    List<Category> descendantsOf(String id);
+
+    /**
+     * Categorías cuyo nombre (o alguna de sus palabras) empieza por el prefijo, sin distinguir
+     * mayúsculas ni acentos. Primero las que coinciden desde el inicio del nombre, luego las menos
+     * profundas y por último por nombre.
+     *
+     * @param prefix prefijo libre (se normaliza igual que los nombres)
+     * @param limit  máximo de resultados
+     * @return lista ordenada; vacía si el prefijo normalizado queda vacío o no hay coincidencias
+     */
+    List<Category> searchByNamePrefix(String prefix, int limit);
+
     /**
      * Índice inmutable id → categoría (solo lectura).
      *
      * @return mapa inmutable con todas las categorías
      */
     Map<String, Category> getById();
+
+    /**
+     * Versión del snapshot de datos en memoria. Cambia siempre que cambian los datos,
+     * por lo que sirve como base para validadores HTTP (ETag).
+     *
+     * @return versión opaca del snapshot
+     */
+    long getVersion();
 }
@@ -2,9 +2,12 @@ package org.mercadolibre.camilo.category.repository.impl;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mercadolibre.camilo.category.dto.BreadcrumbNode;
 import org.mercadolibre.camilo.category.exception.CategoriesDataLoadException;
 import org.mercadolibre.camilo.category.model.Category;
 import org.mercadolibre.camilo.category.repository.CategoryRepository;
+import org.mercadolibre.camilo.category.utils.NameFolding;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,6 +16,7 @@ import org.springframework.stereotype.Repository;
 
 import java.io.InputStream;
 import java.util.*;
+import java.util.zip.CRC32;
 
 @Slf4j
 @Getter
@@ -22,6 +26,37 @@ public class CategoryRepositoryImpl implements CategoryRepository {
     private final Map<String, Category> byId;
     private final Map<String, List<Category>> childrenIndex;
 
+    /**
+     * Breadcrumb inmutable (raíz → categoría) de cada categoría, calculado una sola vez en la carga.
+     */
+    private final Map<String, List<BreadcrumbNode>> pathIndex;
+
+    /**
+     * Categorías en pre-orden: el subárbol de cada nodo ocupa un tramo contiguo.
+     */
+    private final List<Category> preorder;
+
+    /**
+     * Posición de entrada de cada categoría en {@link #preorder}.
+     */
+    private final Map<String, Integer> enter;
+
+    /**
+     * Fin exclusivo del subárbol, indexado por posición de entrada.
+     */
+    private final int[] exit;
+
+    /**
+     * Índice ordenado de nombres normalizados para búsquedas por prefijo.
+     */
+    @Getter(AccessLevel.NONE)
+    private final NameIndex nameIndex;
+
+    /**
+     * Versión del snapshot cargado (CRC32 del JSON de origen); base de los ETag.
+     */
+    private final long version;
+
     /**
      * Crea el repositorio leyendo el JSON configurado y construyendo índices inmutables.
      *
@@ -34,7 +69,9 @@ public class CategoryRepositoryImpl implements CategoryRepository {
         Objects.requireNonNull(mapper, "ObjectMapper must not be null");
 
         try (InputStream in = data.getInputStream()) {
-            List<Category> list = mapper.readValue(in, new TypeReference<>() {
+            byte[] bytes = in.readAllBytes();
+            this.version = checksum(bytes);
+            List<Category> list = mapper.readValue(bytes, new TypeReference<>() {
             });
             Map<String, Category> map = new HashMap<>(Math.max(16, list.size() * 2));
             Map<String, List<Category>> children = new HashMap<>();
@@ -63,6 +100,13 @@ public class CategoryRepositoryImpl implements CategoryRepository {
 
             this.byId = Collections.unmodifiableMap(map);
             this.childrenIndex = unmodifiableChildren(children);
+            this.pathIndex = buildPaths(this.byId);
+
+            EulerTour tour = EulerTour.of(this.byId, this.childrenIndex);
+            this.preorder = tour.preorder();
+            this.enter = tour.enter();
+            this.exit = tour.exit();
+            this.nameIndex = NameIndex.of(this.preorder, this.pathIndex);
 
             log.info("Loaded {} categories ({} invalid, {} duplicates resolved last-wins) from {}",
                     map.size(), invalid, duplicates, safeDesc(data));
@@ -76,6 +120,254 @@ public class CategoryRepositoryImpl implements CategoryRepository {
         }
     }
 
+    /**
+     * Calcula el camino desde la raíz de cada categoría reutilizando el de su padre, de modo que
+     * cada nodo se visita una vez. Si falta el padre, el camino empieza en la propia categoría;
+     * si hay un ciclo, cada nodo del ciclo recorre el ciclo completo y se corta justo antes de repetirse
+     * (ver {@link #cutCycle}), así el resultado no depende del orden de iteración. Los caminos comparten almacenamiento
+     * con el de su padre siempre que es posible, así que una cadena profunda ocupa memoria lineal.
+     */
+    private static Map<String, List<BreadcrumbNode>> buildPaths(Map<String, Category> byId) {
+        Map<String, SharedPath> paths = new HashMap<>(Math.max(16, byId.size() * 2));
+        Deque<Category> chain = new ArrayDeque<>();
+        Set<String> onChain = new HashSet<>();
+
+        for (Category start : byId.values()) {
+            if (paths.containsKey(start.getId())) continue;
+
+            SharedPath base = SharedPath.empty();
+            Category cur = start;
+            while (cur != null) {
+                SharedPath known = paths.get(cur.getId());
+                if (known != null) {
+                    base = known;
+                    break;
+                }
+                if (!onChain.add(cur.getId())) {
+                    log.warn("CategoryRepositoryImpl | cycle detected at id='{}' (path cut)", cur.getId());
+                    base = cutCycle(cur, chain, paths);
+                    break;
+                }
+                chain.push(cur);
+                String parentId = cur.getParentId();
+                cur = parentId == null || parentId.isBlank() ? null : byId.get(parentId);
+            }
+
+            while (!chain.isEmpty()) {
+                Category node = chain.pop();
+                base = base.append(BreadcrumbNode.builder().id(node.getId()).name(node.getName()).build());
+                paths.put(node.getId(), base);
+            }
+            onChain.clear();
+        }
+        return Collections.unmodifiableMap(paths);
+    }
+
+    /**
+     * Saca de {@code chain} los nodos del ciclo que se cierra en {@code closing} y le asigna a cada uno
+     * el ciclo completo, empezando por su padre y terminando en él mismo; todos quedan con un camino del
+     * largo del ciclo. Devuelve el camino de {@code closing}, base de los nodos que quedan en la cadena.
+     */
+    private static SharedPath cutCycle(Category closing, Deque<Category> chain, Map<String, SharedPath> paths) {
+        List<Category> cycle = new ArrayList<>();
+        Category node;
+        do {
+            node = chain.pop();
+            cycle.add(node);
+        } while (!node.getId().equals(closing.getId()));
+        Collections.reverse(cycle);
+
+        int n = cycle.size();
+        for (int j = 0; j < n; j++) {
+            SharedPath path = SharedPath.empty();
+            for (int t = n - 1; t >= 0; t--) {
+                Category c = cycle.get((j + t) % n);
+                path = path.append(BreadcrumbNode.builder().id(c.getId()).name(c.getName()).build());
+            }
+            paths.put(cycle.get(j).getId(), path);
+        }
+        return paths.get(closing.getId());
+    }
+
+    /**
+     * Vista inmutable de los primeros {@code size} nodos de un buffer compartido. Añadir un nodo
+     * al camino más largo del buffer escribe en el mismo buffer (como un slice); en otro caso se
+     * copia el prefijo a un buffer nuevo.
+     */
+    private static final class SharedPath extends AbstractList<BreadcrumbNode> implements RandomAccess {
+
+        private static final class Buffer {
+            private BreadcrumbNode[] nodes = new BreadcrumbNode[4];
+            private int used;
+        }
+
+        private final Buffer buffer;
+        private final int size;
+
+        private SharedPath(Buffer buffer, int size) {
+            this.buffer = buffer;
+            this.size = size;
+        }
+
+        static SharedPath empty() {
+            return new SharedPath(new Buffer(), 0);
+        }
+
+        SharedPath append(BreadcrumbNode node) {
+            Buffer target = buffer;
+            if (target.used != size) {
+                target = new Buffer();
+                target.nodes = Arrays.copyOf(buffer.nodes, Math.max(4, size * 2));
+                target.used = size;
+            } else if (target.used == target.nodes.length) {
+                target.nodes = Arrays.copyOf(target.nodes, target.nodes.length * 2);
+            }
+            target.nodes[target.used++] = node;
+            return new SharedPath(target, size + 1);
+        }
+
+        @Override
+        public BreadcrumbNode get(int index) {
+            Objects.checkIndex(index, size);
+            return buffer.nodes[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Numeración en pre-orden (entrada/salida) de todo el bosque, calculada de forma iterativa
+     * para soportar árboles profundos. Los nodos que no cuelgan de ninguna raíz (ciclos) se
+     * numeran como raíces adicionales.
+     */
+    private record EulerTour(List<Category> preorder, Map<String, Integer> enter, int[] exit) {
+
+        private record Frame(Category category, int parent) {
+        }
+
+        static EulerTour of(Map<String, Category> byId, Map<String, List<Category>> children) {
+            int n = byId.size();
+            Category[] order = new Category[n];
+            int[] parent = new int[n];
+            Map<String, Integer> enter = new HashMap<>(Math.max(16, n * 2));
+            Deque<Frame> stack = new ArrayDeque<>();
+            int next = 0;
+
+            List<Category> starts = new ArrayList<>(n);
+            for (Category c : byId.values()) {
+                String pid = c.getParentId();
+                if (pid == null || pid.isBlank() || !byId.containsKey(pid)) starts.add(c);
+            }
+            starts.addAll(byId.values());
+
+            for (Category start : starts) {
+                if (enter.containsKey(start.getId())) continue;
+                stack.push(new Frame(start, -1));
+                while (!stack.isEmpty()) {
+                    Frame frame = stack.pop();
+                    Category c = frame.category();
+                    if (enter.containsKey(c.getId()) || byId.get(c.getId()) != c) continue;
+                    int pos = next++;
+                    order[pos] = c;
+                    parent[pos] = frame.parent();
+                    enter.put(c.getId(), pos);
+                    List<Category> kids = children.getOrDefault(c.getId(), List.of());
+                    for (int k = kids.size() - 1; k >= 0; k--) {
+                        stack.push(new Frame(kids.get(k), pos));
+                    }
+                }
+            }
+
+            int[] exit = new int[n];
+            for (int i = 0; i < n; i++) exit[i] = i + 1;
+            for (int i = n - 1; i > 0; i--) {
+                if (parent[i] >= 0) exit[parent[i]] = Math.max(exit[parent[i]], exit[i]);
+            }
+            return new EulerTour(Collections.unmodifiableList(Arrays.asList(order)),
+                    Collections.unmodifiableMap(enter), exit);
+        }
+    }
+
+    /**
+     * Índice de búsqueda por prefijo: por cada categoría se indexa el nombre normalizado completo y
+     * cada sufijo que empieza en una palabra ("celulares y telefonos", "y telefonos", "telefonos").
+     * Las claves se ordenan una vez, de modo que las coincidencias de un prefijo forman un tramo
+     * contiguo que se localiza con una búsqueda binaria.
+     */
+    private record NameIndex(String[] keys, int[] owners, boolean[] leading,
+                             Category[] categories, String[] folded, int[] depth) {
+
+        static NameIndex of(List<Category> categories, Map<String, List<BreadcrumbNode>> paths) {
+            int n = categories.size();
+            Category[] cats = categories.toArray(new Category[0]);
+            String[] folded = new String[n];
+            int[] depth = new int[n];
+            List<String> keys = new ArrayList<>(n * 2);
+            List<int[]> refs = new ArrayList<>(n * 2);
+
+            for (int i = 0; i < n; i++) {
+                folded[i] = NameFolding.fold(cats[i].getName());
+                depth[i] = paths.getOrDefault(cats[i].getId(), List.of()).size();
+                String name = folded[i];
+                if (name.isEmpty()) continue;
+                keys.add(name);
+                refs.add(new int[]{i, 1});
+                for (int j = name.indexOf(' '); j >= 0; j = name.indexOf(' ', j + 1)) {
+                    keys.add(name.substring(j + 1));
+                    refs.add(new int[]{i, 0});
+                }
+            }
+
+            Integer[] order = new Integer[keys.size()];
+            for (int i = 0; i < order.length; i++) order[i] = i;
+            Arrays.sort(order, Comparator.comparing(keys::get));
+
+            String[] sortedKeys = new String[order.length];
+            int[] owners = new int[order.length];
+            boolean[] leading = new boolean[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedKeys[i] = keys.get(order[i]);
+                owners[i] = refs.get(order[i])[0];
+                leading[i] = refs.get(order[i])[1] == 1;
+            }
+            return new NameIndex(sortedKeys, owners, leading, cats, folded, depth);
+        }
+
+        List<Category> search(String prefix, int limit) {
+            String p = NameFolding.fold(prefix);
+            if (p.isEmpty() || limit <= 0) return List.of();
+
+            int from = lowerBound(p);
+            Map<Integer, Boolean> hits = new HashMap<>();
+            for (int i = from; i < keys.length && keys[i].startsWith(p); i++) {
+                hits.merge(owners[i], leading[i], Boolean::logicalOr);
+            }
+
+            return hits.entrySet().stream()
+                    .sorted(Comparator.<Map.Entry<Integer, Boolean>, Boolean>comparing(e -> !e.getValue())
+                            .thenComparingInt(e -> depth[e.getKey()])
+                            .thenComparing(e -> folded[e.getKey()])
+                            .thenComparing(e -> categories[e.getKey()].getId()))
+                    .limit(limit)
+                    .map(e -> categories[e.getKey()])
+                    .toList();
+        }
+
+        private int lowerBound(String p) {
+            int lo = 0;
+            int hi = keys.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid].compareTo(p) < 0) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+    }
+
     private static Map<String, List<Category>> unmodifiableChildren(Map<String, List<Category>> src) {
         Map<String, List<Category>> out = new HashMap<>(src.size());
         for (Map.Entry<String, List<Category>> entry : src.entrySet()) {
@@ -84,6 +376,12 @@ public class CategoryRepositoryImpl implements CategoryRepository {
         return Collections.unmodifiableMap(out);
     }
 
+    private static long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
     private String safeDesc(Resource resource) {
         try {
             return resource.getDescription();
@@ -106,4 +404,37 @@ public class CategoryRepositoryImpl implements CategoryRepository {
     public Map<String, Category> getById() {
         return byId;
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<BreadcrumbNode> pathFromRoot(String id) {
+        return pathIndex.getOrDefault(id, List.of());
+    }
+
+    @Override
+    public int depthOf(String id) {
+        return pathFromRoot(id).size() - 1;
+    }
+
+    @Override
+    public int childrenCount(String id) {
+        return childrenOf(id).size();
+    }
+
+    @Override
+    public boolean isAncestor(String ancestorId, String descendantId) {
+        Integer a = enter.get(ancestorId);
+        Integer d = enter.get(descendantId);
+        return a != null && d != null && a < d && d < exit[a];
+    }
+
+    @Override
+    public List<Category> descendantsOf(String id) {
+        Integer pos = enter.get(id);
+        return pos == null ? List.of() : preorder.subList(pos + 1, exit[pos]);
+    }
+
+    @Override
+    public List<Category> searchByNamePrefix(String prefix, int limit) {
+        return nameIndex.search(prefix, limit);
+    }
+}
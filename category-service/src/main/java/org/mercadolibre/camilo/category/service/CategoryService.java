@@ -1,14 +1,21 @@
 package org.mercadolibre.camilo.category.service;
 
+import org.mercadolibre.camilo.category.dto.AncestryResponse;
 import org.mercadolibre.camilo.category.dto.BreadcrumbNode;
+import org.mercadolibre.camilo.category.dto.BreadcrumbsResponse;
 import org.mercadolibre.camilo.category.dto.CategoryResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CategoryService {
 
+    /**
+     * Máximo de ids aceptados por {@link #breadcrumbs(Collection)}.
+     */
+    int MAX_BREADCRUMB_BATCH = 100;
 
     /**
      * Obtiene una categoría por id con campos derivados:
@@ -21,10 +28,44 @@ public interface CategoryService {
      */
     Mono<List<BreadcrumbNode>> breadcrumb(String id);
 
+    /**
+     * Resuelve en una sola llamada los breadcrumbs de varias categorías.
+     * Los ids inexistentes no producen error: se informan en {@code missing}.
+     *
+     * @param ids ids de categoría (no vacío, como máximo {@link #MAX_BREADCRUMB_BATCH}); se ignoran duplicados
+     */
+    Mono<BreadcrumbsResponse> breadcrumbs(Collection<String> ids);
+
     /**
      * Lista categorías. Si {@code parentId} es null/blanco, devuelve todas.
      * Si viene informado, lista solo los hijos del {@code parentId}.
      */
     Flux<CategoryResponse> findAll(String parentId);
 
+    /**
+     * Busca categorías cuyo nombre (o alguna palabra del nombre) empieza por {@code prefix},
+     * sin distinguir mayúsculas ni acentos. Cada resultado incluye su breadcrumb precalculado.
+     *
+     * @param prefix prefijo a buscar (obligatorio)
+     * @param limit  máximo de resultados; {@code null} usa el valor por defecto
+     */
+    Flux<CategoryResponse> searchByPrefix(String prefix, Integer limit);
+
+    /**
+     * Lista todos los descendientes de la categoría (subárbol completo, sin incluirla), en pre-orden.
+     *
+     * @param id         categoría raíz del subárbol
+     * @param leavesOnly si es {@code true}, solo las categorías sin hijos
+     */
+    Flux<CategoryResponse> descendants(String id, boolean leavesOnly);
+
+    /**
+     * Indica si {@code id} es un ancestro propio de {@code otherId}. Ambas categorías deben existir.
+     */
+    Mono<AncestryResponse> isAncestorOf(String id, String otherId);
+
+    /**
+     * Versión actual de los datos servidos; base para calcular ETags sin serializar.
+     */
+    long dataVersion();
 }
@@ -1,6 +1,8 @@
 package org.mercadolibre.camilo.category.service.impl;
 
+import org.mercadolibre.camilo.category.dto.AncestryResponse;
 import org.mercadolibre.camilo.category.dto.BreadcrumbNode;
+import org.mercadolibre.camilo.category.dto.BreadcrumbsResponse;
 import org.mercadolibre.camilo.category.dto.CategoryResponse;
 import org.mercadolibre.camilo.category.exception.CategoryNotFoundException;
 import org.mercadolibre.camilo.category.exception.InvalidRequestException;
@@ -14,13 +16,21 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CategoryServiceImpl implements CategoryService {
 
+    private static final int DEFAULT_SEARCH_LIMIT = 10;
+    private static final int MAX_SEARCH_LIMIT = 50;
+
     private final CategoryRepository repo;
 
     @Override
@@ -37,17 +47,10 @@ public class CategoryServiceImpl implements CategoryService {
                     return Mono.error(new CategoryNotFoundException(id));
                 }))
                 .map(category -> {
-                    List<BreadcrumbNode> path = buildPath(category);
-                    int children = repo.childrenOf(category.getId()).size();
+                    CategoryResponse resp = toResponse(category);
                     log.debug("CategoryService.getWithDerived | ok | id={} children={} pathLen={}",
-                            category.getId(), children, path.size());
-                    return CategoryResponse.builder()
-                            .id(category.getId())
-                            .name(category.getName())
-                            .parentId(category.getParentId())
-                            .pathFromRoot(path)
-                            .childrenCount(children)
-                            .build();
+                            category.getId(), resp.getChildrenCount(), resp.getPathFromRoot().size());
+                    return resp;
                 })
                 .doOnError(ex -> log.error("CategoryService.getWithDerived | error | id={} | type={} | msg={}",
                         id, ex.getClass().getSimpleName(), ex.getMessage()));
@@ -67,7 +70,7 @@ public class CategoryServiceImpl implements CategoryService {
                     return Mono.error(new CategoryNotFoundException(id));
                 }))
                 .map(cat -> {
-                    List<BreadcrumbNode> path = buildPath(cat);
+                    List<BreadcrumbNode> path = repo.pathFromRoot(cat.getId());
                     log.debug("CategoryService.breadcrumb | ok | id={} | pathLen={}", id, path.size());
                     return path;
                 })
@@ -75,6 +78,47 @@ public class CategoryServiceImpl implements CategoryService {
                         id, ex.getClass().getSimpleName(), ex.getMessage()));
     }
 
+    @Override
+    public Mono<BreadcrumbsResponse> breadcrumbs(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            log.warn("CategoryService.breadcrumbs | invalid ids (empty)");
+            return Mono.error(new InvalidRequestException("Category ids must not be empty"));
+        }
+        if (ids.size() > MAX_BREADCRUMB_BATCH) {
+            log.warn("CategoryService.breadcrumbs | too many ids | size={}", ids.size());
+            return Mono.error(new InvalidRequestException(
+                    "At most %d category ids are allowed per request".formatted(MAX_BREADCRUMB_BATCH)));
+        }
+        Set<String> unique = new LinkedHashSet<>();
+        for (String id : ids) {
+            if (id == null || id.isBlank()) {
+                log.warn("CategoryService.breadcrumbs | invalid id (blank)");
+                return Mono.error(new InvalidRequestException("Category id must not be blank"));
+            }
+            unique.add(id.trim());
+        }
+
+        log.info("CategoryService.breadcrumbs | resolving | size={}", unique.size());
+        return Mono.fromCallable(() -> {
+                    Map<String, List<BreadcrumbNode>> found = new LinkedHashMap<>();
+                    List<String> missing = new ArrayList<>();
+                    for (String id : unique) {
+                        if (repo.findById(id).isPresent()) {
+                            found.put(id, repo.pathFromRoot(id));
+                        } else {
+                            missing.add(id);
+                        }
+                    }
+                    log.debug("CategoryService.breadcrumbs | ok | found={} missing={}", found.size(), missing.size());
+                    return BreadcrumbsResponse.builder()
+                            .breadcrumbs(found)
+                            .missing(missing)
+                            .build();
+                })
+                .doOnError(ex -> log.error("CategoryService.breadcrumbs | error | type={} | msg={}",
+                        ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
     @Override
     public Flux<CategoryResponse> findAll(String parentId) {
         final String pid = parentId == null ? null : parentId.trim();
@@ -99,29 +143,84 @@ public class CategoryServiceImpl implements CategoryService {
                         pid, ex.getClass().getSimpleName(), ex.getMessage()));
     }
 
+    @Override
+    public Flux<CategoryResponse> searchByPrefix(String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            log.warn("CategoryService.searchByPrefix | invalid prefix (blank)");
+            return Flux.error(new InvalidRequestException("Search prefix must not be blank"));
+        }
+        int lim = limit == null ? DEFAULT_SEARCH_LIMIT : limit;
+        if (lim < 1 || lim > MAX_SEARCH_LIMIT) {
+            log.warn("CategoryService.searchByPrefix | invalid limit | limit={}", limit);
+            return Flux.error(new InvalidRequestException(
+                    "Search limit must be between 1 and %d".formatted(MAX_SEARCH_LIMIT)));
+        }
+
+        log.info("CategoryService.searchByPrefix | prefix='{}' limit={}", prefix, lim);
+        return Flux.defer(() -> Flux.fromIterable(repo.searchByNamePrefix(prefix, lim)))
+                .map(this::toResponse)
+                .doOnComplete(() -> log.debug("CategoryService.searchByPrefix | completed | prefix='{}'", prefix))
+                .doOnError(ex -> log.error("CategoryService.searchByPrefix | error | prefix='{}' | type={} | msg={}",
+                        prefix, ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
+    @Override
+    public Flux<CategoryResponse> descendants(String id, boolean leavesOnly) {
+        if (id == null || id.isBlank()) {
+            log.warn("CategoryService.descendants | invalid id (blank)");
+            return Flux.error(new InvalidRequestException("Category id must not be blank"));
+        }
+
+        log.info("CategoryService.descendants | id={} leavesOnly={}", id, leavesOnly);
+        return Mono.defer(() -> Mono.justOrEmpty(repo.findById(id)))
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("CategoryService.descendants | not found | id={}", id);
+                    return Mono.error(new CategoryNotFoundException(id));
+                }))
+                .flatMapMany(root -> Flux.fromIterable(repo.descendantsOf(root.getId())))
+                .filter(cat -> !leavesOnly || repo.childrenCount(cat.getId()) == 0)
+                .map(this::toResponse)
+                .doOnComplete(() -> log.debug("CategoryService.descendants | completed | id={}", id))
+                .doOnError(ex -> log.error("CategoryService.descendants | error | id={} | type={} | msg={}",
+                        id, ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
+    @Override
+    public Mono<AncestryResponse> isAncestorOf(String id, String otherId) {
+        if (id == null || id.isBlank() || otherId == null || otherId.isBlank()) {
+            log.warn("CategoryService.isAncestorOf | invalid ids (blank) | id={} otherId={}", id, otherId);
+            return Mono.error(new InvalidRequestException("Category ids must not be blank"));
+        }
+
+        log.info("CategoryService.isAncestorOf | id={} otherId={}", id, otherId);
+        return Mono.fromCallable(() -> {
+                    if (repo.findById(id).isEmpty()) throw new CategoryNotFoundException(id);
+                    if (repo.findById(otherId).isEmpty()) throw new CategoryNotFoundException(otherId);
+                    return AncestryResponse.builder()
+                            .ancestorId(id)
+                            .descendantId(otherId)
+                            .ancestor(repo.isAncestor(id, otherId))
+                            .build();
+                })
+                .doOnError(ex -> log.error("CategoryService.isAncestorOf | error | id={} otherId={} | type={} | msg={}",
+                        id, otherId, ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
+    @Override
+    public long dataVersion() {
+        return repo.getVersion();
+    }
+
+    /**
+     * Arma la respuesta con los campos derivados precalculados por el repositorio (sin recorrer el árbol).
+     */
     private CategoryResponse toResponse(Category cat) {
-        List<BreadcrumbNode> path = buildPath(cat);
-        int children = repo.childrenOf(cat.getId()).size();
         return CategoryResponse.builder()
                 .id(cat.getId())
                 .name(cat.getName())
                 .parentId(cat.getParentId())
-                .pathFromRoot(path)
-                .childrenCount(children)
+                .pathFromRoot(repo.pathFromRoot(cat.getId()))
+                .childrenCount(repo.childrenCount(cat.getId()))
                 .build();
     }
-
-    /**
-     * Construye el breadcrumb desde la hoja hasta la raíz.
-     * Si en algún punto falta el padre, detiene el recorrido sin lanzar excepción.
-     */
-    private List<BreadcrumbNode> buildPath(Category leaf) {
-        List<BreadcrumbNode> path = new ArrayList<>();
-        Category cur = leaf;
-        while (cur != null) {
-            path.add(0, BreadcrumbNode.builder().id(cur.getId()).name(cur.getName()).build());
-            cur = cur.getParentId() == null ? null : repo.findById(cur.getParentId()).orElse(null);
-        }
-        return path;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package org.mercadolibre.camilo.category.utils;
+
+import lombok.experimental.UtilityClass;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Normalización de nombres para búsquedas: minúsculas, sin acentos y con cualquier
+ * separador colapsado a un único espacio ("Celulares y Teléfonos" → "celulares y telefonos").
+ */
+@UtilityClass
+public class NameFolding {
+
+    public static String fold(String s) {
+        if (s == null || s.isEmpty()) return "";
+        String decomposed = Normalizer.normalize(s, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char ch = decomposed.charAt(i);
+            if (Character.getType(ch) == Character.NON_SPACING_MARK) continue;
+            if (Character.isLetterOrDigit(ch)) {
+                if (pendingSpace && !sb.isEmpty()) sb.append(' ');
+                pendingSpace = false;
+                sb.append(ch);
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -3,6 +3,7 @@ package org.mercadolibre.camilo.category.repository.impl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mercadolibre.camilo.category.dto.BreadcrumbNode;
 import org.mercadolibre.camilo.category.exception.CategoriesDataLoadException;
 import org.mercadolibre.camilo.category.model.Category;
 import org.springframework.core.io.AbstractResource;
@@ -143,4 +144,137 @@ class CategoryRepositoryImplTest {
         assertThat(repo.childrenOf("root")).isEmpty();
         assertThat(repo.getById()).hasSize(3);
     }
+
+    @Test
+    @DisplayName("Precomputes breadcrumb, depth and children count at load")
+    void precomputesPathsDepthAndChildren() {
+        String data = """
+                [
+                  {"id":"b","name":"B","parentId":"a"},
+                  {"id":"root","name":"Root"},
+                  {"id":"a","name":"A","parentId":"root"},
+                  {"id":"a2","name":"A2","parentId":"root"}
+                ]
+                """;
+        CategoryRepositoryImpl repo = new CategoryRepositoryImpl(json(data), mapper());
+
+        assertThat(repo.pathFromRoot("b")).extracting(BreadcrumbNode::getId).containsExactly("root", "a", "b");
+        assertThat(repo.pathFromRoot("b")).extracting(BreadcrumbNode::getName).containsExactly("Root", "A", "B");
+        assertThat(repo.pathFromRoot("root")).extracting(BreadcrumbNode::getId).containsExactly("root");
+        assertThat(repo.depthOf("b")).isEqualTo(2);
+        assertThat(repo.depthOf("root")).isZero();
+        assertThat(repo.depthOf("missing")).isEqualTo(-1);
+        assertThat(repo.childrenCount("root")).isEqualTo(2);
+        assertThat(repo.childrenCount("b")).isZero();
+        assertThat(repo.pathFromRoot("missing")).isEmpty();
+        assertThatThrownBy(() -> repo.pathFromRoot("b").add(BreadcrumbNode.builder().id("x").build()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Orphans start their path at themselves and cycles are cut instead of looping")
+    void orphanAndCycle_pathsTerminate() {
+        String data = """
+                [
+                  {"id":"orphan","name":"Orphan","parentId":"missingParent"},
+                  {"id":"x","name":"X","parentId":"y"},
+                  {"id":"y","name":"Y","parentId":"x"}
+                ]
+                """;
+        CategoryRepositoryImpl repo = new CategoryRepositoryImpl(json(data), mapper());
+
+        assertThat(repo.pathFromRoot("orphan")).extracting(BreadcrumbNode::getId).containsExactly("orphan");
+        assertThat(repo.pathFromRoot("x")).hasSize(2);
+        assertThat(repo.pathFromRoot("y")).hasSize(2);
+        assertThat(repo.pathFromRoot("x")).extracting(BreadcrumbNode::getId).containsExactly("y", "x");
+        assertThat(repo.pathFromRoot("y")).extracting(BreadcrumbNode::getId).containsExactly("x", "y");
+    }
+
+    @Test
+    @DisplayName("Pre-order numbering answers ancestor checks and returns subtrees as contiguous slices")
+    void eulerTour_ancestorsAndDescendants() {
+        String data = """
+                [
+                  {"id":"root","name":"Root"},
+                  {"id":"e","name":"Electronics","parentId":"root"},
+                  {"id":"p","name":"Phones","parentId":"e"},
+                  {"id":"s","name":"Smartphones","parentId":"p"},
+                  {"id":"f","name":"Feature phones","parentId":"p"},
+                  {"id":"h","name":"Home","parentId":"root"}
+                ]
+                """;
+        CategoryRepositoryImpl repo = new CategoryRepositoryImpl(json(data), mapper());
+
+        assertThat(repo.isAncestor("root", "s")).isTrue();
+        assertThat(repo.isAncestor("e", "f")).isTrue();
+        assertThat(repo.isAncestor("h", "s")).isFalse();
+        assertThat(repo.isAncestor("s", "e")).isFalse();
+        assertThat(repo.isAncestor("p", "p")).isFalse();
+        assertThat(repo.isAncestor("missing", "p")).isFalse();
+
+        assertThat(repo.descendantsOf("e")).extracting(Category::getId).containsExactly("p", "s", "f");
+        assertThat(repo.descendantsOf("root")).hasSize(5);
+        assertThat(repo.descendantsOf("s")).isEmpty();
+        assertThat(repo.descendantsOf("missing")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deep chains are indexed without recursion")
+    void eulerTour_deepChain() {
+        int depth = 100_000;
+        StringBuilder sb = new StringBuilder("[{\"id\":\"n0\",\"name\":\"N0\"}");
+        for (int i = 1; i < depth; i++) {
+            sb.append(",{\"id\":\"n").append(i).append("\",\"name\":\"N").append(i)
+                    .append("\",\"parentId\":\"n").append(i - 1).append("\"}");
+        }
+        sb.append(']');
+        CategoryRepositoryImpl repo = new CategoryRepositoryImpl(json(sb.toString()), mapper());
+
+        assertThat(repo.isAncestor("n0", "n" + (depth - 1))).isTrue();
+        assertThat(repo.descendantsOf("n0")).hasSize(depth - 1);
+        assertThat(repo.depthOf("n" + (depth - 1))).isEqualTo(depth - 1);
+    }
+
+    @Test
+    @DisplayName("Prefix search folds accents and case and matches any word of the name")
+    void searchByNamePrefix_foldsAndMatchesWords() {
+        String data = """
+                [
+                  {"id":"cel","name":"Celulares y Teléfonos"},
+                  {"id":"fij","name":"Teléfonos Fijos","parentId":"cel"},
+                  {"id":"acc","name":"Accesorios para Celulares","parentId":"cel"},
+                  {"id":"tv","name":"Televisores"}
+                ]
+                """;
+        CategoryRepositoryImpl repo = new CategoryRepositoryImpl(json(data), mapper());
+
+        assertThat(repo.searchByNamePrefix("TELÉF", 10)).extracting(Category::getId)
+                .containsExactly("fij", "cel");
+        assertThat(repo.searchByNamePrefix("tel", 10)).extracting(Category::getId)
+                .containsExactly("tv", "fij", "cel");
+        assertThat(repo.searchByNamePrefix("celulares y te", 10)).extracting(Category::getId)
+                .containsExactly("cel");
+        assertThat(repo.searchByNamePrefix("tel", 1)).extracting(Category::getId)
+                .containsExactly("tv");
+        assertThat(repo.searchByNamePrefix(" - ", 10)).isEmpty();
+        assertThat(repo.searchByNamePrefix("zzz", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Prefix search on a wide tree ranks leading matches and shallower categories first")
+    void searchByNamePrefix_wideTree() {
+        StringBuilder sb = new StringBuilder("[{\"id\":\"r\",\"name\":\"Hogar\"}");
+        for (int i = 0; i < 5_000; i++) {
+            sb.append(",{\"id\":\"h").append(i).append("\",\"name\":\"Muebles de Hogar ").append(i)
+                    .append("\",\"parentId\":\"r\"}");
+        }
+        sb.append(']');
+        CategoryRepositoryImpl repo = new CategoryRepositoryImpl(json(sb.toString()), mapper());
+
+        List<Category> hits = repo.searchByNamePrefix("hog", 3);
+        assertThat(hits).extracting(Category::getId).containsExactly("r", "h0", "h1");
+        assertThat(repo.searchByNamePrefix("muebles de hogar 499", 20)).extracting(Category::getId)
+                .containsExactly("h499", "h4990", "h4991", "h4992", "h4993", "h4994",
+                        "h4995", "h4996", "h4997", "h4998", "h4999");
+    }
 }
@@ -34,6 +34,10 @@ class CategoryServiceImplTest {
         return Category.builder().id(id).name(name).parentId(parent).build();
     }
 
+    private BreadcrumbNode node(String id, String name) {
+        return BreadcrumbNode.builder().id(id).name(name).build();
+    }
+
     @Nested
     class GetWithDerived {
         @Test
@@ -56,18 +60,19 @@ class CategoryServiceImplTest {
         }
 
         @Test
-        @DisplayName("Breadcrumb stops gracefully when parent is missing (orphan chain)")
-        void orphanChain() {
-            Category orphan = cat("orphan", "Orphan", "missingParent");
-            when(repo.findById("orphan")).thenReturn(Optional.of(orphan));
-            when(repo.findById("missingParent")).thenReturn(Optional.empty());
-            when(repo.childrenOf("orphan")).thenReturn(List.of());
+        @DisplayName("Uses precomputed path and children count from the repository")
+        void usesPrecomputedDerivedFields() {
+            Category a = cat("a", "A", "r");
+            List<BreadcrumbNode> path = List.of(node("r", "R"), node("a", "A"));
+            when(repo.findById("a")).thenReturn(Optional.of(a));
+            when(repo.pathFromRoot("a")).thenReturn(path);
+            when(repo.childrenCount("a")).thenReturn(3);
 
-            StepVerifier.create(service().getWithDerived("orphan"))
+            StepVerifier.create(service().getWithDerived("a"))
                     .assertNext(resp -> {
-                        assertThat(resp.getPathFromRoot()).extracting(BreadcrumbNode::getId)
-                                .containsExactly("orphan");
-                        assertThat(resp.getChildrenCount()).isZero();
+                        assertThat(resp.getPathFromRoot()).isSameAs(path);
+                        assertThat(resp.getChildrenCount()).isEqualTo(3);
+                        assertThat(resp.getParentId()).isEqualTo("r");
                     })
                     .verifyComplete();
         }
@@ -95,12 +100,9 @@ class CategoryServiceImplTest {
         @Test
         @DisplayName("Returns ordered breadcrumb from root to leaf")
         void success() {
-            Category r = cat("r", "R", null);
-            Category a = cat("a", "A", "r");
             Category b = cat("b", "B", "a");
             when(repo.findById("b")).thenReturn(Optional.of(b));
-            when(repo.findById("a")).thenReturn(Optional.of(a));
-            when(repo.findById("r")).thenReturn(Optional.of(r));
+            when(repo.pathFromRoot("b")).thenReturn(List.of(node("r", "R"), node("a", "A"), node("b", "B")));
 
             StepVerifier.create(service().breadcrumb("b"))
                     .assertNext(path -> assertThat(path).extracting(BreadcrumbNode::getId)
@@ -109,6 +111,100 @@ class CategoryServiceImplTest {
         }
     }
 
+    @Nested
+    class BatchBreadcrumbs {
+        @Test
+        @DisplayName("Empty or null ids return InvalidRequestException")
+        void empty() {
+            StepVerifier.create(service().breadcrumbs(List.of()))
+                    .expectError(InvalidRequestException.class)
+                    .verify();
+            StepVerifier.create(service().breadcrumbs(null))
+                    .expectError(InvalidRequestException.class)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("More ids than the batch limit returns InvalidRequestException")
+        void tooMany() {
+            List<String> ids = new ArrayList<>();
+            for (int i = 0; i <= CategoryServiceImpl.MAX_BREADCRUMB_BATCH; i++) ids.add("c" + i);
+
+            StepVerifier.create(service().breadcrumbs(ids))
+                    .expectErrorSatisfies(ex -> assertThat(ex)
+                            .isInstanceOf(InvalidRequestException.class)
+                            .hasMessageContaining("100"))
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("Blank id inside the batch returns InvalidRequestException")
+        void blankInside() {
+            StepVerifier.create(service().breadcrumbs(Arrays.asList("a", " ")))
+                    .expectError(InvalidRequestException.class)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("Resolves found ids in request order, deduplicates and reports missing ids")
+        void mixed() {
+            when(repo.findById("b")).thenReturn(Optional.of(cat("b", "B", "r")));
+            when(repo.findById("r")).thenReturn(Optional.of(cat("r", "R", null)));
+            when(repo.findById("zz")).thenReturn(Optional.empty());
+            when(repo.pathFromRoot("b")).thenReturn(List.of(node("r", "R"), node("b", "B")));
+            when(repo.pathFromRoot("r")).thenReturn(List.of(node("r", "R")));
+
+            StepVerifier.create(service().breadcrumbs(List.of("b", " zz ", "r", "b")))
+                    .assertNext(resp -> {
+                        assertThat(resp.getBreadcrumbs()).containsOnlyKeys("b", "r");
+                        assertThat(resp.getBreadcrumbs().keySet()).containsExactly("b", "r");
+                        assertThat(resp.getBreadcrumbs().get("b")).extracting(BreadcrumbNode::getId)
+                                .containsExactly("r", "b");
+                        assertThat(resp.getMissing()).containsExactly("zz");
+                    })
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    class SearchByPrefix {
+        @Test
+        @DisplayName("Blank prefix returns InvalidRequestException")
+        void blankPrefix() {
+            StepVerifier.create(service().searchByPrefix(" ", null))
+                    .expectError(InvalidRequestException.class)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("Out of range limit returns InvalidRequestException")
+        void invalidLimit() {
+            StepVerifier.create(service().searchByPrefix("tel", 0))
+                    .expectError(InvalidRequestException.class)
+                    .verify();
+            StepVerifier.create(service().searchByPrefix("tel", 51))
+                    .expectError(InvalidRequestException.class)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("Maps repository matches with their precomputed breadcrumbs, using the default limit")
+        void success() {
+            Category fij = cat("fij", "Teléfonos Fijos", "cel");
+            List<BreadcrumbNode> path = List.of(node("cel", "Celulares y Teléfonos"), node("fij", "Teléfonos Fijos"));
+            when(repo.searchByNamePrefix("tel", 10)).thenReturn(List.of(fij));
+            when(repo.pathFromRoot("fij")).thenReturn(path);
+            when(repo.childrenCount("fij")).thenReturn(0);
+
+            StepVerifier.create(service().searchByPrefix("tel", null))
+                    .assertNext(resp -> {
+                        assertThat(resp.getId()).isEqualTo("fij");
+                        assertThat(resp.getPathFromRoot()).isSameAs(path);
+                    })
+                    .verifyComplete();
+        }
+    }
+
     @Nested
     class FindAll {
 
@@ -121,4 +217,60 @@ class CategoryServiceImplTest {
                     .verify();
         }
     }
+
+    @Nested
+    class Subtree {
+
+        @Test
+        @DisplayName("Descendants with leavesOnly keeps only categories without children")
+        void descendantsLeavesOnly() {
+            Category e = cat("e", "E", "r");
+            Category p = cat("p", "P", "e");
+            Category s = cat("s", "S", "p");
+            when(repo.findById("e")).thenReturn(Optional.of(e));
+            when(repo.descendantsOf("e")).thenReturn(List.of(p, s));
+            when(repo.childrenCount("p")).thenReturn(1);
+            when(repo.childrenCount("s")).thenReturn(0);
+            when(repo.pathFromRoot("s")).thenReturn(List.of(node("r", "R"), node("e", "E"), node("p", "P"), node("s", "S")));
+
+            StepVerifier.create(service().descendants("e", true))
+                    .assertNext(resp -> assertThat(resp.getId()).isEqualTo("s"))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Descendants of unknown category returns CategoryNotFoundException")
+        void descendantsNotFound() {
+            when(repo.findById("nope")).thenReturn(Optional.empty());
+            StepVerifier.create(service().descendants("nope", false))
+                    .expectError(CategoryNotFoundException.class)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("isAncestorOf delegates to the repository index")
+        void isAncestorOf() {
+            when(repo.findById("r")).thenReturn(Optional.of(cat("r", "R", null)));
+            when(repo.findById("s")).thenReturn(Optional.of(cat("s", "S", "p")));
+            when(repo.isAncestor("r", "s")).thenReturn(true);
+
+            StepVerifier.create(service().isAncestorOf("r", "s"))
+                    .assertNext(resp -> {
+                        assertThat(resp.isAncestor()).isTrue();
+                        assertThat(resp.getAncestorId()).isEqualTo("r");
+                        assertThat(resp.getDescendantId()).isEqualTo("s");
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("isAncestorOf with unknown descendant returns CategoryNotFoundException")
+        void isAncestorOfNotFound() {
+            when(repo.findById("r")).thenReturn(Optional.of(cat("r", "R", null)));
+            when(repo.findById("x")).thenReturn(Optional.empty());
+            StepVerifier.create(service().isAncestorOf("r", "x"))
+                    .expectError(CategoryNotFoundException.class)
+                    .verify();
+        }
+    }
 }
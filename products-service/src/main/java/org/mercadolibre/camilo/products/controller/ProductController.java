@@ -11,11 +11,12 @@ import org.mercadolibre.camilo.products.dto.PageResponse;
 import org.mercadolibre.camilo.products.dto.ProductResponse;
 import org.mercadolibre.camilo.products.model.ErrorResponse;
 import org.mercadolibre.camilo.products.service.impl.ProductServiceImpl;
+import org.mercadolibre.camilo.products.util.ETags;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import reactor.core.publisher.Flux;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -26,19 +27,24 @@ import java.util.List;
 @RequestMapping(path = "/products", produces = MediaType.APPLICATION_JSON_VALUE)
 public class ProductController {
 
+    static final String DID_YOU_MEAN_HEADER = "X-Did-You-Mean";
+    static final String CORRECTED_QUERY_HEADER = "X-Corrected-Query";
+
     private final ProductServiceImpl service;
 
     @Operation(summary = "Lista productos con filtros y paginación opcional", description = """
             Filtros:
             - categoryId: coincidencia exacta con la categoría.
+            - includeDescendants: si es true, categoryId incluye también todas sus subcategorías (default false).
             - sellerId: coincidencia exacta con el vendedor.
-            - q: texto contenido en el título (case-insensitive).
+            - q: texto contenido en el título (sin distinguir mayúsculas ni acentos).
             Paginación:
             - page: índice base 0 (opcional).
             - elements: tamaño de página (opcional, default=5 si llega page sin elements).
             Si no se envían page ni elements, se devuelven todos los productos en una única página.
             """)
     @ApiResponse(responseCode = "200", description = "Página de productos")
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
     @ApiResponse(responseCode = "400", description = "Petición inválida",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "500", description = "Error inesperado",
@@ -46,21 +52,32 @@ public class ProductController {
     @GetMapping
     public Mono<ResponseEntity<PageResponse<ProductResponse>>> getAll(
             @RequestParam(value = "categoryId", required = false) String categoryId,
+            @RequestParam(value = "includeDescendants", defaultValue = "false") boolean includeDescendants,
             @RequestParam(value = "sellerId", required = false) String sellerId,
             @RequestParam(value = "q", required = false) String q,
             @RequestParam(value = "page", required = false) Integer page,
-            @RequestParam(value = "elements", required = false) Integer elements) {
+            @RequestParam(value = "elements", required = false) Integer elements,
+            ServerWebExchange exchange) {
 
-        return service.findAllPaged(categoryId, sellerId, q, page, elements)
+        long treeVersion = includeDescendants ? service.categoryTreeVersion() : 0L;
+        String etag = ETags.of(service.dataVersion(), categoryId, includeDescendants, treeVersion,
+                sellerId, q, page, elements);
+        if (ETags.matches(exchange, etag)) {
+            return Mono.just(ETags.notModified(etag));
+        }
+        return service.findAllPaged(categoryId, includeDescendants, sellerId, q, page, elements)
                 .map(body -> ResponseEntity.ok()
+                        .eTag(etag)
                         .contentType(MediaType.APPLICATION_JSON)
                         .body(body));
     }
 
     @Operation(summary = "Obtiene un producto por su identificador",
-            description = "Devuelve los datos completos de un producto existente.")
+            description = "Devuelve los datos completos de un producto existente. "
+                    + "El cuerpo se sirve desde una caché de JSON pre-serializado por producto.")
     @ApiResponse(responseCode = "200", description = "Producto encontrado",
             content = @Content(schema = @Schema(implementation = ProductResponse.class)))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
     @ApiResponse(responseCode = "404", description = "Producto no encontrado",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "400", description = "Petición inválida",
@@ -68,38 +85,96 @@ public class ProductController {
     @ApiResponse(responseCode = "500", description = "Error inesperado",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping("/{id}")
-    public Mono<ResponseEntity<ProductResponse>> get(
+    public Mono<ResponseEntity<byte[]>> get(
             @Parameter(description = "Identificador único del producto", required = true)
-            @PathVariable String id) {
-        return service.get(id)
-                .map(body -> ResponseEntity.ok()
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .body(body));
+            @PathVariable String id,
+            ServerWebExchange exchange) {
+        String etag = ETags.of(service.dataVersion(), id);
+        return service.getJson(id)
+                .map(body -> ETags.matches(exchange, etag)
+                        ? ETags.<byte[]>notModified(etag)
+                        : ResponseEntity.ok()
+                                .eTag(etag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(body));
     }
 
     @Operation(summary = "Búsqueda fuzzy de productos por título", description = """
             Realiza fuzzy search sobre el título de los productos.
             - query: texto a buscar (obligatorio, min 2 chars)
             - limit: máximo de resultados (opcional, default 20, tope 100)
+            - autocorrect: si los resultados son vacíos o débiles, repite la búsqueda con la corrección sugerida (opcional, default false)
             El resultado viene ordenado por relevancia (score desc).
+            Si hay una corrección ortográfica se informa en la cabecera X-Did-You-Mean;
+            si los resultados provienen de la consulta corregida, ésta se informa en X-Corrected-Query.
             """)
     @ApiResponse(responseCode = "200", description = "Listado de productos por relevancia",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProductResponse.class))))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
     @ApiResponse(responseCode = "400", description = "Petición inválida",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "500", description = "Error inesperado",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping("/search")
-    public ResponseEntity<Flux<ProductResponse>> search(
+    public Mono<ResponseEntity<List<ProductResponse>>> search(
             @Parameter(description = "Texto de búsqueda (min 2 caracteres)", required = true)
             @RequestParam("query") String query,
             @Parameter(description = "Máximo de resultados (default 20, tope 100)")
-            @RequestParam(value = "limit", required = false) Integer limit
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @Parameter(description = "Repetir la búsqueda con la corrección ortográfica si los resultados son débiles")
+            @RequestParam(value = "autocorrect", defaultValue = "false") boolean autocorrect,
+            ServerWebExchange exchange
+    ) {
+        String etag = ETags.of(service.dataVersion(), "search", query, limit, autocorrect);
+        if (ETags.matches(exchange, etag)) {
+            return Mono.just(ETags.notModified(etag));
+        }
+        return service.searchFuzzyWithSuggestion(query, limit, autocorrect)
+                .map(result -> {
+                    ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                            .eTag(etag)
+                            .contentType(MediaType.APPLICATION_JSON);
+                    if (result.didYouMean() != null) {
+                        builder.header(DID_YOU_MEAN_HEADER, result.didYouMean());
+                    }
+                    if (result.correctedQuery() != null) {
+                        builder.header(CORRECTED_QUERY_HEADER, result.correctedQuery());
+                    }
+                    return builder.body(result.items());
+                });
+    }
+
+    @Operation(summary = "Sugerencias ortográficas para una búsqueda", description = """
+            Devuelve correcciones ("quisiste decir") de la consulta usando el vocabulario de los títulos.
+            - query: texto a corregir (obligatorio, min 2 chars)
+            - limit: máximo de sugerencias (opcional, default 5, tope 20)
+            Ordenadas de mejor a peor; vacío si todas las palabras existen en el catálogo.
+            """)
+    @ApiResponse(responseCode = "200", description = "Listado de consultas corregidas",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = String.class))))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
+    @ApiResponse(responseCode = "400", description = "Petición inválida",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Error inesperado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/search/suggestions")
+    public Mono<ResponseEntity<List<String>>> suggestions(
+            @Parameter(description = "Texto a corregir (min 2 caracteres)", required = true)
+            @RequestParam("query") String query,
+            @Parameter(description = "Máximo de sugerencias (default 5, tope 20)")
+            @RequestParam(value = "limit", required = false) Integer limit,
+            ServerWebExchange exchange
     ) {
-        Flux<ProductResponse> body = service.searchFuzzy(query, limit);
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(body);
+        String etag = ETags.of(service.dataVersion(), "suggestions", query, limit);
+        if (ETags.matches(exchange, etag)) {
+            return Mono.just(ETags.notModified(etag));
+        }
+        return service.suggestCorrections(query, limit)
+                .collectList()
+                .map(list -> ResponseEntity.ok()
+                        .eTag(etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(list));
     }
 
     @Operation(summary = "Autocomplete fuzzy de títulos de productos", description = """
@@ -110,6 +185,7 @@ public class ProductController {
             """)
     @ApiResponse(responseCode = "200", description = "Listado de títulos",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = String.class))))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
     @ApiResponse(responseCode = "400", description = "Petición inválida",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "500", description = "Error inesperado",
@@ -119,11 +195,17 @@ public class ProductController {
             @Parameter(description = "Texto de búsqueda (min 2 caracteres)", required = true)
             @RequestParam("query") String query,
             @Parameter(description = "Máximo de resultados (default 10, tope 50)")
-            @RequestParam(value = "limit", required = false) Integer limit
+            @RequestParam(value = "limit", required = false) Integer limit,
+            ServerWebExchange exchange
     ) {
+        String etag = ETags.of(service.dataVersion(), "autocomplete", query, limit);
+        if (ETags.matches(exchange, etag)) {
+            return Mono.just(ETags.notModified(etag));
+        }
         return service.autocompleteTitles(query, limit)
                 .collectList()
                 .map(list -> ResponseEntity.ok()
+                        .eTag(etag)
                         .contentType(MediaType.APPLICATION_JSON)
                         .body(list));
     }
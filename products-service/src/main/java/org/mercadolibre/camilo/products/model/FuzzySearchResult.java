@@ -0,0 +1,15 @@
+package org.mercadolibre.camilo.products.model;
+
+import org.mercadolibre.camilo.products.dto.ProductResponse;
+
+import java.util.List;
+
+/**
+ * Resultado de una búsqueda fuzzy acompañado de la sugerencia ortográfica, si la hay.
+ *
+ * @param items          productos ordenados por relevancia
+ * @param didYouMean     corrección propuesta para la consulta; {@code null} si no aplica
+ * @param correctedQuery consulta con la que se obtuvieron {@code items} cuando se autocorrigió; {@code null} si no
+ */
+public record FuzzySearchResult(List<ProductResponse> items, String didYouMean, String correctedQuery) {
+}
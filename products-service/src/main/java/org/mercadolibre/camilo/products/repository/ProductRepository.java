@@ -2,8 +2,12 @@ package org.mercadolibre.camilo.products.repository;
 
 
 import org.mercadolibre.camilo.products.model.Product;
+import org.mercadolibre.camilo.products.util.SpellingDictionary;
+import org.mercadolibre.camilo.products.util.TextNormalizer;
+import org.mercadolibre.camilo.products.util.TitleIndex;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -29,4 +33,44 @@ public interface ProductRepository {
      * @return colección de solo lectura con los productos; nunca {@code null}
      */
     Collection<Product> findAll();
-}
\ No newline at end of file
+
+    /**
+     * Productos de cualquiera de las categorías indicadas, combinando las listas de productos
+     * precalculadas por categoría. Se respeta el mismo orden relativo que {@link #findAll()}.
+     *
+     * @param categoryIds ids de categoría (exactos); los desconocidos se ignoran
+     * @return lista de solo lectura; vacía si ninguna categoría tiene productos
+     */
+    List<Product> findByCategories(Collection<String> categoryIds);
+
+    /**
+     * Título del producto normalizado con {@link TextNormalizer#fold(String)}.
+     * Para los productos cargados se sirve precalculado.
+     *
+     * @param product producto (no nulo)
+     * @return título normalizado; vacío si el producto no tiene título
+     */
+    String foldedTitle(Product product);
+
+    /**
+     * Índice de títulos de todos los productos, con las firmas de trigramas precalculadas.
+     *
+     * @return índice inmutable; nunca {@code null}
+     */
+    TitleIndex<Product> getTitleIndex();
+
+    /**
+     * Versión del snapshot de datos en memoria. Cambia siempre que cambian los datos,
+     * por lo que sirve como base para validadores HTTP (ETag).
+     *
+     * @return versión opaca del snapshot
+     */
+    long getVersion();
+
+    /**
+     * Diccionario ortográfico derivado de los títulos cargados, usado para sugerencias "quisiste decir".
+     *
+     * @return diccionario inmutable; nunca {@code null}
+     */
+    SpellingDictionary getDictionary();
+}
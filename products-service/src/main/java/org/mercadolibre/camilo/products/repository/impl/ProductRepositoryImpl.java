@@ -5,6 +5,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.mercadolibre.camilo.products.exception.ProductsDataLoadException;
 import org.mercadolibre.camilo.products.model.Product;
 import org.mercadolibre.camilo.products.repository.ProductRepository;
+import org.mercadolibre.camilo.products.util.SpellingDictionary;
+import org.mercadolibre.camilo.products.util.TextNormalizer;
+import org.mercadolibre.camilo.products.util.TitleIndex;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,6 +17,7 @@ import org.springframework.stereotype.Repository;
 
 import java.io.InputStream;
 import java.util.*;
+import java.util.zip.CRC32;
 
 @Slf4j
 @Getter
@@ -24,6 +29,38 @@ public class ProductRepositoryImpl implements ProductRepository {
      */
     private final Map<String, Product> byId;
 
+    /**
+     * Productos en el orden de iteración de {@link #byId}; la posición es el ordinal usado en las listas por categoría.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Product[] byOrdinal;
+
+    /**
+     * Ordinales (ascendentes) de los productos de cada categoría.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<String, int[]> categoryPostings;
+
+    /**
+     * Versión del snapshot cargado (CRC32 del JSON de origen); base de los ETag.
+     */
+    private final long version;
+
+    /**
+     * Títulos normalizados por ID, calculados una sola vez en la carga.
+     */
+    private final Map<String, String> foldedTitles;
+
+    /**
+     * Índice de títulos (normalizados + firmas de trigramas) para fuzzy search.
+     */
+    private final TitleIndex<Product> titleIndex;
+
+    /**
+     * Diccionario ortográfico construido con los tokens de los títulos.
+     */
+    private final SpellingDictionary dictionary;
+
     /**
      * Crea el repositorio leyendo el JSON configurado y construyendo el índice en memoria.
      *
@@ -36,7 +73,9 @@ public class ProductRepositoryImpl implements ProductRepository {
         Objects.requireNonNull(mapper, "ObjectMapper must not be null");
 
         try (InputStream in = data.getInputStream()) {
-            List<Product> list = mapper.readValue(in, new TypeReference<>() {
+            byte[] bytes = in.readAllBytes();
+            this.version = checksum(bytes);
+            List<Product> list = mapper.readValue(bytes, new TypeReference<>() {
             });
             Map<String, Product> map = new HashMap<>(Math.max(16, list.size() * 2));
 
@@ -59,8 +98,17 @@ public class ProductRepositoryImpl implements ProductRepository {
             }
 
             this.byId = Collections.unmodifiableMap(map);
-            log.info("Loaded {} products ({} invalid, {} duplicates resolved last-wins)",
-                    map.size(), invalid, duplicates);
+            this.byOrdinal = map.values().toArray(new Product[0]);
+            this.categoryPostings = buildPostings(this.byOrdinal);
+            this.titleIndex = TitleIndex.build(map.values(), Product::getTitle);
+            Map<String, String> folded = new HashMap<>(Math.max(16, map.size() * 2));
+            for (int i = 0; i < titleIndex.size(); i++) {
+                folded.put(titleIndex.item(i).getId(), titleIndex.folded(i));
+            }
+            this.foldedTitles = Collections.unmodifiableMap(folded);
+            this.dictionary = SpellingDictionary.fromTexts(map.values().stream().map(Product::getTitle).toList());
+            log.info("Loaded {} products ({} invalid, {} duplicates resolved last-wins, {} dictionary terms)",
+                    map.size(), invalid, duplicates, dictionary.size());
 
             if (map.isEmpty()) {
                 log.warn("ProductRepositoryImpl | no products loaded from {}", safeDesc(data));
@@ -71,6 +119,26 @@ public class ProductRepositoryImpl implements ProductRepository {
         }
     }
 
+    private static Map<String, int[]> buildPostings(Product[] products) {
+        Map<String, List<Integer>> lists = new HashMap<>();
+        for (int i = 0; i < products.length; i++) {
+            String categoryId = products[i].getCategoryId();
+            if (categoryId != null && !categoryId.isBlank()) {
+                lists.computeIfAbsent(categoryId, k -> new ArrayList<>()).add(i);
+            }
+        }
+        Map<String, int[]> postings = new HashMap<>(Math.max(16, lists.size() * 2));
+        lists.forEach((categoryId, ordinals) ->
+                postings.put(categoryId, ordinals.stream().mapToInt(Integer::intValue).toArray()));
+        return Collections.unmodifiableMap(postings);
+    }
+
+    private static long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
     private String safeDesc(Resource r) {
         try {
             return r.getDescription();
@@ -94,4 +162,41 @@ public class ProductRepositoryImpl implements ProductRepository {
     public Collection<Product> findAll() {
         return byId.values();
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Con una sola categoría se recorre directamente su lista; con varias, las listas se combinan
+     * marcando los ordinales en un {@link BitSet}, lo que deja el resultado ordenado sin comparaciones.
+     */
+    @Override
+    public List<Product> findByCategories(Collection<String> categoryIds) {
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return List.of();
+        }
+        if (categoryIds.size() == 1) {
+            int[] postings = categoryPostings.get(categoryIds.iterator().next());
+            return postings == null ? List.of() : Arrays.stream(postings).mapToObj(o -> byOrdinal[o]).toList();
+        }
+        BitSet hits = new BitSet(byOrdinal.length);
+        for (String categoryId : categoryIds) {
+            int[] postings = categoryPostings.get(categoryId);
+            if (postings == null) continue;
+            for (int ordinal : postings) hits.set(ordinal);
+        }
+        List<Product> out = new ArrayList<>(hits.cardinality());
+        for (int o = hits.nextSetBit(0); o >= 0; o = hits.nextSetBit(o + 1)) {
+            out.add(byOrdinal[o]);
+        }
+        return Collections.unmodifiableList(out);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String foldedTitle(Product product) {
+        String folded = foldedTitles.get(product.getId());
+        return folded != null ? folded : TextNormalizer.fold(product.getTitle());
+    }
 }
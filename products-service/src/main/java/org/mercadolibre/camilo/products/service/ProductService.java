@@ -2,6 +2,7 @@ package org.mercadolibre.camilo.products.service;
 
 import org.mercadolibre.camilo.products.dto.PageResponse;
 import org.mercadolibre.camilo.products.dto.ProductResponse;
+import org.mercadolibre.camilo.products.model.FuzzySearchResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -18,25 +19,50 @@ public interface ProductService {
      */
     Mono<ProductResponse> get(String id);
 
+    /**
+     * Obtiene el JSON ya serializado de un producto por su identificador.
+     * <p>
+     * Usa una caché de bytes por producto, de modo que los accesos repetidos
+     * no vuelven a construir ni serializar el {@link ProductResponse}.
+     *
+     * @param id identificador del producto (no nulo/blank)
+     * @return bytes UTF-8 del producto envueltos en {@link Mono}
+     */
+    Mono<byte[]> getJson(String id);
+
     /**
      * Busca productos con filtros opcionales en paginación.
      *
-     * @param categoryId id de categoría (opcional)
-     * @param sellerId   id de vendedor (opcional)
-     * @param query          texto de búsqueda aplicado al título (opcional)
+     * @param categoryId         id de categoría (opcional)
+     * @param includeDescendants si es {@code true}, {@code categoryId} incluye también sus subcategorías
+     * @param sellerId           id de vendedor (opcional)
+     * @param query              texto de búsqueda aplicado al título (opcional)
      * @return flujo reactivo con los resultados
      */
-    Mono<PageResponse<ProductResponse>> findAllPaged(String categoryId, String sellerId,
+    Mono<PageResponse<ProductResponse>> findAllPaged(String categoryId, boolean includeDescendants, String sellerId,
                                                      String query, Integer pageNumber, Integer pageSize);
 
 
     /**
-     * Fuzzy search por título. Ordenado desc por score.
+     * Fuzzy search por título con sugerencia ortográfica ("quisiste decir").
+     * <p>
+     * Si no hay resultados o el mejor score es bajo, se propone la corrección del diccionario
+     * de títulos. Con {@code autocorrect} la búsqueda se repite con la frase corregida y se
+     * devuelven esos resultados cuando son mejores que los originales.
+     *
+     * @param query       texto de búsqueda (obligatorio, min 2)
+     * @param limit       máximo de resultados (opcional, por defecto 20, tope 100)
+     * @param autocorrect si se debe repetir la búsqueda con la corrección
+     */
+    Mono<FuzzySearchResult> searchFuzzyWithSuggestion(String query, Integer limit, boolean autocorrect);
+
+    /**
+     * Correcciones ortográficas de la consulta, mejor primero. Vacío si todos los tokens existen.
      *
-     * @param query texto de búsqueda (obligatorio, min 2)
-     * @param limit máximo de resultados (opcional, por defecto 20, tope 100)
+     * @param query texto a corregir (obligatorio, min 2)
+     * @param limit máximo de sugerencias (opcional, default 5, tope 20)
      */
-    Flux<ProductResponse> searchFuzzy(String query, Integer limit);
+    Flux<String> suggestCorrections(String query, Integer limit);
 
     /**
      * Autocomplete fuzzy de títulos. Ordenado por relevancia desc, títulos únicos.
@@ -46,4 +72,13 @@ public interface ProductService {
      */
     Flux<String> autocompleteTitles(String query, Integer limit);
 
+    /**
+     * Versión actual de los datos servidos; base para calcular ETags sin serializar.
+     */
+    long dataVersion();
+
+    /**
+     * Versión de la copia local del árbol de categorías; forma parte del ETag de los listados con subcategorías.
+     */
+    long categoryTreeVersion();
 }
@@ -0,0 +1,165 @@
+package org.mercadolibre.camilo.products.service.impl;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Copia local del árbol de categorías (solo id → padre), refrescada periódicamente desde category-service.
+ * <p>
+ * Permite resolver el subárbol de una categoría sin una llamada remota por petición. Cada subárbol
+ * se calcula una vez por snapshot y se reutiliza hasta el siguiente refresco con cambios. Si el árbol
+ * aún no se pudo cargar, o la categoría no figura en él, el subárbol es solo la propia categoría.
+ */
+@Slf4j
+@Component
+public class CategoryTreeCache {
+
+    private static final String CATEGORIES_PATH = "/categories";
+
+    private final WebClient webClient;
+    private final String url;
+    private final Duration refreshInterval;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile String lastEtag;
+    private Disposable refresher;
+
+    public CategoryTreeCache(WebClient.Builder webClientBuilder,
+                             @Value("${app.categories.base-url}") String baseUrl,
+                             @Value("${app.categories.refresh-interval:PT5M}") Duration refreshInterval) {
+        this.webClient = webClientBuilder.build();
+        this.url = Objects.requireNonNull(baseUrl, "app.categories.base-url must not be null").replaceAll("/$", "")
+                + CATEGORIES_PATH;
+        this.refreshInterval = refreshInterval;
+    }
+
+    @PostConstruct
+    void start() {
+        refresher = Flux.interval(Duration.ZERO, refreshInterval)
+                .concatMap(tick -> refresh().onErrorResume(ex -> Mono.empty()))
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (refresher != null) {
+            refresher.dispose();
+        }
+    }
+
+    /**
+     * Descarga el árbol y reemplaza el snapshot si cambió. Envía {@code If-None-Match} con el último
+     * ETag recibido, de modo que un árbol sin cambios no se vuelve a transferir ni a indexar.
+     */
+    public Mono<Void> refresh() {
+        return webClient.get()
+                .uri(url)
+                .accept(MediaType.APPLICATION_JSON)
+                .headers(h -> {
+                    String etag = lastEtag;
+                    if (etag != null) h.setIfNoneMatch(etag);
+                })
+                .exchangeToMono(resp -> {
+                    if (resp.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                        return resp.releaseBody();
+                    }
+                    if (!resp.statusCode().is2xxSuccessful()) {
+                        return resp.releaseBody().then(Mono.error(new IllegalStateException(
+                                "Categories tree refresh failed with status " + resp.statusCode().value())));
+                    }
+                    String etag = resp.headers().asHttpHeaders().getETag();
+                    return resp.bodyToFlux(CategoryNode.class)
+                            .collectList()
+                            .doOnNext(nodes -> {
+                                Snapshot next = Snapshot.of(nodes);
+                                if (next.version() != snapshot.version()) {
+                                    snapshot = next;
+                                    log.info("CategoryTreeCache.refresh | tree updated | categories={} version={}",
+                                            nodes.size(), Long.toHexString(next.version()));
+                                }
+                                lastEtag = etag;
+                            })
+                            .then();
+                })
+                .doOnError(ex -> log.warn("CategoryTreeCache.refresh | failed | url={} | msg={}", url, ex.getMessage()));
+    }
+
+    /**
+     * Ids de la categoría y de todos sus descendientes.
+     *
+     * @param categoryId categoría raíz del subárbol
+     * @return conjunto inmutable que siempre incluye {@code categoryId}
+     */
+    public Set<String> subtreeOf(String categoryId) {
+        return snapshot.subtreeOf(categoryId);
+    }
+
+    /**
+     * Versión del árbol cargado (0 si aún no se cargó); cambia con cada refresco que trae cambios.
+     */
+    public long version() {
+        return snapshot.version();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record CategoryNode(String id, String parentId) {
+    }
+
+    private record Snapshot(Map<String, List<String>> children, Set<String> ids, long version,
+                            Map<String, Set<String>> subtrees) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Set.of(), 0L, new ConcurrentHashMap<>());
+
+        static Snapshot of(List<CategoryNode> nodes) {
+            Map<String, List<String>> children = new HashMap<>();
+            Set<String> ids = new HashSet<>();
+            CRC32 crc = new CRC32();
+            for (CategoryNode node : nodes) {
+                if (node == null || node.id() == null || node.id().isBlank()) continue;
+                ids.add(node.id());
+                if (node.parentId() != null && !node.parentId().isBlank()) {
+                    children.computeIfAbsent(node.parentId(), k -> new ArrayList<>()).add(node.id());
+                }
+                crc.update((node.id() + '\u0000' + node.parentId() + '\n').getBytes(StandardCharsets.UTF_8));
+            }
+            return new Snapshot(children, ids, crc.getValue(), new ConcurrentHashMap<>());
+        }
+
+        Set<String> subtreeOf(String root) {
+            if (!ids.contains(root)) {
+                return Set.of(root);
+            }
+            return subtrees.computeIfAbsent(root, this::collect);
+        }
+
+        private Set<String> collect(String root) {
+            Set<String> seen = new LinkedHashSet<>();
+            Deque<String> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                String id = stack.pop();
+                if (!seen.add(id)) continue;
+                for (String child : children.getOrDefault(id, List.of())) {
+                    stack.push(child);
+                }
+            }
+            return Collections.unmodifiableSet(seen);
+        }
+    }
+}
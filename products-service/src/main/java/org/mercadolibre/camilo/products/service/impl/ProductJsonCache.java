@@ -0,0 +1,68 @@
+package org.mercadolibre.camilo.products.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mercadolibre.camilo.products.dto.ProductResponse;
+import org.mercadolibre.camilo.products.model.Product;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caché de la representación JSON ya serializada de cada producto.
+ * <p>
+ * Los bytes se construyen de forma perezosa en el primer acceso y se reutilizan
+ * siempre: el catálogo se carga una sola vez al arrancar y es de solo lectura, así
+ * que hoy nada invalida entradas. {@link #invalidate(String)} e {@link #invalidateAll()}
+ * quedan para un futuro camino de escritura.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductJsonCache {
+
+    private final ObjectMapper mapper;
+
+    private final Map<String, byte[]> jsonById = new ConcurrentHashMap<>();
+
+    /**
+     * Devuelve el JSON serializado del producto, construyéndolo si aún no está en caché.
+     *
+     * @param product producto a serializar (no nulo, con id)
+     * @return bytes UTF-8 del {@link ProductResponse} correspondiente; no deben modificarse
+     */
+    public byte[] get(Product product) {
+        return jsonById.computeIfAbsent(product.getId(), id -> serialize(product));
+    }
+
+    /**
+     * Descarta la entrada de un producto (p. ej. tras una actualización).
+     *
+     * @param id identificador del producto
+     */
+    public void invalidate(String id) {
+        if (id != null && jsonById.remove(id) != null) {
+            log.debug("ProductJsonCache.invalidate | id={}", id);
+        }
+    }
+
+    /**
+     * Descarta todas las entradas (p. ej. tras recargar el catálogo completo).
+     */
+    public void invalidateAll() {
+        jsonById.clear();
+        log.debug("ProductJsonCache.invalidateAll");
+    }
+
+    private byte[] serialize(Product product) {
+        try {
+            return mapper.writeValueAsBytes(ProductResponse.from(product));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Cannot serialize product '%s'".formatted(product.getId()), e);
+        }
+    }
+}
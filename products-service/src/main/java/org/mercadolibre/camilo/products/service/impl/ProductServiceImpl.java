@@ -4,29 +4,39 @@ import org.mercadolibre.camilo.products.dto.PageResponse;
 import org.mercadolibre.camilo.products.dto.ProductResponse;
 import org.mercadolibre.camilo.products.exception.InvalidRequestException;
 import org.mercadolibre.camilo.products.exception.ProductNotFoundException;
+import org.mercadolibre.camilo.products.model.FuzzySearchResult;
 import org.mercadolibre.camilo.products.model.Product;
 import org.mercadolibre.camilo.products.model.Scored;
 import org.mercadolibre.camilo.products.repository.impl.ProductRepositoryImpl;
 import org.mercadolibre.camilo.products.service.ProductService;
+import org.mercadolibre.camilo.products.util.TitleIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import static org.mercadolibre.camilo.products.util.FuzzyUtils.score;
+import static org.mercadolibre.camilo.products.util.TextNormalizer.fold;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductServiceImpl implements ProductService {
 
+    private static final double SEARCH_THRESHOLD = 0.35;
+    private static final double WEAK_SCORE = 0.6;
+
     private final ProductRepositoryImpl repo;
+    private final ProductJsonCache jsonCache;
+    private final CategoryTreeCache categoryTree;
 
     @Override
     public Mono<ProductResponse> get(String id) {
@@ -51,35 +61,79 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    public Flux<ProductResponse> searchFuzzy(String query, Integer limit) {
+    public Mono<byte[]> getJson(String id) {
+        if (id == null || id.isBlank()) {
+            log.warn("ProductService.getJson | invalid id (blank)");
+            return Mono.error(new InvalidRequestException("Product id must not be blank"));
+        }
+
+        log.info("ProductService.getJson | fetching product | id={}", id);
+        return Mono.defer(() -> Mono.justOrEmpty(repo.findById(id)))
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("ProductService.getJson | product not found | id={}", id);
+                    return Mono.error(new ProductNotFoundException(id));
+                }))
+                .map(jsonCache::get)
+                .doOnError(ex ->
+                        log.error("ProductService.getJson | error | id={} | type={} | msg={}",
+                                id, ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
+    @Override
+    public Mono<FuzzySearchResult> searchFuzzyWithSuggestion(String query, Integer limit, boolean autocorrect) {
         final String normalizedQuery = normalize(query);
         if (normalizedQuery == null || normalizedQuery.isBlank()) {
-            log.warn("ProductService.searchFuzzy | invalid query (blank)");
-            return Flux.error(new InvalidRequestException("query must not be blank"));
+            log.warn("ProductService.searchFuzzyWithSuggestion | invalid query (blank)");
+            return Mono.error(new InvalidRequestException("query must not be blank"));
         }
         if (normalizedQuery.length() < 2) {
-            return Flux.error(new InvalidRequestException("query must have at least 2 characters"));
+            return Mono.error(new InvalidRequestException("query must have at least 2 characters"));
         }
         final int max = limit == null ? 20 : Math.max(1, Math.min(limit, 100));
-        final double threshold = 0.35;
 
-        log.info("ProductService.searchFuzzy | normalizedQuery='{}' limit={}", normalizedQuery, max);
+        log.info("ProductService.searchFuzzyWithSuggestion | normalizedQuery='{}' limit={} autocorrect={}",
+                normalizedQuery, max, autocorrect);
 
-        return Flux.fromIterable(repo.findAll())
-                .map(p -> {
-                    double score = score(normalizedQuery, p.getTitle());
-                    return new Scored<>(p, score);
-                })
-                .filter(s -> s.score() >= threshold)
-                .sort((a, b) -> Double.compare(b.score(), a.score()))
-                .take(max)
-                .map(s -> {
-                    log.trace("ProductService.searchFuzzy | hit id={} title='{}' score={}",
-                            s.value().getId(), s.value().getTitle(), String.format("%.3f", s.score()));
-                    return ProductResponse.from(s.value());
+        return Mono.fromCallable(() -> {
+                    List<Scored<Product>> hits = rankFuzzy(normalizedQuery, max);
+                    if (bestScore(hits) >= WEAK_SCORE) {
+                        return toResult(hits, null, null);
+                    }
+                    String suggestion = repo.getDictionary().correct(normalizedQuery);
+                    if (suggestion == null) {
+                        return toResult(hits, null, null);
+                    }
+                    log.debug("ProductService.searchFuzzyWithSuggestion | weak results | hits={} didYouMean='{}'",
+                            hits.size(), suggestion);
+                    if (autocorrect) {
+                        List<Scored<Product>> corrected = rankFuzzy(suggestion, max);
+                        if (bestScore(corrected) > bestScore(hits)) {
+                            return toResult(corrected, suggestion, suggestion);
+                        }
+                    }
+                    return toResult(hits, suggestion, null);
                 })
-                .doOnComplete(() -> log.debug("ProductService.searchFuzzy | completed"))
-                .doOnError(ex -> log.error("ProductService.searchFuzzy | error | type={} | msg={}",
+                .doOnError(ex -> log.error("ProductService.searchFuzzyWithSuggestion | error | type={} | msg={}",
+                        ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
+    @Override
+    public Flux<String> suggestCorrections(String query, Integer limit) {
+        final String q = normalize(query);
+        if (q == null || q.isBlank()) {
+            log.warn("ProductService.suggestCorrections | invalid query (blank)");
+            return Flux.error(new InvalidRequestException("query must not be blank"));
+        }
+        if (q.length() < 2) {
+            return Flux.error(new InvalidRequestException("query must have at least 2 characters"));
+        }
+        final int max = limit == null ? 5 : Math.max(1, Math.min(limit, 20));
+
+        log.info("ProductService.suggestCorrections | q='{}' limit={}", q, max);
+
+        return Flux.defer(() -> Flux.fromIterable(repo.getDictionary().suggest(q, max)))
+                .doOnComplete(() -> log.debug("ProductService.suggestCorrections | completed"))
+                .doOnError(ex -> log.error("ProductService.suggestCorrections | error | type={} | msg={}",
                         ex.getClass().getSimpleName(), ex.getMessage()));
     }
 
@@ -99,13 +153,17 @@ public class ProductServiceImpl implements ProductService {
 
         log.info("ProductService.autocompleteTitles | q='{}' limit={}", q, max);
 
-        return Flux.fromIterable(repo.findAll())
-                .map(p -> {
-                    String title = p.getTitle();
-                    double base = score(q, title);
-                    String normTitle = title == null ? "" : title.toLowerCase(Locale.ROOT).trim();
-                    double boost = (normTitle.startsWith(q)) ? 0.15 : 0.0;
-                    return new Scored<>(title, Math.min(1.0, base + boost));
+        final String foldedQuery = fold(q);
+        return Flux.defer(() -> {
+                    TitleIndex<Product> index = repo.getTitleIndex();
+                    double[] scores = index.scores(foldedQuery);
+                    List<Scored<String>> scored = new ArrayList<>(scores.length);
+                    for (int i = 0; i < scores.length; i++) {
+                        boolean prefix = !foldedQuery.isEmpty() && index.folded(i).startsWith(foldedQuery);
+                        double boost = prefix ? 0.15 : 0.0;
+                        scored.add(new Scored<>(index.item(i).getTitle(), Math.min(1.0, scores[i] + boost)));
+                    }
+                    return Flux.fromIterable(scored);
                 })
                 .filter(s -> s.value() != null && s.score() >= threshold)
                 .sort((a, b) -> {
@@ -124,6 +182,7 @@ public class ProductServiceImpl implements ProductService {
     @Override
     public Mono<PageResponse<ProductResponse>> findAllPaged(
             String categoryId,
+            boolean includeDescendants,
             String sellerId,
             String query,
             Integer pageNumber,
@@ -133,8 +192,8 @@ public class ProductServiceImpl implements ProductService {
         final String normalizedSellerId = normalize(sellerId);
         final String normalizedQuery = normalize(query);
 
-        log.info("ProductService.findAllPaged | filters | categoryId='{}' sellerId='{}' q='{}' page={} size={}",
-                normalizedCategoryId, normalizedSellerId, normalizedQuery, pageNumber, pageSize);
+        log.info("ProductService.findAllPaged | filters | categoryId='{}' includeDescendants={} sellerId='{}' q='{}' page={} size={}",
+                normalizedCategoryId, includeDescendants, normalizedSellerId, normalizedQuery, pageNumber, pageSize);
 
         if (normalizedCategoryId != null && normalizedCategoryId.isBlank()) {
             return Mono.error(new InvalidRequestException("categoryId must not be blank if provided"));
@@ -147,10 +206,15 @@ public class ProductServiceImpl implements ProductService {
         }
 
         Predicate<Product> filterPredicate = product -> true;
+        Collection<Product> source = repo.findAll();
 
         if (normalizedCategoryId != null) {
-            filterPredicate = filterPredicate.and(product ->
-                    Objects.equals(normalizedCategoryId, product.getCategoryId()));
+            Set<String> categoryIds = includeDescendants
+                    ? categoryTree.subtreeOf(normalizedCategoryId)
+                    : Set.of(normalizedCategoryId);
+            log.debug("ProductService.findAllPaged | categories resolved | categoryId='{}' count={}",
+                    normalizedCategoryId, categoryIds.size());
+            source = repo.findByCategories(categoryIds);
         }
 
         if (normalizedSellerId != null) {
@@ -159,17 +223,16 @@ public class ProductServiceImpl implements ProductService {
         }
 
         if (normalizedQuery != null) {
-            filterPredicate = filterPredicate.and(product -> {
-                String title = product.getTitle();
-                return title != null && title.toLowerCase(Locale.ROOT).contains(normalizedQuery);
-            });
+            final String foldedQuery = fold(normalizedQuery);
+            filterPredicate = filterPredicate.and(product ->
+                    !foldedQuery.isEmpty() && repo.foldedTitle(product).contains(foldedQuery));
         }
 
         final boolean paginationRequested = (pageNumber != null) || (pageSize != null);
         final int currentPage = (pageNumber == null || pageNumber < 0) ? 0 : pageNumber;
         final int elementsPerPage = (pageSize == null || pageSize <= 0) ? 5 : pageSize;
 
-        return Flux.fromIterable(repo.findAll())
+        return Flux.fromIterable(source)
                 .filter(filterPredicate)
                 .map(ProductResponse::from)
                 .collectList()
@@ -202,6 +265,29 @@ public class ProductServiceImpl implements ProductService {
                         error.getClass().getSimpleName(), error.getMessage()));
     }
 
+    @Override
+    public long dataVersion() {
+        return repo.getVersion();
+    }
+
+    @Override
+    public long categoryTreeVersion() {
+        return categoryTree.version();
+    }
+
+    private List<Scored<Product>> rankFuzzy(String query, int max) {
+        return repo.getTitleIndex().match(fold(query), SEARCH_THRESHOLD, max);
+    }
+
+    private static double bestScore(List<Scored<Product>> hits) {
+        return hits.isEmpty() ? 0.0 : hits.get(0).score();
+    }
+
+    private static FuzzySearchResult toResult(List<Scored<Product>> hits, String didYouMean, String correctedQuery) {
+        List<ProductResponse> items = hits.stream().map(s -> ProductResponse.from(s.value())).toList();
+        return new FuzzySearchResult(items, didYouMean, correctedQuery);
+    }
+
     private PageResponse<ProductResponse> buildPageResponse(
             List<ProductResponse> allProducts,
             int currentPage,
@@ -233,4 +319,4 @@ public class ProductServiceImpl implements ProductService {
         String trimmed = string.trim();
         return trimmed.isEmpty() ? "" : trimmed;
     }
-}
\ No newline at end of file
+}
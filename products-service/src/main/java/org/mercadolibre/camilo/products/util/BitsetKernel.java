@@ -0,0 +1,21 @@
+package org.mercadolibre.camilo.products.util;
+
+/**
+ * Núcleo de cálculo sobre firmas de {@link TrigramSignatures#WORDS} palabras de 64 bits.
+ */
+interface BitsetKernel {
+
+    /**
+     * Jaccard entre dos firmas: {@code popcount(a & b) / popcount(a | b)}.
+     */
+    double jaccard(long[] a, int aOffset, long[] b, int bOffset);
+
+    /**
+     * Jaccard de {@code query} contra {@code count} firmas contiguas de {@code signatures}.
+     */
+    default void jaccardSweep(long[] query, long[] signatures, int count, double[] out) {
+        for (int i = 0, off = 0; i < count; i++, off += TrigramSignatures.WORDS) {
+            out[i] = jaccard(query, 0, signatures, off);
+        }
+    }
+}
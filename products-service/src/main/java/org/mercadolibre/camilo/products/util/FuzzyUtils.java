@@ -2,7 +2,6 @@ package org.mercadolibre.camilo.products.util;
 
 import lombok.experimental.UtilityClass;
 
-import java.text.Normalizer;
 import java.util.*;
 
 @UtilityClass
@@ -10,19 +9,45 @@ public class FuzzyUtils {
 
     public static double score(String needle, String haystack) {
         if (needle == null || haystack == null) return 0.0;
+        return scoreFolded(TextNormalizer.fold(needle), TextNormalizer.fold(haystack));
+    }
 
-        String q = normalize(needle);
-        String t = normalize(haystack);
-        if (q.isEmpty() || t.isEmpty()) return 0.0;
+    /**
+     * Igual que {@link #score(String, String)} pero con ambos textos ya normalizados con
+     * {@link TextNormalizer#fold(String)}; evita renormalizar títulos precalculados.
+     * <p>
+     * Comparación suelta de un par: calcula en cada llamada las firmas del título y de sus tokens,
+     * en un único arreglo. Para puntuar el catálogo usar {@link TitleIndex}, que las guarda
+     * precalculadas por producto.
+     */
+    public static double scoreFolded(String q, String t) {
+        if (q == null || t == null || q.isEmpty() || t.isEmpty()) return 0.0;
 
         if (t.contains(q)) return 1.0;
 
         List<String> tokens = tokens(t);
+        int words = TrigramSignatures.WORDS;
+        long[] qSig = TrigramSignatures.of(q);
+        long[] sigs = new long[(tokens.size() + 1) * words];
+        TrigramSignatures.write(t, sigs, 0);
+        for (int k = 0; k < tokens.size(); k++) {
+            TrigramSignatures.write(tokens.get(k), sigs, (k + 1) * words);
+        }
 
-        double jTitle = jaccardTrigram(q, t);
-        double eTitle = editScore(q, t);
+        double jTitle = TrigramSignatures.jaccard(qSig, sigs, 0);
+        double jToken = 0.0;
+        for (int k = 0; k < tokens.size(); k++) {
+            jToken = Math.max(jToken, TrigramSignatures.jaccard(qSig, sigs, (k + 1) * words));
+        }
+
+        return combine(q, t, tokens, jTitle, jToken);
+    }
 
-        double jToken = tokens.stream().mapToDouble(tok -> jaccardTrigram(q, tok)).max().orElse(0.0);
+    /**
+     * Combina las similitudes por trigramas ya calculadas con la distancia de edición y el bonus de prefijo.
+     */
+    static double combine(String q, String t, List<String> tokens, double jTitle, double jToken) {
+        double eTitle = editScore(q, t);
         double eToken = tokens.stream().mapToDouble(tok -> editScore(q, tok)).max().orElse(0.0);
 
         double base = Math.max(Math.max(jTitle, eTitle), Math.max(jToken, eToken));
@@ -33,43 +58,11 @@ public class FuzzyUtils {
         return base;
     }
 
-    private static String normalize(String s) {
-        String t = Normalizer.normalize(s, Normalizer.Form.NFD)
-                .replaceAll("\\p{M}", "")
-                .toLowerCase(Locale.ROOT)
-                .replaceAll("[^a-z0-9 ]", " ")
-                .replaceAll("\\s+", " ")
-                .trim();
-        return t;
-    }
-
-    private static List<String> tokens(String s) {
+    static List<String> tokens(String s) {
         if (s.isEmpty()) return List.of();
         return Arrays.asList(s.split(" "));
     }
 
-    /**
-     * Jaccard con trigramas; tolera cambios locales.
-     */
-    private static double jaccardTrigram(String a, String b) {
-        Set<String> ta = trigrams(a);
-        Set<String> tb = trigrams(b);
-        if (ta.isEmpty() || tb.isEmpty()) return 0.0;
-        int inter = 0;
-        for (String t : ta) if (tb.contains(t)) inter++;
-        int union = ta.size() + tb.size() - inter;
-        return union == 0 ? 0.0 : (double) inter / union;
-    }
-
-    private static Set<String> trigrams(String s) {
-        Set<String> res = new HashSet<>();
-        String pad = "  " + s + "  ";
-        for (int i = 0; i + 3 <= pad.length(); i++) {
-            res.add(pad.substring(i, i + 3));
-        }
-        return res;
-    }
-
     private static double editScore(String a, String b) {
         int maxLen = Math.max(a.length(), b.length());
         if (maxLen == 0) return 1.0;
@@ -77,7 +70,7 @@ public class FuzzyUtils {
         return Math.max(0.0, 1.0 - ((double) dist / (double) maxLen));
     }
 
-    private static int damerauLevenshtein(String s, String t) {
+    static int damerauLevenshtein(String s, String t) {
         int n = s.length(), m = t.length();
         if (n == 0) return m;
         if (m == 0) return n;
@@ -0,0 +1,21 @@
+package org.mercadolibre.camilo.products.util;
+
+/**
+ * Implementación escalar con {@link Long#bitCount(long)}; se usa cuando el módulo
+ * {@code jdk.incubator.vector} no está habilitado.
+ */
+final class ScalarBitsetKernel implements BitsetKernel {
+
+    @Override
+    public double jaccard(long[] a, int aOffset, long[] b, int bOffset) {
+        int inter = 0;
+        int union = 0;
+        for (int i = 0; i < TrigramSignatures.WORDS; i++) {
+            long x = a[aOffset + i];
+            long y = b[bOffset + i];
+            inter += Long.bitCount(x & y);
+            union += Long.bitCount(x | y);
+        }
+        return union == 0 ? 0.0 : (double) inter / union;
+    }
+}
@@ -0,0 +1,236 @@
+package org.mercadolibre.camilo.products.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+
+/**
+ * Diccionario de corrección ortográfica basado en borrados simétricos (SymSpell).
+ * <p>
+ * En la construcción se precalculan, para cada término, todas sus variantes con hasta
+ * {@code maxEditDistance} caracteres borrados (sobre un prefijo de {@code prefixLength}).
+ * En la consulta basta con generar los borrados de la palabra buscada y cruzarlos con ese
+ * índice, por lo que el coste no depende del tamaño del catálogo. Los candidatos se
+ * confirman con Damerau-Levenshtein. La instancia es inmutable y segura entre hilos.
+ */
+@Slf4j
+public final class SpellingDictionary {
+
+    public static final int DEFAULT_MAX_EDIT_DISTANCE = 2;
+    public static final int DEFAULT_PREFIX_LENGTH = 7;
+
+    private static final SpellingDictionary EMPTY = new SpellingDictionary(Map.of(), DEFAULT_MAX_EDIT_DISTANCE, DEFAULT_PREFIX_LENGTH);
+
+    private final int maxEditDistance;
+    private final int prefixLength;
+    private final Map<String, Integer> frequencies;
+    private final Map<String, String[]> deletes;
+
+    private SpellingDictionary(Map<String, Integer> frequencies, int maxEditDistance, int prefixLength) {
+        this.maxEditDistance = maxEditDistance;
+        this.prefixLength = prefixLength;
+        this.frequencies = Map.copyOf(frequencies);
+
+        Map<String, List<String>> index = new HashMap<>();
+        for (String term : this.frequencies.keySet()) {
+            for (String delete : editsOf(prefix(term))) {
+                index.computeIfAbsent(delete, k -> new ArrayList<>(2)).add(term);
+            }
+        }
+        Map<String, String[]> frozen = new HashMap<>(Math.max(16, index.size() * 2));
+        index.forEach((k, v) -> frozen.put(k, v.toArray(String[]::new)));
+        this.deletes = Collections.unmodifiableMap(frozen);
+    }
+
+    /**
+     * Diccionario vacío; nunca propone correcciones.
+     */
+    public static SpellingDictionary empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Construye el diccionario a partir de textos libres (p. ej. títulos de productos).
+     * Cada token normalizado de al menos 2 caracteres cuenta como una ocurrencia del término.
+     *
+     * @param texts textos de origen; los {@code null} se ignoran
+     * @return diccionario inmutable con distancia máxima 2 y prefijo 7
+     */
+    public static SpellingDictionary fromTexts(Collection<String> texts) {
+        Map<String, Integer> freq = new HashMap<>();
+        for (String text : texts) {
+            if (text == null) continue;
+            for (String token : FuzzyUtils.tokens(TextNormalizer.fold(text))) {
+                if (token.length() >= 2) {
+                    freq.merge(token, 1, Integer::sum);
+                }
+            }
+        }
+        SpellingDictionary dictionary = new SpellingDictionary(freq, DEFAULT_MAX_EDIT_DISTANCE, DEFAULT_PREFIX_LENGTH);
+        log.debug("SpellingDictionary.fromTexts | terms={} deletes={}", freq.size(), dictionary.deletes.size());
+        return dictionary;
+    }
+
+    /**
+     * Número de términos distintos del diccionario.
+     */
+    public int size() {
+        return frequencies.size();
+    }
+
+    /**
+     * Indica si el término (ya normalizado) existe en el diccionario.
+     */
+    public boolean contains(String term) {
+        return frequencies.containsKey(term);
+    }
+
+    /**
+     * Correcciones para una palabra, ordenadas por distancia asc, frecuencia desc y término asc.
+     * Si la palabra existe en el diccionario aparece primero con distancia 0.
+     *
+     * @param word  palabra a corregir (se normaliza internamente)
+     * @param limit máximo de sugerencias
+     * @return lista inmutable, posiblemente vacía
+     */
+    public List<Suggestion> lookup(String word, int limit) {
+        if (word == null || limit <= 0) return List.of();
+        String input = TextNormalizer.fold(word);
+        if (input.isEmpty() || input.indexOf(' ') >= 0) return List.of();
+
+        Set<String> seen = new HashSet<>();
+        List<Suggestion> found = new ArrayList<>();
+        for (String candidate : editsOf(prefix(input))) {
+            String[] terms = deletes.get(candidate);
+            if (terms == null) continue;
+            for (String term : terms) {
+                if (!seen.add(term) || Math.abs(term.length() - input.length()) > maxEditDistance) continue;
+                int distance = term.equals(input) ? 0 : FuzzyUtils.damerauLevenshtein(input, term);
+                if (distance <= maxEditDistance) {
+                    found.add(new Suggestion(term, distance, frequencies.get(term)));
+                }
+            }
+        }
+        found.sort(Suggestion.RANKING);
+        return found.size() > limit ? List.copyOf(found.subList(0, limit)) : List.copyOf(found);
+    }
+
+    /**
+     * Propone correcciones para una frase completa, token a token.
+     * <p>
+     * La primera frase combina la mejor corrección de cada token; las siguientes sustituyen un único
+     * token por su siguiente alternativa. Los tokens que ya existen en el diccionario no se tocan.
+     *
+     * @param phrase frase a corregir
+     * @param limit  máximo de frases sugeridas
+     * @return frases normalizadas y distintas de la entrada, mejor primero; vacía si no hay nada que corregir
+     */
+    public List<String> suggest(String phrase, int limit) {
+        if (phrase == null || limit <= 0) return List.of();
+        List<String> tokens = FuzzyUtils.tokens(TextNormalizer.fold(phrase));
+        if (tokens.isEmpty()) return List.of();
+
+        String[] best = tokens.toArray(String[]::new);
+        List<List<Suggestion>> alternatives = new ArrayList<>(tokens.size());
+        boolean changed = false;
+        for (int i = 0; i < best.length; i++) {
+            String token = best[i];
+            if (token.length() < 2 || contains(token)) {
+                alternatives.add(List.of());
+                continue;
+            }
+            List<Suggestion> options = lookup(token, limit);
+            alternatives.add(options);
+            if (!options.isEmpty()) {
+                best[i] = options.get(0).term();
+                changed = true;
+            }
+        }
+        if (!changed) return List.of();
+
+        record Candidate(String phrase, int distance, long frequency) {
+        }
+        List<Candidate> candidates = new ArrayList<>();
+        candidates.add(new Candidate(String.join(" ", best), totalDistance(alternatives, null, -1), 0));
+        for (int i = 0; i < best.length; i++) {
+            List<Suggestion> options = alternatives.get(i);
+            for (int k = 1; k < options.size(); k++) {
+                String[] variant = best.clone();
+                variant[i] = options.get(k).term();
+                candidates.add(new Candidate(String.join(" ", variant),
+                        totalDistance(alternatives, options.get(k), i), options.get(k).frequency()));
+            }
+        }
+        candidates.subList(1, candidates.size()).sort(Comparator.comparingInt(Candidate::distance)
+                .thenComparing(Comparator.comparingLong(Candidate::frequency).reversed())
+                .thenComparing(Candidate::phrase));
+
+        return candidates.stream()
+                .map(Candidate::phrase)
+                .distinct()
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Mejor corrección para la frase, o {@code null} si no hay ninguna.
+     */
+    public String correct(String phrase) {
+        List<String> suggestions = suggest(phrase, 1);
+        return suggestions.isEmpty() ? null : suggestions.get(0);
+    }
+
+    private static int totalDistance(List<List<Suggestion>> alternatives, Suggestion replacement, int position) {
+        int total = 0;
+        for (int i = 0; i < alternatives.size(); i++) {
+            List<Suggestion> options = alternatives.get(i);
+            if (i == position) {
+                total += replacement.distance();
+            } else if (!options.isEmpty()) {
+                total += options.get(0).distance();
+            }
+        }
+        return total;
+    }
+
+    private String prefix(String term) {
+        return term.length() > prefixLength ? term.substring(0, prefixLength) : term;
+    }
+
+    /**
+     * La palabra más todas sus variantes con hasta {@code maxEditDistance} borrados.
+     */
+    private Set<String> editsOf(String word) {
+        Set<String> result = new HashSet<>();
+        result.add(word);
+        List<String> frontier = List.of(word);
+        for (int d = 0; d < maxEditDistance; d++) {
+            List<String> next = new ArrayList<>();
+            for (String w : frontier) {
+                if (w.length() <= 1) continue;
+                for (int i = 0; i < w.length(); i++) {
+                    String delete = w.substring(0, i) + w.substring(i + 1);
+                    if (result.add(delete)) {
+                        next.add(delete);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return result;
+    }
+
+    /**
+     * Corrección candidata para un término.
+     *
+     * @param term      término del diccionario
+     * @param distance  distancia Damerau-Levenshtein a la palabra consultada
+     * @param frequency ocurrencias del término en los textos de origen
+     */
+    public record Suggestion(String term, int distance, int frequency) {
+
+        static final Comparator<Suggestion> RANKING = Comparator.comparingInt(Suggestion::distance)
+                .thenComparing(Comparator.comparingInt(Suggestion::frequency).reversed())
+                .thenComparing(Suggestion::term);
+    }
+}
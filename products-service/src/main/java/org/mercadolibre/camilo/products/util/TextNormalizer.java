@@ -0,0 +1,122 @@
+package org.mercadolibre.camilo.products.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalización de texto para búsqueda: sin acentos, en minúsculas, solo {@code [a-z0-9]} y
+ * palabras separadas por un único espacio.
+ * <p>
+ * Equivale byte a byte a la cadena NFD → quitar marcas → {@code toLowerCase(ROOT)} →
+ * {@code [^a-z0-9 ]} a espacio → colapsar espacios → {@code trim}, pero resuelve Latin-1 y
+ * Latin Extended (hasta U+036F) con una tabla precalculada, en una sola pasada y sobre un
+ * buffer reutilizable por hilo. Un texto que ya está normalizado se devuelve tal cual, sin
+ * copiarlo. Si aparece algún carácter fuera de la tabla se delega en la cadena original.
+ */
+@UtilityClass
+public class TextNormalizer {
+
+    private static final int TABLE_SIZE = 0x370;
+    private static final char REMOVE = 0;
+    private static final char FALLBACK = 0xFFFF;
+    private static final int MAX_POOLED_BUFFER = 8 * 1024;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}");
+    private static final Pattern NON_ALNUM = Pattern.compile("[^a-z0-9 ]");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    /**
+     * Carácter de salida por carácter de entrada: letra/dígito, espacio (separador) o {@link #REMOVE}.
+     */
+    private static final char[] FOLD = buildTable();
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[256]);
+
+    /**
+     * Normaliza el texto para comparaciones de búsqueda.
+     *
+     * @param s texto de entrada; {@code null} se trata como vacío
+     * @return texto normalizado; la misma instancia si ya lo estaba
+     */
+    public static String fold(String s) {
+        if (s == null) return "";
+        int n = s.length();
+        if (isFoldedAscii(s, n)) return s;
+
+        char[] buf = buffer(n);
+        int len = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if (c >= TABLE_SIZE) return legacy(s);
+            char m = FOLD[c];
+            if (m == REMOVE) continue;
+            if (m == FALLBACK) return legacy(s);
+            if (m == ' ') {
+                pendingSpace = len > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                buf[len++] = ' ';
+                pendingSpace = false;
+            }
+            buf[len++] = m;
+        }
+        return new String(buf, 0, len);
+    }
+
+    /**
+     * Cadena de normalización de referencia (la implementación histórica), con patrones precompilados.
+     */
+    static String legacy(String s) {
+        String t = Normalizer.normalize(s, Normalizer.Form.NFD);
+        t = MARKS.matcher(t).replaceAll("").toLowerCase(Locale.ROOT);
+        t = NON_ALNUM.matcher(t).replaceAll(" ");
+        return SPACES.matcher(t).replaceAll(" ").trim();
+    }
+
+    private static boolean isFoldedAscii(String s, int n) {
+        char prev = ' ';
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            boolean alnum = (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+            if (!alnum && (c != ' ' || prev == ' ')) return false;
+            prev = c;
+        }
+        return prev != ' ' || n == 0;
+    }
+
+    private static char[] buffer(int n) {
+        if (n > MAX_POOLED_BUFFER) return new char[n];
+        char[] buf = BUFFER.get();
+        if (buf.length < n) {
+            buf = new char[Math.max(n, buf.length * 2)];
+            BUFFER.set(buf);
+        }
+        return buf;
+    }
+
+    /**
+     * Deriva la tabla aplicando la cadena de referencia a cada carácter, sin el colapso de espacios
+     * para distinguir "se elimina" de "separa palabras". Así la tabla no puede divergir de la referencia.
+     */
+    private static char[] buildTable() {
+        char[] table = new char[TABLE_SIZE];
+        for (char c = 0; c < TABLE_SIZE; c++) {
+            String t = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            t = MARKS.matcher(t).replaceAll("").toLowerCase(Locale.ROOT);
+            t = NON_ALNUM.matcher(t).replaceAll(" ");
+            if (t.isEmpty()) {
+                table[c] = REMOVE;
+            } else if (t.length() == 1) {
+                table[c] = t.charAt(0);
+            } else {
+                table[c] = FALLBACK;
+            }
+        }
+        return table;
+    }
+}
@@ -0,0 +1,133 @@
+package org.mercadolibre.camilo.products.util;
+
+import org.mercadolibre.camilo.products.model.Scored;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Índice inmutable de títulos para fuzzy search.
+ * <p>
+ * En la construcción se normaliza cada título, se separa en tokens y se calculan las firmas de
+ * trigramas del título completo y de cada token. Las firmas de títulos se guardan contiguas en un
+ * único {@code long[]}, de modo que comparar una consulta contra todo el catálogo es un barrido
+ * lineal (vectorizado si la Vector API está disponible).
+ *
+ * @param <T> tipo de los elementos indexados
+ */
+public final class TitleIndex<T> {
+
+    private final List<T> items;
+    private final String[] folded;
+    private final List<List<String>> tokens;
+    private final long[] titleSignatures;
+    private final long[] tokenSignatures;
+    private final int[] tokenStart;
+
+    private TitleIndex(List<T> items, Function<T, String> title) {
+        int n = items.size();
+        this.items = List.copyOf(items);
+        this.folded = new String[n];
+        this.tokenStart = new int[n + 1];
+        this.titleSignatures = new long[n * TrigramSignatures.WORDS];
+
+        List<List<String>> tokenLists = new ArrayList<>(n);
+        int totalTokens = 0;
+        for (int i = 0; i < n; i++) {
+            String f = TextNormalizer.fold(title.apply(this.items.get(i)));
+            folded[i] = f;
+            List<String> toks = FuzzyUtils.tokens(f);
+            tokenLists.add(toks);
+            tokenStart[i] = totalTokens;
+            totalTokens += toks.size();
+            TrigramSignatures.write(f, titleSignatures, i * TrigramSignatures.WORDS);
+        }
+        tokenStart[n] = totalTokens;
+        this.tokens = List.copyOf(tokenLists);
+
+        this.tokenSignatures = new long[totalTokens * TrigramSignatures.WORDS];
+        for (int i = 0; i < n; i++) {
+            List<String> toks = tokenLists.get(i);
+            for (int k = 0; k < toks.size(); k++) {
+                TrigramSignatures.write(toks.get(k), tokenSignatures, (tokenStart[i] + k) * TrigramSignatures.WORDS);
+            }
+        }
+    }
+
+    /**
+     * Construye el índice.
+     *
+     * @param items elementos a indexar (se copian; el orden define las posiciones)
+     * @param title extractor del título; puede devolver {@code null}
+     */
+    public static <T> TitleIndex<T> build(Collection<T> items, Function<T, String> title) {
+        return new TitleIndex<>(new ArrayList<>(items), title);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public T item(int position) {
+        return items.get(position);
+    }
+
+    /**
+     * Título normalizado del elemento en la posición indicada.
+     */
+    public String folded(int position) {
+        return folded[position];
+    }
+
+    /**
+     * Score fuzzy (mismo criterio que {@link FuzzyUtils#score(String, String)}) de la consulta contra
+     * cada título, alineado con las posiciones del índice.
+     *
+     * @param foldedQuery consulta normalizada con {@link TextNormalizer#fold(String)}
+     * @return scores en [0, 1]
+     */
+    public double[] scores(String foldedQuery) {
+        int n = items.size();
+        double[] out = new double[n];
+        if (foldedQuery == null || foldedQuery.isEmpty() || n == 0) return out;
+
+        long[] query = TrigramSignatures.of(foldedQuery);
+        TrigramSignatures.jaccardSweep(query, titleSignatures, n, out);
+
+        for (int i = 0; i < n; i++) {
+            String t = folded[i];
+            if (t.isEmpty()) {
+                out[i] = 0.0;
+            } else if (t.contains(foldedQuery)) {
+                out[i] = 1.0;
+            } else {
+                double jToken = 0.0;
+                for (int k = tokenStart[i]; k < tokenStart[i + 1]; k++) {
+                    jToken = Math.max(jToken,
+                            TrigramSignatures.jaccard(query, tokenSignatures, k * TrigramSignatures.WORDS));
+                }
+                out[i] = FuzzyUtils.combine(foldedQuery, t, tokens.get(i), out[i], jToken);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Elementos con score mayor o igual al umbral, ordenados por score descendente.
+     *
+     * @param foldedQuery consulta normalizada
+     * @param threshold   score mínimo
+     * @param limit       máximo de resultados
+     */
+    public List<Scored<T>> match(String foldedQuery, double threshold, int limit) {
+        double[] scores = scores(foldedQuery);
+        List<Scored<T>> hits = new ArrayList<>();
+        for (int i = 0; i < scores.length; i++) {
+            if (scores[i] >= threshold) {
+                hits.add(new Scored<>(items.get(i), scores[i]));
+            }
+        }
+        hits.sort((a, b) -> Double.compare(b.score(), a.score()));
+        return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+    }
+}
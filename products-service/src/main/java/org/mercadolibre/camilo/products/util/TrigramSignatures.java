@@ -0,0 +1,109 @@
+package org.mercadolibre.camilo.products.util;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Firmas de trigramas de ancho fijo (512 bits, {@code long[8]}).
+ * <p>
+ * Cada trigrama del texto con relleno ({@code "  " + s + "  "}, igual que el Jaccard original)
+ * se proyecta a un bit; la similitud Jaccard pasa a ser {@code popcount(a & b) / popcount(a | b)}
+ * sin construir conjuntos de {@link String}. El resultado es una estimación: dos trigramas que caen en
+ * el mismo bit cuentan como uno, lo que puede subir el valor (un trigrama propio de cada texto colisiona)
+ * o bajarlo (dos trigramas compartidos colisionan entre sí). Con títulos cortos las colisiones son raras.
+ * El núcleo de cálculo usa la Vector API si el módulo {@code jdk.incubator.vector} está habilitado y,
+ * si no, una implementación escalar.
+ */
+@Slf4j
+@UtilityClass
+public class TrigramSignatures {
+
+    /**
+     * Palabras de 64 bits por firma.
+     */
+    public static final int WORDS = 8;
+
+    private static final int BITS_MASK = WORDS * Long.SIZE - 1;
+
+    private static final BitsetKernel KERNEL = selectKernel();
+
+    /**
+     * Firma del texto ya normalizado con {@link TextNormalizer#fold(String)}.
+     *
+     * @param folded texto normalizado
+     * @return firma nueva de {@link #WORDS} palabras; todo ceros si el texto es vacío
+     */
+    public static long[] of(String folded) {
+        long[] sig = new long[WORDS];
+        write(folded, sig, 0);
+        return sig;
+    }
+
+    /**
+     * Escribe la firma del texto en {@code target[offset .. offset + WORDS)}.
+     */
+    public static void write(String folded, long[] target, int offset) {
+        if (folded == null || folded.isEmpty()) return;
+        int n = folded.length() + 4;
+        char c0 = ' ';
+        char c1 = ' ';
+        for (int i = 2; i < n; i++) {
+            char c2 = i - 2 < folded.length() ? folded.charAt(i - 2) : ' ';
+            int bit = bucket(c0, c1, c2);
+            target[offset + (bit >>> 6)] |= 1L << bit;
+            c0 = c1;
+            c1 = c2;
+        }
+    }
+
+    /**
+     * Jaccard entre dos firmas completas.
+     */
+    public static double jaccard(long[] a, long[] b) {
+        return KERNEL.jaccard(a, 0, b, 0);
+    }
+
+    /**
+     * Jaccard entre {@code query} y la firma que empieza en {@code offset} de {@code signatures}.
+     */
+    public static double jaccard(long[] query, long[] signatures, int offset) {
+        return KERNEL.jaccard(query, 0, signatures, offset);
+    }
+
+    /**
+     * Jaccard de {@code query} contra {@code count} firmas contiguas; resultado en {@code out[0 .. count)}.
+     */
+    public static void jaccardSweep(long[] query, long[] signatures, int count, double[] out) {
+        KERNEL.jaccardSweep(query, signatures, count, out);
+    }
+
+    /**
+     * Indica si el núcleo activo es el vectorial.
+     */
+    public static boolean isVectorized() {
+        return !(KERNEL instanceof ScalarBitsetKernel);
+    }
+
+    private static int bucket(char c0, char c1, char c2) {
+        int h = (c0 * 31 + c1) * 31 + c2;
+        h *= 0x9E3779B1;
+        return (h ^ (h >>> 15)) & BITS_MASK;
+    }
+
+    private static BitsetKernel selectKernel() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                BitsetKernel kernel = (BitsetKernel) Class
+                        .forName(TrigramSignatures.class.getPackageName() + ".VectorBitsetKernel")
+                        .getDeclaredConstructor()
+                        .newInstance();
+                log.info("TrigramSignatures | using Vector API kernel");
+                return kernel;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                log.warn("TrigramSignatures | Vector API kernel unavailable, using scalar | msg={}", e.getMessage());
+            }
+        }
+        log.info("TrigramSignatures | using scalar kernel (enable with --add-modules jdk.incubator.vector)");
+        return new ScalarBitsetKernel();
+    }
+}
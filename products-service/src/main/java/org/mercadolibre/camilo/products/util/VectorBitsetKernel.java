@@ -0,0 +1,48 @@
+package org.mercadolibre.camilo.products.util;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementación SIMD con la Vector API ({@code jdk.incubator.vector}).
+ * <p>
+ * Solo se instancia por reflexión desde {@link TrigramSignatures} cuando el módulo está
+ * presente en tiempo de ejecución ({@code --add-modules jdk.incubator.vector}).
+ */
+final class VectorBitsetKernel implements BitsetKernel {
+
+    private static final VectorSpecies<Long> SPECIES =
+            LongVector.SPECIES_PREFERRED.length() <= TrigramSignatures.WORDS
+                    ? LongVector.SPECIES_PREFERRED
+                    : LongVector.SPECIES_512;
+
+    @Override
+    public double jaccard(long[] a, int aOffset, long[] b, int bOffset) {
+        long inter = 0;
+        long union = 0;
+        for (int i = 0; i < TrigramSignatures.WORDS; i += SPECIES.length()) {
+            LongVector va = LongVector.fromArray(SPECIES, a, aOffset + i);
+            LongVector vb = LongVector.fromArray(SPECIES, b, bOffset + i);
+            inter += va.and(vb).lanewise(VectorOperators.BIT_COUNT).reduceLanes(VectorOperators.ADD);
+            union += va.or(vb).lanewise(VectorOperators.BIT_COUNT).reduceLanes(VectorOperators.ADD);
+        }
+        return union == 0 ? 0.0 : (double) inter / union;
+    }
+
+    @Override
+    public void jaccardSweep(long[] query, long[] signatures, int count, double[] out) {
+        int lanes = SPECIES.length();
+        if (lanes != TrigramSignatures.WORDS) {
+            BitsetKernel.super.jaccardSweep(query, signatures, count, out);
+            return;
+        }
+        LongVector q = LongVector.fromArray(SPECIES, query, 0);
+        for (int i = 0, off = 0; i < count; i++, off += lanes) {
+            LongVector s = LongVector.fromArray(SPECIES, signatures, off);
+            long union = q.or(s).lanewise(VectorOperators.BIT_COUNT).reduceLanes(VectorOperators.ADD);
+            long inter = q.and(s).lanewise(VectorOperators.BIT_COUNT).reduceLanes(VectorOperators.ADD);
+            out[i] = union == 0 ? 0.0 : (double) inter / union;
+        }
+    }
+}
@@ -11,8 +11,10 @@ import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -89,6 +91,51 @@ class ProductRepositoryImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("Listas por categoría")
+    class CategoryPostings {
+
+        private final String json = """
+        [
+          {"id":"P-1","categoryId":"C-1"},
+          {"id":"P-2","categoryId":"C-2"},
+          {"id":"P-3","categoryId":"C-1"},
+          {"id":"P-4"},
+          {"id":"P-5","categoryId":"C-3"}
+        ]
+        """;
+
+        @Test
+        @DisplayName("una categoría → solo sus productos, en el orden de findAll()")
+        void singleCategory() {
+            ProductRepositoryImpl repo = new ProductRepositoryImpl(bytes(json), mapper);
+
+            List<String> expected = repo.findAll().stream()
+                    .filter(p -> "C-1".equals(p.getCategoryId()))
+                    .map(Product::getId)
+                    .toList();
+            assertThat(repo.findByCategories(Set.of("C-1"))).extracting(Product::getId)
+                    .containsExactlyElementsOf(expected)
+                    .containsExactlyInAnyOrder("P-1", "P-3");
+        }
+
+        @Test
+        @DisplayName("varias categorías → unión sin duplicados en el orden de findAll(); las desconocidas se ignoran")
+        void severalCategories() {
+            ProductRepositoryImpl repo = new ProductRepositoryImpl(bytes(json), mapper);
+
+            List<String> expected = repo.findAll().stream()
+                    .filter(p -> "C-1".equals(p.getCategoryId()) || "C-3".equals(p.getCategoryId()))
+                    .map(Product::getId)
+                    .toList();
+            assertThat(repo.findByCategories(List.of("C-1", "C-3", "C-1", "NOPE"))).extracting(Product::getId)
+                    .containsExactlyElementsOf(expected)
+                    .hasSize(3);
+            assertThat(repo.findByCategories(Set.of("NOPE"))).isEmpty();
+            assertThat(repo.findByCategories(Set.of())).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("Inmutabilidad")
     class Immutability {
@@ -0,0 +1,126 @@
+package org.mercadolibre.camilo.products.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mercadolibre.camilo.products.service.impl.CategoryTreeCache;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryTreeCacheTest {
+
+    private static final String TREE = """
+            [
+              {"id":"ROOT","name":"Celulares y Teléfonos","pathFromRoot":[],"childrenCount":2},
+              {"id":"CEL","name":"Celulares","parentId":"ROOT"},
+              {"id":"FIJ","name":"Fijos","parentId":"ROOT"},
+              {"id":"ACC","name":"Accesorios","parentId":"CEL"},
+              {"id":"TV","name":"Televisores"}
+            ]
+            """;
+
+    private DisposableServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    private CategoryTreeCache cache() {
+        return new CategoryTreeCache(WebClient.builder(), "http://localhost:" + server.port() + "/", Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("antes de cargar el árbol, el subárbol es solo la propia categoría")
+    void notLoaded_subtreeIsItself() {
+        server = HttpServer.create().port(0).route(r -> { }).bindNow();
+
+        CategoryTreeCache cache = cache();
+
+        assertThat(cache.subtreeOf("ROOT")).containsExactly("ROOT");
+        assertThat(cache.version()).isZero();
+    }
+
+    @Test
+    @DisplayName("refresh() carga el árbol y resuelve subárboles completos")
+    void refresh_loadsTree() {
+        server = HttpServer.create()
+                .port(0)
+                .route(r -> r.get("/categories", (req, resp) ->
+                        resp.header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                                .sendString(Mono.just(TREE))))
+                .bindNow();
+        CategoryTreeCache cache = cache();
+
+        StepVerifier.create(cache.refresh()).verifyComplete();
+
+        assertThat(cache.version()).isNotZero();
+        assertThat(cache.subtreeOf("ROOT")).containsExactlyInAnyOrder("ROOT", "CEL", "FIJ", "ACC");
+        assertThat(cache.subtreeOf("CEL")).containsExactlyInAnyOrder("CEL", "ACC");
+        assertThat(cache.subtreeOf("TV")).containsExactly("TV");
+        assertThat(cache.subtreeOf("UNKNOWN")).containsExactly("UNKNOWN");
+        assertThat(cache.subtreeOf("ROOT")).isSameAs(cache.subtreeOf("ROOT"));
+    }
+
+    @Test
+    @DisplayName("envía If-None-Match y conserva el snapshot ante 304")
+    void refresh_notModified_keepsSnapshot() {
+        AtomicInteger calls = new AtomicInteger();
+        List<String> ifNoneMatch = new CopyOnWriteArrayList<>();
+        server = HttpServer.create()
+                .port(0)
+                .route(r -> r.get("/categories", (req, resp) -> {
+                    calls.incrementAndGet();
+                    String tag = req.requestHeaders().get("If-None-Match");
+                    if (tag != null) {
+                        ifNoneMatch.add(tag);
+                        return resp.status(304).header("ETag", "\"v1\"").send();
+                    }
+                    return resp.header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                            .header("ETag", "\"v1\"")
+                            .sendString(Mono.just(TREE));
+                }))
+                .bindNow();
+        CategoryTreeCache cache = cache();
+
+        StepVerifier.create(cache.refresh()).verifyComplete();
+        long version = cache.version();
+        StepVerifier.create(cache.refresh()).verifyComplete();
+
+        assertThat(calls).hasValue(2);
+        assertThat(ifNoneMatch).containsExactly("\"v1\"");
+        assertThat(cache.version()).isEqualTo(version);
+        assertThat(cache.subtreeOf("ROOT")).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("un error upstream no descarta el árbol ya cargado")
+    void refresh_upstreamError_keepsPreviousTree() {
+        AtomicInteger calls = new AtomicInteger();
+        server = HttpServer.create()
+                .port(0)
+                .route(r -> r.get("/categories", (req, resp) -> calls.incrementAndGet() == 1
+                        ? resp.header("Content-Type", MediaType.APPLICATION_JSON_VALUE).sendString(Mono.just(TREE))
+                        : resp.status(500).sendString(Mono.just("boom"))))
+                .bindNow();
+        CategoryTreeCache cache = cache();
+
+        StepVerifier.create(cache.refresh()).verifyComplete();
+        StepVerifier.create(cache.refresh()).expectError(IllegalStateException.class).verify();
+
+        assertThat(cache.subtreeOf("CEL")).containsExactlyInAnyOrder("CEL", "ACC");
+    }
+}
@@ -1,11 +1,17 @@
 package org.mercadolibre.camilo.products.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.mercadolibre.camilo.products.dto.ProductResponse;
 import org.mercadolibre.camilo.products.exception.InvalidRequestException;
 import org.mercadolibre.camilo.products.exception.ProductNotFoundException;
 import org.mercadolibre.camilo.products.model.Product;
 import org.mercadolibre.camilo.products.repository.impl.ProductRepositoryImpl;
+import org.mercadolibre.camilo.products.service.impl.CategoryTreeCache;
+import org.mercadolibre.camilo.products.service.impl.ProductJsonCache;
 import org.mercadolibre.camilo.products.service.impl.ProductServiceImpl;
+import org.mercadolibre.camilo.products.util.SpellingDictionary;
+import org.mercadolibre.camilo.products.util.TextNormalizer;
+import org.mercadolibre.camilo.products.util.TitleIndex;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
@@ -13,8 +19,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,6 +34,12 @@ class ProductServiceImplTest {
     @Mock
     ProductRepositoryImpl repo;
 
+    @Spy
+    ProductJsonCache jsonCache = new ProductJsonCache(new ObjectMapper());
+
+    @Mock
+    CategoryTreeCache categoryTree;
+
     @InjectMocks
     ProductServiceImpl serviceImpl;
 
@@ -98,6 +112,144 @@ class ProductServiceImplTest {
         verifyNoMoreInteractions(repo);
     }
 
+    @Test
+    @DisplayName("getJson(ok) -> serializa una vez y reutiliza los bytes cacheados")
+    void getJson_ok_cachesBytes() {
+        when(repo.findById("P-1")).thenReturn(Optional.of(p1));
+
+        byte[] first = service.getJson("P-1").block();
+        byte[] second = service.getJson("P-1").block();
+
+        assertThat(first).isNotNull();
+        assertThat(new String(first, StandardCharsets.UTF_8))
+                .contains("\"id\":\"P-1\"")
+                .contains("\"title\":\"iPhone 15\"");
+        assertThat(second).isSameAs(first);
+        verify(jsonCache, times(2)).get(p1);
+    }
+
+    @Test
+    @DisplayName("getJson(not found) -> ProductNotFoundException sin tocar la caché")
+    void getJson_notFound_throws() {
+        when(repo.findById("P-404")).thenReturn(Optional.empty());
+
+        StepVerifier.create(service.getJson("P-404"))
+                .expectError(ProductNotFoundException.class)
+                .verify();
+
+        verifyNoInteractions(jsonCache);
+    }
+
+    @Test
+    @DisplayName("invalidate(id) -> la siguiente lectura vuelve a serializar")
+    void getJson_invalidate_reserializes() {
+        when(repo.findById("P-1")).thenReturn(Optional.of(p1));
+
+        byte[] first = service.getJson("P-1").block();
+        jsonCache.invalidate("P-1");
+        byte[] second = service.getJson("P-1").block();
+
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("searchFuzzyWithSuggestion(typo) -> sin resultados fuertes propone corrección")
+    void searchWithSuggestion_weak_returnsDidYouMean() {
+        when(repo.getTitleIndex()).thenReturn(TitleIndex.build(List.of(p1, p2, p3), Product::getTitle));
+        when(repo.getDictionary()).thenReturn(SpellingDictionary.fromTexts(List.of(p1.getTitle(), p2.getTitle(), p3.getTitle())));
+
+        StepVerifier.create(service.searchFuzzyWithSuggestion("blutoth prlante", 10, false))
+                .assertNext(result -> {
+                    assertThat(result.didYouMean()).isEqualTo("bluetooth parlante");
+                    assertThat(result.correctedQuery()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("searchFuzzyWithSuggestion(typo, autocorrect) -> repite la búsqueda con la corrección")
+    void searchWithSuggestion_autocorrect_rerunsSearch() {
+        when(repo.getTitleIndex()).thenReturn(TitleIndex.build(List.of(p1, p2, p3), Product::getTitle));
+        when(repo.getDictionary()).thenReturn(SpellingDictionary.fromTexts(List.of(p1.getTitle(), p2.getTitle(), p3.getTitle())));
+
+        StepVerifier.create(service.searchFuzzyWithSuggestion("blutoth prlante", 10, true))
+                .assertNext(result -> {
+                    assertThat(result.correctedQuery()).isEqualTo("bluetooth parlante");
+                    assertThat(result.items()).extracting(ProductResponse::getId).first().isEqualTo("P-3");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("searchFuzzyWithSuggestion(match exacto) -> no consulta el diccionario")
+    void searchWithSuggestion_strong_skipsDictionary() {
+        when(repo.getTitleIndex()).thenReturn(TitleIndex.build(List.of(p1, p2, p3), Product::getTitle));
+
+        StepVerifier.create(service.searchFuzzyWithSuggestion("iPhone", 10, true))
+                .assertNext(result -> {
+                    assertThat(result.didYouMean()).isNull();
+                    assertThat(result.items()).extracting(ProductResponse::getId).first().isEqualTo("P-1");
+                })
+                .verifyComplete();
+        verify(repo, never()).getDictionary();
+    }
+
+    @Test
+    @DisplayName("suggestCorrections(blank) -> InvalidRequestException")
+    void suggestCorrections_blank_throws() {
+        StepVerifier.create(service.suggestCorrections("  ", 5))
+                .expectError(InvalidRequestException.class)
+                .verify();
+        verifyNoInteractions(repo);
+    }
+
+    @Test
+    @DisplayName("findAllPaged(q) -> filtra por título sin distinguir mayúsculas ni acentos")
+    void findAllPaged_query_foldsCaseAndAccents() {
+        Product p4 = product("P-4", "Cámara Réflex", "C-3", "S-3");
+        when(repo.findAll()).thenReturn(List.of(p1, p2, p3, p4));
+        stubFoldedTitles();
+
+        StepVerifier.create(service.findAllPaged(null, false, null, "CAMARA", null, null))
+                .assertNext(page -> assertThat(page.getItems()).extracting(ProductResponse::getId).containsExactly("P-4"))
+                .verifyComplete();
+        StepVerifier.create(service.findAllPaged(null, false, null, "iPhone", null, null))
+                .assertNext(page -> assertThat(page.getItems()).extracting(ProductResponse::getId).containsExactly("P-1"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("findAllPaged(categoryId) -> usa la lista precalculada de la categoría exacta")
+    void findAllPaged_category_usesPostings() {
+        when(repo.findByCategories(Set.of("C-1"))).thenReturn(List.of(p1, p2));
+
+        StepVerifier.create(service.findAllPaged("C-1", false, null, null, null, null))
+                .assertNext(page -> assertThat(page.getItems()).extracting(ProductResponse::getId)
+                        .containsExactly("P-1", "P-2"))
+                .verifyComplete();
+        verifyNoInteractions(categoryTree);
+    }
+
+    @Test
+    @DisplayName("findAllPaged(categoryId, includeDescendants) -> combina las categorías del subárbol y aplica el resto de filtros")
+    void findAllPaged_includeDescendants_usesSubtree() {
+        Set<String> subtree = Set.of("C-ROOT", "C-1", "C-2");
+        when(categoryTree.subtreeOf("C-ROOT")).thenReturn(subtree);
+        when(repo.findByCategories(subtree)).thenReturn(List.of(p1, p2, p3));
+
+        StepVerifier.create(service.findAllPaged(" C-ROOT ", true, "S-1", null, null, null))
+                .assertNext(page -> {
+                    assertThat(page.getItems()).extracting(ProductResponse::getId).containsExactly("P-1", "P-3");
+                    assertThat(page.getTotalItems()).isEqualTo(2);
+                })
+                .verifyComplete();
+    }
+
+    private void stubFoldedTitles() {
+        when(repo.foldedTitle(any(Product.class)))
+                .thenAnswer(inv -> TextNormalizer.fold(inv.<Product>getArgument(0).getTitle()));
+    }
+
     /**
      * Crea un Product "completo" con campos no nulos
      * que suelen requerir ProductResponse.from(...).
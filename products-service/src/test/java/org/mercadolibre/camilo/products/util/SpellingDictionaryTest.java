@@ -0,0 +1,61 @@
+package org.mercadolibre.camilo.products.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpellingDictionaryTest {
+
+    private final SpellingDictionary dictionary = SpellingDictionary.fromTexts(List.of(
+            "Parlante Bluetooth JBL",
+            "Parlante portátil",
+            "Auriculares Bluetooth",
+            "iPhone 15 Pro",
+            "Xiaomi Redmi Note"));
+
+    @Test
+    @DisplayName("lookup -> corrige sustitución, borrado y transposición dentro de distancia 2")
+    void lookup_correctsTypos() {
+        assertThat(dictionary.lookup("parlamte", 3)).first()
+                .satisfies(s -> {
+                    assertThat(s.term()).isEqualTo("parlante");
+                    assertThat(s.distance()).isEqualTo(1);
+                    assertThat(s.frequency()).isEqualTo(2);
+                });
+        assertThat(dictionary.lookup("blutooth", 3)).extracting(SpellingDictionary.Suggestion::term)
+                .containsExactly("bluetooth");
+        assertThat(dictionary.lookup("xiamoi", 3)).extracting(SpellingDictionary.Suggestion::term)
+                .containsExactly("xiaomi");
+    }
+
+    @Test
+    @DisplayName("lookup -> sin candidatos más allá de la distancia máxima")
+    void lookup_tooFar_isEmpty() {
+        assertThat(dictionary.lookup("zzzzzz", 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("lookup -> normaliza acentos y mayúsculas")
+    void lookup_normalizesInput() {
+        assertThat(dictionary.lookup("PORTÁTL", 1)).extracting(SpellingDictionary.Suggestion::term)
+                .containsExactly("portatil");
+    }
+
+    @Test
+    @DisplayName("suggest -> corrige solo los tokens desconocidos de la frase")
+    void suggest_phrase() {
+        assertThat(dictionary.suggest("parlamte blutooth", 3)).first().isEqualTo("parlante bluetooth");
+        assertThat(dictionary.correct("iphone 15 pri")).isEqualTo("iphone 15 pro");
+    }
+
+    @Test
+    @DisplayName("suggest -> vacío si todos los tokens existen o no hay corrección")
+    void suggest_nothingToCorrect() {
+        assertThat(dictionary.suggest("parlante bluetooth", 3)).isEmpty();
+        assertThat(dictionary.correct("qqqqqqq")).isNull();
+        assertThat(SpellingDictionary.empty().correct("parlamte")).isNull();
+    }
+}
@@ -0,0 +1,78 @@
+package org.mercadolibre.camilo.products.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextNormalizerTest {
+
+    /**
+     * Alfabeto de generación: ASCII, Latin-1, Latin Extended, marcas combinantes, espacios
+     * variados y algunos caracteres fuera de la tabla (griego, cirílico, símbolos, surrogates).
+     */
+    private static final String ALPHABET = "aAzZ09 -_.,;:!?¿¡'\"/\\()[]{}\t\n\r"
+            + "áéíóúÁÉÍÓÚñÑüÜçÇàèìòùâêîôûäëïöÿãõåÅøØæÆßðþÐÞ"
+            + "ĀāĂăĄąĆćČčĎďĐđĒēĘęĚěĞğĪīİıĹĺŁłŃńŇňŐőŒœŘřŚśŞşŠšŢţŤťŮůŰűŸŹźŻżŽžſǄǅǆǍǎǰȘșȚțɐʃʰ"
+            + "\u0300\u0301\u0303\u0308\u0327\u0340\u0344\u034f\u0360\u036f"
+            + "\u00a0\u2003\u3000"
+            + "ΣσςΑάΩ ЖжЁё №€™\u212aﬁ"
+            + "\ud83d\ude00";
+
+    /**
+     * Implementación histórica de {@code FuzzyUtils.normalize}, copiada tal cual como oráculo.
+     */
+    private static String reference(String s) {
+        return Normalizer.normalize(s, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9 ]", " ")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    @Test
+    @DisplayName("fold -> idéntico a la referencia para cada carácter de la tabla")
+    void fold_everyTableChar_matchesReference() {
+        for (char c = 0; c < 0x370; c++) {
+            String single = "x" + c + "y";
+            assertThat(TextNormalizer.fold(single)).as("U+%04X", (int) c).isEqualTo(reference(single));
+        }
+    }
+
+    @Test
+    @DisplayName("fold -> idéntico a la referencia en cadenas aleatorias (semilla fija)")
+    void fold_randomStrings_matchReference() {
+        Random random = new Random(20240607L);
+        for (int i = 0; i < 20_000; i++) {
+            int len = random.nextInt(40);
+            StringBuilder sb = new StringBuilder(len);
+            for (int j = 0; j < len; j++) {
+                sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            String input = sb.toString();
+            assertThat(TextNormalizer.fold(input)).as("input=%s", input).isEqualTo(reference(input));
+        }
+    }
+
+    @Test
+    @DisplayName("fold -> texto ya normalizado se devuelve sin copiar")
+    void fold_alreadyFolded_returnsSameInstance() {
+        String folded = "parlante bluetooth 15";
+        assertThat(TextNormalizer.fold(folded)).isSameAs(folded);
+        assertThat(TextNormalizer.fold("")).isEmpty();
+        assertThat(TextNormalizer.fold(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("fold -> acentos, mayúsculas y separadores")
+    void fold_examples() {
+        assertThat(TextNormalizer.fold("  Cámara  RÉFLEX—Nikon ")).isEqualTo("camara reflex nikon");
+        assertThat(TextNormalizer.fold("Ñandú, Pingüino & Ça")).isEqualTo("nandu pinguino ca");
+        assertThat(TextNormalizer.fold("élève")).isEqualTo("eleve");
+    }
+}
@@ -0,0 +1,92 @@
+package org.mercadolibre.camilo.products.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class TrigramSignaturesTest {
+
+    private static final List<String> TITLES = List.of(
+            "iPhone 15 Pro Max",
+            "Parlante Bluetooth JBL Flip",
+            "Xiaomi Redmi Note 13",
+            "Cámara Réflex Nikon D3500",
+            "",
+            "Auriculares inalámbricos");
+
+    @Test
+    @DisplayName("jaccard -> 1 para textos iguales, 0 para vacíos")
+    void jaccard_bounds() {
+        long[] a = TrigramSignatures.of("parlante bluetooth");
+        assertThat(TrigramSignatures.jaccard(a, TrigramSignatures.of("parlante bluetooth"))).isEqualTo(1.0);
+        assertThat(TrigramSignatures.jaccard(a, TrigramSignatures.of(""))).isEqualTo(0.0);
+        assertThat(TrigramSignatures.jaccard(TrigramSignatures.of(""), TrigramSignatures.of(""))).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("jaccard -> textos parecidos puntúan más que textos distintos")
+    void jaccard_ordersBySimilarity() {
+        long[] q = TrigramSignatures.of("parlante");
+        double close = TrigramSignatures.jaccard(q, TrigramSignatures.of("parlantes"));
+        double far = TrigramSignatures.jaccard(q, TrigramSignatures.of("iphone"));
+        assertThat(close).isGreaterThan(0.5);
+        assertThat(far).isLessThan(close);
+    }
+
+    @Test
+    @DisplayName("Kernel vectorial -> mismos resultados que el escalar (requiere jdk.incubator.vector)")
+    void vectorKernel_matchesScalar() {
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+        assertThat(TrigramSignatures.isVectorized()).isTrue();
+
+        BitsetKernel scalar = new ScalarBitsetKernel();
+        BitsetKernel vector = new VectorBitsetKernel();
+        Random random = new Random(42L);
+        int count = 257;
+        long[] query = new long[TrigramSignatures.WORDS];
+        long[] signatures = new long[count * TrigramSignatures.WORDS];
+        for (int i = 0; i < query.length; i++) query[i] = random.nextLong();
+        for (int i = 0; i < signatures.length; i++) signatures[i] = random.nextLong() & random.nextLong();
+
+        double[] expected = new double[count];
+        double[] actual = new double[count];
+        scalar.jaccardSweep(query, signatures, count, expected);
+        vector.jaccardSweep(query, signatures, count, actual);
+
+        assertThat(actual).containsExactly(expected);
+        assertThat(vector.jaccard(query, 0, signatures, 8)).isEqualTo(scalar.jaccard(query, 0, signatures, 8));
+    }
+
+    @Test
+    @DisplayName("TitleIndex.scores -> coincide con FuzzyUtils.scoreFolded título a título")
+    void titleIndex_matchesPairwiseScore() {
+        TitleIndex<String> index = TitleIndex.build(TITLES, t -> t);
+
+        for (String query : List.of("iphone", "parlamte blutooth", "redmi note", "camara", "xx")) {
+            String q = TextNormalizer.fold(query);
+            double[] scores = index.scores(q);
+            for (int i = 0; i < index.size(); i++) {
+                assertThat(scores[i]).as("q=%s title=%s", q, index.item(i))
+                        .isCloseTo(FuzzyUtils.scoreFolded(q, TextNormalizer.fold(index.item(i))), within(1e-12));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("TitleIndex.match -> filtra por umbral y ordena por score desc")
+    void titleIndex_match() {
+        TitleIndex<String> index = TitleIndex.build(TITLES, t -> t);
+
+        assertThat(index.match("parlante", 0.35, 10))
+                .extracting(s -> s.value())
+                .first().isEqualTo("Parlante Bluetooth JBL Flip");
+        assertThat(index.match("zzzz", 0.35, 10)).isEmpty();
+        assertThat(index.match("a", 0.0, 2)).hasSize(2);
+    }
+}
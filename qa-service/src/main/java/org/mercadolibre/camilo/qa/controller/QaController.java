@@ -2,33 +2,69 @@ package org.mercadolibre.camilo.qa.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.mercadolibre.camilo.qa.dto.AnswerResponse;
+import org.mercadolibre.camilo.qa.dto.CreateAnswerRequest;
+import org.mercadolibre.camilo.qa.dto.CreateQuestionRequest;
+import org.mercadolibre.camilo.qa.dto.QaEventResponse;
+import org.mercadolibre.camilo.qa.dto.QuestionCountsRequest;
+import org.mercadolibre.camilo.qa.dto.QuestionCountsResponse;
 import org.mercadolibre.camilo.qa.dto.QuestionResponse;
+import org.mercadolibre.camilo.qa.dto.SimilarQuestionResponse;
 import org.mercadolibre.camilo.qa.model.ErrorResponse;
+import org.mercadolibre.camilo.qa.model.Page;
 import org.mercadolibre.camilo.qa.service.QaService;
+import org.mercadolibre.camilo.qa.util.ETags;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
+
 @Tag(name = "Q&A", description = "Operaciones de preguntas y respuestas de los productos")
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(path = "/qa", produces = MediaType.APPLICATION_JSON_VALUE)
 public class QaController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    /**
+     * Intervalo de los comentarios keep-alive del stream, para que proxies y balanceadores no corten la conexión.
+     */
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
     private final QaService service;
 
     @Operation(summary = "Lista las preguntas y respuestas de un producto",
-            description = "Devuelve un flujo con las preguntas y sus respuestas asociadas a un producto específico.")
-    @ApiResponse(responseCode = "200", description = "Listado de preguntas (puede venir vacío)",
+            description = """
+                    Devuelve una página de preguntas del producto, de la más reciente a la más antigua.
+                    - limit: tamaño de página (1..100, default 20).
+                    - cursor: valor de X-Next-Cursor de la página anterior.
+                    - answers: none, count, first (default; la cantidad y la primera respuesta) o all.
+                      Las demás respuestas se piden con GET /qa/{questionId}/answers.
+                    La cabecera X-Total-Count informa el total de preguntas del producto.
+                    """)
+    @ApiResponse(responseCode = "200", description = "Página de preguntas (puede venir vacía)",
+            headers = {
+                    @Header(name = NEXT_CURSOR_HEADER, description = "Cursor de la página siguiente (ausente en la última)"),
+                    @Header(name = TOTAL_COUNT_HEADER, description = "Cantidad total de preguntas del producto")
+            },
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = QuestionResponse.class))))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
     @ApiResponse(responseCode = "400", description = "Petición inválida",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "404", description = "Producto no encontrado",
@@ -36,17 +72,105 @@ public class QaController {
     @ApiResponse(responseCode = "500", description = "Error inesperado",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping
-    public ResponseEntity<Flux<QuestionResponse>> list(
+    public Mono<ResponseEntity<List<QuestionResponse>>> list(
+            @Parameter(description = "Identificador del producto", required = true)
+            @RequestParam String productId,
+            @Parameter(description = "Tamaño de página (1..100)")
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @Parameter(description = "Cursor opaco devuelto en X-Next-Cursor")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Respuestas por pregunta: none, count, first o all")
+            @RequestParam(value = "answers", required = false) String answers,
+            ServerWebExchange exchange) {
+        String etag = ETags.of(service.dataVersion(), "list", productId, limit, cursor, answers);
+        if (ETags.matches(exchange, etag)) {
+            return Mono.just(ETags.notModified(etag));
+        }
+        return service.findPage(productId, limit, cursor, answers)
+                .map(page -> paged(etag, page));
+    }
+
+    @Operation(summary = "Busca preguntas ya hechas parecidas a un texto",
+            description = """
+                    Devuelve las preguntas del producto más parecidas al texto (p. ej. antes de publicar una nueva),
+                    con sus respuestas, de mayor a menor similitud. La comparación ignora acentos, mayúsculas y signos,
+                    y tolera errores de tipeo; solo se incluyen preguntas con similitud de al menos 0.3.
+                    - limit: cantidad máxima de preguntas (1..20, default 5).
+                    """)
+    @ApiResponse(responseCode = "200", description = "Preguntas parecidas (puede venir vacío)",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = SimilarQuestionResponse.class))))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
+    @ApiResponse(responseCode = "400", description = "Petición inválida",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Error inesperado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/similar")
+    public Mono<ResponseEntity<List<SimilarQuestionResponse>>> similar(
+            @Parameter(description = "Identificador del producto", required = true)
+            @RequestParam String productId,
+            @Parameter(description = "Texto a comparar (hasta 500 caracteres)", required = true)
+            @RequestParam String text,
+            @Parameter(description = "Cantidad máxima de preguntas (1..20)")
+            @RequestParam(value = "limit", required = false) Integer limit,
+            ServerWebExchange exchange) {
+        String etag = ETags.of(service.dataVersion(), "similar", productId, text, limit);
+        if (ETags.matches(exchange, etag)) {
+            return Mono.just(ETags.notModified(etag));
+        }
+        return service.findSimilar(productId, text, limit)
+                .map(body -> ResponseEntity.ok().eTag(etag).contentType(MediaType.APPLICATION_JSON).body(body));
+    }
+
+    @Operation(summary = "Conteos de preguntas de varios productos en una sola llamada",
+            description = "Devuelve un mapa productId → cantidad de preguntas y de preguntas respondidas (máximo 100 ids), "
+                    + "a partir de contadores precalculados. Los productos sin preguntas se informan con conteos 0.")
+    @ApiResponse(responseCode = "200", description = "Conteos resueltos",
+            content = @Content(schema = @Schema(implementation = QuestionCountsResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Petición inválida (sin ids, id en blanco o demasiados ids)",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Error inesperado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @PostMapping(path = "/counts", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<QuestionCountsResponse>> counts(
+            @RequestBody(required = false) QuestionCountsRequest request) {
+        return service.counts(request == null ? null : request.getProductIds())
+                .map(body -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body));
+    }
+
+    @Operation(summary = "Stream de preguntas y respuestas nuevas de un producto",
+            description = """
+                    Server-Sent Events con las preguntas (event: question) y respuestas (event: answer) que se publiquen
+                    en el producto a partir de la conexión; reemplaza el polling del listado. No reenvía historial: al
+                    conectarse (o reconectarse) conviene leer GET /qa y luego aplicar las novedades.
+                    Cada 15 segundos se envía un comentario keep-alive. Si el cliente no consume los eventos a tiempo,
+                    el servidor cierra el stream.
+                    """)
+    @ApiResponse(responseCode = "200", description = "Stream abierto",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = QaEventResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Petición inválida",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<QaEventResponse>> stream(
             @Parameter(description = "Identificador del producto", required = true)
             @RequestParam String productId) {
-        Flux<QuestionResponse> body = service.listByProduct(productId);
-        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        Flux<ServerSentEvent<QaEventResponse>> heartbeats = Flux.interval(HEARTBEAT_INTERVAL)
+                .map(tick -> ServerSentEvent.<QaEventResponse>builder().comment("keep-alive").build());
+        return service.stream(productId)
+                .map(event -> ServerSentEvent.builder(event)
+                        .event(event.getType())
+                        .id(event.getQuestion() != null ? event.getQuestion().getId() : event.getAnswer().getId())
+                        .build())
+                .publish(updates -> Flux.merge(updates, heartbeats.takeUntilOther(updates.ignoreElements())));
     }
 
     @Operation(summary = "Obtiene una pregunta específica",
             description = "Devuelve una pregunta junto con sus respuestas, si existen.")
     @ApiResponse(responseCode = "200", description = "Pregunta encontrada",
             content = @Content(schema = @Schema(implementation = QuestionResponse.class)))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
     @ApiResponse(responseCode = "404", description = "Pregunta no encontrada",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "400", description = "Petición inválida",
@@ -56,8 +180,100 @@ public class QaController {
     @GetMapping("/{questionId}")
     public Mono<ResponseEntity<QuestionResponse>> get(
             @Parameter(description = "Identificador de la pregunta", required = true)
-            @PathVariable String questionId) {
+            @PathVariable String questionId,
+            ServerWebExchange exchange) {
+        String etag = ETags.of(service.dataVersion(), questionId);
         return service.get(questionId)
-                .map(resp -> ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(resp));
+                .map(resp -> ETags.matches(exchange, etag)
+                        ? ETags.<QuestionResponse>notModified(etag)
+                        : ResponseEntity.ok().eTag(etag).contentType(MediaType.APPLICATION_JSON).body(resp));
+    }
+
+    @Operation(summary = "Lista las respuestas de una pregunta",
+            description = """
+                    Devuelve una página de respuestas, de la más antigua a la más nueva; complementa a answers=first|count
+                    del listado de preguntas.
+                    - limit: tamaño de página (1..100, default 20).
+                    - cursor: valor de X-Next-Cursor de la página anterior.
+                    La cabecera X-Total-Count informa el total de respuestas de la pregunta.
+                    """)
+    @ApiResponse(responseCode = "200", description = "Página de respuestas (puede venir vacía)",
+            headers = {
+                    @Header(name = NEXT_CURSOR_HEADER, description = "Cursor de la página siguiente (ausente en la última)"),
+                    @Header(name = TOTAL_COUNT_HEADER, description = "Cantidad total de respuestas de la pregunta")
+            },
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = AnswerResponse.class))))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
+    @ApiResponse(responseCode = "400", description = "Petición inválida",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "404", description = "Pregunta no encontrada",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Error inesperado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/{questionId}/answers")
+    public Mono<ResponseEntity<List<AnswerResponse>>> answers(
+            @Parameter(description = "Identificador de la pregunta", required = true)
+            @PathVariable String questionId,
+            @Parameter(description = "Tamaño de página (1..100)")
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @Parameter(description = "Cursor opaco devuelto en X-Next-Cursor")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            ServerWebExchange exchange) {
+        String etag = ETags.of(service.dataVersion(), "answers", questionId, limit, cursor);
+        return service.findAnswers(questionId, limit, cursor)
+                .map(page -> ETags.matches(exchange, etag)
+                        ? ETags.<List<AnswerResponse>>notModified(etag)
+                        : paged(etag, page));
+    }
+
+    @Operation(summary = "Publica una pregunta",
+            description = "Agrega la pregunta como la más reciente del producto. Queda visible de inmediato en el "
+                    + "listado y en la búsqueda de preguntas parecidas; el id y la fecha los asigna el servicio.")
+    @ApiResponse(responseCode = "201", description = "Pregunta creada",
+            content = @Content(schema = @Schema(implementation = QuestionResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Petición inválida (sin productId o sin texto)",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Error inesperado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<QuestionResponse>> create(
+            @RequestBody(required = false) CreateQuestionRequest request) {
+        return service.create(request)
+                .map(body -> ResponseEntity.status(HttpStatus.CREATED)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body));
+    }
+
+    @Operation(summary = "Responde una pregunta",
+            description = "Agrega la respuesta como la más nueva de la pregunta. Queda visible de inmediato; "
+                    + "el id y la fecha los asigna el servicio.")
+    @ApiResponse(responseCode = "201", description = "Respuesta creada",
+            content = @Content(schema = @Schema(implementation = AnswerResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Petición inválida (sin texto)",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "404", description = "Pregunta no encontrada",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Error inesperado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @PostMapping(path = "/{questionId}/answers", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<AnswerResponse>> answer(
+            @Parameter(description = "Identificador de la pregunta", required = true)
+            @PathVariable String questionId,
+            @RequestBody(required = false) CreateAnswerRequest request) {
+        return service.answer(questionId, request)
+                .map(body -> ResponseEntity.status(HttpStatus.CREATED)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body));
+    }
+
+    private static <T> ResponseEntity<List<T>> paged(String etag, Page<T> page) {
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(TOTAL_COUNT_HEADER, String.valueOf(page.total()));
+        if (page.nextCursor() != null) {
+            ok.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return ok.body(page.items());
     }
-}
\ No newline at end of file
+}
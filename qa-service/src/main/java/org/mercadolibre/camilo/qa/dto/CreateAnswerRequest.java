@@ -0,0 +1,19 @@
+package org.mercadolibre.camilo.qa.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+@Schema(description = "Alta de una respuesta a una pregunta")
+public class CreateAnswerRequest {
+
+    @Schema(description = "Texto de la respuesta", example = "Sí, incluye cargador original.", requiredMode = Schema.RequiredMode.REQUIRED)
+    String text;
+
+    @Schema(description = "Autor o usuario que responde", example = "TechStore")
+    String author;
+}
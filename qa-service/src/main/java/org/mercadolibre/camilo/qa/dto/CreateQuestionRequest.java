@@ -0,0 +1,22 @@
+package org.mercadolibre.camilo.qa.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+@Schema(description = "Alta de una pregunta sobre un producto")
+public class CreateQuestionRequest {
+
+    @Schema(description = "ID del producto", example = "P-1001", requiredMode = Schema.RequiredMode.REQUIRED)
+    String productId;
+
+    @Schema(description = "Texto de la pregunta", example = "¿Viene con cargador?", requiredMode = Schema.RequiredMode.REQUIRED)
+    String text;
+
+    @Schema(description = "Autor o usuario que pregunta", example = "ana")
+    String author;
+}
@@ -0,0 +1,44 @@
+package org.mercadolibre.camilo.qa.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Novedad de Q&A de un producto, emitida por GET /qa/stream")
+public class QaEventResponse {
+
+    public static final String QUESTION = "question";
+    public static final String ANSWER = "answer";
+
+    @Schema(description = "Tipo de novedad: question (pregunta nueva) o answer (respuesta nueva)", example = "answer")
+    String type;
+
+    @Schema(description = "Identificador del producto")
+    String productId;
+
+    @Schema(description = "Pregunta publicada (solo con type=question)")
+    QuestionResponse question;
+
+    @Schema(description = "Respuesta publicada (solo con type=answer)")
+    AnswerResponse answer;
+
+    public static QaEventResponse question(QuestionResponse question) {
+        return QaEventResponse.builder()
+                .type(QUESTION)
+                .productId(question.getProductId())
+                .question(question)
+                .build();
+    }
+
+    public static QaEventResponse answer(String productId, AnswerResponse answer) {
+        return QaEventResponse.builder()
+                .type(ANSWER)
+                .productId(productId)
+                .answer(answer)
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package org.mercadolibre.camilo.qa.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+import org.mercadolibre.camilo.qa.model.QuestionCounts;
+
+@Value
+@Builder
+@Schema(description = "Conteos de preguntas de un producto")
+public class QuestionCountResponse {
+
+    @Schema(description = "Cantidad de preguntas del producto", example = "12")
+    int questions;
+
+    @Schema(description = "Cantidad de preguntas con al menos una respuesta", example = "9")
+    int answered;
+
+    public static QuestionCountResponse from(QuestionCounts counts) {
+        return QuestionCountResponse.builder()
+                .questions(counts.questions())
+                .answered(counts.answered())
+                .build();
+    }
+}
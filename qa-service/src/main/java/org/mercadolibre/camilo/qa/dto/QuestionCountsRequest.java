@@ -0,0 +1,22 @@
+package org.mercadolibre.camilo.qa.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+@Value
+@Builder
+@Jacksonized
+@Schema(description = "Petición de conteos de preguntas en lote")
+public class QuestionCountsRequest {
+
+    @Singular
+    @ArraySchema(arraySchema = @Schema(description = "IDs de producto (máximo 100 por petición)"),
+            schema = @Schema(example = "P-1001"))
+    List<String> productIds;
+}
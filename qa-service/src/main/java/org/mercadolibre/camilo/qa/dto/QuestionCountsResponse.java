@@ -0,0 +1,16 @@
+package org.mercadolibre.camilo.qa.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+@Value
+@Builder
+@Schema(description = "Conteos de preguntas de varios productos resueltos en una sola llamada")
+public class QuestionCountsResponse {
+
+    @Schema(description = "Conteos por id de producto, en el orden de la petición")
+    Map<String, QuestionCountResponse> counts;
+}
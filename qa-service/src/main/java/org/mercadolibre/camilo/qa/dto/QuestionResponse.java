@@ -1,9 +1,11 @@
 package org.mercadolibre.camilo.qa.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
-import lombok.Singular;
 import lombok.Value;
+import org.mercadolibre.camilo.qa.model.Answer;
+import org.mercadolibre.camilo.qa.model.AnswersMode;
 import org.mercadolibre.camilo.qa.model.Question;
 
 import java.util.List;
@@ -28,13 +30,25 @@ public class QuestionResponse {
     @Schema(description = "Fecha de creación de la pregunta en formato ISO-8601")
     String createdAt;
 
-    @Singular("answer")
-    @Schema(description = "Lista de respuestas asociadas a la pregunta")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Cantidad total de respuestas (ausente con answers=none)")
+    Integer answerCount;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Respuestas incluidas, de la más antigua a la más nueva (ausente con answers=none|count)")
     List<AnswerResponse> answers;
 
     public static QuestionResponse from(Question question) {
-        List<AnswerResponse> ans = question.getAnswers() == null ? List.of()
-                : question.getAnswers().stream().map(AnswerResponse::from).toList();
+        return from(question, AnswersMode.ALL);
+    }
+
+    public static QuestionResponse from(Question question, AnswersMode mode) {
+        List<Answer> source = question.getAnswers() == null ? List.of() : question.getAnswers();
+        List<AnswerResponse> included = switch (mode) {
+            case NONE, COUNT -> null;
+            case FIRST -> source.stream().limit(1).map(AnswerResponse::from).toList();
+            case ALL -> source.stream().map(AnswerResponse::from).toList();
+        };
 
         return QuestionResponse.builder()
                 .id(question.getId())
@@ -42,7 +56,8 @@ public class QuestionResponse {
                 .author(question.getAuthor())
                 .text(question.getText())
                 .createdAt(question.getCreatedAt())
-                .answers(ans)
+                .answerCount(mode == AnswersMode.NONE ? null : source.size())
+                .answers(included)
                 .build();
     }
 }
@@ -0,0 +1,26 @@
+package org.mercadolibre.camilo.qa.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+import org.mercadolibre.camilo.qa.model.AnswersMode;
+import org.mercadolibre.camilo.qa.model.SimilarQuestion;
+
+@Value
+@Builder
+@Schema(description = "Pregunta existente parecida al texto consultado")
+public class SimilarQuestionResponse {
+
+    @Schema(description = "Similitud con el texto consultado (0..1)", example = "0.72")
+    double similarity;
+
+    @Schema(description = "Pregunta encontrada, con sus respuestas")
+    QuestionResponse question;
+
+    public static SimilarQuestionResponse from(SimilarQuestion similar) {
+        return SimilarQuestionResponse.builder()
+                .similarity(similar.similarity())
+                .question(QuestionResponse.from(similar.question(), AnswersMode.ALL))
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package org.mercadolibre.camilo.qa.model;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Cuánto de las respuestas se incluye en cada pregunta de un listado.
+ * Las restantes se obtienen bajo demanda desde {@code GET /qa/{questionId}/answers}.
+ */
+public enum AnswersMode {
+    /**
+     * Sin respuestas ni conteo.
+     */
+    NONE,
+    /**
+     * Solo la cantidad de respuestas.
+     */
+    COUNT,
+    /**
+     * La cantidad y la primera respuesta (la más antigua).
+     */
+    FIRST,
+    /**
+     * La cantidad y todas las respuestas.
+     */
+    ALL;
+
+    /**
+     * Interpreta el parámetro {@code answers} ({@code none}, {@code count}, {@code first}, {@code all}).
+     *
+     * @param value valor recibido; {@code null} o blanco equivale a {@link #FIRST}
+     * @return modo correspondiente; vacío si el valor no es válido
+     */
+    public static Optional<AnswersMode> fromParam(String value) {
+        if (value == null || value.isBlank()) return Optional.of(FIRST);
+        try {
+            return Optional.of(valueOf(value.trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String param() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,13 @@
+package org.mercadolibre.camilo.qa.model;
+
+import java.util.List;
+
+/**
+ * Página de un listado paginado por cursor.
+ *
+ * @param items      elementos de la página, en el orden del listado
+ * @param nextCursor cursor opaco para pedir la página siguiente; {@code null} si es la última
+ * @param total      cantidad total de elementos del listado
+ */
+public record Page<T>(List<T> items, String nextCursor, long total) {
+}
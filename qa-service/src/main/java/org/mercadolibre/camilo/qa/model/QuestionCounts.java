@@ -0,0 +1,12 @@
+package org.mercadolibre.camilo.qa.model;
+
+/**
+ * Conteos de preguntas de un producto.
+ *
+ * @param questions cantidad de preguntas
+ * @param answered  cantidad de preguntas con al menos una respuesta
+ */
+public record QuestionCounts(int questions, int answered) {
+
+    public static final QuestionCounts EMPTY = new QuestionCounts(0, 0);
+}
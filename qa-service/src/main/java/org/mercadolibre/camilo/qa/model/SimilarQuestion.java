@@ -0,0 +1,10 @@
+package org.mercadolibre.camilo.qa.model;
+
+/**
+ * Pregunta existente parecida a un texto dado.
+ *
+ * @param question   pregunta encontrada
+ * @param similarity similitud de Jaccard entre los trigramas de ambos textos (0..1)
+ */
+public record SimilarQuestion(Question question, double similarity) {
+}
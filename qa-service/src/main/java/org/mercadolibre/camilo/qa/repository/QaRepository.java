@@ -1,6 +1,9 @@
 package org.mercadolibre.camilo.qa.repository;
 
+import org.mercadolibre.camilo.qa.model.Answer;
 import org.mercadolibre.camilo.qa.model.Question;
+import org.mercadolibre.camilo.qa.model.QuestionCounts;
+import org.mercadolibre.camilo.qa.model.SimilarQuestion;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,7 +23,73 @@ public interface QaRepository {
     /**
      * Lista las preguntas de un producto, ordenadas por fecha de creación descendente.
      * @param productId identificador del producto
-     * @return lista inmutable (vacía si no hay preguntas)
+     * @return lista inmutable con las preguntas visibles al momento de la llamada (vacía si no hay preguntas)
      */
     List<Question> findByProductId(String productId);
+
+    /**
+     * Preguntas de un producto parecidas a un texto, servidas desde un índice de trigramas por producto
+     * (sin acentos, mayúsculas ni signos). El costo depende de las preguntas que comparten trigramas con el
+     * texto, no del total de preguntas del producto.
+     * @param productId     identificador del producto
+     * @param text          texto a comparar (p. ej. una pregunta aún no publicada)
+     * @param limit         máximo de preguntas a devolver
+     * @param minSimilarity similitud mínima (Jaccard de trigramas, 0..1)
+     * @return preguntas de mayor a menor similitud; vacía si no hay ninguna suficientemente parecida
+     */
+    List<SimilarQuestion> findSimilar(String productId, String text, int limit, double minSimilarity);
+
+    /**
+     * Cantidad de preguntas de un producto.
+     * @param productId identificador del producto
+     * @return cantidad (0 si no hay preguntas)
+     */
+    int countByProductId(String productId);
+
+    /**
+     * Cantidad de preguntas de un producto y cuántas tienen al menos una respuesta, mantenidas con cada alta
+     * (no recorre las preguntas).
+     * @param productId identificador del producto
+     * @return conteos ({@link QuestionCounts#EMPTY} si no hay preguntas)
+     */
+    QuestionCounts countsOf(String productId);
+
+    /**
+     * Tramo {@code [offset, offset + limit)} de las preguntas de un producto, en el mismo orden que
+     * {@link #findByProductId(String)}. Es una vista sobre la lista ya ordenada: no copia ni reordena.
+     * @param productId identificador del producto
+     * @param offset    posición de inicio (base 0)
+     * @param limit     máximo de preguntas a devolver
+     * @param asOf      cantidad de preguntas visibles a considerar (p. ej. {@link #countByProductId(String)} al
+     *                  pedir la primera página); las agregadas después no corren las páginas siguientes
+     * @return lista inmutable; vacía si {@code offset} supera el total
+     */
+    List<Question> findPage(String productId, int offset, int limit, int asOf);
+
+    /**
+     * Agrega una pregunta como la más reciente de su producto. Las escrituras de productos distintos no
+     * compiten entre sí y los lectores concurrentes no se bloquean.
+     *
+     * @param question pregunta con id único y productId
+     * @return la pregunta guardada
+     * @throws IllegalStateException si ya existe una pregunta con ese id
+     */
+    Question save(Question question);
+
+    /**
+     * Agrega una respuesta como la más nueva de una pregunta. Los lectores concurrentes no se bloquean.
+     *
+     * @param questionId identificador de la pregunta
+     * @param answer     respuesta a agregar
+     * @return la pregunta con la respuesta incluida; vacío si la pregunta no existe
+     */
+    Optional<Question> saveAnswer(String questionId, Answer answer);
+
+    /**
+     * Versión del snapshot de datos en memoria. Cambia siempre que cambian los datos,
+     * por lo que sirve como base para validadores HTTP (ETag).
+     *
+     * @return versión opaca del snapshot
+     */
+    long getVersion();
 }
@@ -0,0 +1,144 @@
+package org.mercadolibre.camilo.qa.repository.impl;
+
+import org.mercadolibre.camilo.qa.model.Question;
+import org.mercadolibre.camilo.qa.model.QuestionCounts;
+import org.mercadolibre.camilo.qa.model.SimilarQuestion;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Preguntas de un producto: las cargadas al inicio más las recibidas después.
+ * <p>
+ * Las cargadas quedan fijas, ordenadas por fecha desc; las nuevas se agregan a una {@link AppendOnlyList}.
+ * Como una pregunta nueva siempre es la más reciente, el orden del producto es la lista de agregadas
+ * recorrida al revés seguida de las cargadas, sin reordenar nada. Los escritores de un mismo producto se
+ * serializan entre sí solo para publicar la pregunta; los lectores nunca toman locks.
+ * <p>
+ * La cantidad de preguntas respondidas (con al menos una respuesta) se lleva en un contador que se actualiza
+ * con cada alta, para informar conteos sin recorrer las preguntas.
+ * <p>
+ * Las lecturas por página reciben {@code asOf}: la cantidad de preguntas visibles. Con el mismo {@code asOf}
+ * el resultado no cambia aunque lleguen preguntas nuevas, lo que mantiene estable la paginación.
+ */
+final class ProductQuestions {
+
+    private final List<QuestionSlot> loaded;
+    private final AppendOnlyList<QuestionSlot> appended = new AppendOnlyList<>();
+
+    /**
+     * Índice de similitud por ordinal de llegada: {@code loaded.size() - 1 - i} para la i-ésima cargada
+     * (la más antigua es 0) y {@code loaded.size() + j} para la j-ésima agregada.
+     */
+    private final SimilarityIndex similarity = new SimilarityIndex();
+
+    private final LongAdder answered = new LongAdder();
+
+    /**
+     * @param loaded preguntas cargadas, de la más reciente a la más antigua (no se copia; debe ser inmutable)
+     */
+    ProductQuestions(List<QuestionSlot> loaded) {
+        this.loaded = loaded;
+        for (int ordinal = 0; ordinal < loaded.size(); ordinal++) {
+            Question question = loaded.get(loaded.size() - 1 - ordinal).get();
+            similarity.add(ordinal, question.getText());
+            if (!question.getAnswers().isEmpty()) answered.increment();
+        }
+    }
+
+    static ProductQuestions empty() {
+        return new ProductQuestions(List.of());
+    }
+
+    /**
+     * Agrega una pregunta como la más reciente del producto.
+     */
+    void append(QuestionSlot slot) {
+        synchronized (appended) {
+            // El índice se publica antes que la pregunta: quien la vea en appended también la encuentra en él.
+            similarity.add(loaded.size() + appended.size(), slot.get().getText());
+            appended.append(slot);
+        }
+    }
+
+    /**
+     * Registra una pregunta respondida: una agregada que ya trae respuestas o una que recibió la primera.
+     */
+    void markAnswered() {
+        answered.increment();
+    }
+
+    /**
+     * Cantidad de preguntas y de preguntas respondidas; O(1).
+     */
+    QuestionCounts counts() {
+        return new QuestionCounts(size(), answered.intValue());
+    }
+
+    /**
+     * Cantidad actual de preguntas visibles.
+     */
+    int size() {
+        return loaded.size() + appended.size();
+    }
+
+    /**
+     * Todas las preguntas visibles, más recientes primero. Vista O(1) que no refleja agregadas posteriores.
+     */
+    List<Question> recent() {
+        return new RecentView(appended.size());
+    }
+
+    /**
+     * Tramo {@code [offset, offset + limit)} de las primeras {@code asOf} preguntas, más recientes primero.
+     */
+    List<Question> page(int offset, int limit, int asOf) {
+        int visible = Math.max(0, Math.min(appended.size(), asOf - loaded.size()));
+        int total = loaded.size() + visible;
+        int from = Math.min(total, Math.max(0, offset));
+        int to = (int) Math.min(total, (long) from + Math.max(0, limit));
+        return new RecentView(visible).subList(from, to);
+    }
+
+    /**
+     * Preguntas visibles más parecidas al texto (ver {@link SimilarityIndex#similarTo}).
+     */
+    List<SimilarQuestion> similarTo(String text, int limit, double minSimilarity) {
+        int visible = appended.size();
+        List<SimilarityIndex.Match> matches = similarity.similarTo(text, limit, minSimilarity, loaded.size() + visible);
+        List<SimilarQuestion> out = new ArrayList<>(matches.size());
+        for (SimilarityIndex.Match m : matches) {
+            out.add(new SimilarQuestion(byOrdinal(m.ordinal()), m.similarity()));
+        }
+        return out;
+    }
+
+    private Question byOrdinal(int ordinal) {
+        return ordinal < loaded.size()
+                ? loaded.get(loaded.size() - 1 - ordinal).get()
+                : appended.get(ordinal - loaded.size()).get();
+    }
+
+    /**
+     * Preguntas agregadas (de la más nueva a la más vieja) seguidas de las cargadas.
+     */
+    private final class RecentView extends AbstractList<Question> implements RandomAccess {
+
+        private final int visible;
+
+        RecentView(int visible) {
+            this.visible = visible;
+        }
+
+        @Override
+        public Question get(int index) {
+            Objects.checkIndex(index, size());
+            return index < visible ? appended.get(visible - 1 - index).get() : loaded.get(index - visible).get();
+        }
+
+        @Override
+        public int size() {
+            return visible + loaded.size();
+        }
+    }
+}
@@ -3,11 +3,12 @@ package org.mercadolibre.camilo.qa.repository.impl;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.mercadolibre.camilo.qa.exception.QaDataLoadException;
 import org.mercadolibre.camilo.qa.model.Answer;
 import org.mercadolibre.camilo.qa.model.Question;
+import org.mercadolibre.camilo.qa.model.QuestionCounts;
+import org.mercadolibre.camilo.qa.model.SimilarQuestion;
 import org.mercadolibre.camilo.qa.repository.QaRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
@@ -15,18 +16,30 @@ import org.springframework.stereotype.Repository;
 
 import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
 import java.util.stream.Collectors;
 
 @Slf4j
-@Getter
 @Repository
 public class QaRepositoryImpl implements QaRepository {
 
-    private final Map<String, Question> byId;
-    private final Map<String, List<Question>> byProduct;
+    private final Map<String, QuestionSlot> byId;
 
     /**
-     * Crea el repositorio leyendo el JSON configurado y construyendo índices inmutables.
+     * Preguntas por producto (con su índice de similitud); las cargadas y las recibidas por {@link #save(Question)}.
+     */
+    private final Map<String, ProductQuestions> byProduct;
+
+    /**
+     * Versión de los datos: CRC32 del JSON de origen, incrementada con cada pregunta o respuesta nueva;
+     * base de los ETag.
+     */
+    private final AtomicLong version;
+
+    /**
+     * Crea el repositorio leyendo el JSON configurado y construyendo los índices por producto.
      * <ul>
      *   <li>Ordena preguntas por <b>fecha desc</b>.</li>
      *   <li>Ordena respuestas por <b>fecha asc</b>.</li>
@@ -43,7 +56,9 @@ public class QaRepositoryImpl implements QaRepository {
         Objects.requireNonNull(mapper, "ObjectMapper must not be null");
 
         try (InputStream in = data.getInputStream()) {
-            List<Question> raw = mapper.readValue(in, new TypeReference<List<Question>>() {
+            byte[] bytes = in.readAllBytes();
+            this.version = new AtomicLong(checksum(bytes));
+            List<Question> raw = mapper.readValue(bytes, new TypeReference<List<Question>>() {
             });
             List<Question> normalized = raw.stream()
                     .map(q -> Question.builder()
@@ -57,8 +72,8 @@ public class QaRepositoryImpl implements QaRepository {
                     .sorted(Comparator.comparing(Question::getCreatedAt).reversed())
                     .collect(Collectors.toList());
 
-            Map<String, Question> idMap = new HashMap<>(Math.max(16, normalized.size() * 2));
-            Map<String, List<Question>> prodMap = new HashMap<>();
+            Map<String, QuestionSlot> idMap = new ConcurrentHashMap<>(Math.max(16, normalized.size() * 2));
+            Map<String, List<QuestionSlot>> prodMap = new HashMap<>();
             int invalid = 0;
             int duplicates = 0;
 
@@ -70,16 +85,19 @@ public class QaRepositoryImpl implements QaRepository {
                     continue;
                 }
 
-                Question prev = idMap.put(q.getId(), q);
+                QuestionSlot slot = new QuestionSlot(q);
+                QuestionSlot prev = idMap.put(q.getId(), slot);
                 if (prev != null) {
                     duplicates++;
                     log.warn("QaRepositoryImpl | duplicate question id='{}' at index={} (last-wins)", q.getId(), i);
                 }
-                prodMap.computeIfAbsent(q.getProductId(), k -> new ArrayList<>()).add(q);
+                prodMap.computeIfAbsent(q.getProductId(), k -> new ArrayList<>()).add(slot);
             }
 
-            this.byId = Collections.unmodifiableMap(idMap);
-            this.byProduct = unmodifiableDeep(prodMap);
+            this.byId = idMap;
+            this.byProduct = new ConcurrentHashMap<>(Math.max(16, prodMap.size() * 2));
+            prodMap.forEach((productId, questions) ->
+                    byProduct.put(productId, new ProductQuestions(Collections.unmodifiableList(questions))));
 
             log.info("Loaded {} questions ({} invalid, {} duplicates resolved last-wins) from {}",
                     idMap.size(), invalid, duplicates, safeDesc(data));
@@ -108,15 +126,10 @@ public class QaRepositoryImpl implements QaRepository {
         return Collections.unmodifiableList(sorted);
     }
 
-    /**
-     * Hace inmutables todas las listas de preguntas por producto y el mapa contenedor.
-     */
-    private static Map<String, List<Question>> unmodifiableDeep(Map<String, List<Question>> src) {
-        Map<String, List<Question>> out = new HashMap<>(src.size());
-        for (Map.Entry<String, List<Question>> e : src.entrySet()) {
-            out.put(e.getKey(), Collections.unmodifiableList(new ArrayList<>(e.getValue())));
-        }
-        return Collections.unmodifiableMap(out);
+    private static long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
     }
 
     private String safeDesc(Resource r) {
@@ -129,11 +142,75 @@ public class QaRepositoryImpl implements QaRepository {
 
     @Override
     public Optional<Question> findById(String id) {
-        return Optional.ofNullable(byId.get(id));
+        QuestionSlot slot = byId.get(id);
+        return slot == null ? Optional.empty() : Optional.of(slot.get());
     }
 
     @Override
     public List<Question> findByProductId(String productId) {
-        return byProduct.getOrDefault(productId, List.of());
+        ProductQuestions questions = byProduct.get(productId);
+        return questions == null ? List.of() : questions.recent();
+    }
+
+    @Override
+    public List<SimilarQuestion> findSimilar(String productId, String text, int limit, double minSimilarity) {
+        ProductQuestions questions = byProduct.get(productId);
+        return questions == null ? List.of() : questions.similarTo(text, limit, minSimilarity);
+    }
+
+    @Override
+    public int countByProductId(String productId) {
+        ProductQuestions questions = byProduct.get(productId);
+        return questions == null ? 0 : questions.size();
+    }
+
+    @Override
+    public QuestionCounts countsOf(String productId) {
+        ProductQuestions questions = byProduct.get(productId);
+        return questions == null ? QuestionCounts.EMPTY : questions.counts();
+    }
+
+    @Override
+    public List<Question> findPage(String productId, int offset, int limit, int asOf) {
+        ProductQuestions questions = byProduct.get(productId);
+        return questions == null ? List.of() : questions.page(offset, limit, asOf);
+    }
+
+    @Override
+    public Question save(Question question) {
+        Objects.requireNonNull(question, "question must not be null");
+        QuestionSlot slot = new QuestionSlot(question);
+        if (byId.putIfAbsent(question.getId(), slot) != null) {
+            throw new IllegalStateException("Question id '%s' already exists".formatted(question.getId()));
+        }
+        ProductQuestions questions = byProduct.computeIfAbsent(question.getProductId(), k -> ProductQuestions.empty());
+        questions.append(slot);
+        if (!question.getAnswers().isEmpty()) {
+            questions.markAnswered();
+        }
+        version.incrementAndGet();
+        log.debug("QaRepositoryImpl.save | id={} productId={}", question.getId(), question.getProductId());
+        return question;
+    }
+
+    @Override
+    public Optional<Question> saveAnswer(String questionId, Answer answer) {
+        Objects.requireNonNull(answer, "answer must not be null");
+        QuestionSlot slot = byId.get(questionId);
+        if (slot == null) {
+            return Optional.empty();
+        }
+        Question updated = slot.addAnswer(answer);
+        if (updated.getAnswers().size() == 1) {
+            byProduct.computeIfAbsent(updated.getProductId(), k -> ProductQuestions.empty()).markAnswered();
+        }
+        version.incrementAndGet();
+        log.debug("QaRepositoryImpl.saveAnswer | id={} questionId={}", answer.getId(), questionId);
+        return Optional.of(updated);
+    }
+
+    @Override
+    public long getVersion() {
+        return version.get();
     }
-}
\ No newline at end of file
+}
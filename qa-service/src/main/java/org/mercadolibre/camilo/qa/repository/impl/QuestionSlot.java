@@ -0,0 +1,47 @@
+package org.mercadolibre.camilo.qa.repository.impl;
+
+import org.mercadolibre.camilo.qa.model.Answer;
+import org.mercadolibre.camilo.qa.model.Question;
+
+/**
+ * Versión vigente de una pregunta. Las listas por producto y el índice por id guardan el slot y no la
+ * pregunta, así una respuesta nueva se ve desde ambos lados sin tocar el orden del producto.
+ * <p>
+ * Cada respuesta reemplaza la pregunta por una copia con la respuesta al final (orden de llegada, que
+ * coincide con fecha asc). Los escritores de una misma pregunta se serializan; los lectores leen la
+ * referencia volátil y obtienen siempre una pregunta inmutable y completa.
+ */
+final class QuestionSlot {
+
+    private volatile Question question;
+
+    QuestionSlot(Question question) {
+        this.question = question;
+    }
+
+    Question get() {
+        return question;
+    }
+
+    /**
+     * Agrega una respuesta como la más nueva de la pregunta.
+     *
+     * @return la pregunta actualizada
+     */
+    synchronized Question addAnswer(Answer answer) {
+        Question current = question;
+        // Con @Singular, build() copia las respuestas a una lista inmodificable: la pregunta publicada no
+        // comparte ninguna lista mutable con este método.
+        Question updated = Question.builder()
+                .id(current.getId())
+                .productId(current.getProductId())
+                .author(current.getAuthor())
+                .text(current.getText())
+                .createdAt(current.getCreatedAt())
+                .answers(current.getAnswers())
+                .answer(answer)
+                .build();
+        question = updated;
+        return updated;
+    }
+}
@@ -0,0 +1,115 @@
+package org.mercadolibre.camilo.qa.repository.impl;
+
+import org.mercadolibre.camilo.qa.util.TextFolding;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice de similitud sobre el texto de las preguntas de un producto.
+ * <p>
+ * Cada trigrama del texto normalizado (ver {@link TextFolding#trigrams(String)}) apunta a las preguntas que
+ * lo contienen. Para un texto nuevo se recorren solo los postings de sus trigramas, contando los compartidos
+ * por pregunta, y se puntúa con la similitud de Jaccard: el costo depende de cuántas preguntas comparten
+ * trigramas con el texto y no de la longitud de todas ellas.
+ * <p>
+ * Las preguntas se identifican por ordinal, asignado en orden de llegada (mayor ordinal, más reciente).
+ * Admite un único escritor a la vez; los lectores no toman locks y solo consideran los ordinales menores
+ * al {@code visible} que reciben, que el escritor publica después de indexar.
+ */
+final class SimilarityIndex {
+
+    private final Map<String, Postings> postings = new ConcurrentHashMap<>();
+    private volatile int[] sizes = new int[16];
+
+    /**
+     * Indexa el texto de la pregunta con el ordinal dado (el siguiente al último indexado).
+     */
+    void add(int ordinal, String text) {
+        Set<String> grams = TextFolding.trigrams(text);
+        int[] s = sizes;
+        if (ordinal >= s.length) {
+            s = Arrays.copyOf(s, Math.max(s.length * 2, ordinal + 1));
+        }
+        s[ordinal] = grams.size();
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, k -> new Postings()).add(ordinal);
+        }
+        if (s != sizes) {
+            sizes = s;
+        }
+    }
+
+    /**
+     * Las {@code limit} preguntas (entre los ordinales {@code [0, visible)}) más parecidas al texto con
+     * similitud de al menos {@code minSimilarity}, de mayor a menor similitud; los empates, más recientes primero.
+     */
+    List<Match> similarTo(String text, int limit, double minSimilarity, int visible) {
+        Set<String> grams = TextFolding.trigrams(text);
+        if (grams.isEmpty() || limit <= 0 || visible <= 0) return List.of();
+
+        int[] s = sizes;
+        int[] shared = new int[visible];
+        int[] touched = new int[visible];
+        int touchedCount = 0;
+        for (String gram : grams) {
+            Postings list = postings.get(gram);
+            if (list == null) continue;
+            int n = list.size;
+            int[] ids = list.ids;
+            for (int i = 0; i < n; i++) {
+                int id = ids[i];
+                if (id >= visible) break;
+                if (shared[id]++ == 0) touched[touchedCount++] = id;
+            }
+        }
+
+        PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+        for (int t = 0; t < touchedCount; t++) {
+            int id = touched[t];
+            double similarity = (double) shared[id] / (grams.size() + s[id] - shared[id]);
+            if (similarity < minSimilarity) continue;
+            best.add(new Match(id, similarity));
+            if (best.size() > limit) best.poll();
+        }
+
+        List<Match> ranked = new ArrayList<>(best);
+        ranked.sort(WORST_FIRST.reversed());
+        return ranked;
+    }
+
+    /**
+     * Menor similitud primero; a igual similitud, la pregunta más antigua (menor ordinal) primero.
+     */
+    private static final Comparator<Match> WORST_FIRST = Comparator.comparingDouble(Match::similarity)
+            .thenComparingInt(Match::ordinal);
+
+    /**
+     * Pregunta encontrada: su ordinal y la similitud con el texto buscado.
+     */
+    record Match(int ordinal, double similarity) {
+    }
+
+    /**
+     * Ordinales de un trigrama, crecientes, en un arreglo que crece por duplicación.
+     * El escritor escribe los datos antes de publicar el nuevo tamaño.
+     */
+    private static final class Postings {
+
+        private volatile int[] ids = new int[4];
+        private volatile int size;
+
+        void add(int ordinal) {
+            int n = size;
+            int[] d = ids;
+            if (n == d.length) {
+                d = Arrays.copyOf(d, n * 2);
+            }
+            d[n] = ordinal;
+            if (d != ids) {
+                ids = d;
+            }
+            size = n + 1;
+        }
+    }
+}
@@ -1,17 +1,48 @@
 package org.mercadolibre.camilo.qa.service;
 
+import org.mercadolibre.camilo.qa.dto.AnswerResponse;
+import org.mercadolibre.camilo.qa.dto.CreateAnswerRequest;
+import org.mercadolibre.camilo.qa.dto.CreateQuestionRequest;
+import org.mercadolibre.camilo.qa.dto.QaEventResponse;
+import org.mercadolibre.camilo.qa.dto.QuestionCountsResponse;
 import org.mercadolibre.camilo.qa.dto.QuestionResponse;
+import org.mercadolibre.camilo.qa.dto.SimilarQuestionResponse;
+import org.mercadolibre.camilo.qa.model.Page;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface QaService {
 
     /**
-     * Lista preguntas de un producto.
+     * Página de preguntas de un producto, de la más reciente a la más antigua.
+     *
+     * @param productId id del producto (no nulo/blank)
+     * @param limit     tamaño de página (1..100); {@code null} usa 20
+     * @param cursor    cursor devuelto por la página anterior; {@code null} para la primera
+     * @param answers   respuestas a incluir por pregunta: {@code none}, {@code count}, {@code first}
+     *                  (default) o {@code all}
+     */
+    Mono<Page<QuestionResponse>> findPage(String productId, Integer limit, String cursor, String answers);
+
+    /**
+     * Preguntas ya hechas sobre un producto parecidas a un texto ("esto ya se preguntó"), con sus respuestas.
      *
      * @param productId id del producto (no nulo/blank)
+     * @param text      texto a comparar (no blank, hasta 500 caracteres)
+     * @param limit     cantidad máxima de preguntas (1..20); {@code null} usa 5
+     */
+    Mono<List<SimilarQuestionResponse>> findSimilar(String productId, String text, Integer limit);
+
+    /**
+     * Conteos de preguntas (totales y respondidas) de varios productos en una sola llamada, leídos de
+     * contadores precalculados. Los productos sin preguntas se informan con conteos 0.
+     *
+     * @param productIds ids de producto (1..100, sin blancos); los repetidos se resuelven una vez
      */
-    Flux<QuestionResponse> listByProduct(String productId);
+    Mono<QuestionCountsResponse> counts(Collection<String> productIds);
 
     /**
      * Obtiene una pregunta por id.
@@ -19,4 +50,41 @@ public interface QaService {
      * @param questionId id de la pregunta (no nulo/blank)
      */
     Mono<QuestionResponse> get(String questionId);
+
+    /**
+     * Página de respuestas de una pregunta, de la más antigua a la más nueva.
+     *
+     * @param questionId id de la pregunta (no nulo/blank)
+     * @param limit      tamaño de página (1..100); {@code null} usa 20
+     * @param cursor     cursor devuelto por la página anterior; {@code null} para la primera
+     */
+    Mono<Page<AnswerResponse>> findAnswers(String questionId, Integer limit, String cursor);
+
+    /**
+     * Publica una pregunta como la más reciente del producto; el id y la fecha los asigna el servicio.
+     *
+     * @param request productId y texto (no blank) y autor opcional
+     */
+    Mono<QuestionResponse> create(CreateQuestionRequest request);
+
+    /**
+     * Agrega una respuesta como la más nueva de una pregunta; el id y la fecha los asigna el servicio.
+     *
+     * @param questionId id de la pregunta (no nulo/blank)
+     * @param request    texto (no blank) y autor opcional
+     */
+    Mono<AnswerResponse> answer(String questionId, CreateAnswerRequest request);
+
+    /**
+     * Preguntas y respuestas nuevas de un producto a partir de la suscripción (sin historial). Se completa si
+     * el suscriptor no consume a tiempo.
+     *
+     * @param productId id del producto (no nulo/blank)
+     */
+    Flux<QaEventResponse> stream(String productId);
+
+    /**
+     * Versión actual de los datos servidos; base para calcular ETags sin serializar.
+     */
+    long dataVersion();
 }
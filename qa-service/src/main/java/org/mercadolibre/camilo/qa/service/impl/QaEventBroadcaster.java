@@ -0,0 +1,99 @@
+package org.mercadolibre.camilo.qa.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.mercadolibre.camilo.qa.dto.QaEventResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Difusión en memoria de preguntas y respuestas nuevas, por producto.
+ * <p>
+ * Cada producto con suscriptores tiene un {@link Sinks.Many} multicast propio; se crea con el primer
+ * suscriptor y se descarta con el último, así un producto sin suscriptores no ocupa nada y publicar en él
+ * es una búsqueda en un mapa. Solo se emiten las novedades posteriores a la suscripción (sin historial).
+ * <p>
+ * Cada suscriptor tiene un buffer acotado ({@code app.stream.max-pending}): si no consume a tiempo y el buffer
+ * se llena, su stream se completa y queda fuera, sin frenar a los demás ni acumular memoria. El cliente puede
+ * reconectarse y releer el listado para ponerse al día.
+ */
+@Slf4j
+@Component
+public class QaEventBroadcaster {
+
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final int maxPending;
+
+    public QaEventBroadcaster(@Value("${app.stream.max-pending:256}") int maxPending) {
+        if (maxPending < 1) {
+            throw new IllegalArgumentException("app.stream.max-pending must be positive");
+        }
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * Novedades del producto a partir de la suscripción. No termina mientras el suscriptor siga conectado
+     * y consumiendo; se completa si se queda atrás más de {@code maxPending} eventos.
+     */
+    public Flux<QaEventResponse> subscribe(String productId) {
+        return Flux.defer(() -> {
+                    Channel channel = channels.compute(productId, (k, current) -> {
+                        Channel c = current == null ? new Channel() : current;
+                        c.subscribers++;
+                        return c;
+                    });
+                    return channel.sink.asFlux()
+                            .doFinally(signal -> release(productId, channel));
+                })
+                .onBackpressureBuffer(maxPending,
+                        dropped -> log.warn("QaEventBroadcaster.subscribe | slow subscriber dropped | productId={}", productId),
+                        BufferOverflowStrategy.ERROR)
+                .onErrorResume(Exceptions::isOverflow, ex -> Flux.empty());
+    }
+
+    /**
+     * Publica una novedad para los suscriptores actuales del producto; sin suscriptores no hace nada.
+     */
+    public void publish(String productId, QaEventResponse event) {
+        Channel channel = channels.get(productId);
+        if (channel == null) {
+            return;
+        }
+        // Los sinks no admiten emisiones concurrentes: se serializan por producto.
+        synchronized (channel) {
+            Sinks.EmitResult result = channel.sink.tryEmitNext(event);
+            if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+                log.warn("QaEventBroadcaster.publish | emit failed | productId={} result={}", productId, result);
+            }
+        }
+    }
+
+    /**
+     * Cantidad de productos con al menos un suscriptor.
+     */
+    int activeProducts() {
+        return channels.size();
+    }
+
+    private void release(String productId, Channel channel) {
+        channels.computeIfPresent(productId, (k, current) -> {
+            if (current != channel) return current;
+            return --current.subscribers == 0 ? null : current;
+        });
+    }
+
+    /**
+     * Sink de un producto y su cantidad de suscriptores (modificada solo dentro de {@code compute}).
+     */
+    private static final class Channel {
+
+        private final Sinks.Many<QaEventResponse> sink = Sinks.many().multicast().directBestEffort();
+        private int subscribers;
+    }
+}
@@ -2,37 +2,154 @@ package org.mercadolibre.camilo.qa.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.mercadolibre.camilo.qa.dto.AnswerResponse;
+import org.mercadolibre.camilo.qa.dto.CreateAnswerRequest;
+import org.mercadolibre.camilo.qa.dto.CreateQuestionRequest;
+import org.mercadolibre.camilo.qa.dto.QaEventResponse;
+import org.mercadolibre.camilo.qa.dto.QuestionCountResponse;
+import org.mercadolibre.camilo.qa.dto.QuestionCountsResponse;
 import org.mercadolibre.camilo.qa.dto.QuestionResponse;
+import org.mercadolibre.camilo.qa.dto.SimilarQuestionResponse;
 import org.mercadolibre.camilo.qa.exception.InvalidRequestException;
 import org.mercadolibre.camilo.qa.exception.QuestionNotFoundException;
+import org.mercadolibre.camilo.qa.model.Answer;
+import org.mercadolibre.camilo.qa.model.AnswersMode;
+import org.mercadolibre.camilo.qa.model.Page;
+import org.mercadolibre.camilo.qa.model.Question;
 import org.mercadolibre.camilo.qa.repository.QaRepository;
 import org.mercadolibre.camilo.qa.service.QaService;
+import org.mercadolibre.camilo.qa.util.Cursors;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class QaServiceImpl implements QaService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_SIMILAR_LIMIT = 5;
+    private static final int MAX_SIMILAR_LIMIT = 20;
+    private static final int MAX_SIMILAR_TEXT_LENGTH = 500;
+    private static final int MAX_COUNTS_BATCH = 100;
+
+    /**
+     * Similitud mínima (Jaccard de trigramas) para considerar que una pregunta ya se hizo.
+     */
+    private static final double MIN_SIMILARITY = 0.3;
+
     private final QaRepository repo;
+    private final QaEventBroadcaster events;
 
     @Override
-    public Flux<QuestionResponse> listByProduct(String productId) {
+    public Mono<Page<QuestionResponse>> findPage(String productId, Integer limit, String cursor, String answers) {
         if (productId == null || productId.isBlank()) {
-            log.warn("QaService.listByProduct | invalid productId (blank)");
-            return Flux.error(new InvalidRequestException("productId must not be blank"));
+            log.warn("QaService.findPage | invalid productId (blank)");
+            return Mono.error(new InvalidRequestException("productId must not be blank"));
+        }
+        AnswersMode mode = AnswersMode.fromParam(answers).orElse(null);
+        if (mode == null) {
+            log.warn("QaService.findPage | invalid answers | answers={}", answers);
+            return Mono.error(new InvalidRequestException("answers must be one of none, count, first, all"));
         }
+        if (limit != null && (limit < 1 || limit > MAX_PAGE_SIZE)) {
+            log.warn("QaService.findPage | invalid limit | limit={}", limit);
+            return Mono.error(new InvalidRequestException("limit must be between 1 and %d".formatted(MAX_PAGE_SIZE)));
+        }
+        int size = limit == null ? DEFAULT_PAGE_SIZE : limit;
 
-        log.info("QaService.listByProduct | productId={}", productId);
-        return Flux.fromIterable(repo.findByProductId(productId))
-                .map(QuestionResponse::from)
-                .doOnComplete(() -> log.debug("QaService.listByProduct | completed | productId={}", productId))
-                .doOnError(ex -> log.error("QaService.listByProduct | error | productId={} | type={} | msg={}",
+        log.info("QaService.findPage | productId={} limit={} answers={} cursor={}", productId, size, mode.param(), cursor);
+        return Mono.fromCallable(() -> {
+                    Cursors.Position position = Cursors.decode(cursor, Cursors.QUESTIONS);
+                    int offset = position.offset();
+                    int current = repo.countByProductId(productId);
+                    int total = position.pinned() ? Math.min(position.asOf(), current) : current;
+                    List<QuestionResponse> items = repo.findPage(productId, offset, size, total).stream()
+                            .map(q -> QuestionResponse.from(q, mode))
+                            .toList();
+                    int next = offset + items.size();
+                    String nextCursor = next < total ? Cursors.encode(Cursors.QUESTIONS, next, total) : null;
+                    log.debug("QaService.findPage | ok | productId={} offset={} items={} total={}",
+                            productId, offset, items.size(), total);
+                    return new Page<>(items, nextCursor, total);
+                })
+                .doOnError(ex -> log.error("QaService.findPage | error | productId={} | type={} | msg={}",
+                        productId, ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
+    @Override
+    public Mono<List<SimilarQuestionResponse>> findSimilar(String productId, String text, Integer limit) {
+        if (productId == null || productId.isBlank()) {
+            log.warn("QaService.findSimilar | invalid productId (blank)");
+            return Mono.error(new InvalidRequestException("productId must not be blank"));
+        }
+        if (text == null || text.isBlank()) {
+            log.warn("QaService.findSimilar | invalid text (blank)");
+            return Mono.error(new InvalidRequestException("text must not be blank"));
+        }
+        if (text.length() > MAX_SIMILAR_TEXT_LENGTH) {
+            log.warn("QaService.findSimilar | text too long | length={}", text.length());
+            return Mono.error(new InvalidRequestException(
+                    "text must be at most %d characters".formatted(MAX_SIMILAR_TEXT_LENGTH)));
+        }
+        int size = limit == null ? DEFAULT_SIMILAR_LIMIT : limit;
+        if (size < 1 || size > MAX_SIMILAR_LIMIT) {
+            log.warn("QaService.findSimilar | invalid limit | limit={}", limit);
+            return Mono.error(new InvalidRequestException("limit must be between 1 and %d".formatted(MAX_SIMILAR_LIMIT)));
+        }
+
+        log.info("QaService.findSimilar | productId={} limit={}", productId, size);
+        return Mono.fromCallable(() -> repo.findSimilar(productId, text, size, MIN_SIMILARITY).stream()
+                        .map(SimilarQuestionResponse::from)
+                        .toList())
+                .doOnNext(found -> log.debug("QaService.findSimilar | ok | productId={} found={}", productId, found.size()))
+                .doOnError(ex -> log.error("QaService.findSimilar | error | productId={} | type={} | msg={}",
                         productId, ex.getClass().getSimpleName(), ex.getMessage()));
     }
 
+    @Override
+    public Mono<QuestionCountsResponse> counts(Collection<String> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            log.warn("QaService.counts | invalid productIds (empty)");
+            return Mono.error(new InvalidRequestException("productIds must not be empty"));
+        }
+        if (productIds.size() > MAX_COUNTS_BATCH) {
+            log.warn("QaService.counts | too many productIds | size={}", productIds.size());
+            return Mono.error(new InvalidRequestException(
+                    "At most %d productIds are allowed per request".formatted(MAX_COUNTS_BATCH)));
+        }
+        Set<String> unique = new LinkedHashSet<>();
+        for (String id : productIds) {
+            if (id == null || id.isBlank()) {
+                log.warn("QaService.counts | invalid productId (blank)");
+                return Mono.error(new InvalidRequestException("productId must not be blank"));
+            }
+            unique.add(id.trim());
+        }
+
+        log.info("QaService.counts | resolving | size={}", unique.size());
+        return Mono.fromCallable(() -> {
+                    Map<String, QuestionCountResponse> counts = new LinkedHashMap<>();
+                    for (String id : unique) {
+                        counts.put(id, QuestionCountResponse.from(repo.countsOf(id)));
+                    }
+                    return QuestionCountsResponse.builder().counts(counts).build();
+                })
+                .doOnError(ex -> log.error("QaService.counts | error | type={} | msg={}",
+                        ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
     @Override
     public Mono<QuestionResponse> get(String questionId) {
         if (questionId == null || questionId.isBlank()) {
@@ -50,4 +167,130 @@ public class QaServiceImpl implements QaService {
                 .doOnError(ex -> log.error("QaService.get | error | questionId={} | type={} | msg={}",
                         questionId, ex.getClass().getSimpleName(), ex.getMessage()));
     }
+
+    @Override
+    public Mono<Page<AnswerResponse>> findAnswers(String questionId, Integer limit, String cursor) {
+        if (questionId == null || questionId.isBlank()) {
+            log.warn("QaService.findAnswers | invalid questionId (blank)");
+            return Mono.error(new InvalidRequestException("questionId must not be blank"));
+        }
+        if (limit != null && (limit < 1 || limit > MAX_PAGE_SIZE)) {
+            log.warn("QaService.findAnswers | invalid limit | limit={}", limit);
+            return Mono.error(new InvalidRequestException("limit must be between 1 and %d".formatted(MAX_PAGE_SIZE)));
+        }
+        int size = limit == null ? DEFAULT_PAGE_SIZE : limit;
+
+        log.info("QaService.findAnswers | questionId={} limit={} cursor={}", questionId, size, cursor);
+        return Mono.defer(() -> Mono.justOrEmpty(repo.findById(questionId)))
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("QaService.findAnswers | not found | questionId={}", questionId);
+                    return Mono.error(new QuestionNotFoundException(questionId));
+                }))
+                .map(question -> {
+                    List<Answer> all = question.getAnswers() == null ? List.of() : question.getAnswers();
+                    Cursors.Position position = Cursors.decode(cursor, Cursors.ANSWERS);
+                    int total = position.pinned() ? Math.min(position.asOf(), all.size()) : all.size();
+                    int offset = Math.min(total, position.offset());
+                    int to = (int) Math.min(total, (long) offset + size);
+                    List<AnswerResponse> items = all.subList(offset, to).stream().map(AnswerResponse::from).toList();
+                    String nextCursor = to < total ? Cursors.encode(Cursors.ANSWERS, to, total) : null;
+                    return new Page<>(items, nextCursor, total);
+                })
+                .doOnError(ex -> log.error("QaService.findAnswers | error | questionId={} | type={} | msg={}",
+                        questionId, ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
+    @Override
+    public Mono<QuestionResponse> create(CreateQuestionRequest request) {
+        if (request == null) {
+            log.warn("QaService.create | invalid request (null body)");
+            return Mono.error(new InvalidRequestException("Request body must not be null"));
+        }
+        if (request.getProductId() == null || request.getProductId().isBlank()) {
+            log.warn("QaService.create | invalid productId (blank)");
+            return Mono.error(new InvalidRequestException("productId must not be blank"));
+        }
+        if (request.getText() == null || request.getText().isBlank()) {
+            log.warn("QaService.create | invalid text (blank)");
+            return Mono.error(new InvalidRequestException("text must not be blank"));
+        }
+
+        Question question = Question.builder()
+                .id("Q-" + UUID.randomUUID())
+                .productId(request.getProductId().trim())
+                .author(trimToNull(request.getAuthor()))
+                .text(request.getText().trim())
+                .createdAt(Instant.now().toString())
+                .build();
+
+        log.info("QaService.create | productId={}", question.getProductId());
+        return Mono.fromCallable(() -> QuestionResponse.from(repo.save(question)))
+                .doOnNext(saved -> events.publish(saved.getProductId(), QaEventResponse.question(saved)))
+                .doOnNext(saved -> log.debug("QaService.create | ok | id={}", saved.getId()))
+                .doOnError(ex -> log.error("QaService.create | error | productId={} | type={} | msg={}",
+                        question.getProductId(), ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
+    @Override
+    public Mono<AnswerResponse> answer(String questionId, CreateAnswerRequest request) {
+        if (questionId == null || questionId.isBlank()) {
+            log.warn("QaService.answer | invalid questionId (blank)");
+            return Mono.error(new InvalidRequestException("questionId must not be blank"));
+        }
+        if (request == null) {
+            log.warn("QaService.answer | invalid request (null body)");
+            return Mono.error(new InvalidRequestException("Request body must not be null"));
+        }
+        if (request.getText() == null || request.getText().isBlank()) {
+            log.warn("QaService.answer | invalid text (blank)");
+            return Mono.error(new InvalidRequestException("text must not be blank"));
+        }
+
+        Answer answer = Answer.builder()
+                .id("A-" + UUID.randomUUID())
+                .questionId(questionId)
+                .author(trimToNull(request.getAuthor()))
+                .text(request.getText().trim())
+                .createdAt(Instant.now().toString())
+                .build();
+
+        log.info("QaService.answer | questionId={}", questionId);
+        return Mono.defer(() -> Mono.justOrEmpty(repo.saveAnswer(questionId, answer)))
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("QaService.answer | not found | questionId={}", questionId);
+                    return Mono.error(new QuestionNotFoundException(questionId));
+                }))
+                .map(updated -> {
+                    AnswerResponse saved = AnswerResponse.from(answer);
+                    events.publish(updated.getProductId(), QaEventResponse.answer(updated.getProductId(), saved));
+                    return saved;
+                })
+                .doOnNext(saved -> log.debug("QaService.answer | ok | id={}", saved.getId()))
+                .doOnError(ex -> log.error("QaService.answer | error | questionId={} | type={} | msg={}",
+                        questionId, ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
+    @Override
+    public Flux<QaEventResponse> stream(String productId) {
+        if (productId == null || productId.isBlank()) {
+            log.warn("QaService.stream | invalid productId (blank)");
+            return Flux.error(new InvalidRequestException("productId must not be blank"));
+        }
+
+        String pid = productId.trim();
+        log.info("QaService.stream | subscribing | productId={}", pid);
+        return events.subscribe(pid)
+                .doFinally(signal -> log.debug("QaService.stream | closed | productId={} signal={}", pid, signal));
+    }
+
+    @Override
+    public long dataVersion() {
+        return repo.getVersion();
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) return null;
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
 }
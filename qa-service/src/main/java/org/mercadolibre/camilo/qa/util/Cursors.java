@@ -0,0 +1,64 @@
+package org.mercadolibre.camilo.qa.util;
+
+import lombok.experimental.UtilityClass;
+import org.mercadolibre.camilo.qa.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursores opacos de paginación. Codifican el listado al que pertenecen, la posición de la siguiente
+ * página y la cantidad de elementos visibles al pedir la primera, de modo que un cursor de preguntas no se
+ * puede usar para paginar respuestas (ni al revés) y los elementos nuevos no corren las páginas siguientes.
+ */
+@UtilityClass
+public class Cursors {
+
+    public static final String QUESTIONS = "q";
+    public static final String ANSWERS = "a";
+
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Posición decodificada de un cursor.
+     *
+     * @param offset posición de inicio (base 0)
+     * @param asOf   cantidad de elementos visibles fijada en la primera página; {@code -1} si aún no se fijó
+     */
+    public record Position(int offset, int asOf) {
+
+        public static final Position FIRST = new Position(0, -1);
+
+        public boolean pinned() {
+            return asOf >= 0;
+        }
+    }
+
+    public static String encode(String listing, int offset, int asOf) {
+        String raw = listing + SEPARATOR + offset + SEPARATOR + asOf;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un cursor emitido por {@link #encode(String, int, int)}.
+     *
+     * @param cursor  cursor recibido; {@code null} o blanco equivale al inicio
+     * @param listing listado de la petición actual ({@link #QUESTIONS} o {@link #ANSWERS})
+     * @return posición de inicio ({@link Position#FIRST} si no hay cursor)
+     * @throws InvalidRequestException si el cursor está mal formado o corresponde a otro listado
+     */
+    public static Position decode(String cursor, String listing) {
+        if (cursor == null || cursor.isBlank()) return Position.FIRST;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 3 || !parts[0].equals(listing)) throw new InvalidRequestException("Invalid cursor");
+            int offset = Integer.parseInt(parts[1]);
+            int asOf = Integer.parseInt(parts[2]);
+            if (offset < 0 || asOf < 0) throw new InvalidRequestException("Invalid cursor");
+            return new Position(offset, asOf);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.mercadolibre.camilo.qa.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Normalización de textos de preguntas para compararlas: minúsculas, sin acentos ni signos
+ * ("¿Viene con cargador?" → "viene con cargador").
+ */
+@UtilityClass
+public class TextFolding {
+
+    /**
+     * Texto normalizado: solo letras y dígitos, en minúsculas y sin acentos, con las palabras separadas
+     * por un único espacio.
+     *
+     * @param s texto libre; {@code null} devuelve una cadena vacía
+     */
+    public static String fold(String s) {
+        if (s == null || s.isEmpty()) return "";
+        String decomposed = Normalizer.normalize(s, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(decomposed.length());
+        boolean space = true;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) continue;
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+                space = false;
+            } else if (!space) {
+                sb.append(' ');
+                space = true;
+            }
+        }
+        int end = sb.length();
+        if (end > 0 && sb.charAt(end - 1) == ' ') sb.setLength(end - 1);
+        return sb.toString();
+    }
+
+    /**
+     * Trigramas de caracteres del texto normalizado, sin repetir. Cada palabra se rodea de espacios, de modo
+     * que los comienzos y finales de palabra también cuentan ("cargador" → " ca", "car", ..., "or ").
+     *
+     * @param s texto libre
+     * @return trigramas en orden de aparición; vacío si el texto no tiene letras ni dígitos
+     */
+    public static Set<String> trigrams(String s) {
+        Set<String> out = new LinkedHashSet<>();
+        for (String word : fold(s).split(" ")) {
+            if (word.isEmpty()) continue;
+            String padded = ' ' + word + ' ';
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                out.add(padded.substring(i, i + 3));
+            }
+        }
+        return out;
+    }
+}
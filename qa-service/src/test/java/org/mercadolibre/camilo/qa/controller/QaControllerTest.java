@@ -0,0 +1,255 @@
+package org.mercadolibre.camilo.qa.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mercadolibre.camilo.qa.exception.GlobalExceptionHandler;
+import org.mercadolibre.camilo.qa.model.Answer;
+import org.mercadolibre.camilo.qa.model.Question;
+import org.mercadolibre.camilo.qa.repository.impl.QaRepositoryImpl;
+import org.mercadolibre.camilo.qa.service.impl.QaEventBroadcaster;
+import org.mercadolibre.camilo.qa.service.impl.QaServiceImpl;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Controlador sobre el servicio y el repositorio reales, cargados desde un JSON en memoria.
+ */
+class QaControllerTest {
+
+    private static final String DATA = """
+            [
+              {"id":"Q-1","productId":"P-1","text":"¿Viene con cargador?","createdAt":"2025-01-01T00:00:00Z",
+               "answers":[
+                 {"id":"A-1","questionId":"Q-1","text":"Sí.","createdAt":"2025-01-01T06:00:00Z"},
+                 {"id":"A-2","questionId":"Q-1","text":"Original.","createdAt":"2025-01-01T12:00:00Z"},
+                 {"id":"A-3","questionId":"Q-1","text":"De 20 W.","createdAt":"2025-01-01T18:00:00Z"}
+               ]},
+              {"id":"Q-2","productId":"P-1","text":"¿Tiene garantía?","createdAt":"2025-01-03T00:00:00Z"},
+              {"id":"Q-3","productId":"P-1","text":"¿Es resistente al agua?","createdAt":"2025-01-02T00:00:00Z"}
+            ]
+            """;
+
+    QaRepositoryImpl repo;
+    WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        repo = new QaRepositoryImpl(new ByteArrayResource(DATA.getBytes(StandardCharsets.UTF_8)),
+                new ObjectMapper().findAndRegisterModules());
+        client = WebTestClient.bindToController(new QaController(new QaServiceImpl(repo, new QaEventBroadcaster(16))))
+                .controllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("GET /qa: X-Total-Count y X-Next-Cursor; la última página no trae cursor")
+    void list_pagesWithHeaders() {
+        String cursor = client.get().uri("/qa?productId=P-1&limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(QaController.TOTAL_COUNT_HEADER, "3")
+                .expectHeader().exists(QaController.NEXT_CURSOR_HEADER)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].id").isEqualTo("Q-2")
+                .jsonPath("$[1].id").isEqualTo("Q-3")
+                .returnResult()
+                .getResponseHeaders()
+                .getFirst(QaController.NEXT_CURSOR_HEADER);
+
+        client.get().uri("/qa?productId=P-1&limit=2&cursor={c}", cursor)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(QaController.TOTAL_COUNT_HEADER, "3")
+                .expectHeader().doesNotExist(QaController.NEXT_CURSOR_HEADER)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].id").isEqualTo("Q-1");
+    }
+
+    @Test
+    @DisplayName("GET /qa con cursor: las preguntas nuevas no corren la página siguiente ni cambian el total")
+    void list_cursorPinsAsOf() {
+        String cursor = client.get().uri("/qa?productId=P-1&limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getFirst(QaController.NEXT_CURSOR_HEADER);
+
+        repo.save(Question.builder().id("Q-NEW").productId("P-1").text("¿Incluye funda?")
+                .createdAt("2025-02-01T00:00:00Z").build());
+
+        client.get().uri("/qa?productId=P-1&limit=2&cursor={c}", cursor)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(QaController.TOTAL_COUNT_HEADER, "3")
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].id").isEqualTo("Q-1");
+
+        client.get().uri("/qa?productId=P-1&limit=2")
+                .exchange()
+                .expectHeader().valueEquals(QaController.TOTAL_COUNT_HEADER, "4")
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo("Q-NEW");
+    }
+
+    @Test
+    @DisplayName("GET /qa?answers=none|count|first|all: forma de cada pregunta")
+    void list_answersShapes() {
+        client.get().uri("/qa?productId=P-1&answers=none&limit=3")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[2].id").isEqualTo("Q-1")
+                .jsonPath("$[2].answerCount").doesNotExist()
+                .jsonPath("$[2].answers").doesNotExist();
+
+        client.get().uri("/qa?productId=P-1&answers=count&limit=3")
+                .exchange()
+                .expectBody()
+                .jsonPath("$[2].answerCount").isEqualTo(3)
+                .jsonPath("$[2].answers").doesNotExist()
+                .jsonPath("$[0].answerCount").isEqualTo(0);
+
+        client.get().uri("/qa?productId=P-1&limit=3")
+                .exchange()
+                .expectBody()
+                .jsonPath("$[2].answerCount").isEqualTo(3)
+                .jsonPath("$[2].answers.length()").isEqualTo(1)
+                .jsonPath("$[2].answers[0].id").isEqualTo("A-1")
+                .jsonPath("$[0].answers.length()").isEqualTo(0);
+
+        client.get().uri("/qa?productId=P-1&answers=all&limit=3")
+                .exchange()
+                .expectBody()
+                .jsonPath("$[2].answers.length()").isEqualTo(3)
+                .jsonPath("$[2].answers[2].id").isEqualTo("A-3");
+    }
+
+    @Test
+    @DisplayName("GET /qa: answers desconocido o cursor de respuestas -> 400")
+    void list_invalidParams_badRequest() {
+        client.get().uri("/qa?productId=P-1&answers=some")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.description").isEqualTo("answers must be one of none, count, first, all");
+
+        String answersCursor = client.get().uri("/qa/Q-1/answers?limit=1")
+                .exchange()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getFirst(QaController.NEXT_CURSOR_HEADER);
+        client.get().uri("/qa?productId=P-1&cursor={c}", answersCursor)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /qa/{id}/answers: pagina con cabeceras y fija el total ante respuestas nuevas")
+    void answers_pagesAndPinsAsOf() {
+        String cursor = client.get().uri("/qa/Q-1/answers?limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(QaController.TOTAL_COUNT_HEADER, "3")
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo("A-1")
+                .jsonPath("$[1].id").isEqualTo("A-2")
+                .returnResult()
+                .getResponseHeaders()
+                .getFirst(QaController.NEXT_CURSOR_HEADER);
+        assertThat(cursor).isNotBlank();
+
+        repo.saveAnswer("Q-1", Answer.builder().id("A-4").questionId("Q-1").text("Nueva.")
+                .createdAt("2025-02-01T00:00:00Z").build());
+
+        client.get().uri("/qa/Q-1/answers?limit=2&cursor={c}", cursor)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(QaController.TOTAL_COUNT_HEADER, "3")
+                .expectHeader().doesNotExist(QaController.NEXT_CURSOR_HEADER)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].id").isEqualTo("A-3");
+    }
+
+    @Test
+    @DisplayName("GET /qa/{id}/answers: cursor de preguntas -> 400; pregunta inexistente -> 404")
+    void answers_questionsCursor_badRequest() {
+        String questionsCursor = client.get().uri("/qa?productId=P-1&limit=1")
+                .exchange()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getFirst(QaController.NEXT_CURSOR_HEADER);
+
+        client.get().uri("/qa/Q-1/answers?cursor={c}", questionsCursor)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.description").isEqualTo("Invalid cursor");
+
+        client.get().uri("/qa/Q-404/answers")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("GET /qa/similar: tolera errores de tipeo e incluye las respuestas de cada pregunta")
+    void similar_returnsMatchesWithAnswers() {
+        client.get().uri("/qa/similar?productId=P-1&text={t}", "VIENE con cargadr")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists("ETag")
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].question.id").isEqualTo("Q-1")
+                .jsonPath("$[0].question.answers.length()").isEqualTo(3)
+                .jsonPath("$[0].similarity").value(s -> assertThat(((Number) s).doubleValue()).isBetween(0.7, 1.0));
+
+        client.get().uri("/qa/similar?productId=P-1&text={t}", "pantalla")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("GET /qa/similar: la pregunta recién publicada aparece primero ante un empate")
+    void similar_newQuestion_winsTie() {
+        repo.save(Question.builder().id("Q-NEW").productId("P-1").text("¿Viene con cargador?")
+                .createdAt("2025-02-01T00:00:00Z").build());
+
+        client.get().uri("/qa/similar?productId=P-1&text={t}", "¿viene con cargador?")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].question.id").isEqualTo("Q-NEW")
+                .jsonPath("$[1].question.id").isEqualTo("Q-1");
+    }
+
+    @Test
+    @DisplayName("GET /qa/similar: limit fuera de 1..20 o texto de más de 500 caracteres -> 400")
+    void similar_invalidParams_badRequest() {
+        client.get().uri("/qa/similar?productId=P-1&text=cargador&limit=0")
+                .exchange()
+                .expectStatus().isBadRequest();
+        client.get().uri("/qa/similar?productId=P-1&text=cargador&limit=21")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.description").isEqualTo("limit must be between 1 and 20");
+        client.get().uri("/qa/similar?productId=P-1&text={t}", "a".repeat(501))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.description").isEqualTo("text must be at most 500 characters");
+    }
+}
@@ -0,0 +1,83 @@
+package org.mercadolibre.camilo.qa.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mercadolibre.camilo.qa.model.Answer;
+import org.mercadolibre.camilo.qa.model.AnswersMode;
+import org.mercadolibre.camilo.qa.model.Question;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionResponseTest {
+
+    private static final Question ANSWERED = Question.builder()
+            .id("Q-1")
+            .productId("P-1")
+            .text("¿Viene con cargador?")
+            .createdAt("2025-01-01T00:00:00Z")
+            .answer(answer("A-1"))
+            .answer(answer("A-2"))
+            .answer(answer("A-3"))
+            .build();
+
+    private static final Question UNANSWERED = Question.builder()
+            .id("Q-2")
+            .productId("P-1")
+            .text("¿Tiene garantía?")
+            .createdAt("2025-01-02T00:00:00Z")
+            .build();
+
+    @Test
+    @DisplayName("none: sin conteo ni respuestas")
+    void from_none() {
+        QuestionResponse resp = QuestionResponse.from(ANSWERED, AnswersMode.NONE);
+
+        assertThat(resp.getId()).isEqualTo("Q-1");
+        assertThat(resp.getAnswerCount()).isNull();
+        assertThat(resp.getAnswers()).isNull();
+    }
+
+    @Test
+    @DisplayName("count: solo el conteo")
+    void from_count() {
+        QuestionResponse resp = QuestionResponse.from(ANSWERED, AnswersMode.COUNT);
+
+        assertThat(resp.getAnswerCount()).isEqualTo(3);
+        assertThat(resp.getAnswers()).isNull();
+    }
+
+    @Test
+    @DisplayName("first: el conteo y la respuesta más antigua")
+    void from_first() {
+        QuestionResponse resp = QuestionResponse.from(ANSWERED, AnswersMode.FIRST);
+
+        assertThat(resp.getAnswerCount()).isEqualTo(3);
+        assertThat(resp.getAnswers()).extracting(AnswerResponse::getId).containsExactly("A-1");
+    }
+
+    @Test
+    @DisplayName("all: el conteo y todas las respuestas en orden; es el modo por defecto de from(question)")
+    void from_all() {
+        assertThat(QuestionResponse.from(ANSWERED, AnswersMode.ALL).getAnswers()).extracting(AnswerResponse::getId)
+                .containsExactly("A-1", "A-2", "A-3");
+        assertThat(QuestionResponse.from(ANSWERED)).isEqualTo(QuestionResponse.from(ANSWERED, AnswersMode.ALL));
+    }
+
+    @Test
+    @DisplayName("sin respuestas: conteo 0 y lista vacía salvo en none/count")
+    void from_unanswered() {
+        assertThat(QuestionResponse.from(UNANSWERED, AnswersMode.NONE).getAnswerCount()).isNull();
+        assertThat(QuestionResponse.from(UNANSWERED, AnswersMode.COUNT).getAnswerCount()).isZero();
+        assertThat(QuestionResponse.from(UNANSWERED, AnswersMode.FIRST).getAnswers()).isEmpty();
+        assertThat(QuestionResponse.from(UNANSWERED, AnswersMode.ALL).getAnswers()).isEmpty();
+    }
+
+    private static Answer answer(String id) {
+        return Answer.builder()
+                .id(id)
+                .questionId("Q-1")
+                .text("respuesta " + id)
+                .createdAt("2025-01-01T00:00:00Z")
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package org.mercadolibre.camilo.qa.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnswersModeTest {
+
+    @Test
+    @DisplayName("fromParam sin valor usa first")
+    void fromParam_blank_isFirst() {
+        assertThat(AnswersMode.fromParam(null)).contains(AnswersMode.FIRST);
+        assertThat(AnswersMode.fromParam(" ")).contains(AnswersMode.FIRST);
+    }
+
+    @Test
+    @DisplayName("fromParam acepta los cuatro modos sin distinguir mayúsculas ni espacios")
+    void fromParam_knownValues() {
+        assertThat(AnswersMode.fromParam("none")).contains(AnswersMode.NONE);
+        assertThat(AnswersMode.fromParam("COUNT")).contains(AnswersMode.COUNT);
+        assertThat(AnswersMode.fromParam(" First ")).contains(AnswersMode.FIRST);
+        assertThat(AnswersMode.fromParam("all")).contains(AnswersMode.ALL);
+        assertThat(AnswersMode.ALL.param()).isEqualTo("all");
+    }
+
+    @Test
+    @DisplayName("fromParam devuelve vacío con un valor desconocido")
+    void fromParam_unknown_isEmpty() {
+        assertThat(AnswersMode.fromParam("some")).isEmpty();
+        assertThat(AnswersMode.fromParam("first,all")).isEmpty();
+    }
+}
@@ -0,0 +1,67 @@
+package org.mercadolibre.camilo.qa.repository.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mercadolibre.camilo.qa.model.Question;
+import org.mercadolibre.camilo.qa.model.SimilarQuestion;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductQuestionsTest {
+
+    @Test
+    @DisplayName("similarTo devuelve las preguntas cargadas correctas, de mayor a menor similitud")
+    void similarTo_loaded() {
+        ProductQuestions questions = loaded();
+
+        List<SimilarQuestion> found = questions.similarTo("¿Es resistente al agua?", 5, 0.3);
+
+        assertThat(found).extracting(SimilarQuestion::question).extracting(Question::getId).containsExactly("Q-3");
+        assertThat(found.get(0).similarity()).isEqualTo(1.0);
+        assertThat(questions.similarTo("cargador", 5, 0.3)).extracting(SimilarQuestion::question)
+                .extracting(Question::getId).containsExactly("Q-1");
+    }
+
+    @Test
+    @DisplayName("similarTo incluye las agregadas y, a igual similitud, prefiere la más reciente")
+    void similarTo_appended_newerWinsTies() {
+        ProductQuestions questions = loaded();
+        questions.append(slot("Q-4", "¿Viene con cargador original?"));
+        questions.append(slot("Q-5", "¿viene con CARGADOR?"));
+
+        List<SimilarQuestion> found = questions.similarTo("Viene con cargador", 5, 0.3);
+
+        assertThat(found).extracting(SimilarQuestion::question).extracting(Question::getId)
+                .containsExactly("Q-5", "Q-1", "Q-4");
+        assertThat(found).extracting(SimilarQuestion::similarity).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+        assertThat(questions.similarTo("Viene con cargador", 1, 0.3)).extracting(SimilarQuestion::question)
+                .extracting(Question::getId).containsExactly("Q-5");
+    }
+
+    @Test
+    @DisplayName("similarTo en un producto sin preguntas devuelve vacío")
+    void similarTo_empty() {
+        assertThat(ProductQuestions.empty().similarTo("¿Viene con cargador?", 5, 0.3)).isEmpty();
+    }
+
+    /**
+     * Producto con tres preguntas cargadas, de la más reciente a la más antigua.
+     */
+    private static ProductQuestions loaded() {
+        return new ProductQuestions(List.of(
+                slot("Q-3", "¿Es resistente al agua?"),
+                slot("Q-2", "¿Tiene garantía?"),
+                slot("Q-1", "¿Viene con cargador?")));
+    }
+
+    private static QuestionSlot slot(String id, String text) {
+        return new QuestionSlot(Question.builder()
+                .id(id)
+                .productId("P-1")
+                .text(text)
+                .createdAt("2025-01-01T00:00:00Z")
+                .build());
+    }
+}
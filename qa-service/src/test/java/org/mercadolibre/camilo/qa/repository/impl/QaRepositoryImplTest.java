@@ -0,0 +1,263 @@
+package org.mercadolibre.camilo.qa.repository.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mercadolibre.camilo.qa.model.Answer;
+import org.mercadolibre.camilo.qa.model.Question;
+import org.mercadolibre.camilo.qa.model.QuestionCounts;
+import org.mercadolibre.camilo.qa.model.SimilarQuestion;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QaRepositoryImplTest {
+
+    private static final String DATA = """
+            [
+              {"id":"Q-1","productId":"P-1","text":"¿Viene con cargador?","createdAt":"2025-01-01T00:00:00Z",
+               "answers":[
+                 {"id":"A-2","questionId":"Q-1","text":"Original.","createdAt":"2025-01-01T12:00:00Z"},
+                 {"id":"A-1","questionId":"Q-1","text":"Sí.","createdAt":"2025-01-01T06:00:00Z"}
+               ]},
+              {"id":"Q-2","productId":"P-1","text":"¿Tiene garantía?","createdAt":"2025-01-03T00:00:00Z"},
+              {"id":"Q-3","productId":"P-1","text":"¿Es resistente al agua?","createdAt":"2025-01-02T00:00:00Z"},
+              {"id":"Q-4","productId":"P-2","text":"¿Qué talla es?","createdAt":"2025-01-01T00:00:00Z"}
+            ]
+            """;
+
+    private static Resource json(String content) {
+        return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getDescription() {
+                return "in-memory-json";
+            }
+        };
+    }
+
+    private QaRepositoryImpl repo() {
+        return new QaRepositoryImpl(json(DATA), new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("carga preguntas por fecha desc y respuestas por fecha asc")
+    void load_sortsQuestionsAndAnswers() {
+        QaRepositoryImpl repo = repo();
+
+        assertThat(repo.findByProductId("P-1")).extracting(Question::getId).containsExactly("Q-2", "Q-3", "Q-1");
+        assertThat(repo.findById("Q-1").orElseThrow().getAnswers()).extracting(Answer::getId)
+                .containsExactly("A-1", "A-2");
+        assertThat(repo.countByProductId("P-NONE")).isZero();
+        assertThat(repo.findPage("P-NONE", 0, 10, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("save agrega la pregunta como la más reciente, cambia la versión y respeta asOf")
+    void save_newestFirst_pinnedByAsOf() {
+        QaRepositoryImpl repo = repo();
+        long version = repo.getVersion();
+
+        repo.save(question("Q-NEW", "P-1", "¿Incluye funda?"));
+
+        assertThat(repo.getVersion()).isNotEqualTo(version);
+        assertThat(repo.countByProductId("P-1")).isEqualTo(4);
+        assertThat(repo.findPage("P-1", 0, 2, 4)).extracting(Question::getId).containsExactly("Q-NEW", "Q-2");
+        assertThat(repo.findPage("P-1", 1, 10, 3)).extracting(Question::getId).containsExactly("Q-3", "Q-1");
+        assertThat(repo.findById("Q-NEW")).isPresent();
+        assertThat(repo.findSimilar("P-1", "incluye funda", 5, 0.3)).extracting(SimilarQuestion::question)
+                .extracting(Question::getId).containsExactly("Q-NEW");
+        assertThat(repo.findByProductId("P-2")).extracting(Question::getId).containsExactly("Q-4");
+    }
+
+    @Test
+    @DisplayName("save crea el producto si no existía y rechaza ids repetidos")
+    void save_newProduct_duplicateId() {
+        QaRepositoryImpl repo = repo();
+
+        repo.save(question("Q-9", "P-9", "¿Hay stock?"));
+
+        assertThat(repo.findByProductId("P-9")).extracting(Question::getId).containsExactly("Q-9");
+        assertThatThrownBy(() -> repo.save(question("Q-1", "P-1", "otra")))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(repo.countByProductId("P-1")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("saveAnswer agrega la respuesta al final, visible en el listado y por id")
+    void saveAnswer_appendsOldestFirst() {
+        QaRepositoryImpl repo = repo();
+
+        assertThat(repo.saveAnswer("Q-1", answer("A-3", "Q-1")).orElseThrow().getAnswers()).extracting(Answer::getId)
+                .containsExactly("A-1", "A-2", "A-3");
+        assertThat(repo.findByProductId("P-1").get(2).getAnswers()).extracting(Answer::getId)
+                .containsExactly("A-1", "A-2", "A-3");
+        assertThat(repo.saveAnswer("Q-NONE", answer("A-4", "Q-NONE"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("saveAnswer publica la pregunta con una lista de respuestas inmodificable")
+    void saveAnswer_publishesUnmodifiableAnswers() {
+        QaRepositoryImpl repo = repo();
+
+        List<Answer> answers = repo.saveAnswer("Q-2", answer("A-3", "Q-2")).orElseThrow().getAnswers();
+        List<Answer> more = repo.saveAnswer("Q-2", answer("A-4", "Q-2")).orElseThrow().getAnswers();
+
+        assertThatThrownBy(() -> answers.add(answer("A-X", "Q-2"))).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> more.remove(0)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> repo.findById("Q-2").orElseThrow().getAnswers().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(answers).extracting(Answer::getId).containsExactly("A-3");
+        assertThat(more).extracting(Answer::getId).containsExactly("A-3", "A-4");
+    }
+
+    @Test
+    @DisplayName("countsOf informa preguntas y respondidas, y se actualiza con cada alta")
+    void countsOf_trackedOnWrites() {
+        QaRepositoryImpl repo = repo();
+
+        assertThat(repo.countsOf("P-1")).isEqualTo(new QuestionCounts(3, 1));
+        assertThat(repo.countsOf("P-NONE")).isEqualTo(QuestionCounts.EMPTY);
+
+        repo.save(question("Q-NEW", "P-1", "¿Incluye funda?"));
+        repo.saveAnswer("Q-2", answer("A-3", "Q-2"));
+        repo.saveAnswer("Q-2", answer("A-4", "Q-2"));
+        repo.saveAnswer("Q-1", answer("A-5", "Q-1"));
+
+        assertThat(repo.countsOf("P-1")).isEqualTo(new QuestionCounts(4, 2));
+        assertThat(repo.countsOf("P-2")).isEqualTo(new QuestionCounts(1, 0));
+    }
+
+    @Test
+    @DisplayName("altas concurrentes en varios productos con lecturas simultáneas: sin pérdidas ni desorden")
+    void save_concurrentWritersAndReaders() throws Exception {
+        QaRepositoryImpl repo = repo();
+        int products = 4;
+        int writersPerProduct = 2;
+        int perWriter = 2_000;
+        int answerers = 2;
+        int readers = 4;
+        int threads = products * writersPerProduct + answerers + readers;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> writers = new ArrayList<>();
+        List<Future<?>> others = new ArrayList<>();
+
+        try {
+            for (int p = 0; p < products; p++) {
+                String productId = "P-S" + p;
+                for (int w = 0; w < writersPerProduct; w++) {
+                    String prefix = productId + "-W" + w + "-";
+                    writers.add(pool.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < perWriter; i++) {
+                            repo.save(question(prefix + i, productId, "pregunta " + prefix + i));
+                        }
+                        return null;
+                    }));
+                }
+            }
+            for (int a = 0; a < answerers; a++) {
+                String prefix = "A-S" + a + "-";
+                writers.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perWriter; i++) {
+                        repo.saveAnswer("Q-2", answer(prefix + i, "Q-2"));
+                    }
+                    return null;
+                }));
+            }
+            for (int r = 0; r < readers; r++) {
+                String productId = "P-S" + r % products;
+                others.add(pool.submit(() -> {
+                    start.await();
+                    int lastAnswers = 0;
+                    while (writing.get()) {
+                        int asOf = repo.countByProductId(productId);
+                        List<Question> page = repo.findPage(productId, 0, asOf, asOf);
+                        assertThat(page).hasSize(asOf).doesNotContainNull();
+                        assertNewestFirstPerWriter(page);
+
+                        List<Answer> answers = repo.findById("Q-2").orElseThrow().getAnswers();
+                        assertThat(answers.size()).isGreaterThanOrEqualTo(lastAnswers);
+                        lastAnswers = answers.size();
+                        assertThat(repo.findByProductId("P-1")).hasSize(3);
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> f : writers) {
+                f.get(60, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            for (Future<?> f : others) {
+                f.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        int expected = writersPerProduct * perWriter;
+        for (int p = 0; p < products; p++) {
+            List<Question> all = repo.findByProductId("P-S" + p);
+            assertThat(all).hasSize(expected);
+            assertThat(all.stream().map(Question::getId).distinct().count()).isEqualTo(expected);
+            assertNewestFirstPerWriter(all);
+        }
+        List<Answer> answers = repo.findById("Q-2").orElseThrow().getAnswers();
+        assertThat(answers).hasSize(answerers * perWriter);
+        assertThat(answers.stream().map(Answer::getId).distinct().count()).isEqualTo(answerers * perWriter);
+        assertThat(repo.findByProductId("P-1").get(0).getAnswers()).isEqualTo(answers);
+        assertThat(repo.countsOf("P-1")).isEqualTo(new QuestionCounts(3, 2));
+    }
+
+    /**
+     * Cada escritor agrega sus preguntas en orden creciente de sufijo: newest-first implica sufijos decrecientes.
+     */
+    private static void assertNewestFirstPerWriter(List<Question> questions) {
+        Map<String, Integer> last = new HashMap<>();
+        for (Question q : questions) {
+            String id = q.getId();
+            int dash = id.lastIndexOf('-');
+            int seq = Integer.parseInt(id.substring(dash + 1));
+            Integer previous = last.put(id.substring(0, dash), seq);
+            if (previous != null) {
+                assertThat(seq).isLessThan(previous);
+            }
+        }
+    }
+
+    private static Question question(String id, String productId, String text) {
+        return Question.builder()
+                .id(id)
+                .productId(productId)
+                .text(text)
+                .createdAt("2025-02-01T00:00:00Z")
+                .build();
+    }
+
+    private static Answer answer(String id, String questionId) {
+        return Answer.builder()
+                .id(id)
+                .questionId(questionId)
+                .text("respuesta " + id)
+                .createdAt("2025-02-01T00:00:00Z")
+                .build();
+    }
+}
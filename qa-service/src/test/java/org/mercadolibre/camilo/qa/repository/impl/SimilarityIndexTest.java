@@ -0,0 +1,108 @@
+package org.mercadolibre.camilo.qa.repository.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SimilarityIndexTest {
+
+    /**
+     * Textos indexados por ordinal (mayor ordinal, más reciente); el 5 repite el texto del 0.
+     */
+    private static final List<String> TEXTS = List.of(
+            "¿Viene con cargador?",
+            "¿Tiene garantía?",
+            "¿Es resistente al agua?",
+            "¿Viene con cargador original?",
+            "¿Incluye el cargador?",
+            "¿Viene con cargador?");
+
+    SimilarityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SimilarityIndex();
+        for (int ordinal = 0; ordinal < TEXTS.size(); ordinal++) {
+            index.add(ordinal, TEXTS.get(ordinal));
+        }
+    }
+
+    @Test
+    @DisplayName("ordena por Jaccard de trigramas desc y descarta lo que no comparte trigramas")
+    void similarTo_ranksByJaccard() {
+        List<SimilarityIndex.Match> matches = index.similarTo("viene con cargador", 10, 0.3, TEXTS.size());
+
+        assertThat(matches).extracting(SimilarityIndex.Match::ordinal).containsExactly(5, 0, 3, 4);
+        assertThat(matches.get(0).similarity()).isEqualTo(1.0);
+        assertThat(matches.get(2).similarity()).isCloseTo(2.0 / 3.0, within(1e-9));
+        assertThat(matches.get(3).similarity()).isCloseTo(0.32, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("a igual similitud gana la pregunta más reciente")
+    void similarTo_tieGoesToNewer() {
+        assertThat(index.similarTo("¿Viene con cargador?", 1, 0.3, TEXTS.size()))
+                .extracting(SimilarityIndex.Match::ordinal).containsExactly(5);
+    }
+
+    @Test
+    @DisplayName("minSimilarity es inclusivo y corta las menos parecidas")
+    void similarTo_minSimilarityCutoff() {
+        assertThat(index.similarTo("viene con cargador", 10, 0.33, TEXTS.size()))
+                .extracting(SimilarityIndex.Match::ordinal).containsExactly(5, 0, 3);
+        // "cargador" frente a "¿Viene con cargador?" da exactamente 0.5; frente a "¿Incluye el cargador?", 8/17.
+        assertThat(index.similarTo("cargador", 10, 0.5, TEXTS.size()))
+                .extracting(SimilarityIndex.Match::ordinal).containsExactly(5, 0);
+        assertThat(index.similarTo("pantalla", 10, 0.3, TEXTS.size())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("tolera acentos, mayúsculas, signos y errores de tipeo")
+    void similarTo_toleratesAccentsAndTypos() {
+        assertThat(index.similarTo("VIENE CON CARGADÓR", 10, 0.3, TEXTS.size()))
+                .isEqualTo(index.similarTo("viene con cargador", 10, 0.3, TEXTS.size()));
+        assertThat(index.similarTo("tiene garantia", 1, 0.3, TEXTS.size()))
+                .extracting(SimilarityIndex.Match::ordinal).containsExactly(1);
+
+        List<SimilarityIndex.Match> typo = index.similarTo("Viene con cargadr", 10, 0.3, TEXTS.size());
+        assertThat(typo).extracting(SimilarityIndex.Match::ordinal).containsExactly(5, 0, 3);
+        assertThat(typo.get(0).similarity()).isBetween(0.7, 1.0);
+    }
+
+    @Test
+    @DisplayName("visible oculta las preguntas indexadas después de la lectura")
+    void similarTo_visibleHidesLaterOrdinals() {
+        assertThat(index.similarTo("viene con cargador", 10, 0.3, 5))
+                .extracting(SimilarityIndex.Match::ordinal).containsExactly(0, 3, 4);
+        assertThat(index.similarTo("viene con cargador", 10, 0.3, 1))
+                .extracting(SimilarityIndex.Match::ordinal).containsExactly(0);
+        assertThat(index.similarTo("viene con cargador", 10, 0.3, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("respeta limit; limit 0 o texto sin letras ni dígitos no devuelven nada")
+    void similarTo_limitAndEmptyText() {
+        assertThat(index.similarTo("viene con cargador", 2, 0.3, TEXTS.size()))
+                .extracting(SimilarityIndex.Match::ordinal).containsExactly(5, 0);
+        assertThat(index.similarTo("viene con cargador", 0, 0.3, TEXTS.size())).isEmpty();
+        assertThat(index.similarTo("¿?", 10, 0.0, TEXTS.size())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("crece más allá de la capacidad inicial sin perder preguntas")
+    void add_growsPastInitialCapacity() {
+        SimilarityIndex grown = new SimilarityIndex();
+        for (int ordinal = 0; ordinal < 100; ordinal++) {
+            grown.add(ordinal, ordinal % 2 == 0 ? "¿Viene con cargador?" : "¿Tiene garantía?");
+        }
+
+        List<SimilarityIndex.Match> matches = grown.similarTo("tiene garantía", 100, 0.3, 100);
+        assertThat(matches).hasSize(50).allMatch(m -> m.ordinal() % 2 == 1 && m.similarity() == 1.0);
+        assertThat(matches.get(0).ordinal()).isEqualTo(99);
+    }
+}
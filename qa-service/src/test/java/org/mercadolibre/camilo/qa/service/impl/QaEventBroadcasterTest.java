@@ -0,0 +1,82 @@
+package org.mercadolibre.camilo.qa.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mercadolibre.camilo.qa.dto.QaEventResponse;
+import org.mercadolibre.camilo.qa.dto.QuestionResponse;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QaEventBroadcasterTest {
+
+    @Test
+    @DisplayName("publicar en un producto sin suscriptores no crea estado")
+    void publish_withoutSubscribers_isNoop() {
+        QaEventBroadcaster broadcaster = new QaEventBroadcaster(16);
+
+        broadcaster.publish("P-1", event("Q-1", "P-1"));
+
+        assertThat(broadcaster.activeProducts()).isZero();
+    }
+
+    @Test
+    @DisplayName("el suscriptor recibe solo las novedades posteriores de su producto y libera el canal al cancelar")
+    void subscribe_receivesOwnProductOnly_releasesOnCancel() {
+        QaEventBroadcaster broadcaster = new QaEventBroadcaster(16);
+        broadcaster.publish("P-1", event("Q-0", "P-1"));
+
+        StepVerifier.create(broadcaster.subscribe("P-1"))
+                .then(() -> {
+                    assertThat(broadcaster.activeProducts()).isEqualTo(1);
+                    broadcaster.publish("P-2", event("Q-X", "P-2"));
+                    broadcaster.publish("P-1", event("Q-1", "P-1"));
+                })
+                .assertNext(e -> assertThat(e.getQuestion().getId()).isEqualTo("Q-1"))
+                .thenCancel()
+                .verify();
+
+        assertThat(broadcaster.activeProducts()).isZero();
+    }
+
+    @Test
+    @DisplayName("varios suscriptores del mismo producto comparten el canal")
+    void subscribe_multipleSubscribers_shareChannel() {
+        QaEventBroadcaster broadcaster = new QaEventBroadcaster(16);
+
+        StepVerifier.create(broadcaster.subscribe("P-1").take(1))
+                .then(() -> StepVerifier.create(broadcaster.subscribe("P-1").take(1))
+                        .then(() -> {
+                            assertThat(broadcaster.activeProducts()).isEqualTo(1);
+                            broadcaster.publish("P-1", event("Q-1", "P-1"));
+                        })
+                        .expectNextCount(1)
+                        .verifyComplete())
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(broadcaster.activeProducts()).isZero();
+    }
+
+    @Test
+    @DisplayName("un suscriptor que no consume se desconecta al llenar su buffer")
+    void subscribe_slowSubscriber_isDropped() {
+        QaEventBroadcaster broadcaster = new QaEventBroadcaster(2);
+
+        StepVerifier.create(broadcaster.subscribe("P-1"), 0)
+                .then(() -> {
+                    for (int i = 0; i < 5; i++) {
+                        broadcaster.publish("P-1", event("Q-" + i, "P-1"));
+                    }
+                })
+                .thenRequest(Long.MAX_VALUE)
+                .thenConsumeWhile(e -> true)
+                .verifyComplete();
+
+        assertThat(broadcaster.activeProducts()).isZero();
+    }
+
+    private static QaEventResponse event(String questionId, String productId) {
+        return QaEventResponse.question(QuestionResponse.builder().id(questionId).productId(productId).build());
+    }
+}
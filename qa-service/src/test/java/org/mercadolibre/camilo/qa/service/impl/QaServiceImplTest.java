@@ -0,0 +1,305 @@
+package org.mercadolibre.camilo.qa.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mercadolibre.camilo.qa.dto.AnswerResponse;
+import org.mercadolibre.camilo.qa.dto.QuestionResponse;
+import org.mercadolibre.camilo.qa.dto.SimilarQuestionResponse;
+import org.mercadolibre.camilo.qa.exception.InvalidRequestException;
+import org.mercadolibre.camilo.qa.exception.QuestionNotFoundException;
+import org.mercadolibre.camilo.qa.model.Answer;
+import org.mercadolibre.camilo.qa.model.Question;
+import org.mercadolibre.camilo.qa.model.SimilarQuestion;
+import org.mercadolibre.camilo.qa.repository.QaRepository;
+import org.mercadolibre.camilo.qa.util.Cursors;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QaServiceImplTest {
+
+    @Mock
+    QaRepository repo;
+
+    @Mock
+    QaEventBroadcaster events;
+
+    @InjectMocks
+    QaServiceImpl service;
+
+    @Nested
+    class FindPage {
+
+        @Test
+        @DisplayName("primera página: fija el total actual y emite cursor a la siguiente")
+        void firstPage_pinsTotal_andReturnsCursor() {
+            when(repo.countByProductId("P-1")).thenReturn(3);
+            when(repo.findPage("P-1", 0, 2, 3)).thenReturn(List.of(question("Q-3", 2), question("Q-2", 0)));
+
+            StepVerifier.create(service.findPage("P-1", 2, null, null))
+                    .assertNext(page -> {
+                        assertThat(page.items()).extracting(QuestionResponse::getId).containsExactly("Q-3", "Q-2");
+                        assertThat(page.total()).isEqualTo(3);
+                        assertThat(page.nextCursor()).isEqualTo(Cursors.encode(Cursors.QUESTIONS, 2, 3));
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("con cursor: mantiene el total fijado aunque haya preguntas nuevas y no emite cursor al final")
+        void cursor_keepsPinnedTotal() {
+            when(repo.countByProductId("P-1")).thenReturn(5);
+            when(repo.findPage("P-1", 2, 2, 3)).thenReturn(List.of(question("Q-1", 1)));
+
+            StepVerifier.create(service.findPage("P-1", 2, Cursors.encode(Cursors.QUESTIONS, 2, 3), null))
+                    .assertNext(page -> {
+                        assertThat(page.items()).extracting(QuestionResponse::getId).containsExactly("Q-1");
+                        assertThat(page.total()).isEqualTo(3);
+                        assertThat(page.nextCursor()).isNull();
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("asOf del cursor mayor que el total actual se acota al total")
+        void cursor_asOfAboveCurrent_isClamped() {
+            when(repo.countByProductId("P-1")).thenReturn(2);
+            when(repo.findPage("P-1", 0, 20, 2)).thenReturn(List.of(question("Q-2", 0), question("Q-1", 0)));
+
+            StepVerifier.create(service.findPage("P-1", null, Cursors.encode(Cursors.QUESTIONS, 0, 9), null))
+                    .assertNext(page -> {
+                        assertThat(page.total()).isEqualTo(2);
+                        assertThat(page.nextCursor()).isNull();
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("answers define la forma de cada pregunta; por defecto first")
+        void answersMode_shapesItems() {
+            when(repo.countByProductId("P-1")).thenReturn(1);
+            when(repo.findPage("P-1", 0, 20, 1)).thenReturn(List.of(question("Q-1", 3)));
+
+            StepVerifier.create(service.findPage("P-1", null, null, null))
+                    .assertNext(page -> {
+                        QuestionResponse q = page.items().get(0);
+                        assertThat(q.getAnswerCount()).isEqualTo(3);
+                        assertThat(q.getAnswers()).extracting(AnswerResponse::getId).containsExactly("Q-1-A0");
+                    })
+                    .verifyComplete();
+            StepVerifier.create(service.findPage("P-1", null, null, "none"))
+                    .assertNext(page -> {
+                        assertThat(page.items().get(0).getAnswerCount()).isNull();
+                        assertThat(page.items().get(0).getAnswers()).isNull();
+                    })
+                    .verifyComplete();
+            StepVerifier.create(service.findPage("P-1", null, null, "all"))
+                    .assertNext(page -> assertThat(page.items().get(0).getAnswers()).hasSize(3))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("rechaza productId en blanco, answers desconocido y limit fuera de rango sin tocar el repositorio")
+        void invalidParams_shouldError() {
+            StepVerifier.create(service.findPage(" ", null, null, null))
+                    .expectErrorSatisfies(ex -> assertThat(ex)
+                            .isInstanceOf(InvalidRequestException.class)
+                            .hasMessage("productId must not be blank"))
+                    .verify();
+            StepVerifier.create(service.findPage("P-1", null, null, "some"))
+                    .expectErrorSatisfies(ex -> assertThat(ex)
+                            .isInstanceOf(InvalidRequestException.class)
+                            .hasMessage("answers must be one of none, count, first, all"))
+                    .verify();
+            StepVerifier.create(service.findPage("P-1", 0, null, null))
+                    .expectError(InvalidRequestException.class)
+                    .verify();
+            StepVerifier.create(service.findPage("P-1", 101, null, null))
+                    .expectErrorSatisfies(ex -> assertThat(ex).hasMessage("limit must be between 1 and 100"))
+                    .verify();
+            verify(repo, never()).countByProductId(anyString());
+        }
+
+        @Test
+        @DisplayName("rechaza un cursor de respuestas")
+        void answersCursor_shouldError() {
+            StepVerifier.create(service.findPage("P-1", 2, Cursors.encode(Cursors.ANSWERS, 2, 3), null))
+                    .expectErrorSatisfies(ex -> assertThat(ex)
+                            .isInstanceOf(InvalidRequestException.class)
+                            .hasMessage("Invalid cursor"))
+                    .verify();
+            verify(repo, never()).findPage(anyString(), anyInt(), anyInt(), anyInt());
+        }
+    }
+
+    @Nested
+    class FindAnswers {
+
+        @Test
+        @DisplayName("pagina las respuestas de la más antigua a la más nueva con cursor y total")
+        void firstPage_returnsCursor() {
+            when(repo.findById("Q-1")).thenReturn(Optional.of(question("Q-1", 5)));
+
+            StepVerifier.create(service.findAnswers("Q-1", 2, null))
+                    .assertNext(page -> {
+                        assertThat(page.items()).extracting(AnswerResponse::getId).containsExactly("Q-1-A0", "Q-1-A1");
+                        assertThat(page.total()).isEqualTo(5);
+                        assertThat(page.nextCursor()).isEqualTo(Cursors.encode(Cursors.ANSWERS, 2, 5));
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("con cursor: no incluye respuestas agregadas después de la primera página")
+        void cursor_hidesAnswersAddedLater() {
+            when(repo.findById("Q-1")).thenReturn(Optional.of(question("Q-1", 6)));
+
+            StepVerifier.create(service.findAnswers("Q-1", 2, Cursors.encode(Cursors.ANSWERS, 2, 4)))
+                    .assertNext(page -> {
+                        assertThat(page.items()).extracting(AnswerResponse::getId).containsExactly("Q-1-A2", "Q-1-A3");
+                        assertThat(page.total()).isEqualTo(4);
+                        assertThat(page.nextCursor()).isNull();
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("sin respuestas: página vacía, total 0 y sin cursor")
+        void unanswered_isEmptyPage() {
+            when(repo.findById("Q-1")).thenReturn(Optional.of(question("Q-1", 0)));
+
+            StepVerifier.create(service.findAnswers("Q-1", null, null))
+                    .assertNext(page -> {
+                        assertThat(page.items()).isEmpty();
+                        assertThat(page.total()).isZero();
+                        assertThat(page.nextCursor()).isNull();
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("rechaza un cursor de preguntas")
+        void questionsCursor_shouldError() {
+            when(repo.findById("Q-1")).thenReturn(Optional.of(question("Q-1", 5)));
+
+            StepVerifier.create(service.findAnswers("Q-1", 2, Cursors.encode(Cursors.QUESTIONS, 2, 5)))
+                    .expectErrorSatisfies(ex -> assertThat(ex)
+                            .isInstanceOf(InvalidRequestException.class)
+                            .hasMessage("Invalid cursor"))
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("pregunta inexistente -> QuestionNotFoundException; limit inválido -> InvalidRequestException")
+        void notFound_andInvalidLimit() {
+            when(repo.findById("Q-404")).thenReturn(Optional.empty());
+
+            StepVerifier.create(service.findAnswers("Q-404", null, null))
+                    .expectError(QuestionNotFoundException.class)
+                    .verify();
+            StepVerifier.create(service.findAnswers("Q-1", 101, null))
+                    .expectError(InvalidRequestException.class)
+                    .verify();
+            verify(repo, never()).findById("Q-1");
+        }
+    }
+
+    @Nested
+    class FindSimilar {
+
+        @Test
+        @DisplayName("consulta el repositorio con límite 5 y similitud mínima 0.3 por defecto, y conserva el orden")
+        void defaults_andOrder() {
+            when(repo.findSimilar("P-1", "¿viene con cargador?", 5, 0.3)).thenReturn(List.of(
+                    new SimilarQuestion(question("Q-5", 0), 1.0),
+                    new SimilarQuestion(question("Q-1", 2), 0.72)));
+
+            StepVerifier.create(service.findSimilar("P-1", "¿viene con cargador?", null))
+                    .assertNext(found -> {
+                        assertThat(found).extracting(r -> r.getQuestion().getId()).containsExactly("Q-5", "Q-1");
+                        assertThat(found).extracting(SimilarQuestionResponse::getSimilarity).containsExactly(1.0, 0.72);
+                        assertThat(found.get(1).getQuestion().getAnswers()).hasSize(2);
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("sin coincidencias devuelve lista vacía")
+        void noMatches_isEmpty() {
+            when(repo.findSimilar("P-1", "pantalla", 20, 0.3)).thenReturn(List.of());
+
+            StepVerifier.create(service.findSimilar("P-1", "pantalla", 20))
+                    .assertNext(found -> assertThat(found).isEmpty())
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("rechaza productId o texto en blanco, texto de más de 500 caracteres y limit fuera de 1..20")
+        void invalidParams_shouldError() {
+            StepVerifier.create(service.findSimilar(" ", "hola", null))
+                    .expectErrorSatisfies(ex -> assertThat(ex).hasMessage("productId must not be blank"))
+                    .verify();
+            StepVerifier.create(service.findSimilar("P-1", " ", null))
+                    .expectErrorSatisfies(ex -> assertThat(ex).hasMessage("text must not be blank"))
+                    .verify();
+            StepVerifier.create(service.findSimilar("P-1", "a".repeat(501), null))
+                    .expectErrorSatisfies(ex -> assertThat(ex)
+                            .isInstanceOf(InvalidRequestException.class)
+                            .hasMessage("text must be at most 500 characters"))
+                    .verify();
+            StepVerifier.create(service.findSimilar("P-1", "hola", 0))
+                    .expectError(InvalidRequestException.class)
+                    .verify();
+            StepVerifier.create(service.findSimilar("P-1", "hola", 21))
+                    .expectErrorSatisfies(ex -> assertThat(ex).hasMessage("limit must be between 1 and 20"))
+                    .verify();
+            verify(repo, never()).findSimilar(anyString(), anyString(), anyInt(), anyDouble());
+        }
+
+        @Test
+        @DisplayName("acepta un texto de exactamente 500 caracteres")
+        void maxTextLength_isAccepted() {
+            String text = "a".repeat(500);
+            when(repo.findSimilar("P-1", text, 5, 0.3)).thenReturn(List.of());
+
+            StepVerifier.create(service.findSimilar("P-1", text, null))
+                    .assertNext(found -> assertThat(found).isEmpty())
+                    .verifyComplete();
+        }
+    }
+
+    /**
+     * Pregunta con {@code answers} respuestas cuyos ids son {@code <id>-A0 .. <id>-A(n-1)}, de la más antigua a la más nueva.
+     */
+    static Question question(String id, int answers) {
+        Question.QuestionBuilder builder = Question.builder()
+                .id(id)
+                .productId("P-1")
+                .text("pregunta " + id)
+                .createdAt("2025-01-01T00:00:00Z");
+        for (int i = 0; i < answers; i++) {
+            builder.answer(Answer.builder()
+                    .id(id + "-A" + i)
+                    .questionId(id)
+                    .text("respuesta " + i)
+                    .createdAt("2025-01-02T00:00:00Z")
+                    .build());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,66 @@
+package org.mercadolibre.camilo.qa.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mercadolibre.camilo.qa.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorsTest {
+
+    @Test
+    @DisplayName("decode sin cursor devuelve el inicio sin fijar asOf")
+    void decode_blank_isFirst() {
+        assertThat(Cursors.decode(null, Cursors.QUESTIONS)).isEqualTo(Cursors.Position.FIRST);
+        assertThat(Cursors.decode("  ", Cursors.ANSWERS)).isEqualTo(Cursors.Position.FIRST);
+        assertThat(Cursors.Position.FIRST.pinned()).isFalse();
+    }
+
+    @Test
+    @DisplayName("encode/decode conserva offset y asOf del mismo listado")
+    void roundTrip_sameListing() {
+        Cursors.Position position = Cursors.decode(Cursors.encode(Cursors.QUESTIONS, 20, 57), Cursors.QUESTIONS);
+
+        assertThat(position).isEqualTo(new Cursors.Position(20, 57));
+        assertThat(position.pinned()).isTrue();
+        assertThat(Cursors.decode(Cursors.encode(Cursors.ANSWERS, 0, 0), Cursors.ANSWERS).pinned()).isTrue();
+    }
+
+    @Test
+    @DisplayName("decode rechaza un cursor de preguntas en respuestas y al revés")
+    void decode_otherListing_isRejected() {
+        String questions = Cursors.encode(Cursors.QUESTIONS, 20, 57);
+        String answers = Cursors.encode(Cursors.ANSWERS, 20, 57);
+
+        assertThatThrownBy(() -> Cursors.decode(questions, Cursors.ANSWERS))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> Cursors.decode(answers, Cursors.QUESTIONS))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    @DisplayName("decode rechaza cursores mal formados o con valores negativos")
+    void decode_malformed_isRejected() {
+        assertThatThrownBy(() -> Cursors.decode("%%%", Cursors.QUESTIONS))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> Cursors.decode(raw("q:1"), Cursors.QUESTIONS))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> Cursors.decode(raw("q:x:3"), Cursors.QUESTIONS))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> Cursors.decode(raw("q:-1:3"), Cursors.QUESTIONS))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> Cursors.decode(raw("q:1:-1"), Cursors.QUESTIONS))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,38 +1,66 @@
 package org.mercadolibre.camilo.review.controller;
 
+import org.mercadolibre.camilo.review.dto.CreateReviewRequest;
+import org.mercadolibre.camilo.review.dto.ReviewHighlightResponse;
 import org.mercadolibre.camilo.review.dto.ReviewResponse;
+import org.mercadolibre.camilo.review.dto.ReviewSummariesRequest;
+import org.mercadolibre.camilo.review.dto.ReviewSummariesResponse;
 import org.mercadolibre.camilo.review.dto.ReviewSummaryResponse;
+import org.mercadolibre.camilo.review.dto.TopRatedProductResponse;
 import org.mercadolibre.camilo.review.model.ErrorResponse;
 import org.mercadolibre.camilo.review.service.ReviewService;
+import org.mercadolibre.camilo.review.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import reactor.core.publisher.Flux;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @Tag(name = "Reviews", description = "Operaciones relacionadas con reseñas de productos")
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(path = "/reviews", produces = MediaType.APPLICATION_JSON_VALUE)
 public class ReviewController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     private final ReviewService service;
 
     @Operation(summary = "Lista las reseñas de un producto",
-            description = "Devuelve un flujo (puede ser vacío) de reseñas asociadas al productId proporcionado.")
+            description = """
+                    Devuelve las reseñas asociadas al productId (puede ser vacío).
+                    - q: palabras a buscar en título y texto (sin distinguir acentos ni mayúsculas; se exigen todas).
+                    - sort: recent (default, más recientes primero), rating_desc, rating_asc o relevance
+                      (default cuando hay q; solo válido con q).
+                    - limit: tamaño de página (1..100). Sin limit se devuelven todas las reseñas restantes.
+                    - cursor: valor de X-Next-Cursor de la página anterior; solo vale con el mismo sort y la misma q.
+                    La cabecera X-Total-Count informa el total de reseñas del producto (o de coincidencias con q).
+                    """)
     @ApiResponse(responseCode = "200", description = "Listado de reseñas (puede ser vacío)",
+            headers = {
+                    @Header(name = NEXT_CURSOR_HEADER, description = "Cursor de la página siguiente (ausente en la última)"),
+                    @Header(name = TOTAL_COUNT_HEADER, description = "Cantidad total de reseñas (o de coincidencias con q)")
+            },
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ReviewResponse.class))))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
     @ApiResponse(responseCode = "400", description = "Petición inválida",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "404", description = "Producto no encontrado",
@@ -40,17 +68,44 @@ public class ReviewController {
     @ApiResponse(responseCode = "500", description = "Error inesperado",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping
-    public ResponseEntity<Flux<ReviewResponse>> list(
+    public Mono<ResponseEntity<List<ReviewResponse>>> list(
             @Parameter(description = "Identificador del producto", required = true)
-            @RequestParam String productId) {
-        Flux<ReviewResponse> body = service.findByProduct(productId);
-        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+            @RequestParam String productId,
+            @Parameter(description = "Tamaño de página (1..100)")
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @Parameter(description = "Cursor opaco devuelto en X-Next-Cursor")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Orden: recent, rating_desc, rating_asc o relevance")
+            @RequestParam(value = "sort", required = false) String sort,
+            @Parameter(description = "Texto a buscar en título y texto de las reseñas")
+            @RequestParam(value = "q", required = false) String q,
+            ServerWebExchange exchange) {
+        String etag = ETags.of(service.dataVersion(), "list", productId, limit, cursor, sort, q);
+        if (ETags.matches(exchange, etag)) {
+            return Mono.just(ETags.notModified(etag));
+        }
+        return service.findPage(productId, limit, cursor, sort, q)
+                .map(page -> {
+                    ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                            .eTag(etag)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .header(TOTAL_COUNT_HEADER, String.valueOf(page.total()));
+                    if (page.nextCursor() != null) {
+                        ok.header(NEXT_CURSOR_HEADER, page.nextCursor());
+                    }
+                    return ok.body(page.items());
+                });
     }
 
     @Operation(summary = "Devuelve el resumen de reseñas de un producto",
-            description = "Incluye promedio simple, cantidad total e histograma 1..5 (rating -> cantidad).")
+            description = """
+                    Incluye promedio simple, cantidad total e histograma 1..5 (rating -> cantidad).
+                    - since: fecha ISO-8601 (p. ej. 2025-08-01) o fecha-hora; resume solo las reseñas creadas desde
+                      ese día UTC inclusive (p. ej. los últimos 30 días). Sin since, el resumen es histórico.
+                    """)
     @ApiResponse(responseCode = "200", description = "Resumen de reseñas generado correctamente",
             content = @Content(schema = @Schema(implementation = ReviewSummaryResponse.class)))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
     @ApiResponse(responseCode = "400", description = "Petición inválida",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "404", description = "Producto no encontrado",
@@ -60,8 +115,109 @@ public class ReviewController {
     @GetMapping("/summary")
     public Mono<ResponseEntity<ReviewSummaryResponse>> summary(
             @Parameter(description = "Identificador del producto", required = true)
-            @RequestParam String productId) {
-        return service.summary(productId)
-                .map(resp -> ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(resp));
+            @RequestParam String productId,
+            @Parameter(description = "Fecha ISO-8601 desde la que se resume (día UTC, inclusive)", example = "2025-08-01")
+            @RequestParam(value = "since", required = false) String since,
+            ServerWebExchange exchange) {
+        String etag = ETags.of(service.dataVersion(), "summary", productId, since);
+        if (ETags.matches(exchange, etag)) {
+            return Mono.just(ETags.notModified(etag));
+        }
+        return service.summary(productId, since)
+                .map(resp -> ResponseEntity.ok().eTag(etag).contentType(MediaType.APPLICATION_JSON).body(resp));
+    }
+
+    @Operation(summary = "Aspectos más mencionados en las reseñas de un producto",
+            description = """
+                    Términos frecuentes en título y texto (sin acentos, mayúsculas ni palabras vacías), contados una vez
+                    por reseña. Se precalculan en espacio acotado y se actualizan con cada reseña nueva, por lo que la
+                    cantidad de menciones es una estimación. Solo figuran términos mencionados en al menos 2 reseñas.
+                    - limit: cantidad de términos (1..20, default 10).
+                    """)
+    @ApiResponse(responseCode = "200", description = "Términos de más a menos menciones (puede ser vacío)",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ReviewHighlightResponse.class))))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
+    @ApiResponse(responseCode = "400", description = "Petición inválida",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Error inesperado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/highlights")
+    public Mono<ResponseEntity<List<ReviewHighlightResponse>>> highlights(
+            @Parameter(description = "Identificador del producto", required = true)
+            @RequestParam String productId,
+            @Parameter(description = "Cantidad de términos (1..20)")
+            @RequestParam(value = "limit", required = false) Integer limit,
+            ServerWebExchange exchange) {
+        String etag = ETags.of(service.dataVersion(), "highlights", productId, limit);
+        if (ETags.matches(exchange, etag)) {
+            return Mono.just(ETags.notModified(etag));
+        }
+        return service.highlights(productId, limit)
+                .map(body -> ResponseEntity.ok().eTag(etag).contentType(MediaType.APPLICATION_JSON).body(body));
+    }
+
+    @Operation(summary = "Ranking de productos mejor calificados",
+            description = """
+                    Ordena los productos por promedio bayesiano: (C·m + suma) / (C + cantidad), con m la media
+                    global y C = 10. Así un producto con pocas reseñas perfectas no supera a uno con muchas muy buenas.
+                    - limit: cantidad de productos (1..100, default 10).
+                    - minCount: cantidad mínima de reseñas para figurar (default 1).
+                    """)
+    @ApiResponse(responseCode = "200", description = "Productos de mayor a menor puntaje",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = TopRatedProductResponse.class))))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
+    @ApiResponse(responseCode = "400", description = "Petición inválida",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Error inesperado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/top")
+    public Mono<ResponseEntity<List<TopRatedProductResponse>>> top(
+            @Parameter(description = "Cantidad de productos (1..100)")
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @Parameter(description = "Cantidad mínima de reseñas")
+            @RequestParam(value = "minCount", required = false) Integer minCount,
+            ServerWebExchange exchange) {
+        String etag = ETags.of(service.dataVersion(), "top", limit, minCount);
+        if (ETags.matches(exchange, etag)) {
+            return Mono.just(ETags.notModified(etag));
+        }
+        return service.topRated(limit, minCount)
+                .map(body -> ResponseEntity.ok().eTag(etag).contentType(MediaType.APPLICATION_JSON).body(body));
+    }
+
+    @Operation(summary = "Resúmenes de reseñas de varios productos en una sola llamada",
+            description = "Devuelve un mapa productId → resumen (máximo 100 ids), construido a partir de agregados "
+                    + "precalculados. Los productos sin reseñas se informan con conteo 0.")
+    @ApiResponse(responseCode = "200", description = "Resúmenes resueltos",
+            content = @Content(schema = @Schema(implementation = ReviewSummariesResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Petición inválida (sin ids, id en blanco o demasiados ids)",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Error inesperado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @PostMapping(path = "/summaries", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ReviewSummariesResponse>> summaries(
+            @RequestBody(required = false) ReviewSummariesRequest request) {
+        return service.summaries(request == null ? null : request.getProductIds())
+                .map(body -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body));
+    }
+
+    @Operation(summary = "Registra una reseña",
+            description = "Agrega la reseña como la más reciente del producto. Queda visible de inmediato en "
+                    + "listados y resúmenes; el id y la fecha los asigna el servicio.")
+    @ApiResponse(responseCode = "201", description = "Reseña creada",
+            content = @Content(schema = @Schema(implementation = ReviewResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Petición inválida (sin productId o rating fuera de 1..5)",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Error inesperado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ReviewResponse>> create(
+            @RequestBody(required = false) CreateReviewRequest request) {
+        return service.create(request)
+                .map(body -> ResponseEntity.status(HttpStatus.CREATED)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body));
     }
 }
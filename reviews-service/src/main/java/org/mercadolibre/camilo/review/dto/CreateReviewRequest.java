@@ -0,0 +1,28 @@
+package org.mercadolibre.camilo.review.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+@Schema(description = "Alta de una reseña")
+public class CreateReviewRequest {
+
+    @Schema(description = "ID del producto reseñado", example = "P-1001", requiredMode = Schema.RequiredMode.REQUIRED)
+    String productId;
+
+    @Schema(description = "Calificación otorgada (1 a 5)", example = "5", requiredMode = Schema.RequiredMode.REQUIRED)
+    Integer rating;
+
+    @Schema(description = "Título de la reseña", example = "Excelente compra")
+    String title;
+
+    @Schema(description = "Texto descriptivo de la reseña", example = "Llegó rápido y funciona perfecto.")
+    String text;
+
+    @Schema(description = "Nombre o alias del autor de la reseña", example = "david_e")
+    String author;
+}
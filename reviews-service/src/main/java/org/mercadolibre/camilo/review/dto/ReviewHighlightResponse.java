@@ -0,0 +1,24 @@
+package org.mercadolibre.camilo.review.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+import org.mercadolibre.camilo.review.model.ReviewHighlight;
+
+@Value
+@Builder
+public class ReviewHighlightResponse {
+
+    @Schema(description = "Término normalizado (minúsculas, sin acentos)", example = "bateria")
+    String term;
+
+    @Schema(description = "Cantidad estimada de reseñas que mencionan el término")
+    long mentions;
+
+    public static ReviewHighlightResponse from(ReviewHighlight highlight) {
+        return ReviewHighlightResponse.builder()
+                .term(highlight.term())
+                .mentions(highlight.mentions())
+                .build();
+    }
+}
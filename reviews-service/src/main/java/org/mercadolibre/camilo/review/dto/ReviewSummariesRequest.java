@@ -0,0 +1,22 @@
+package org.mercadolibre.camilo.review.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+@Value
+@Builder
+@Jacksonized
+@Schema(description = "Petición de resúmenes de reseñas en lote")
+public class ReviewSummariesRequest {
+
+    @Singular
+    @ArraySchema(arraySchema = @Schema(description = "IDs de producto (máximo 100 por petición)"),
+            schema = @Schema(example = "MLA123"))
+    List<String> productIds;
+}
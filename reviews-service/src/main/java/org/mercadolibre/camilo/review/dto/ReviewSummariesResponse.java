@@ -0,0 +1,16 @@
+package org.mercadolibre.camilo.review.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+@Value
+@Builder
+@Schema(description = "Resúmenes de reseñas de varios productos resueltos en una sola llamada")
+public class ReviewSummariesResponse {
+
+    @Schema(description = "Resumen por id de producto, en el orden de la petición")
+    Map<String, ReviewSummaryResponse> summaries;
+}
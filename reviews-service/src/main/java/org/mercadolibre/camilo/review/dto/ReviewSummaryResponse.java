@@ -1,10 +1,13 @@
 package org.mercadolibre.camilo.review.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
+import org.mercadolibre.camilo.review.model.ReviewStats;
 import lombok.Builder;
 import lombok.Singular;
 import lombok.Value;
 
+import java.time.LocalDate;
 import java.util.Map;
 
 @Value
@@ -23,4 +26,24 @@ public class ReviewSummaryResponse {
     @Singular("bin")
     @Schema(description = "Histograma 1..5 (clave=rating, valor=cantidad)")
     Map<Integer, Long> histogram;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Primer día (UTC) de la ventana resumida; ausente si el resumen es histórico", example = "2025-08-01")
+    LocalDate since;
+
+    public static ReviewSummaryResponse of(String productId, ReviewStats stats) {
+        return of(productId, stats, null);
+    }
+
+    public static ReviewSummaryResponse of(String productId, ReviewStats stats, LocalDate since) {
+        ReviewSummaryResponseBuilder builder = ReviewSummaryResponse.builder()
+                .productId(productId)
+                .since(since)
+                .count(stats.count())
+                .avg(stats.average());
+        for (int rating = ReviewStats.MIN_RATING; rating <= ReviewStats.MAX_RATING; rating++) {
+            builder.bin(rating, stats.bucket(rating));
+        }
+        return builder.build();
+    }
 }
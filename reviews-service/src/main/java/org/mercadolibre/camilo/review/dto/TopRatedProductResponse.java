@@ -0,0 +1,32 @@
+package org.mercadolibre.camilo.review.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+import org.mercadolibre.camilo.review.model.ProductRating;
+
+@Value
+@Builder
+public class TopRatedProductResponse {
+
+    @Schema(description = "ID del producto")
+    String productId;
+
+    @Schema(description = "Cantidad de reseñas")
+    long count;
+
+    @Schema(description = "Promedio simple de las calificaciones")
+    double avg;
+
+    @Schema(description = "Promedio bayesiano usado para ordenar (suavizado hacia la media global)")
+    double score;
+
+    public static TopRatedProductResponse from(ProductRating rating) {
+        return TopRatedProductResponse.builder()
+                .productId(rating.productId())
+                .count(rating.count())
+                .avg(rating.average())
+                .score(rating.score())
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package org.mercadolibre.camilo.review.model;
+
+/**
+ * Posición de un producto en el ranking por calificación.
+ *
+ * @param productId id del producto
+ * @param count     cantidad de reseñas
+ * @param average   promedio simple de las calificaciones
+ * @param score     promedio bayesiano (suavizado hacia la media global); criterio del ranking
+ */
+public record ProductRating(String productId, long count, double average, double score) {
+}
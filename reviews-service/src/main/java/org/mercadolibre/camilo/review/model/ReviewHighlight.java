@@ -0,0 +1,11 @@
+package org.mercadolibre.camilo.review.model;
+
+/**
+ * Término frecuente en las reseñas de un producto.
+ *
+ * @param term     término normalizado (minúsculas, sin acentos)
+ * @param mentions cantidad estimada de reseñas que lo mencionan (cota superior; exacta mientras el
+ *                 producto tenga pocos términos distintos)
+ */
+public record ReviewHighlight(String term, long mentions) {
+}
@@ -0,0 +1,15 @@
+package org.mercadolibre.camilo.review.model;
+
+import org.mercadolibre.camilo.review.dto.ReviewResponse;
+
+import java.util.List;
+
+/**
+ * Página de reseñas de un producto.
+ *
+ * @param items      reseñas de la página, en el orden solicitado
+ * @param nextCursor cursor opaco para pedir la página siguiente; {@code null} si es la última
+ * @param total      cantidad total de reseñas del producto (o de coincidencias, si hubo búsqueda)
+ */
+public record ReviewPage(List<ReviewResponse> items, String nextCursor, long total) {
+}
@@ -0,0 +1,14 @@
+package org.mercadolibre.camilo.review.model;
+
+import java.util.List;
+
+/**
+ * Resultado de una búsqueda de texto dentro de las reseñas de un producto.
+ *
+ * @param items reseñas del tramo pedido, en el orden solicitado
+ * @param total cantidad total de reseñas que coinciden con la búsqueda
+ */
+public record ReviewSearchResult(List<Review> items, int total) {
+
+    public static final ReviewSearchResult EMPTY = new ReviewSearchResult(List.of(), 0);
+}
@@ -0,0 +1,37 @@
+package org.mercadolibre.camilo.review.model;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Órdenes disponibles para listar las reseñas de un producto.
+ * Los empates de calificación se resuelven por fecha (más reciente primero).
+ */
+public enum ReviewSort {
+    RECENT,
+    RATING_DESC,
+    RATING_ASC,
+    /**
+     * Por relevancia respecto del texto buscado; solo aplica junto con {@code q}.
+     */
+    RELEVANCE;
+
+    /**
+     * Interpreta el parámetro {@code sort} ({@code recent}, {@code rating_desc}, {@code rating_asc}, {@code relevance}).
+     *
+     * @param value valor recibido; {@code null} o blanco equivale a {@link #RECENT}
+     * @return orden correspondiente; vacío si el valor no es válido
+     */
+    public static Optional<ReviewSort> fromParam(String value) {
+        if (value == null || value.isBlank()) return Optional.of(RECENT);
+        try {
+            return Optional.of(valueOf(value.trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String param() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
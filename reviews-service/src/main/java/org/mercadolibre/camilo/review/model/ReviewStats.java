@@ -0,0 +1,76 @@
+package org.mercadolibre.camilo.review.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Agregados de las reseñas de un producto: cantidad, suma de calificaciones e histograma 1..5.
+ * <p>
+ * Es un snapshot inmutable: el repositorio mantiene los contadores de forma incremental y construye
+ * uno de estos objetos al armar el resumen, sin recorrer las reseñas.
+ * Las calificaciones fuera de 1..5 cuentan para la cantidad y el promedio, pero no para el histograma.
+ */
+public final class ReviewStats {
+
+    public static final int MIN_RATING = 1;
+    public static final int MAX_RATING = 5;
+
+    public static final ReviewStats EMPTY = new ReviewStats(0, 0, new long[MAX_RATING]);
+
+    private final long count;
+    private final long sum;
+    private final long[] histogram;
+
+    private ReviewStats(long count, long sum, long[] histogram) {
+        this.count = count;
+        this.sum = sum;
+        this.histogram = histogram;
+    }
+
+    public static ReviewStats of(Collection<Review> reviews) {
+        long count = 0;
+        long sum = 0;
+        long[] histogram = new long[MAX_RATING];
+        for (Review r : reviews) {
+            count++;
+            sum += r.getRating();
+            if (r.getRating() >= MIN_RATING && r.getRating() <= MAX_RATING) {
+                histogram[r.getRating() - 1]++;
+            }
+        }
+        return new ReviewStats(count, sum, histogram);
+    }
+
+    /**
+     * Crea un snapshot a partir de contadores ya acumulados.
+     *
+     * @param histogram cantidades por calificación 1..5; se copia
+     */
+    public static ReviewStats ofCounts(long count, long sum, long[] histogram) {
+        return new ReviewStats(count, sum, Arrays.copyOf(histogram, MAX_RATING));
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long sum() {
+        return sum;
+    }
+
+    /**
+     * Cantidad de reseñas con la calificación dada.
+     *
+     * @param rating calificación 1..5
+     */
+    public long bucket(int rating) {
+        return histogram[rating - 1];
+    }
+
+    /**
+     * Promedio simple; 0 si no hay reseñas.
+     */
+    public double average() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+}
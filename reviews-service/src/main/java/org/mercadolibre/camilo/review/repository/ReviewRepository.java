@@ -1,8 +1,14 @@
 package org.mercadolibre.camilo.review.repository;
 
 
+import org.mercadolibre.camilo.review.dto.ReviewSummaryResponse;
+import org.mercadolibre.camilo.review.model.ProductRating;
 import org.mercadolibre.camilo.review.model.Review;
+import org.mercadolibre.camilo.review.model.ReviewHighlight;
+import org.mercadolibre.camilo.review.model.ReviewSearchResult;
+import org.mercadolibre.camilo.review.model.ReviewSort;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,7 +26,99 @@ public interface ReviewRepository {
      * Lista reseñas de un producto, ordenadas por fecha de creación descendente.
      *
      * @param productId id del producto
-     * @return lista inmutable (vacía si no hay reseñas)
+     * @return lista de solo lectura (vacía si no hay reseñas); no refleja altas posteriores
      */
     List<Review> findByProductId(String productId);
-}
\ No newline at end of file
+
+    /**
+     * Cantidad actual de reseñas de un producto.
+     *
+     * @param productId id del producto
+     * @return cantidad (0 si no hay reseñas)
+     */
+    int countByProductId(String productId);
+
+    /**
+     * Tramo de las reseñas de un producto en el orden pedido, servido desde permutaciones precalculadas.
+     * El costo es proporcional al tamaño del tramo, no a la cantidad de reseñas del producto.
+     *
+     * @param productId id del producto
+     * @param sort      orden de las reseñas
+     * @param offset    posición de inicio (base 0)
+     * @param limit     máximo de reseñas a devolver
+     * @param asOf      cantidad de reseñas visibles (p. ej. {@link #countByProductId(String)} al pedir la
+     *                  primera página); las altas posteriores quedan fuera, de modo que las posiciones no se corren
+     * @return lista de solo lectura; vacía si {@code offset} supera el total
+     */
+    List<Review> findPage(String productId, ReviewSort sort, int offset, int limit, int asOf);
+
+    /**
+     * Búsqueda de texto en título y texto de las reseñas de un producto, servida desde un índice invertido
+     * por producto (sin acentos ni mayúsculas; se exigen todos los términos).
+     *
+     * @param productId id del producto
+     * @param query     texto buscado; sin términos útiles (p. ej. solo palabras vacías) no hay resultados
+     * @param sort      orden de los resultados ({@link ReviewSort#RELEVANCE} por puntaje)
+     * @param offset    posición de inicio (base 0)
+     * @param limit     máximo de reseñas a devolver
+     * @param asOf      cantidad de reseñas visibles, como en {@link #findPage}
+     * @return tramo pedido y total de coincidencias
+     */
+    ReviewSearchResult search(String productId, String query, ReviewSort sort, int offset, int limit, int asOf);
+
+    /**
+     * Resumen (cantidad, promedio e histograma 1..5) de las reseñas de un producto, mantenido de forma
+     * incremental con cada alta.
+     *
+     * @param productId id del producto
+     * @return resumen listo para serializar; con ceros si el producto no tiene reseñas
+     */
+    ReviewSummaryResponse summaryOf(String productId);
+
+    /**
+     * Resumen de las reseñas de un producto creadas desde un día dado, calculado a partir de agregados
+     * acumulados por día (sin recorrer las reseñas).
+     *
+     * @param productId id del producto
+     * @param since     primer día (UTC) de la ventana, inclusive
+     * @return resumen de la ventana; con ceros si no hay reseñas en ella
+     */
+    ReviewSummaryResponse summaryOf(String productId, LocalDate since);
+
+    /**
+     * Términos más mencionados en las reseñas de un producto (sin acentos ni palabras vacías), estimados en
+     * espacio acotado al cargar y actualizados con cada alta.
+     *
+     * @param productId id del producto
+     * @param limit     máximo de términos a devolver
+     * @return términos de más a menos menciones; vacío si el producto no tiene reseñas
+     */
+    List<ReviewHighlight> highlightsOf(String productId, int limit);
+
+    /**
+     * Productos mejor calificados según su promedio bayesiano, servidos desde un ranking incremental.
+     *
+     * @param limit    máximo de productos a devolver
+     * @param minCount cantidad mínima de reseñas para figurar
+     * @return productos de mayor a menor puntaje
+     */
+    List<ProductRating> topRated(int limit, long minCount);
+
+    /**
+     * Agrega una reseña como la más reciente de su producto y actualiza sus agregados.
+     * Los lectores concurrentes no se bloquean.
+     *
+     * @param review reseña con id único, productId y calificación 1..5
+     * @return la reseña guardada
+     * @throws IllegalStateException si ya existe una reseña con ese id
+     */
+    Review save(Review review);
+
+    /**
+     * Versión del snapshot de datos en memoria. Cambia siempre que cambian los datos,
+     * por lo que sirve como base para validadores HTTP (ETag).
+     *
+     * @return versión opaca del snapshot
+     */
+    long getVersion();
+}
@@ -0,0 +1,61 @@
+package org.mercadolibre.camilo.review.repository.impl;
+
+import java.util.Arrays;
+
+/**
+ * Lista de solo-agregado dividida en bloques de tamaño fijo.
+ * <p>
+ * Agregar nunca copia los elementos ya almacenados: cuando un bloque se llena se crea otro, y solo el
+ * directorio de bloques (una referencia por bloque) se copia al duplicar su capacidad. Admite un único
+ * escritor a la vez (los escritores deben serializarse externamente); los lectores no toman locks y,
+ * tras leer {@link #size()}, pueden acceder a cualquier índice menor con la garantía de verlo publicado.
+ *
+ * @param <T> tipo de los elementos
+ */
+final class AppendOnlyList<T> {
+
+    private static final int CHUNK_BITS = 6;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private volatile Object[][] chunks = new Object[1][];
+    private volatile int size;
+
+    /**
+     * Agrega un elemento al final y lo publica para los lectores.
+     *
+     * @return índice asignado al elemento
+     */
+    int append(T value) {
+        int index = size;
+        int chunk = index >>> CHUNK_BITS;
+        Object[][] dir = chunks;
+        if (chunk == dir.length) {
+            dir = Arrays.copyOf(dir, dir.length * 2);
+        }
+        if (dir[chunk] == null) {
+            dir[chunk] = new Object[CHUNK_SIZE];
+        }
+        dir[chunk][index & CHUNK_MASK] = value;
+        if (dir != chunks) {
+            chunks = dir;
+        }
+        size = index + 1;
+        return index;
+    }
+
+    /**
+     * Cantidad de elementos publicados.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Elemento en la posición dada; {@code index} debe ser menor que un {@link #size()} leído previamente.
+     */
+    @SuppressWarnings("unchecked")
+    T get(int index) {
+        return (T) chunks[index >>> CHUNK_BITS][index & CHUNK_MASK];
+    }
+}
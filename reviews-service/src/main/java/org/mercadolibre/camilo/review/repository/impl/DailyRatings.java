@@ -0,0 +1,112 @@
+package org.mercadolibre.camilo.review.repository.impl;
+
+import org.mercadolibre.camilo.review.model.ReviewStats;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.mercadolibre.camilo.review.model.ReviewStats.MAX_RATING;
+import static org.mercadolibre.camilo.review.model.ReviewStats.MIN_RATING;
+
+/**
+ * Agregados de un producto por día UTC, para resumir ventanas de tiempo sin recorrer reseñas.
+ * <p>
+ * Solo se guardan los días con reseñas, en orden creciente, cada uno con los totales <b>acumulados</b>
+ * hasta ese día inclusive (cantidad, suma e histograma 1..5) en un único {@code long[]}. Así, lo ocurrido
+ * desde un día es el total actual menos la fila del último día anterior: una búsqueda binaria y una resta.
+ * <p>
+ * Las altas siempre son del último día (o se cuentan en él si llegan con una fecha anterior), por lo que
+ * solo la última fila cambia; las demás quedan fijas y los lectores solo leen esas, sin locks.
+ */
+final class DailyRatings {
+
+    private static final int COUNT = 0;
+    private static final int SUM = 1;
+    private static final int HISTOGRAM = 2;
+    private static final int STRIDE = HISTOGRAM + MAX_RATING;
+
+    private volatile int[] days = new int[4];
+    private volatile long[] totals = new long[4 * STRIDE];
+    private volatile int size;
+
+    /**
+     * Cuenta una reseña en el día dado. Los escritores se serializan entre sí.
+     *
+     * @param day    día epoch de la reseña; uno anterior al último día registrado se cuenta en el último
+     * @param rating calificación (fuera de 1..5 cuenta solo para cantidad y suma)
+     */
+    synchronized void add(int day, int rating) {
+        int n = size;
+        int[] d = days;
+        long[] t = totals;
+        if (n > 0 && day <= d[n - 1]) {
+            count(t, (n - 1) * STRIDE, rating);
+            return;
+        }
+        if (n == d.length) {
+            d = Arrays.copyOf(d, n * 2);
+            t = Arrays.copyOf(t, n * 2 * STRIDE);
+        }
+        int row = n * STRIDE;
+        if (n > 0) {
+            System.arraycopy(t, row - STRIDE, t, row, STRIDE);
+        }
+        count(t, row, rating);
+        d[n] = day;
+        // Los arreglos se publican antes que el tamaño: quien vea la fila nueva también ve su contenido.
+        days = d;
+        totals = t;
+        size = n + 1;
+    }
+
+    /**
+     * Agregados de las reseñas desde {@code day} inclusive.
+     * <p>
+     * Los totales actuales se piden después de leer las filas: así incluyen todo lo contado en ellas y la
+     * resta nunca queda negativa. Una alta en curso puede figurar en la ventana un instante antes que en su día.
+     *
+     * @param day     primer día de la ventana (día epoch UTC)
+     * @param current agregados históricos actuales (los contadores del producto)
+     */
+    ReviewStats since(int day, Supplier<ReviewStats> current) {
+        int n = size;
+        int[] d = days;
+        long[] t = totals;
+        if (n == 0 || day <= d[0]) {
+            return current.get();
+        }
+        if (day > d[n - 1]) {
+            return ReviewStats.EMPTY;
+        }
+        // La fila leída es anterior a la última, así que ya no cambia.
+        int row = (lowerBound(d, n, day) - 1) * STRIDE;
+        ReviewStats all = current.get();
+        long[] histogram = new long[MAX_RATING];
+        for (int rating = MIN_RATING; rating <= MAX_RATING; rating++) {
+            histogram[rating - 1] = all.bucket(rating) - t[row + HISTOGRAM + rating - 1];
+        }
+        return ReviewStats.ofCounts(all.count() - t[row + COUNT], all.sum() - t[row + SUM], histogram);
+    }
+
+    private static void count(long[] t, int row, int rating) {
+        t[row + COUNT]++;
+        t[row + SUM] += rating;
+        if (rating >= MIN_RATING && rating <= MAX_RATING) {
+            t[row + HISTOGRAM + rating - 1]++;
+        }
+    }
+
+    /**
+     * Primera posición de {@code d[0..n)} con un día mayor o igual a {@code day}.
+     */
+    private static int lowerBound(int[] d, int n, int day) {
+        int lo = 0;
+        int hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (d[mid] < day) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
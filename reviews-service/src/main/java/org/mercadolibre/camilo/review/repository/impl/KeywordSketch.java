@@ -0,0 +1,109 @@
+package org.mercadolibre.camilo.review.repository.impl;
+
+import org.mercadolibre.camilo.review.model.Review;
+import org.mercadolibre.camilo.review.model.ReviewHighlight;
+import org.mercadolibre.camilo.review.util.TextFolding;
+
+import java.util.*;
+
+/**
+ * Términos más mencionados en las reseñas de un producto, estimados con Space-Saving en espacio acotado.
+ * <p>
+ * Se guardan a lo sumo {@link #CAPACITY} contadores. Un término nuevo con la tabla llena reemplaza al de
+ * menor cuenta y hereda esa cuenta como error, de modo que cada cuenta es una cota superior de las
+ * menciones reales y {@code cuenta - error} una cota inferior. Todo término mencionado en más de
+ * {@code reseñas / CAPACITY} reseñas queda garantizado en la tabla. Cada reseña suma una vez por término
+ * (título y texto juntos), así que las cuentas son menciones y no repeticiones.
+ * <p>
+ * Las altas se serializan y, tras cada una, se publica la lista ordenada: los lectores no toman locks.
+ */
+final class KeywordSketch {
+
+    static final int CAPACITY = 200;
+
+    /**
+     * Máximo de términos publicados.
+     */
+    static final int MAX_HIGHLIGHTS = 20;
+
+    /**
+     * Menciones garantizadas ({@code cuenta - error}) para figurar: un término de una sola reseña no es tendencia.
+     */
+    private static final long MIN_MENTIONS = 2;
+
+    private static final Comparator<Counter> BY_COUNT = Comparator.comparingLong((Counter c) -> c.count).reversed()
+            .thenComparingLong(c -> c.error)
+            .thenComparing(c -> c.term);
+
+    private final Map<String, Counter> counters = new HashMap<>();
+    private volatile List<ReviewHighlight> top = List.of();
+
+    /**
+     * Cuenta los términos de una reseña sin publicar la lista; para la carga inicial, seguida de {@link #publish()}.
+     */
+    synchronized void count(Review review) {
+        Set<String> terms = new HashSet<>(TextFolding.terms(review.getTitle()));
+        terms.addAll(TextFolding.terms(review.getText()));
+        for (String term : terms) {
+            offer(term);
+        }
+    }
+
+    /**
+     * Cuenta los términos de una reseña y publica la lista actualizada.
+     */
+    synchronized void add(Review review) {
+        count(review);
+        publish();
+    }
+
+    /**
+     * Publica los términos con más menciones.
+     */
+    synchronized void publish() {
+        top = counters.values().stream()
+                .filter(c -> c.count - c.error >= MIN_MENTIONS)
+                .sorted(BY_COUNT)
+                .limit(MAX_HIGHLIGHTS)
+                .map(c -> new ReviewHighlight(c.term, c.count))
+                .toList();
+    }
+
+    /**
+     * Los {@code limit} términos más mencionados (a lo sumo {@link #MAX_HIGHLIGHTS}), de más a menos menciones.
+     */
+    List<ReviewHighlight> top(int limit) {
+        List<ReviewHighlight> current = top;
+        return current.subList(0, Math.min(current.size(), Math.max(0, limit)));
+    }
+
+    private void offer(String term) {
+        Counter counter = counters.get(term);
+        if (counter != null) {
+            counter.count++;
+            return;
+        }
+        if (counters.size() < CAPACITY) {
+            counters.put(term, new Counter(term, 1, 0));
+            return;
+        }
+        Counter min = null;
+        for (Counter c : counters.values()) {
+            if (min == null || c.count < min.count) min = c;
+        }
+        counters.remove(min.term);
+        counters.put(term, new Counter(term, min.count + 1, min.count));
+    }
+
+    private static final class Counter {
+        final String term;
+        long count;
+        final long error;
+
+        Counter(String term, long count, long error) {
+            this.term = term;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package org.mercadolibre.camilo.review.repository.impl;
+
+import org.mercadolibre.camilo.review.dto.ReviewSummaryResponse;
+import org.mercadolibre.camilo.review.model.Review;
+import org.mercadolibre.camilo.review.model.ReviewHighlight;
+import org.mercadolibre.camilo.review.model.ReviewSearchResult;
+import org.mercadolibre.camilo.review.model.ReviewSort;
+import org.mercadolibre.camilo.review.model.ReviewStats;
+import org.mercadolibre.camilo.review.util.Timestamps;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.mercadolibre.camilo.review.model.ReviewStats.MAX_RATING;
+import static org.mercadolibre.camilo.review.model.ReviewStats.MIN_RATING;
+
+/**
+ * Reseñas de un producto: las cargadas al inicio más las recibidas después, con sus agregados.
+ * <p>
+ * Las cargadas se guardan ordenadas por fecha desc (interpretada una sola vez, al cargar) junto con una permutación por calificación (estable,
+ * de modo que los empates quedan por fecha). Las nuevas se agregan a una {@link AppendOnlyList} y, además,
+ * a una lista de índices por calificación; como siempre son más recientes que las cargadas, cada orden se
+ * arma concatenando tramos sin reordenar nada. Los escritores se serializan entre sí solo para publicar la
+ * reseña; los lectores nunca toman locks.
+ * <p>
+ * Los agregados se llevan dos veces: totales históricos en contadores y acumulados por día en
+ * {@link DailyRatings}, de donde salen los resúmenes por ventana de tiempo.
+ * <p>
+ * Todas las lecturas por página reciben {@code asOf}: la cantidad de reseñas visibles. Con el mismo
+ * {@code asOf} el resultado no cambia aunque lleguen reseñas nuevas, lo que mantiene estable la paginación.
+ */
+final class ProductReviews {
+
+    private final String productId;
+    private final List<Review> loaded;
+    private final int[] ratingOrder;
+    private final int[] ratings;
+    private final int[] loadedFrom;
+    private final int[] loadedTo;
+
+    private final AppendOnlyList<Review> appended = new AppendOnlyList<>();
+    private final List<AppendOnlyList<Integer>> appendedByRating = new ArrayList<>(MAX_RATING);
+
+    /**
+     * Índice de texto por ordinal: {@code i} para la i-ésima cargada, {@code loaded.size() + j} para la j-ésima agregada.
+     */
+    private final ReviewTextIndex textIndex = new ReviewTextIndex();
+    private final KeywordSketch keywords = new KeywordSketch();
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLongArray histogram = new AtomicLongArray(MAX_RATING);
+    private final DailyRatings daily = new DailyRatings();
+
+    /**
+     * @param productId id del producto
+     * @param reviews   reseñas cargadas, en cualquier orden; las fechas inválidas se toman como las más antiguas
+     */
+    ProductReviews(String productId, List<Review> reviews) {
+        this.productId = productId;
+
+        long[] epochs = new long[reviews.size()];
+        Integer[] byDate = new Integer[reviews.size()];
+        for (int i = 0; i < epochs.length; i++) {
+            epochs[i] = Timestamps.epochMilli(reviews.get(i).getCreatedAt());
+            byDate[i] = i;
+        }
+        Arrays.sort(byDate, Comparator.comparingLong((Integer i) -> epochs[i]).reversed());
+        List<Review> recent = new ArrayList<>(reviews.size());
+        for (Integer i : byDate) recent.add(reviews.get(i));
+        this.loaded = Collections.unmodifiableList(recent);
+        for (int i = byDate.length - 1; i >= 0; i--) {
+            daily.add(Timestamps.epochDay(epochs[byDate[i]]), reviews.get(byDate[i]).getRating());
+        }
+
+        Integer[] idx = new Integer[recent.size()];
+        for (int i = 0; i < idx.length; i++) idx[i] = i;
+        Arrays.sort(idx, Comparator.comparingInt((Integer i) -> recent.get(i).getRating()).reversed());
+        this.ratingOrder = Arrays.stream(idx).mapToInt(Integer::intValue).toArray();
+
+        SortedSet<Integer> distinct = new TreeSet<>(Comparator.reverseOrder());
+        for (int rating = MIN_RATING; rating <= MAX_RATING; rating++) distinct.add(rating);
+        for (Review r : recent) distinct.add(r.getRating());
+        this.ratings = distinct.stream().mapToInt(Integer::intValue).toArray();
+        this.loadedFrom = new int[ratings.length];
+        this.loadedTo = new int[ratings.length];
+        int pos = 0;
+        for (int k = 0; k < ratings.length; k++) {
+            loadedFrom[k] = pos;
+            while (pos < ratingOrder.length && recent.get(ratingOrder[pos]).getRating() == ratings[k]) pos++;
+            loadedTo[k] = pos;
+        }
+
+        for (int rating = MIN_RATING; rating <= MAX_RATING; rating++) {
+            appendedByRating.add(new AppendOnlyList<>());
+        }
+        for (int i = 0; i < recent.size(); i++) {
+            textIndex.add(i, recent.get(i));
+            keywords.count(recent.get(i));
+        }
+        keywords.publish();
+
+        ReviewStats initial = ReviewStats.of(recent);
+        count.add(initial.count());
+        sum.add(initial.sum());
+        for (int rating = MIN_RATING; rating <= MAX_RATING; rating++) {
+            histogram.set(rating - 1, initial.bucket(rating));
+        }
+    }
+
+    static ProductReviews empty(String productId) {
+        return new ProductReviews(productId, List.of());
+    }
+
+    /**
+     * Agrega una reseña (calificación 1..5) como la más reciente del producto y actualiza los agregados.
+     */
+    void append(Review review) {
+        int rating = review.getRating();
+        synchronized (appended) {
+            // Los índices se publican antes que la reseña: quien vea la reseña en appended
+            // ya la encuentra también en su tramo por calificación y en el índice de texto.
+            textIndex.add(loaded.size() + appended.size(), review);
+            appendedByRating.get(rating - 1).append(appended.size());
+            appended.append(review);
+        }
+        count.increment();
+        sum.add(rating);
+        histogram.incrementAndGet(rating - 1);
+        // Después de los contadores: lo que figura en un día ya figura en los totales (ver DailyRatings#since).
+        daily.add(Timestamps.epochDay(Timestamps.epochMilli(review.getCreatedAt())), rating);
+        keywords.add(review);
+    }
+
+    /**
+     * Cantidad actual de reseñas visibles.
+     */
+    int size() {
+        return loaded.size() + appended.size();
+    }
+
+    /**
+     * Todas las reseñas visibles, más recientes primero. Vista O(1) que no refleja agregados posteriores.
+     */
+    List<Review> recent() {
+        return new RecentView(appended.size());
+    }
+
+    /**
+     * Tramo {@code [offset, offset + limit)} de las primeras {@code asOf} reseñas en el orden pedido.
+     */
+    List<Review> page(ReviewSort sort, int offset, int limit, int asOf) {
+        int visible = Math.max(0, Math.min(appended.size(), asOf - loaded.size()));
+        int total = loaded.size() + visible;
+        int from = Math.max(0, offset);
+        int to = (int) Math.min(total, (long) from + Math.max(0, limit));
+        if (from >= to) {
+            return List.of();
+        }
+        if (sort != ReviewSort.RATING_DESC && sort != ReviewSort.RATING_ASC) {
+            return new RecentView(visible).subList(from, to);
+        }
+
+        List<Review> page = new ArrayList<>(to - from);
+        int skip = from;
+        int want = to - from;
+        for (int step = 0; step < ratings.length && want > 0; step++) {
+            int k = sort == ReviewSort.RATING_ASC ? ratings.length - 1 - step : step;
+            int rating = ratings[k];
+
+            if (rating >= MIN_RATING && rating <= MAX_RATING) {
+                AppendOnlyList<Integer> bucket = appendedByRating.get(rating - 1);
+                int n = countBelow(bucket, visible);
+                if (skip >= n) {
+                    skip -= n;
+                } else {
+                    for (int j = n - 1 - skip; j >= 0 && want > 0; j--, want--) {
+                        page.add(appended.get(bucket.get(j)));
+                    }
+                    skip = 0;
+                }
+            }
+
+            int n = loadedTo[k] - loadedFrom[k];
+            if (skip >= n) {
+                skip -= n;
+            } else {
+                for (int j = loadedFrom[k] + skip; j < loadedTo[k] && want > 0; j++, want--) {
+                    page.add(loaded.get(ratingOrder[j]));
+                }
+                skip = 0;
+            }
+        }
+        return Collections.unmodifiableList(page);
+    }
+
+    /**
+     * Busca entre las primeras {@code asOf} reseñas las que contienen todos los términos y devuelve el tramo
+     * {@code [offset, offset + limit)} en el orden pedido. Con {@link ReviewSort#RELEVANCE} se ordena por
+     * puntaje; los empates (y el resto de los órdenes) se resuelven por fecha, más recientes primero.
+     */
+    ReviewSearchResult search(Collection<String> terms, ReviewSort sort, int offset, int limit, int asOf) {
+        int visible = Math.max(0, Math.min(appended.size(), asOf - loaded.size()));
+        List<ReviewTextIndex.Hit> hits = new ArrayList<>(textIndex.match(terms, loaded.size() + visible));
+        if (hits.isEmpty()) {
+            return ReviewSearchResult.EMPTY;
+        }
+
+        RecentView recent = new RecentView(visible);
+        Comparator<ReviewTextIndex.Hit> byRecency = Comparator.comparingInt(hit -> recent.positionOf(hit.ordinal()));
+        Comparator<ReviewTextIndex.Hit> order = switch (sort) {
+            case RELEVANCE -> Comparator.comparingDouble(ReviewTextIndex.Hit::score).reversed().thenComparing(byRecency);
+            case RATING_DESC -> Comparator.comparingInt((ReviewTextIndex.Hit hit) -> ratingOf(hit.ordinal())).reversed()
+                    .thenComparing(byRecency);
+            case RATING_ASC -> Comparator.comparingInt((ReviewTextIndex.Hit hit) -> ratingOf(hit.ordinal()))
+                    .thenComparing(byRecency);
+            case RECENT -> byRecency;
+        };
+        hits.sort(order);
+
+        int from = Math.max(0, offset);
+        int to = (int) Math.min(hits.size(), (long) from + Math.max(0, limit));
+        List<Review> items = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            items.add(recent.get(recent.positionOf(hits.get(i).ordinal())));
+        }
+        return new ReviewSearchResult(Collections.unmodifiableList(items), hits.size());
+    }
+
+    /**
+     * Agregados actuales, leídos en O(1) de los contadores. Durante un alta en curso la cantidad
+     * puede ir una reseña por delante del histograma; nunca retrocede.
+     */
+    ReviewStats stats() {
+        long[] buckets = new long[MAX_RATING];
+        for (int i = 0; i < MAX_RATING; i++) buckets[i] = histogram.get(i);
+        return ReviewStats.ofCounts(count.sum(), sum.sum(), buckets);
+    }
+
+    /**
+     * Agregados de las reseñas desde el día dado inclusive, sumando los días en lugar de recorrer reseñas.
+     *
+     * @param day primer día de la ventana (día epoch UTC)
+     */
+    ReviewStats statsSince(int day) {
+        return daily.since(day, this::stats);
+    }
+
+    /**
+     * Resumen actual, armado a partir de {@link #stats()}.
+     */
+    ReviewSummaryResponse summary() {
+        return ReviewSummaryResponse.of(productId, stats());
+    }
+
+    /**
+     * Resumen de las reseñas desde {@code since} inclusive, armado a partir de {@link #statsSince(int)}.
+     */
+    ReviewSummaryResponse summarySince(LocalDate since) {
+        return ReviewSummaryResponse.of(productId, statsSince(Math.toIntExact(since.toEpochDay())), since);
+    }
+
+    /**
+     * Términos más mencionados en las reseñas, mantenidos con cada alta (ver {@link KeywordSketch}).
+     */
+    List<ReviewHighlight> highlights(int limit) {
+        return keywords.top(limit);
+    }
+
+    private int ratingOf(int ordinal) {
+        return ordinal < loaded.size() ? loaded.get(ordinal).getRating() : appended.get(ordinal - loaded.size()).getRating();
+    }
+
+    /**
+     * Cantidad de índices del tramo menores que {@code limit} (el tramo está ordenado de forma creciente).
+     */
+    private static int countBelow(AppendOnlyList<Integer> bucket, int limit) {
+        int lo = 0;
+        int hi = bucket.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (bucket.get(mid) < limit) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * Reseñas agregadas (de la más nueva a la más vieja) seguidas de las cargadas.
+     */
+    private final class RecentView extends AbstractList<Review> implements RandomAccess {
+
+        private final int visible;
+
+        RecentView(int visible) {
+            this.visible = visible;
+        }
+
+        @Override
+        public Review get(int index) {
+            Objects.checkIndex(index, size());
+            return index < visible ? appended.get(visible - 1 - index) : loaded.get(index - visible);
+        }
+
+        @Override
+        public int size() {
+            return visible + loaded.size();
+        }
+
+        /**
+         * Posición en esta vista de la reseña con el ordinal dado (ver {@link #textIndex}).
+         */
+        int positionOf(int ordinal) {
+            return ordinal < loaded.size() ? visible + ordinal : visible - 1 - (ordinal - loaded.size());
+        }
+    }
+}
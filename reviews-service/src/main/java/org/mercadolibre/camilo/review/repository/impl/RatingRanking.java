@@ -0,0 +1,82 @@
+package org.mercadolibre.camilo.review.repository.impl;
+
+import org.mercadolibre.camilo.review.model.ProductRating;
+import org.mercadolibre.camilo.review.model.ReviewStats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Ranking de productos por promedio bayesiano, mantenido de forma incremental.
+ * <p>
+ * El puntaje es {@code (C·m + suma) / (C + cantidad)}: con pocas reseñas el promedio se acerca a la media
+ * global {@code m} y solo se aleja con evidencia. {@code m} se fija en la carga (media de todas las reseñas
+ * cargadas) para que un alta solo mueva a su producto: quitar y reinsertar su entrada en una skip list
+ * cuesta O(log n). Las lecturas recorren la lista sin locks y ven un estado débilmente consistente.
+ */
+final class RatingRanking {
+
+    /**
+     * Peso del prior ({@code C}): cantidad de reseñas "virtuales" con la media global.
+     */
+    static final double PRIOR_WEIGHT = 10.0;
+
+    private static final double DEFAULT_MEAN = 3.0;
+
+    private static final Comparator<ProductRating> ORDER = Comparator
+            .comparingDouble(ProductRating::score).reversed()
+            .thenComparing(Comparator.comparingLong(ProductRating::count).reversed())
+            .thenComparing(ProductRating::productId);
+
+    private final double priorMean;
+    private final ConcurrentSkipListSet<ProductRating> ranked = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<String, ProductRating> current = new ConcurrentHashMap<>();
+
+    /**
+     * @param priorMean media global de las calificaciones; si no hay datos se usa 3
+     */
+    RatingRanking(double priorMean) {
+        this.priorMean = Double.isFinite(priorMean) && priorMean > 0 ? priorMean : DEFAULT_MEAN;
+    }
+
+    /**
+     * Recalcula la posición de un producto con sus agregados actuales. Las actualizaciones de un mismo
+     * producto se serializan, y los agregados se leen dentro de esa sección: la última en ejecutarse
+     * siempre refleja todas las altas ya contabilizadas.
+     */
+    void update(String productId, ProductReviews reviews) {
+        current.compute(productId, (id, previous) -> {
+            ReviewStats stats = reviews.stats();
+            if (previous != null) {
+                ranked.remove(previous);
+            }
+            if (stats.count() == 0) {
+                return null;
+            }
+            ProductRating next = rate(id, stats);
+            ranked.add(next);
+            return next;
+        });
+    }
+
+    /**
+     * Mejores productos con al menos {@code minCount} reseñas, de mayor a menor puntaje.
+     */
+    List<ProductRating> top(int limit, long minCount) {
+        List<ProductRating> out = new ArrayList<>(Math.min(limit, 64));
+        for (ProductRating rating : ranked) {
+            if (out.size() >= limit) break;
+            if (rating.count() >= minCount) out.add(rating);
+        }
+        return out;
+    }
+
+    private ProductRating rate(String productId, ReviewStats stats) {
+        double score = (PRIOR_WEIGHT * priorMean + stats.sum()) / (PRIOR_WEIGHT + stats.count());
+        return new ProductRating(productId, stats.count(), stats.average(), score);
+    }
+}
@@ -2,29 +2,51 @@ package org.mercadolibre.camilo.review.repository.impl;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mercadolibre.camilo.review.dto.ReviewSummaryResponse;
 import org.mercadolibre.camilo.review.exception.ReviewsDataLoadException;
+import org.mercadolibre.camilo.review.model.ProductRating;
 import org.mercadolibre.camilo.review.model.Review;
+import org.mercadolibre.camilo.review.model.ReviewHighlight;
+import org.mercadolibre.camilo.review.model.ReviewSearchResult;
+import org.mercadolibre.camilo.review.model.ReviewSort;
+import org.mercadolibre.camilo.review.model.ReviewStats;
 import org.mercadolibre.camilo.review.repository.ReviewRepository;
-import lombok.Getter;
+import org.mercadolibre.camilo.review.util.TextFolding;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Repository;
 
 import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
 
 @Slf4j
-@Getter
 @Repository
 public class ReviewRepositoryImpl implements ReviewRepository {
 
     private final Map<String, Review> byId;
-    private final Map<String, List<Review>> byProduct;
 
     /**
-     * Crea el repositorio leyendo el JSON y construyendo índices inmutables.
+     * Reseñas y agregados por producto; las cargadas y las recibidas por {@link #save(Review)}.
+     */
+    private final Map<String, ProductReviews> byProduct;
+
+    /**
+     * Ranking de productos por promedio bayesiano; se actualiza con cada alta.
+     */
+    private final RatingRanking ranking;
+
+    /**
+     * Versión de los datos: CRC32 del JSON de origen, incrementada con cada alta; base de los ETag.
+     */
+    private final AtomicLong version;
+
+    /**
+     * Crea el repositorio leyendo el JSON y construyendo los índices por producto.
      * <ul>
      *   <li>Ignora registros inválidos (sin id o sin productId) y loguea advertencia.</li>
      *   <li>Si hay ids duplicados, prevalece el último (last-wins) con advertencia.</li>
@@ -40,7 +62,9 @@ public class ReviewRepositoryImpl implements ReviewRepository {
         Objects.requireNonNull(mapper, "ObjectMapper must not be null");
 
         try (InputStream in = data.getInputStream()) {
-            List<Review> raw = mapper.readValue(in, new TypeReference<>() {
+            byte[] bytes = in.readAllBytes();
+            this.version = new AtomicLong(checksum(bytes));
+            List<Review> raw = mapper.readValue(bytes, new TypeReference<>() {
             });
             Map<String, Review> idMap = new HashMap<>(Math.max(16, raw.size() * 2));
             Map<String, List<Review>> prodMap = new HashMap<>();
@@ -66,12 +90,19 @@ public class ReviewRepositoryImpl implements ReviewRepository {
                 prodMap.computeIfAbsent(r.getProductId(), k -> new ArrayList<>()).add(r);
             }
 
-            prodMap.replaceAll((k, v) -> v.stream()
-                    .sorted(Comparator.comparing(Review::getCreatedAt).reversed())
-                    .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList)));
+            this.byId = new ConcurrentHashMap<>(idMap);
+            this.byProduct = new ConcurrentHashMap<>(Math.max(16, prodMap.size() * 2));
+            prodMap.forEach((productId, reviews) -> byProduct.put(productId, new ProductReviews(productId, reviews)));
 
-            this.byId = Collections.unmodifiableMap(idMap);
-            this.byProduct = Collections.unmodifiableMap(prodMap);
+            long totalCount = 0;
+            long totalSum = 0;
+            for (ProductReviews reviews : byProduct.values()) {
+                ReviewStats stats = reviews.stats();
+                totalCount += stats.count();
+                totalSum += stats.sum();
+            }
+            this.ranking = new RatingRanking(totalCount == 0 ? Double.NaN : (double) totalSum / totalCount);
+            byProduct.forEach(ranking::update);
 
             log.info("Loaded {} reviews ({} invalid, {} duplicates resolved last-wins) from {}",
                     idMap.size(), invalid, duplicates, safeDesc(data));
@@ -89,6 +120,12 @@ public class ReviewRepositoryImpl implements ReviewRepository {
         return s == null || s.trim().isEmpty();
     }
 
+    private static long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
     private String safeDesc(Resource r) {
         try {
             return r.getDescription();
@@ -104,6 +141,71 @@ public class ReviewRepositoryImpl implements ReviewRepository {
 
     @Override
     public List<Review> findByProductId(String productId) {
-        return byProduct.getOrDefault(productId, List.of());
+        ProductReviews reviews = byProduct.get(productId);
+        return reviews == null ? List.of() : reviews.recent();
+    }
+
+    @Override
+    public int countByProductId(String productId) {
+        ProductReviews reviews = byProduct.get(productId);
+        return reviews == null ? 0 : reviews.size();
+    }
+
+    @Override
+    public List<Review> findPage(String productId, ReviewSort sort, int offset, int limit, int asOf) {
+        ProductReviews reviews = byProduct.get(productId);
+        return reviews == null ? List.of() : reviews.page(sort, offset, limit, asOf);
+    }
+
+    @Override
+    public ReviewSearchResult search(String productId, String query, ReviewSort sort, int offset, int limit, int asOf) {
+        ProductReviews reviews = byProduct.get(productId);
+        Set<String> terms = new LinkedHashSet<>(TextFolding.terms(query));
+        if (reviews == null || terms.isEmpty()) {
+            return ReviewSearchResult.EMPTY;
+        }
+        return reviews.search(terms, sort, offset, limit, asOf);
+    }
+
+    @Override
+    public ReviewSummaryResponse summaryOf(String productId) {
+        ProductReviews reviews = byProduct.get(productId);
+        return reviews != null ? reviews.summary() : ReviewSummaryResponse.of(productId, ReviewStats.EMPTY);
+    }
+
+    @Override
+    public ReviewSummaryResponse summaryOf(String productId, LocalDate since) {
+        ProductReviews reviews = byProduct.get(productId);
+        return reviews != null ? reviews.summarySince(since) : ReviewSummaryResponse.of(productId, ReviewStats.EMPTY, since);
+    }
+
+    @Override
+    public List<ReviewHighlight> highlightsOf(String productId, int limit) {
+        ProductReviews reviews = byProduct.get(productId);
+        return reviews == null ? List.of() : reviews.highlights(limit);
+    }
+
+    @Override
+    public List<ProductRating> topRated(int limit, long minCount) {
+        return ranking.top(limit, minCount);
+    }
+
+    @Override
+    public Review save(Review review) {
+        Objects.requireNonNull(review, "review must not be null");
+        if (byId.putIfAbsent(review.getId(), review) != null) {
+            throw new IllegalStateException("Review id '%s' already exists".formatted(review.getId()));
+        }
+        ProductReviews reviews = byProduct.computeIfAbsent(review.getProductId(), ProductReviews::empty);
+        reviews.append(review);
+        ranking.update(review.getProductId(), reviews);
+        version.incrementAndGet();
+        log.debug("ReviewRepositoryImpl.save | id={} productId={}", review.getId(), review.getProductId());
+        return review;
+    }
+
+    @Override
+    public long getVersion() {
+        return version.get();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,135 @@
+package org.mercadolibre.camilo.review.repository.impl;
+
+import org.mercadolibre.camilo.review.model.Review;
+import org.mercadolibre.camilo.review.util.TextFolding;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice invertido sobre título y texto de las reseñas de un producto.
+ * <p>
+ * Cada término normalizado (ver {@link TextFolding}) apunta a sus postings: pares (ordinal de reseña,
+ * frecuencia) en orden creciente de ordinal. Los términos del título cuentan doble. Igual que
+ * {@link AppendOnlyList}, admite un único escritor a la vez y lectores sin locks: un alta solo agrega
+ * postings al final, así que el costo de una búsqueda depende de los postings de los términos
+ * consultados y no del texto de todas las reseñas.
+ */
+final class ReviewTextIndex {
+
+    private static final int TITLE_WEIGHT = 2;
+
+    private final Map<String, Postings> postings = new ConcurrentHashMap<>();
+
+    /**
+     * Indexa una reseña. Los ordinales deben agregarse en orden creciente.
+     */
+    void add(int ordinal, Review review) {
+        Map<String, Integer> tf = new HashMap<>();
+        for (String term : TextFolding.terms(review.getTitle())) tf.merge(term, TITLE_WEIGHT, Integer::sum);
+        for (String term : TextFolding.terms(review.getText())) tf.merge(term, 1, Integer::sum);
+        tf.forEach((term, freq) -> postings.computeIfAbsent(term, k -> new Postings()).add(ordinal, freq));
+    }
+
+    /**
+     * Reseñas que contienen todos los términos, con su puntaje de relevancia.
+     * <p>
+     * Puntaje: suma por término de {@code idf · (1 + ln tf)}, con el idf de BM25 sobre {@code docCount}.
+     *
+     * @param terms    términos normalizados y sin repetir
+     * @param docCount solo se consideran ordinales menores a este valor
+     * @return coincidencias en orden creciente de ordinal; vacío si algún término no aparece
+     */
+    List<Hit> match(Collection<String> terms, int docCount) {
+        if (terms.isEmpty() || docCount <= 0) return List.of();
+        List<Slice> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Postings p = postings.get(term);
+            Slice slice = p == null ? null : p.slice();
+            if (slice == null || slice.size() == 0) return List.of();
+            lists.add(slice);
+        }
+        lists.sort(Comparator.comparingInt(Slice::size));
+
+        double[] idf = new double[lists.size()];
+        for (int t = 0; t < lists.size(); t++) {
+            int df = lists.get(t).size();
+            idf[t] = Math.log(1 + Math.max(0, docCount - df + 0.5) / (df + 0.5));
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        Slice rarest = lists.get(0);
+        candidates:
+        for (int i = 0; i < rarest.size(); i++) {
+            int ordinal = rarest.ordinal(i);
+            if (ordinal >= docCount) break;
+            double score = idf[0] * (1 + Math.log(rarest.frequency(i)));
+            for (int t = 1; t < lists.size(); t++) {
+                int tf = lists.get(t).frequencyOf(ordinal);
+                if (tf == 0) continue candidates;
+                score += idf[t] * (1 + Math.log(tf));
+            }
+            hits.add(new Hit(ordinal, score));
+        }
+        return hits;
+    }
+
+    record Hit(int ordinal, double score) {
+    }
+
+    /**
+     * Vista de los primeros {@code size} pares publicados de un término.
+     */
+    private record Slice(int[] pairs, int size) {
+
+        int ordinal(int i) {
+            return pairs[2 * i];
+        }
+
+        int frequency(int i) {
+            return pairs[2 * i + 1];
+        }
+
+        int frequencyOf(int ordinal) {
+            int lo = 0;
+            int hi = size - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int value = ordinal(mid);
+                if (value < ordinal) lo = mid + 1;
+                else if (value > ordinal) hi = mid - 1;
+                else return frequency(mid);
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Postings de un término: pares (ordinal, frecuencia) en un arreglo que crece por duplicación.
+     * El escritor escribe los datos antes de publicar el nuevo tamaño.
+     */
+    private static final class Postings {
+
+        private volatile int[] data = new int[4];
+        private volatile int size;
+
+        void add(int ordinal, int freq) {
+            int n = size;
+            int[] d = data;
+            if (2 * n + 2 > d.length) {
+                d = Arrays.copyOf(d, d.length * 2);
+            }
+            d[2 * n] = ordinal;
+            d[2 * n + 1] = freq;
+            if (d != data) {
+                data = d;
+            }
+            size = n + 1;
+        }
+
+        Slice slice() {
+            int n = size;
+            return new Slice(data, n);
+        }
+    }
+}
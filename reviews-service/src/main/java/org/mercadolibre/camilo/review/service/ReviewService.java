@@ -1,15 +1,28 @@
 package org.mercadolibre.camilo.review.service;
 
+import org.mercadolibre.camilo.review.dto.CreateReviewRequest;
+import org.mercadolibre.camilo.review.dto.ReviewHighlightResponse;
 import org.mercadolibre.camilo.review.dto.ReviewResponse;
+import org.mercadolibre.camilo.review.dto.ReviewSummariesResponse;
 import org.mercadolibre.camilo.review.dto.ReviewSummaryResponse;
+import org.mercadolibre.camilo.review.dto.TopRatedProductResponse;
+import org.mercadolibre.camilo.review.model.ReviewPage;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Casos de uso de reviews.
  */
 public interface ReviewService {
 
+    /**
+     * Máximo de productos aceptados por {@link #summaries(Collection)}.
+     */
+    int MAX_SUMMARY_BATCH = 100;
+
     /**
      * Lista las reseñas de un producto.
      *
@@ -17,10 +30,69 @@ public interface ReviewService {
      */
     Flux<ReviewResponse> findByProduct(String productId);
 
+    /**
+     * Lista una página de reseñas de un producto en el orden pedido, opcionalmente filtradas por texto.
+     *
+     * @param productId id del producto (no nulo/blank)
+     * @param limit     tamaño de página (1..100); {@code null} devuelve todas las reseñas restantes
+     * @param cursor    cursor devuelto por la página anterior; {@code null} para la primera
+     * @param sort      {@code recent} (default sin búsqueda), {@code rating_desc}, {@code rating_asc} o
+     *                  {@code relevance} (default con búsqueda; requiere {@code query})
+     * @param query     palabras a buscar en título y texto; {@code null} o blanco no filtra
+     */
+    Mono<ReviewPage> findPage(String productId, Integer limit, String cursor, String sort, String query);
+
     /**
      * Devuelve el resumen estadístico de reseñas para un producto.
      *
      * @param productId id del producto (no nulo/blank)
      */
     Mono<ReviewSummaryResponse> summary(String productId);
+
+    /**
+     * Devuelve el resumen de las reseñas de un producto creadas desde una fecha (p. ej. los últimos 30 días),
+     * armado a partir de agregados diarios.
+     *
+     * @param productId id del producto (no nulo/blank)
+     * @param since     fecha ISO-8601 ({@code 2025-08-01}) o fecha-hora; se toma su día UTC, inclusive.
+     *                  {@code null} o blanco equivale a {@link #summary(String)}
+     */
+    Mono<ReviewSummaryResponse> summary(String productId, String since);
+
+    /**
+     * Devuelve los resúmenes de varios productos a partir de los agregados precalculados.
+     * Los productos sin reseñas se informan con conteo 0, igual que {@link #summary(String)}.
+     *
+     * @param productIds ids de producto (1..{@value #MAX_SUMMARY_BATCH}, sin blancos); los repetidos se ignoran
+     */
+    Mono<ReviewSummariesResponse> summaries(Collection<String> productIds);
+
+    /**
+     * Aspectos más mencionados en las reseñas de un producto (p. ej. "bateria", "camara"), precalculados.
+     *
+     * @param productId id del producto (no nulo/blank)
+     * @param limit     cantidad de términos (1..20, default 10)
+     */
+    Mono<List<ReviewHighlightResponse>> highlights(String productId, Integer limit);
+
+    /**
+     * Ranking de productos mejor calificados por promedio bayesiano.
+     *
+     * @param limit    cantidad de productos (1..100, default 10)
+     * @param minCount cantidad mínima de reseñas para figurar (default 1)
+     */
+    Mono<List<TopRatedProductResponse>> topRated(Integer limit, Integer minCount);
+
+    /**
+     * Registra una reseña nueva; queda visible de inmediato en listados y resúmenes.
+     *
+     * @param request datos de la reseña (productId no blank, rating 1..5)
+     * @return la reseña creada, con id y fecha asignados
+     */
+    Mono<ReviewResponse> create(CreateReviewRequest request);
+
+    /**
+     * Versión actual de los datos servidos; base para calcular ETags sin serializar.
+     */
+    long dataVersion();
 }
@@ -1,28 +1,48 @@
 package org.mercadolibre.camilo.review.service.impl;
 
+import org.mercadolibre.camilo.review.dto.CreateReviewRequest;
+import org.mercadolibre.camilo.review.dto.ReviewHighlightResponse;
 import org.mercadolibre.camilo.review.dto.ReviewResponse;
+import org.mercadolibre.camilo.review.dto.ReviewSummariesResponse;
 import org.mercadolibre.camilo.review.dto.ReviewSummaryResponse;
+import org.mercadolibre.camilo.review.dto.TopRatedProductResponse;
 import org.mercadolibre.camilo.review.exception.InvalidRequestException;
 import org.mercadolibre.camilo.review.model.Review;
+import org.mercadolibre.camilo.review.model.ReviewPage;
+import org.mercadolibre.camilo.review.model.ReviewSearchResult;
+import org.mercadolibre.camilo.review.model.ReviewSort;
+import org.mercadolibre.camilo.review.model.ReviewStats;
 import org.mercadolibre.camilo.review.repository.ReviewRepository;
 import org.mercadolibre.camilo.review.service.ReviewService;
+import org.mercadolibre.camilo.review.util.Cursors;
+import org.mercadolibre.camilo.review.util.Timestamps;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Set;
+import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReviewServiceImpl implements ReviewService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_TOP_LIMIT = 10;
+    private static final int MAX_TOP_LIMIT = 100;
+    private static final int DEFAULT_HIGHLIGHTS_LIMIT = 10;
+    private static final int MAX_HIGHLIGHTS_LIMIT = 20;
+
     private final ReviewRepository repo;
 
     @Override
@@ -40,6 +60,61 @@ public class ReviewServiceImpl implements ReviewService {
                         productId, ex.getClass().getSimpleName(), ex.getMessage()));
     }
 
+    @Override
+    public Mono<ReviewPage> findPage(String productId, Integer limit, String cursor, String sort, String query) {
+        if (productId == null || productId.isBlank()) {
+            log.warn("ReviewService.findPage | invalid productId (blank)");
+            return Mono.error(new InvalidRequestException("productId must not be blank"));
+        }
+        boolean searching = query != null && !query.isBlank();
+        ReviewSort order = sort == null || sort.isBlank()
+                ? (searching ? ReviewSort.RELEVANCE : ReviewSort.RECENT)
+                : ReviewSort.fromParam(sort).orElse(null);
+        if (order == null) {
+            log.warn("ReviewService.findPage | invalid sort | sort={}", sort);
+            return Mono.error(new InvalidRequestException("sort must be one of recent, rating_desc, rating_asc, relevance"));
+        }
+        if (order == ReviewSort.RELEVANCE && !searching) {
+            log.warn("ReviewService.findPage | relevance without query");
+            return Mono.error(new InvalidRequestException("sort=relevance requires q"));
+        }
+        if (limit != null && (limit < 1 || limit > MAX_PAGE_SIZE)) {
+            log.warn("ReviewService.findPage | invalid limit | limit={}", limit);
+            return Mono.error(new InvalidRequestException("limit must be between 1 and %d".formatted(MAX_PAGE_SIZE)));
+        }
+
+        log.info("ReviewService.findPage | productId={} limit={} sort={} cursor={} q={}",
+                productId, limit, order.param(), cursor, query);
+        return Mono.fromCallable(() -> {
+                    Cursors.Position position = Cursors.decode(cursor, order, query);
+                    int offset = position.offset();
+                    int current = repo.countByProductId(productId);
+                    int asOf = position.pinned() ? Math.min(position.asOf(), current) : current;
+
+                    List<Review> found;
+                    int total;
+                    if (searching) {
+                        ReviewSearchResult result = repo.search(productId, query, order, offset,
+                                limit != null ? limit : Integer.MAX_VALUE, asOf);
+                        found = result.items();
+                        total = result.total();
+                    } else {
+                        found = repo.findPage(productId, order, offset,
+                                limit != null ? limit : Math.max(0, asOf - offset), asOf);
+                        total = asOf;
+                    }
+
+                    List<ReviewResponse> items = found.stream().map(ReviewResponse::from).toList();
+                    int next = offset + items.size();
+                    String nextCursor = limit != null && next < total ? Cursors.encode(order, query, next, asOf) : null;
+                    log.debug("ReviewService.findPage | ok | productId={} offset={} items={} total={}",
+                            productId, offset, items.size(), total);
+                    return new ReviewPage(items, nextCursor, total);
+                })
+                .doOnError(ex -> log.error("ReviewService.findPage | error | productId={} | type={} | msg={}",
+                        productId, ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
     @Override
     public Mono<ReviewSummaryResponse> summary(String productId) {
         if (productId == null || productId.isBlank()) {
@@ -47,36 +122,163 @@ public class ReviewServiceImpl implements ReviewService {
             return Mono.error(new InvalidRequestException("productId must not be blank"));
         }
 
-        log.info("ReviewService.summary | computing | productId={}", productId);
+        log.info("ReviewService.summary | lookup | productId={}", productId);
         return Mono.fromSupplier(() -> {
-                    List<Review> list = safeList(repo.findByProductId(productId));
-                    long count = list.size();
-                    double avg = count == 0 ? 0.0 :
-                            list.stream().collect(Collectors.averagingInt(Review::getRating));
-
-                    Map<Integer, Long> histogram = IntStream.rangeClosed(1, 5)
-                            .boxed()
-                            .collect(Collectors.toMap(
-                                    r -> r,
-                                    r -> list.stream().filter(rv -> rv.getRating() == r).count(),
-                                    (a, b) -> a,
-                                    LinkedHashMap::new
-                            ));
-
-                    log.debug("ReviewService.summary | ok | productId={} count={} avg={}", productId, count, avg);
-
-                    return ReviewSummaryResponse.builder()
-                            .productId(productId)
-                            .count(count)
-                            .avg(avg)
-                            .histogram(histogram)
-                            .build();
+                    ReviewSummaryResponse summary = repo.summaryOf(productId);
+                    log.debug("ReviewService.summary | ok | productId={} count={} avg={}",
+                            productId, summary.getCount(), summary.getAvg());
+                    return summary;
                 })
                 .doOnError(ex -> log.error("ReviewService.summary | error | productId={} | type={} | msg={}",
                         productId, ex.getClass().getSimpleName(), ex.getMessage()));
     }
 
+    @Override
+    public Mono<ReviewSummaryResponse> summary(String productId, String since) {
+        if (since == null || since.isBlank()) {
+            return summary(productId);
+        }
+        if (productId == null || productId.isBlank()) {
+            log.warn("ReviewService.summary | invalid productId (blank)");
+            return Mono.error(new InvalidRequestException("productId must not be blank"));
+        }
+        long epochMilli = Timestamps.epochMilli(since);
+        if (epochMilli == Timestamps.UNKNOWN) {
+            log.warn("ReviewService.summary | invalid since | since={}", since);
+            return Mono.error(new InvalidRequestException("since must be an ISO-8601 date or date-time"));
+        }
+        LocalDate day = LocalDate.ofEpochDay(Timestamps.epochDay(epochMilli));
+
+        log.info("ReviewService.summary | lookup | productId={} since={}", productId, day);
+        return Mono.fromSupplier(() -> {
+                    ReviewSummaryResponse summary = repo.summaryOf(productId, day);
+                    log.debug("ReviewService.summary | ok | productId={} since={} count={} avg={}",
+                            productId, day, summary.getCount(), summary.getAvg());
+                    return summary;
+                })
+                .doOnError(ex -> log.error("ReviewService.summary | error | productId={} since={} | type={} | msg={}",
+                        productId, day, ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
+    @Override
+    public Mono<ReviewSummariesResponse> summaries(Collection<String> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            log.warn("ReviewService.summaries | invalid productIds (empty)");
+            return Mono.error(new InvalidRequestException("productIds must not be empty"));
+        }
+        if (productIds.size() > MAX_SUMMARY_BATCH) {
+            log.warn("ReviewService.summaries | too many productIds | size={}", productIds.size());
+            return Mono.error(new InvalidRequestException(
+                    "At most %d productIds are allowed per request".formatted(MAX_SUMMARY_BATCH)));
+        }
+        Set<String> unique = new LinkedHashSet<>();
+        for (String id : productIds) {
+            if (id == null || id.isBlank()) {
+                log.warn("ReviewService.summaries | invalid productId (blank)");
+                return Mono.error(new InvalidRequestException("productId must not be blank"));
+            }
+            unique.add(id.trim());
+        }
+
+        log.info("ReviewService.summaries | resolving | size={}", unique.size());
+        return Mono.fromCallable(() -> {
+                    Map<String, ReviewSummaryResponse> summaries = new LinkedHashMap<>();
+                    for (String id : unique) {
+                        summaries.put(id, repo.summaryOf(id));
+                    }
+                    return ReviewSummariesResponse.builder().summaries(summaries).build();
+                })
+                .doOnError(ex -> log.error("ReviewService.summaries | error | type={} | msg={}",
+                        ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
+    @Override
+    public Mono<List<ReviewHighlightResponse>> highlights(String productId, Integer limit) {
+        if (productId == null || productId.isBlank()) {
+            log.warn("ReviewService.highlights | invalid productId (blank)");
+            return Mono.error(new InvalidRequestException("productId must not be blank"));
+        }
+        int size = limit == null ? DEFAULT_HIGHLIGHTS_LIMIT : limit;
+        if (size < 1 || size > MAX_HIGHLIGHTS_LIMIT) {
+            log.warn("ReviewService.highlights | invalid limit | limit={}", limit);
+            return Mono.error(new InvalidRequestException("limit must be between 1 and %d".formatted(MAX_HIGHLIGHTS_LIMIT)));
+        }
+
+        log.info("ReviewService.highlights | productId={} limit={}", productId, size);
+        return Mono.fromCallable(() -> repo.highlightsOf(productId, size).stream()
+                        .map(ReviewHighlightResponse::from)
+                        .toList())
+                .doOnError(ex -> log.error("ReviewService.highlights | error | productId={} | type={} | msg={}",
+                        productId, ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
+    @Override
+    public Mono<List<TopRatedProductResponse>> topRated(Integer limit, Integer minCount) {
+        int size = limit == null ? DEFAULT_TOP_LIMIT : limit;
+        if (size < 1 || size > MAX_TOP_LIMIT) {
+            log.warn("ReviewService.topRated | invalid limit | limit={}", limit);
+            return Mono.error(new InvalidRequestException("limit must be between 1 and %d".formatted(MAX_TOP_LIMIT)));
+        }
+        int threshold = minCount == null ? 1 : minCount;
+        if (threshold < 1) {
+            log.warn("ReviewService.topRated | invalid minCount | minCount={}", minCount);
+            return Mono.error(new InvalidRequestException("minCount must be at least 1"));
+        }
+
+        log.info("ReviewService.topRated | limit={} minCount={}", size, threshold);
+        return Mono.fromCallable(() -> repo.topRated(size, threshold).stream()
+                        .map(TopRatedProductResponse::from)
+                        .toList())
+                .doOnError(ex -> log.error("ReviewService.topRated | error | type={} | msg={}",
+                        ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
+    @Override
+    public Mono<ReviewResponse> create(CreateReviewRequest request) {
+        if (request == null) {
+            log.warn("ReviewService.create | invalid request (null body)");
+            return Mono.error(new InvalidRequestException("Request body must not be null"));
+        }
+        if (request.getProductId() == null || request.getProductId().isBlank()) {
+            log.warn("ReviewService.create | invalid productId (blank)");
+            return Mono.error(new InvalidRequestException("productId must not be blank"));
+        }
+        Integer rating = request.getRating();
+        if (rating == null || rating < ReviewStats.MIN_RATING || rating > ReviewStats.MAX_RATING) {
+            log.warn("ReviewService.create | invalid rating | rating={}", rating);
+            return Mono.error(new InvalidRequestException("rating must be between %d and %d"
+                    .formatted(ReviewStats.MIN_RATING, ReviewStats.MAX_RATING)));
+        }
+
+        Review review = Review.builder()
+                .id("R-" + UUID.randomUUID())
+                .productId(request.getProductId().trim())
+                .rating(rating)
+                .title(trimToNull(request.getTitle()))
+                .text(trimToNull(request.getText()))
+                .author(trimToNull(request.getAuthor()))
+                .createdAt(Instant.now().toString())
+                .build();
+
+        log.info("ReviewService.create | productId={} rating={}", review.getProductId(), rating);
+        return Mono.fromCallable(() -> ReviewResponse.from(repo.save(review)))
+                .doOnNext(saved -> log.debug("ReviewService.create | ok | id={}", saved.getId()))
+                .doOnError(ex -> log.error("ReviewService.create | error | productId={} | type={} | msg={}",
+                        review.getProductId(), ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
+    @Override
+    public long dataVersion() {
+        return repo.getVersion();
+    }
+
     private static <T> List<T> safeList(List<T> in) {
         return in == null ? List.of() : in;
     }
-}
\ No newline at end of file
+
+    private static String trimToNull(String value) {
+        if (value == null) return null;
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
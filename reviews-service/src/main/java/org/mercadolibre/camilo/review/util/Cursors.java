@@ -0,0 +1,80 @@
+package org.mercadolibre.camilo.review.util;
+
+import lombok.experimental.UtilityClass;
+import org.mercadolibre.camilo.review.exception.InvalidRequestException;
+import org.mercadolibre.camilo.review.model.ReviewSort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.TreeSet;
+
+/**
+ * Cursores opacos de paginación. Codifican el orden, la posición de la siguiente página, la cantidad
+ * de reseñas visibles al pedir la primera y un hash de los términos de búsqueda, de modo que un cursor
+ * solo es válido con el mismo {@code sort} y la misma {@code q} con los que se emitió y las reseñas
+ * nuevas no corren las páginas siguientes.
+ */
+@UtilityClass
+public class Cursors {
+
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Posición decodificada de un cursor.
+     *
+     * @param offset posición de inicio (base 0)
+     * @param asOf   cantidad de reseñas visibles fijada en la primera página; {@code -1} si aún no se fijó
+     */
+    public record Position(int offset, int asOf) {
+
+        public static final Position FIRST = new Position(0, -1);
+
+        public boolean pinned() {
+            return asOf >= 0;
+        }
+    }
+
+    public static String encode(ReviewSort sort, String query, int offset, int asOf) {
+        String raw = sort.param() + SEPARATOR + offset + SEPARATOR + asOf + SEPARATOR + queryKey(query);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un cursor emitido por {@link #encode(ReviewSort, String, int, int)}.
+     *
+     * @param cursor cursor recibido; {@code null} o blanco equivale al inicio
+     * @param sort   orden de la petición actual
+     * @param query  texto de búsqueda de la petición actual; {@code null} si no se busca
+     * @return posición de inicio ({@link Position#FIRST} si no hay cursor)
+     * @throws InvalidRequestException si el cursor está mal formado o corresponde a otro orden u otra búsqueda
+     */
+    public static Position decode(String cursor, ReviewSort sort, String query) {
+        if (cursor == null || cursor.isBlank()) return Position.FIRST;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 4) throw new InvalidRequestException("Invalid cursor");
+            if (!parts[0].equals(sort.param())) {
+                throw new InvalidRequestException("cursor does not match sort '%s'".formatted(sort.param()));
+            }
+            if (!parts[3].equals(queryKey(query))) {
+                throw new InvalidRequestException("cursor does not match q");
+            }
+            int offset = Integer.parseInt(parts[1]);
+            int asOf = Integer.parseInt(parts[2]);
+            if (offset < 0 || asOf < 0) throw new InvalidRequestException("Invalid cursor");
+            return new Position(offset, asOf);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Hash de los términos normalizados de la búsqueda, sin repetir y en orden alfabético: dos textos que
+     * el índice trata igual ("Batería buena" y "buena bateria") producen la misma clave.
+     */
+    private static String queryKey(String query) {
+        String folded = String.join(" ", new TreeSet<>(TextFolding.terms(query)));
+        return Integer.toHexString(folded.hashCode());
+    }
+}
@@ -0,0 +1,63 @@
+package org.mercadolibre.camilo.review.util;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Utilidades para validadores HTTP fuertes (ETag / If-None-Match).
+ * <p>
+ * El ETag se deriva de la versión del snapshot de datos y de los parámetros que
+ * identifican el recurso, así que se calcula sin construir ni serializar la respuesta.
+ */
+@UtilityClass
+public class ETags {
+
+    /**
+     * Construye un ETag fuerte a partir de la versión de datos y los parámetros del recurso.
+     *
+     * @param version versión del snapshot de datos
+     * @param parts   parámetros que identifican la representación (ids, filtros, paginación)
+     * @return ETag entre comillas, p. ej. {@code "1a2b3c-5f0e"}
+     */
+    public static String of(long version, Object... parts) {
+        StringBuilder sb = new StringBuilder(24).append('"').append(Long.toHexString(version));
+        if (parts != null && parts.length > 0) {
+            sb.append('-').append(Integer.toHexString(Arrays.hashCode(parts)));
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * Indica si el {@code If-None-Match} de la petición coincide con el ETag (comparación débil, RFC 9110).
+     * <p>
+     * {@code *} coincide con cualquier representación existente, así que en recursos por id se consulta
+     * después de resolver la entidad; si no, un id inexistente respondería 304 en lugar de 404.
+     */
+    public static boolean matches(ServerWebExchange exchange, String etag) {
+        List<String> candidates;
+        try {
+            candidates = exchange.getRequest().getHeaders().getIfNoneMatch();
+        } catch (IllegalArgumentException ignored) {
+            return false;
+        }
+        for (String candidate : candidates) {
+            String tag = candidate.startsWith("W/") ? candidate.substring(2) : candidate;
+            if ("*".equals(tag) || etag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Respuesta {@code 304 Not Modified} sin cuerpo, repitiendo el ETag vigente.
+     */
+    public static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+}
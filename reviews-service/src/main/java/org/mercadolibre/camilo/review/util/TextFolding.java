@@ -0,0 +1,53 @@
+package org.mercadolibre.camilo.review.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Normalización de textos de reseñas para búsqueda: minúsculas, sin acentos y partidos en términos
+ * ("¡Excelente batería!" → [excelente, bateria]). Se descartan las palabras vacías más comunes del
+ * español y los términos de un solo carácter.
+ */
+@UtilityClass
+public class TextFolding {
+
+    private static final int MIN_TERM_LENGTH = 2;
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "al", "algo", "ante", "asi", "aun", "bien", "cada", "como", "con", "cual", "de", "del",
+            "desde", "donde", "durante", "e", "el", "ella", "ellos", "en", "entre", "era", "es", "esa", "ese",
+            "eso", "esta", "estaba", "este", "esto", "estoy", "fue", "ha", "hace", "hay", "la", "las", "le",
+            "les", "lo", "los", "mas", "me", "mi", "mis", "muy", "nada", "ni", "no", "nos", "o", "para",
+            "pero", "poco", "por", "porque", "que", "se", "sea", "ser", "si", "sin", "sobre", "solo", "son",
+            "su", "sus", "tambien", "tan", "tanto", "te", "tengo", "tiene", "todo", "todos", "tu", "un",
+            "una", "uno", "unos", "unas", "y", "ya", "yo");
+
+    /**
+     * Términos normalizados del texto, en orden de aparición (con repeticiones).
+     *
+     * @param s texto libre; {@code null} o vacío devuelve una lista vacía
+     */
+    public static List<String> terms(String s) {
+        if (s == null || s.isEmpty()) return List.of();
+        String decomposed = Normalizer.normalize(s, Normalizer.Form.NFD);
+        List<String> out = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i <= decomposed.length(); i++) {
+            char ch = i < decomposed.length() ? decomposed.charAt(i) : ' ';
+            if (Character.getType(ch) == Character.NON_SPACING_MARK) continue;
+            if (Character.isLetterOrDigit(ch)) {
+                sb.append(Character.toLowerCase(ch));
+            } else if (!sb.isEmpty()) {
+                String term = sb.toString().toLowerCase(Locale.ROOT);
+                if (term.length() >= MIN_TERM_LENGTH && !STOPWORDS.contains(term)) out.add(term);
+                sb.setLength(0);
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,58 @@
+package org.mercadolibre.camilo.review.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Conversión de las fechas ISO-8601 de las reseñas (texto) a valores epoch, para ordenar y agrupar
+ * por día sin volver a interpretar el texto en cada comparación. Todo se resuelve en UTC.
+ */
+@UtilityClass
+public class Timestamps {
+
+    /**
+     * Valor devuelto para fechas nulas o inválidas; ordena antes que cualquier fecha válida.
+     */
+    public static final long UNKNOWN = Long.MIN_VALUE;
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    /**
+     * Epoch millis de una fecha ISO-8601: instante ({@code 2025-08-01T10:00:00Z}), fecha-hora con offset,
+     * fecha-hora sin offset (se asume UTC) o solo fecha (inicio del día UTC).
+     *
+     * @param value fecha en texto
+     * @return epoch millis, o {@link #UNKNOWN} si es nula o no se puede interpretar
+     */
+    public static long epochMilli(String value) {
+        if (value == null || value.isBlank()) return UNKNOWN;
+        String s = value.trim();
+        try {
+            if (s.length() <= 10) {
+                return LocalDate.parse(s).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+            }
+            try {
+                return OffsetDateTime.parse(s).toInstant().toEpochMilli();
+            } catch (DateTimeParseException noOffset) {
+                return LocalDateTime.parse(s).toInstant(ZoneOffset.UTC).toEpochMilli();
+            }
+        } catch (DateTimeParseException | ArithmeticException ex) {
+            return UNKNOWN;
+        }
+    }
+
+    /**
+     * Día UTC (días desde 1970-01-01) de un valor devuelto por {@link #epochMilli(String)}.
+     *
+     * @return día epoch, o {@link Integer#MIN_VALUE} para {@link #UNKNOWN}
+     */
+    public static int epochDay(long epochMilli) {
+        if (epochMilli == UNKNOWN) return Integer.MIN_VALUE;
+        return (int) Math.floorDiv(epochMilli, MILLIS_PER_DAY);
+    }
+}
@@ -0,0 +1,412 @@
+package org.mercadolibre.camilo.review.repository.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mercadolibre.camilo.review.dto.ReviewSummaryResponse;
+import org.mercadolibre.camilo.review.model.ProductRating;
+import org.mercadolibre.camilo.review.model.Review;
+import org.mercadolibre.camilo.review.model.ReviewHighlight;
+import org.mercadolibre.camilo.review.model.ReviewSearchResult;
+import org.mercadolibre.camilo.review.model.ReviewSort;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ReviewRepositoryImplTest {
+
+    private static final String DATA = """
+            [
+              {"id":"R-1","productId":"P-1","rating":5,"createdAt":"2025-01-01T00:00:00Z"},
+              {"id":"R-2","productId":"P-1","rating":5,"createdAt":"2025-01-03T00:00:00Z"},
+              {"id":"R-3","productId":"P-1","rating":3,"createdAt":"2025-01-02T00:00:00Z"},
+              {"id":"R-4","productId":"P-1","rating":1,"createdAt":"2025-01-04T00:00:00Z"},
+              {"id":"R-5","productId":"P-2","rating":4,"createdAt":"2025-01-01T00:00:00Z"}
+            ]
+            """;
+
+    private static final String TEXT_DATA = """
+            [
+              {"id":"T-1","productId":"P-1","rating":5,"title":"Batería increíble","text":"La batería dura dos días.","createdAt":"2025-01-01T00:00:00Z"},
+              {"id":"T-2","productId":"P-1","rating":2,"title":"Pantalla frágil","text":"Se rayó la pantalla, la batería bien.","createdAt":"2025-01-02T00:00:00Z"},
+              {"id":"T-3","productId":"P-1","rating":4,"title":"Buena","text":"Buena PANTALLA y buena bateria","createdAt":"2025-01-03T00:00:00Z"},
+              {"id":"T-4","productId":"P-1","rating":3,"title":"Normal","text":"Cumple.","createdAt":"2025-01-04T00:00:00Z"}
+            ]
+            """;
+
+    private static Resource json(String content) {
+        return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getDescription() {
+                return "in-memory-json";
+            }
+        };
+    }
+
+    private ReviewRepositoryImpl repo() {
+        return new ReviewRepositoryImpl(json(DATA), new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("findByProductId ordena por fecha de creación descendente")
+    void findByProductId_sortedByDateDesc() {
+        assertThat(repo().findByProductId("P-1")).extracting(Review::getId)
+                .containsExactly("R-4", "R-2", "R-3", "R-1");
+    }
+
+    @Test
+    @DisplayName("summaryOf devuelve cantidad, promedio e histograma de los contadores cargados")
+    void summaryOf_precomputed() {
+        ReviewRepositoryImpl repo = repo();
+
+        ReviewSummaryResponse summary = repo.summaryOf("P-1");
+
+        assertThat(summary.getProductId()).isEqualTo("P-1");
+        assertThat(summary.getCount()).isEqualTo(4);
+        assertThat(summary.getAvg()).isEqualTo(3.5);
+        assertThat(summary.getHistogram()).containsExactly(
+                entry(1, 1L), entry(2, 0L), entry(3, 1L), entry(4, 0L), entry(5, 2L));
+        assertThat(repo.summaryOf("P-1")).isEqualTo(summary);
+    }
+
+    @Test
+    @DisplayName("summaryOf de un producto sin reseñas devuelve ceros con las 5 claves")
+    void summaryOf_unknownProduct_zeros() {
+        ReviewSummaryResponse summary = repo().summaryOf("P-NONE");
+
+        assertThat(summary.getProductId()).isEqualTo("P-NONE");
+        assertThat(summary.getCount()).isZero();
+        assertThat(summary.getAvg()).isZero();
+        assertThat(summary.getHistogram().keySet()).containsExactly(1, 2, 3, 4, 5);
+        assertThat(summary.getHistogram().values()).allMatch(v -> v == 0L);
+    }
+
+    @Test
+    @DisplayName("summaryOf con since suma solo los días de la ventana")
+    void summaryOf_since_sumsDays() {
+        ReviewRepositoryImpl repo = repo();
+
+        ReviewSummaryResponse window = repo.summaryOf("P-1", LocalDate.parse("2025-01-03"));
+
+        assertThat(window.getCount()).isEqualTo(2);
+        assertThat(window.getAvg()).isEqualTo(3.0);
+        assertThat(window.getSince()).isEqualTo(LocalDate.parse("2025-01-03"));
+        assertThat(window.getHistogram()).containsExactly(
+                entry(1, 1L), entry(2, 0L), entry(3, 0L), entry(4, 0L), entry(5, 1L));
+        assertThat(repo.summaryOf("P-1", LocalDate.parse("2024-12-01")).getCount()).isEqualTo(4);
+        assertThat(repo.summaryOf("P-1", LocalDate.parse("2025-01-05")).getCount()).isZero();
+        assertThat(repo.summaryOf("P-NONE", LocalDate.parse("2025-01-01")).getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("summaryOf con since incluye las reseñas agregadas en su día")
+    void summaryOf_since_includesSaved() {
+        ReviewRepositoryImpl repo = repo();
+        repo.save(Review.builder().id("R-6").productId("P-1").rating(2).createdAt("2025-02-01T12:00:00Z").build());
+        repo.save(Review.builder().id("R-7").productId("P-1").rating(4).createdAt("2025-02-01T18:00:00Z").build());
+        repo.save(Review.builder().id("R-8").productId("P-1").rating(5).createdAt("2025-02-03T09:00:00Z").build());
+
+        assertThat(repo.summaryOf("P-1", LocalDate.parse("2025-02-01")).getCount()).isEqualTo(3);
+        assertThat(repo.summaryOf("P-1", LocalDate.parse("2025-02-02")).getCount()).isEqualTo(1);
+        assertThat(repo.summaryOf("P-1", LocalDate.parse("2025-01-04")).getAvg()).isEqualTo(3.0);
+        assertThat(repo.summaryOf("P-1").getCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("las fechas se ordenan por instante aunque tengan distinto formato")
+    void findByProductId_mixedFormats_sortedByInstant() {
+        ReviewRepositoryImpl repo = new ReviewRepositoryImpl(json("""
+                [
+                  {"id":"M-1","productId":"P-1","rating":5,"createdAt":"2025-01-02T01:00:00+03:00"},
+                  {"id":"M-2","productId":"P-1","rating":4,"createdAt":"2025-01-01T23:00:00Z"},
+                  {"id":"M-3","productId":"P-1","rating":3,"createdAt":"2025-01-02"},
+                  {"id":"M-4","productId":"P-1","rating":2,"createdAt":"not-a-date"}
+                ]
+                """), new ObjectMapper().findAndRegisterModules());
+
+        assertThat(repo.findByProductId("P-1")).extracting(Review::getId)
+                .containsExactly("M-3", "M-2", "M-1", "M-4");
+        assertThat(repo.summaryOf("P-1", LocalDate.parse("2025-01-01")).getCount()).isEqualTo(3);
+        assertThat(repo.summaryOf("P-1", LocalDate.parse("2025-01-02")).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("highlightsOf cuenta una mención por reseña, sin acentos ni palabras vacías")
+    void highlightsOf_countsMentionsPerReview() {
+        ReviewRepositoryImpl repo = new ReviewRepositoryImpl(json(TEXT_DATA), new ObjectMapper().findAndRegisterModules());
+
+        assertThat(repo.highlightsOf("P-1", 10)).containsExactly(
+                new ReviewHighlight("bateria", 3), new ReviewHighlight("pantalla", 2));
+        assertThat(repo.highlightsOf("P-1", 1)).extracting(ReviewHighlight::term).containsExactly("bateria");
+        assertThat(repo.highlightsOf("P-NONE", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("highlightsOf se actualiza con cada reseña nueva")
+    void highlightsOf_updatedOnSave() {
+        ReviewRepositoryImpl repo = new ReviewRepositoryImpl(json(TEXT_DATA), new ObjectMapper().findAndRegisterModules());
+
+        repo.save(Review.builder().id("T-5").productId("P-1").rating(4).title("Gran cámara")
+                .text("La cámara y la pantalla, geniales").createdAt("2025-02-01T00:00:00Z").build());
+        repo.save(Review.builder().id("T-6").productId("P-1").rating(5).title("Camara")
+                .text("Pantalla enorme").createdAt("2025-02-02T00:00:00Z").build());
+
+        assertThat(repo.highlightsOf("P-1", 10)).containsExactly(
+                new ReviewHighlight("pantalla", 4), new ReviewHighlight("bateria", 3), new ReviewHighlight("camara", 2));
+    }
+
+    @Test
+    @DisplayName("findPage por rating_desc desempata por fecha más reciente")
+    void findPage_ratingDesc_tiesByRecent() {
+        assertThat(repo().findPage("P-1", ReviewSort.RATING_DESC, 0, 10, 4)).extracting(Review::getId)
+                .containsExactly("R-2", "R-1", "R-3", "R-4");
+    }
+
+    @Test
+    @DisplayName("findPage por rating_asc ordena de menor a mayor calificación")
+    void findPage_ratingAsc() {
+        assertThat(repo().findPage("P-1", ReviewSort.RATING_ASC, 0, 10, 4)).extracting(Review::getId)
+                .containsExactly("R-4", "R-3", "R-2", "R-1");
+    }
+
+    @Test
+    @DisplayName("findPage recorta la ventana [offset, offset+limit) y tolera offsets fuera de rango")
+    void findPage_slices() {
+        ReviewRepositoryImpl repo = repo();
+
+        assertThat(repo.findPage("P-1", ReviewSort.RECENT, 1, 2, 4)).extracting(Review::getId)
+                .containsExactly("R-2", "R-3");
+        assertThat(repo.findPage("P-1", ReviewSort.RATING_DESC, 3, 5, 4)).extracting(Review::getId)
+                .containsExactly("R-4");
+        assertThat(repo.findPage("P-1", ReviewSort.RECENT, 10, 5, 4)).isEmpty();
+        assertThat(repo.findPage("P-NONE", ReviewSort.RATING_ASC, 0, 5, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("save agrega la reseña como la más reciente y actualiza resumen, órdenes y versión")
+    void save_appendsAndUpdatesAggregates() {
+        ReviewRepositoryImpl repo = repo();
+        long version = repo.getVersion();
+        ReviewSummaryResponse before = repo.summaryOf("P-1");
+
+        repo.save(review("R-NEW", "P-1", 3));
+
+        assertThat(repo.findById("R-NEW")).isPresent();
+        assertThat(repo.countByProductId("P-1")).isEqualTo(5);
+        assertThat(repo.findByProductId("P-1")).extracting(Review::getId)
+                .containsExactly("R-NEW", "R-4", "R-2", "R-3", "R-1");
+        assertThat(repo.findPage("P-1", ReviewSort.RATING_DESC, 0, 10, 5)).extracting(Review::getId)
+                .containsExactly("R-2", "R-1", "R-NEW", "R-3", "R-4");
+        assertThat(repo.findPage("P-1", ReviewSort.RATING_ASC, 1, 2, 5)).extracting(Review::getId)
+                .containsExactly("R-NEW", "R-3");
+
+        ReviewSummaryResponse after = repo.summaryOf("P-1");
+        assertThat(after).isNotEqualTo(before);
+        assertThat(after.getCount()).isEqualTo(5);
+        assertThat(after.getAvg()).isEqualTo(3.4);
+        assertThat(after.getHistogram().get(3)).isEqualTo(2L);
+        assertThat(repo.getVersion()).isNotEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("save crea el producto si no tenía reseñas y rechaza ids repetidos")
+    void save_newProduct_andDuplicateId() {
+        ReviewRepositoryImpl repo = repo();
+
+        repo.save(review("R-NEW", "P-3", 5));
+
+        assertThat(repo.findByProductId("P-3")).extracting(Review::getId).containsExactly("R-NEW");
+        assertThat(repo.summaryOf("P-3").getCount()).isEqualTo(1);
+        assertThatThrownBy(() -> repo.save(review("R-1", "P-3", 4)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(repo.countByProductId("P-3")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findPage con asOf ignora las reseñas agregadas después, manteniendo estables las páginas")
+    void findPage_asOf_ignoresLaterInserts() {
+        ReviewRepositoryImpl repo = repo();
+        List<Review> firstPage = repo.findPage("P-1", ReviewSort.RECENT, 0, 2, 4);
+
+        repo.save(review("R-NEW-1", "P-1", 5));
+        repo.save(review("R-NEW-2", "P-1", 1));
+
+        assertThat(firstPage).extracting(Review::getId).containsExactly("R-4", "R-2");
+        assertThat(repo.findPage("P-1", ReviewSort.RECENT, 2, 2, 4)).extracting(Review::getId)
+                .containsExactly("R-3", "R-1");
+        assertThat(repo.findPage("P-1", ReviewSort.RATING_DESC, 0, 10, 4)).extracting(Review::getId)
+                .containsExactly("R-2", "R-1", "R-3", "R-4");
+        assertThat(repo.findPage("P-1", ReviewSort.RATING_DESC, 0, 10, 6)).extracting(Review::getId)
+                .containsExactly("R-NEW-1", "R-2", "R-1", "R-3", "R-NEW-2", "R-4");
+    }
+
+    @Test
+    @DisplayName("topRated ordena por promedio bayesiano y respeta minCount")
+    void topRated_bayesianOrder_andMinCount() {
+        ReviewRepositoryImpl repo = repo();
+
+        // media global 3.6 con C=10: P-2 (un 4) = 40/11 ≈ 3.64, P-1 (promedio 3.5 en 4) = 50/14 ≈ 3.57
+        assertThat(repo.topRated(10, 1)).extracting(ProductRating::productId).containsExactly("P-2", "P-1");
+        assertThat(repo.topRated(10, 2)).extracting(ProductRating::productId).containsExactly("P-1");
+        assertThat(repo.topRated(1, 1)).singleElement().satisfies(top -> {
+            assertThat(top.count()).isEqualTo(1);
+            assertThat(top.average()).isEqualTo(4.0);
+            assertThat(top.score()).isCloseTo(40.0 / 11, within(1e-9));
+        });
+    }
+
+    @Test
+    @DisplayName("topRated se actualiza con cada alta sin reconstruir el ranking")
+    void topRated_updatesOnSave() {
+        ReviewRepositoryImpl repo = repo();
+
+        for (int i = 0; i < 5; i++) {
+            repo.save(review("R-NEW-" + i, "P-1", 5));
+        }
+        repo.save(review("R-NEW-P3", "P-3", 1));
+
+        assertThat(repo.topRated(10, 1)).extracting(ProductRating::productId).containsExactly("P-1", "P-2", "P-3");
+        assertThat(repo.topRated(10, 1).get(0).count()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("search ignora acentos y mayúsculas y ordena por relevancia (el título pesa más)")
+    void search_foldedTerms_rankedByRelevance() {
+        ReviewRepositoryImpl repo = new ReviewRepositoryImpl(json(TEXT_DATA), new ObjectMapper().findAndRegisterModules());
+
+        ReviewSearchResult result = repo.search("P-1", "BATERÍA", ReviewSort.RELEVANCE, 0, 10, 4);
+
+        assertThat(result.total()).isEqualTo(3);
+        assertThat(result.items()).extracting(Review::getId).first().isEqualTo("T-1");
+        assertThat(result.items()).extracting(Review::getId).containsExactlyInAnyOrder("T-1", "T-2", "T-3");
+    }
+
+    @Test
+    @DisplayName("search exige todos los términos, pagina y admite los demás órdenes")
+    void search_allTerms_paginatedAndSorted() {
+        ReviewRepositoryImpl repo = new ReviewRepositoryImpl(json(TEXT_DATA), new ObjectMapper().findAndRegisterModules());
+
+        assertThat(repo.search("P-1", "pantalla batería", ReviewSort.RECENT, 0, 10, 4).items())
+                .extracting(Review::getId).containsExactly("T-3", "T-2");
+        assertThat(repo.search("P-1", "batería", ReviewSort.RATING_DESC, 1, 1, 4).items())
+                .extracting(Review::getId).containsExactly("T-3");
+        assertThat(repo.search("P-1", "batería", ReviewSort.RATING_DESC, 1, 1, 4).total()).isEqualTo(3);
+        assertThat(repo.search("P-1", "la de y", ReviewSort.RELEVANCE, 0, 10, 4)).isEqualTo(ReviewSearchResult.EMPTY);
+        assertThat(repo.search("P-1", "teclado", ReviewSort.RELEVANCE, 0, 10, 4).total()).isZero();
+        assertThat(repo.search("P-NONE", "batería", ReviewSort.RELEVANCE, 0, 10, 0).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("search encuentra las reseñas nuevas y respeta asOf")
+    void search_includesSavedReviews() {
+        ReviewRepositoryImpl repo = new ReviewRepositoryImpl(json(TEXT_DATA), new ObjectMapper().findAndRegisterModules());
+
+        repo.save(Review.builder().id("T-NEW").productId("P-1").rating(1).title("Mala batería")
+                .text("No carga").createdAt("2025-02-01T00:00:00Z").build());
+
+        assertThat(repo.search("P-1", "bateria", ReviewSort.RECENT, 0, 10, 5).items())
+                .extracting(Review::getId).containsExactly("T-NEW", "T-3", "T-2", "T-1");
+        assertThat(repo.search("P-1", "bateria", ReviewSort.RECENT, 0, 10, 4).items())
+                .extracting(Review::getId).containsExactly("T-3", "T-2", "T-1");
+        assertThat(repo.search("P-1", "carga", ReviewSort.RELEVANCE, 0, 10, 5).items())
+                .extracting(Review::getId).containsExactly("T-NEW");
+    }
+
+    @Test
+    @DisplayName("altas concurrentes con lecturas simultáneas: sin pérdidas, páginas completas y agregados exactos")
+    void save_concurrentWritersAndReaders() throws Exception {
+        ReviewRepositoryImpl repo = repo();
+        int writers = 8;
+        int perWriter = 2_000;
+        int readers = 4;
+        ExecutorService pool = Executors.newFixedThreadPool(writers + readers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perWriter; i++) {
+                        repo.save(review("W" + writer + "-" + i, "P-1", 1 + (i % 5)));
+                    }
+                    return null;
+                }));
+            }
+            for (int r = 0; r < readers; r++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    long lastCount = 0;
+                    while (writing.get()) {
+                        int asOf = repo.countByProductId("P-1");
+                        List<Review> byRating = repo.findPage("P-1", ReviewSort.RATING_DESC, 0, asOf, asOf);
+                        assertThat(byRating).hasSize(asOf).doesNotContainNull();
+                        for (int i = 1; i < byRating.size(); i++) {
+                            assertThat(byRating.get(i - 1).getRating()).isGreaterThanOrEqualTo(byRating.get(i).getRating());
+                        }
+                        assertThat(repo.findByProductId("P-1")).hasSizeGreaterThanOrEqualTo(asOf).doesNotContainNull();
+
+                        long count = repo.summaryOf("P-1").getCount();
+                        assertThat(count).isGreaterThanOrEqualTo(lastCount);
+                        lastCount = count;
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> f : futures.subList(0, writers)) {
+                f.get(60, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            for (Future<?> f : futures) {
+                f.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        int expected = 4 + writers * perWriter;
+        List<Review> all = repo.findByProductId("P-1");
+        assertThat(all).hasSize(expected);
+        assertThat(all.stream().map(Review::getId).distinct().count()).isEqualTo(expected);
+        assertThat(repo.findPage("P-1", ReviewSort.RATING_ASC, 0, expected, expected)).hasSize(expected);
+
+        ReviewSummaryResponse summary = repo.summaryOf("P-1");
+        assertThat(summary.getCount()).isEqualTo(expected);
+        assertThat(summary.getHistogram().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(expected);
+        assertThat(summary.getHistogram().get(5)).isEqualTo(2 + writers * perWriter / 5);
+        long sum = all.stream().mapToLong(Review::getRating).sum();
+        assertThat(summary.getAvg()).isEqualTo((double) sum / expected);
+    }
+
+    private static Review review(String id, String productId, int rating) {
+        return Review.builder()
+                .id(id)
+                .productId(productId)
+                .rating(rating)
+                .createdAt("2025-02-01T00:00:00Z")
+                .build();
+    }
+
+    private static Map.Entry<Integer, Long> entry(int rating, long count) {
+        return Map.entry(rating, count);
+    }
+}
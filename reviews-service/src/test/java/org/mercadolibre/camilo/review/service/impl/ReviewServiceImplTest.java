@@ -4,20 +4,38 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mercadolibre.camilo.review.dto.CreateReviewRequest;
+import org.mercadolibre.camilo.review.dto.ReviewHighlightResponse;
 import org.mercadolibre.camilo.review.dto.ReviewResponse;
 import org.mercadolibre.camilo.review.dto.ReviewSummaryResponse;
+import org.mercadolibre.camilo.review.dto.TopRatedProductResponse;
 import org.mercadolibre.camilo.review.exception.InvalidRequestException;
+import org.mercadolibre.camilo.review.model.ProductRating;
 import org.mercadolibre.camilo.review.model.Review;
+import org.mercadolibre.camilo.review.model.ReviewHighlight;
+import org.mercadolibre.camilo.review.model.ReviewSearchResult;
+import org.mercadolibre.camilo.review.model.ReviewSort;
+import org.mercadolibre.camilo.review.model.ReviewStats;
 import org.mercadolibre.camilo.review.repository.ReviewRepository;
+import org.mercadolibre.camilo.review.service.ReviewService;
+import org.mercadolibre.camilo.review.util.Cursors;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -92,6 +110,166 @@ class ReviewServiceImplTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("findPage devuelve la primera página, el total y un cursor a la siguiente")
+    void findPage_firstPage_returnsNextCursor() {
+        String productId = "P1";
+        List<Review> all = List.of(review("r1", productId, 5), review("r2", productId, 3), review("r3", productId, 1));
+        when(repo.countByProductId(productId)).thenReturn(3);
+        when(repo.findPage(productId, ReviewSort.RECENT, 0, 2, 3)).thenReturn(all.subList(0, 2));
+
+        StepVerifier.create(service.findPage(productId, 2, null, null, null))
+                .assertNext(page -> {
+                    assertThat(page.items()).extracting(ReviewResponse::getId).containsExactly("r1", "r2");
+                    assertThat(page.total()).isEqualTo(3);
+                    assertThat(page.nextCursor()).isEqualTo(Cursors.encode(ReviewSort.RECENT, null, 2, 3));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("findPage continúa desde el cursor y no emite cursor en la última página")
+    void findPage_lastPage_noCursor() {
+        String productId = "P1";
+        List<Review> all = List.of(review("r1", productId, 5), review("r2", productId, 3), review("r3", productId, 1));
+        when(repo.countByProductId(productId)).thenReturn(3);
+        when(repo.findPage(productId, ReviewSort.RATING_ASC, 2, 2, 3)).thenReturn(List.of(all.get(0)));
+
+        StepVerifier.create(service.findPage(productId, 2, Cursors.encode(ReviewSort.RATING_ASC, null, 2, 3), "rating_asc", null))
+                .assertNext(page -> {
+                    assertThat(page.items()).extracting(ReviewResponse::getId).containsExactly("r1");
+                    assertThat(page.nextCursor()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("findPage sin limit devuelve todas las reseñas sin cursor")
+    void findPage_noLimit_returnsAll() {
+        String productId = "P1";
+        List<Review> all = List.of(review("r1", productId, 5), review("r2", productId, 3));
+        when(repo.countByProductId(productId)).thenReturn(2);
+        when(repo.findPage(productId, ReviewSort.RECENT, 0, 2, 2)).thenReturn(all);
+
+        StepVerifier.create(service.findPage(productId, null, null, "recent", null))
+                .assertNext(page -> {
+                    assertThat(page.items()).hasSize(2);
+                    assertThat(page.nextCursor()).isNull();
+                    assertThat(page.total()).isEqualTo(2);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("findPage rechaza sort, limit y cursor inválidos")
+    void findPage_invalidParams_shouldError() {
+        StepVerifier.create(service.findPage("P1", 10, null, "price", null))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(InvalidRequestException.class)
+                        .hasMessage("sort must be one of recent, rating_desc, rating_asc, relevance"))
+                .verify();
+        StepVerifier.create(service.findPage("P1", 0, null, null, null))
+                .expectError(InvalidRequestException.class)
+                .verify();
+        StepVerifier.create(service.findPage("P1", 101, null, null, null))
+                .expectError(InvalidRequestException.class)
+                .verify();
+        StepVerifier.create(service.findPage("P1", 10, "%%%", null, null))
+                .expectErrorSatisfies(ex -> assertThat(ex).hasMessage("Invalid cursor"))
+                .verify();
+        verify(repo, never()).countByProductId("P1");
+    }
+
+    @Test
+    @DisplayName("findPage con cursor mantiene el total de la primera página aunque haya reseñas nuevas")
+    void findPage_cursor_pinsTotalAgainstNewReviews() {
+        String productId = "P1";
+        List<Review> tail = List.of(review("r3", productId, 1));
+        when(repo.countByProductId(productId)).thenReturn(5);
+        when(repo.findPage(productId, ReviewSort.RECENT, 2, 2, 3)).thenReturn(tail);
+
+        StepVerifier.create(service.findPage(productId, 2, Cursors.encode(ReviewSort.RECENT, null, 2, 3), null, null))
+                .assertNext(page -> {
+                    assertThat(page.items()).extracting(ReviewResponse::getId).containsExactly("r3");
+                    assertThat(page.total()).isEqualTo(3);
+                    assertThat(page.nextCursor()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("findPage con q busca por relevancia y el total es la cantidad de coincidencias")
+    void findPage_query_searchesByRelevance() {
+        String productId = "P1";
+        Review hit = review("r2", productId, 4);
+        when(repo.countByProductId(productId)).thenReturn(10);
+        when(repo.search(productId, "batería", ReviewSort.RELEVANCE, 0, 1, 10))
+                .thenReturn(new ReviewSearchResult(List.of(hit), 3));
+
+        StepVerifier.create(service.findPage(productId, 1, null, null, "batería"))
+                .assertNext(page -> {
+                    assertThat(page.items()).extracting(ReviewResponse::getId).containsExactly("r2");
+                    assertThat(page.total()).isEqualTo(3);
+                    assertThat(page.nextCursor()).isEqualTo(Cursors.encode(ReviewSort.RELEVANCE, "batería", 1, 10));
+                })
+                .verifyComplete();
+        verify(repo, never()).findPage(anyString(), any(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("findPage rechaza sort=relevance sin q")
+    void findPage_relevanceWithoutQuery_shouldError() {
+        StepVerifier.create(service.findPage("P1", 10, null, "relevance", " "))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(InvalidRequestException.class)
+                        .hasMessage("sort=relevance requires q"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("findPage rechaza un cursor emitido para otro orden")
+    void findPage_cursorFromOtherSort_shouldError() {
+        StepVerifier.create(service.findPage("P1", 10, Cursors.encode(ReviewSort.RECENT, null, 10, 20), "rating_desc", null))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(InvalidRequestException.class)
+                        .hasMessage("cursor does not match sort 'rating_desc'"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("findPage rechaza un cursor emitido para otra búsqueda o sin búsqueda")
+    void findPage_cursorFromOtherQuery_shouldError() {
+        StepVerifier.create(service.findPage("P1", 10,
+                        Cursors.encode(ReviewSort.RELEVANCE, "batería", 10, 20), "relevance", "pantalla"))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(InvalidRequestException.class)
+                        .hasMessage("cursor does not match q"))
+                .verify();
+        StepVerifier.create(service.findPage("P1", 10,
+                        Cursors.encode(ReviewSort.RECENT, null, 10, 20), "recent", "batería"))
+                .expectErrorSatisfies(ex -> assertThat(ex).hasMessage("cursor does not match q"))
+                .verify();
+        verify(repo, never()).countByProductId("P1");
+    }
+
+    @Test
+    @DisplayName("findPage acepta el cursor con la misma búsqueda escrita de otra forma")
+    void findPage_cursorFromEquivalentQuery_continues() {
+        String productId = "P1";
+        when(repo.countByProductId(productId)).thenReturn(12);
+        when(repo.search(productId, "Buena BATERIA", ReviewSort.RELEVANCE, 1, 1, 10))
+                .thenReturn(new ReviewSearchResult(List.of(review("r4", productId, 5)), 3));
+
+        StepVerifier.create(service.findPage(productId, 1,
+                        Cursors.encode(ReviewSort.RELEVANCE, "batería buena", 1, 10), null, "Buena BATERIA"))
+                .assertNext(page -> {
+                    assertThat(page.items()).extracting(ReviewResponse::getId).containsExactly("r4");
+                    assertThat(page.nextCursor())
+                            .isEqualTo(Cursors.encode(ReviewSort.RELEVANCE, "batería buena", 2, 10));
+                })
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("summary debe fallar si productId es null")
     void summary_null_shouldError() {
@@ -113,38 +291,20 @@ class ReviewServiceImplTest {
     }
 
     @Test
-    @DisplayName("summary retorna métricas vacías si repo devuelve lista vacía")
-    void summary_emptyList_shouldReturnZeros() {
-        String productId = "PEMPTY";
-        when(repo.findByProductId(productId)).thenReturn(List.of());
-
-        StepVerifier.create(service.summary(productId))
-                .assertNext(summary -> {
-                    assertThat(summary.getProductId()).isEqualTo(productId);
-                    assertThat(summary.getCount()).isEqualTo(0);
-                    assertThat(summary.getAvg()).isEqualTo(0.0);
-                    assertHistogram(summary.getHistogram(), Map.of(1L,0L));
-                    assertThat(summary.getHistogram().values()).allMatch(v -> v == 0L);
-                    assertThat(summary.getHistogram().keySet()).containsExactly(1,2,3,4,5);
-                })
-                .verifyComplete();
-    }
-
-    @Test
-    @DisplayName("summary retorna métricas correctas con distribución de ratings")
-    void summary_ok_shouldComputeMetrics() {
+    @DisplayName("summary devuelve el resumen precalculado del repositorio sin recorrer reseñas")
+    void summary_ok_shouldReturnPrebuilt() {
         String productId = "P1";
-        List<Review> list = List.of(
+        ReviewSummaryResponse prebuilt = ReviewSummaryResponse.of(productId, ReviewStats.of(List.of(
                 review("r1", productId, 5),
                 review("r2", productId, 5),
                 review("r3", productId, 3),
                 review("r4", productId, 1)
-        );
-        when(repo.findByProductId(productId)).thenReturn(list);
+        )));
+        when(repo.summaryOf(productId)).thenReturn(prebuilt);
 
         StepVerifier.create(service.summary(productId))
                 .assertNext(summary -> {
-                    assertThat(summary.getProductId()).isEqualTo(productId);
+                    assertThat(summary).isSameAs(prebuilt);
                     assertThat(summary.getCount()).isEqualTo(4);
                     assertThat(summary.getAvg()).isEqualTo(3.5);
                     Map<Integer, Long> expectedHistogram = new LinkedHashMap<>();
@@ -156,25 +316,208 @@ class ReviewServiceImplTest {
                     assertThat(summary.getHistogram()).containsExactlyEntriesOf(expectedHistogram);
                 })
                 .verifyComplete();
+        verify(repo, never()).findByProductId(productId);
     }
 
     @Test
-    @DisplayName("summary retorna métricas vacías si repo devuelve null")
-    void summary_repoReturnsNull_shouldReturnZeros() {
-        String productId = "PNULL";
-        when(repo.findByProductId(productId)).thenReturn(null);
+    @DisplayName("summary con since consulta la ventana por día UTC")
+    void summary_since_shouldQueryWindow() {
+        String productId = "P1";
+        LocalDate day = LocalDate.parse("2025-08-01");
+        ReviewSummaryResponse window = ReviewSummaryResponse.of(productId,
+                ReviewStats.of(List.of(review("r1", productId, 4))), day);
+        when(repo.summaryOf(productId, day)).thenReturn(window);
+
+        StepVerifier.create(service.summary(productId, "2025-08-01T10:00:00Z"))
+                .expectNext(window)
+                .verifyComplete();
+        verify(repo, never()).summaryOf(productId);
+    }
+
+    @Test
+    @DisplayName("summary sin since devuelve el resumen histórico")
+    void summary_blankSince_shouldReturnAllTime() {
+        String productId = "P1";
+        ReviewSummaryResponse allTime = ReviewSummaryResponse.of(productId, ReviewStats.EMPTY);
+        when(repo.summaryOf(productId)).thenReturn(allTime);
+
+        StepVerifier.create(service.summary(productId, " "))
+                .expectNext(allTime)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("summary debe fallar si since no es una fecha ISO-8601")
+    void summary_invalidSince_shouldError() {
+        StepVerifier.create(service.summary("P1", "last-month"))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(InvalidRequestException.class)
+                        .hasMessage("since must be an ISO-8601 date or date-time"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("summary retorna métricas vacías para un producto sin reseñas")
+    void summary_empty_shouldReturnZeros() {
+        String productId = "PEMPTY";
+        when(repo.summaryOf(productId)).thenReturn(ReviewSummaryResponse.of(productId, ReviewStats.EMPTY));
 
         StepVerifier.create(service.summary(productId))
                 .assertNext(summary -> {
                     assertThat(summary.getProductId()).isEqualTo(productId);
                     assertThat(summary.getCount()).isEqualTo(0);
                     assertThat(summary.getAvg()).isEqualTo(0.0);
-                    assertThat(summary.getHistogram().keySet()).containsExactly(1,2,3,4,5);
+                    assertHistogram(summary.getHistogram(), Map.of(1L,0L));
                     assertThat(summary.getHistogram().values()).allMatch(v -> v == 0L);
                 })
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("summaries devuelve un resumen por producto, sin repetidos y en el orden pedido")
+    void summaries_ok_shouldReturnMapInRequestOrder() {
+        ReviewSummaryResponse p1 = ReviewSummaryResponse.of("P1", ReviewStats.of(List.of(review("r1", "P1", 4))));
+        ReviewSummaryResponse p2 = ReviewSummaryResponse.of("P2", ReviewStats.EMPTY);
+        when(repo.summaryOf("P1")).thenReturn(p1);
+        when(repo.summaryOf("P2")).thenReturn(p2);
+
+        StepVerifier.create(service.summaries(List.of("P2", " P1 ", "P2")))
+                .assertNext(resp -> {
+                    assertThat(resp.getSummaries().keySet()).containsExactly("P2", "P1");
+                    assertThat(resp.getSummaries().get("P1")).isSameAs(p1);
+                    assertThat(resp.getSummaries().get("P2").getCount()).isZero();
+                })
+                .verifyComplete();
+        verify(repo, never()).findByProductId("P1");
+    }
+
+    @Test
+    @DisplayName("summaries rechaza listas vacías, ids en blanco o más de 100 ids")
+    void summaries_invalid_shouldError() {
+        StepVerifier.create(service.summaries(null))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(InvalidRequestException.class)
+                        .hasMessage("productIds must not be empty"))
+                .verify();
+        StepVerifier.create(service.summaries(Arrays.asList("P1", " ")))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(InvalidRequestException.class)
+                        .hasMessage("productId must not be blank"))
+                .verify();
+        List<String> tooMany = new ArrayList<>();
+        for (int i = 0; i <= ReviewService.MAX_SUMMARY_BATCH; i++) tooMany.add("P" + i);
+        StepVerifier.create(service.summaries(tooMany))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(InvalidRequestException.class)
+                        .hasMessage("At most 100 productIds are allowed per request"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("topRated aplica los defaults y mapea el ranking del repositorio")
+    void topRated_defaults_shouldMapRanking() {
+        when(repo.topRated(10, 1)).thenReturn(List.of(
+                new ProductRating("P1", 40, 4.8, 4.6),
+                new ProductRating("P2", 3, 5.0, 4.1)));
+
+        StepVerifier.create(service.topRated(null, null))
+                .assertNext(top -> {
+                    assertThat(top).extracting(TopRatedProductResponse::getProductId).containsExactly("P1", "P2");
+                    assertThat(top.get(0).getAvg()).isEqualTo(4.8);
+                    assertThat(top.get(1).getScore()).isEqualTo(4.1);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("topRated rechaza limit fuera de 1..100 y minCount menor a 1")
+    void topRated_invalid_shouldError() {
+        StepVerifier.create(service.topRated(0, null))
+                .expectErrorSatisfies(ex -> assertThat(ex).hasMessage("limit must be between 1 and 100"))
+                .verify();
+        StepVerifier.create(service.topRated(101, null))
+                .expectError(InvalidRequestException.class)
+                .verify();
+        StepVerifier.create(service.topRated(5, 0))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(InvalidRequestException.class)
+                        .hasMessage("minCount must be at least 1"))
+                .verify();
+        verify(repo, never()).topRated(anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("highlights aplica el limit por defecto y mapea los términos del repositorio")
+    void highlights_defaults_shouldMapTerms() {
+        when(repo.highlightsOf("P1", 10)).thenReturn(List.of(
+                new ReviewHighlight("bateria", 12), new ReviewHighlight("camara", 7)));
+
+        StepVerifier.create(service.highlights("P1", null))
+                .assertNext(terms -> {
+                    assertThat(terms).extracting(ReviewHighlightResponse::getTerm).containsExactly("bateria", "camara");
+                    assertThat(terms).extracting(ReviewHighlightResponse::getMentions).containsExactly(12L, 7L);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("highlights rechaza productId en blanco y limit fuera de 1..20")
+    void highlights_invalid_shouldError() {
+        StepVerifier.create(service.highlights(" ", null))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(InvalidRequestException.class)
+                        .hasMessage("productId must not be blank"))
+                .verify();
+        StepVerifier.create(service.highlights("P1", 21))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(InvalidRequestException.class)
+                        .hasMessage("limit must be between 1 and 20"))
+                .verify();
+        verify(repo, never()).highlightsOf(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("create guarda la reseña con id y fecha asignados y textos recortados")
+    void create_ok_shouldSaveTrimmedReview() {
+        when(repo.save(any(Review.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        CreateReviewRequest request = CreateReviewRequest.builder()
+                .productId(" P1 ").rating(4).title("  Muy bueno ").text("Funciona bien").author(" ")
+                .build();
+
+        StepVerifier.create(service.create(request))
+                .assertNext(created -> {
+                    assertThat(created.getId()).startsWith("R-");
+                    assertThat(created.getProductId()).isEqualTo("P1");
+                    assertThat(created.getRating()).isEqualTo(4);
+                    assertThat(created.getTitle()).isEqualTo("Muy bueno");
+                    assertThat(created.getAuthor()).isNull();
+                    assertThat(Instant.parse(created.getCreatedAt())).isNotNull();
+                })
+                .verifyComplete();
+        verify(repo).save(any(Review.class));
+    }
+
+    @Test
+    @DisplayName("create rechaza cuerpo nulo, productId en blanco o rating fuera de 1..5")
+    void create_invalid_shouldError() {
+        StepVerifier.create(service.create(null))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(InvalidRequestException.class)
+                        .hasMessage("Request body must not be null"))
+                .verify();
+        StepVerifier.create(service.create(CreateReviewRequest.builder().productId(" ").rating(3).build()))
+                .expectErrorSatisfies(ex -> assertThat(ex).hasMessage("productId must not be blank"))
+                .verify();
+        StepVerifier.create(service.create(CreateReviewRequest.builder().productId("P1").rating(6).build()))
+                .expectErrorSatisfies(ex -> assertThat(ex).hasMessage("rating must be between 1 and 5"))
+                .verify();
+        StepVerifier.create(service.create(CreateReviewRequest.builder().productId("P1").build()))
+                .expectError(InvalidRequestException.class)
+                .verify();
+        verify(repo, never()).save(any(Review.class));
+    }
+
     private void assertHistogram(Map<Integer, Long> histogram, Map<Long, Long> dummy) {
         assertThat(histogram).hasSize(5);
         assertThat(histogram.keySet()).containsExactly(1,2,3,4,5);
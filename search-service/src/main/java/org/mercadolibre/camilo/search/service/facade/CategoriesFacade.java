@@ -3,8 +3,16 @@ package org.mercadolibre.camilo.search.service.facade;
 import org.mercadolibre.camilo.search.service.facade.categories.model.CategoryResponse;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface CategoriesFacade {
     Mono<List<CategoryResponse.BreadcrumbNode>> breadcrumb(String categoryId);
+
+    /**
+     * Resuelve los breadcrumbs de varias categorías con el endpoint batch (una llamada por cada 100 ids).
+     * Los ids inexistentes no aparecen en el mapa resultante.
+     */
+    Mono<Map<String, List<CategoryResponse.BreadcrumbNode>>> breadcrumbs(Collection<String> categoryIds);
 }
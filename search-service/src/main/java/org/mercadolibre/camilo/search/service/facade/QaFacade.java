@@ -1,10 +1,19 @@
 package org.mercadolibre.camilo.search.service.facade;
 
+import org.mercadolibre.camilo.search.service.facade.qa.model.QaCountResponse;
 import org.mercadolibre.camilo.search.service.facade.qa.model.QaResponse;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface QaFacade {
     Mono<List<QaResponse>> listByProduct(String productId);
+
+    /**
+     * Obtiene la cantidad de preguntas (y de respondidas) de varios productos con el endpoint batch
+     * (una llamada por cada 100 ids), sin transferir los textos. Los productos sin preguntas se devuelven con 0.
+     */
+    Mono<Map<String, QaCountResponse>> counts(Collection<String> productIds);
 }
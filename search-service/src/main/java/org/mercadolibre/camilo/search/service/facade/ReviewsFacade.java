@@ -1,10 +1,19 @@
 package org.mercadolibre.camilo.search.service.facade;
 
 import org.mercadolibre.camilo.search.service.facade.reviews.model.ReviewResponse;
+import org.mercadolibre.camilo.search.service.facade.reviews.model.ReviewSummaryResponse;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface ReviewsFacade {
     Mono<List<ReviewResponse>> list(String productId);
+
+    /**
+     * Obtiene los resúmenes de reseñas de varios productos con el endpoint batch (una llamada por cada 100 ids).
+     * Los productos sin reseñas se devuelven con conteo 0.
+     */
+    Mono<Map<String, ReviewSummaryResponse>> summaries(Collection<String> productIds);
 }
@@ -3,6 +3,15 @@ package org.mercadolibre.camilo.search.service.facade;
 import org.mercadolibre.camilo.search.service.facade.seller.model.SellerResponse;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface SellersFacade {
     Mono<SellerResponse> getById(String sellerId);
+
+    /**
+     * Resuelve varios vendedores con el endpoint batch (una llamada por cada 100 ids).
+     * Los ids inexistentes no aparecen en el mapa resultante.
+     */
+    Mono<Map<String, SellerResponse>> getByIds(Collection<String> sellerIds);
 }
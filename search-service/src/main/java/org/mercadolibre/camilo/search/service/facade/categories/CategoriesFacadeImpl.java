@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.mercadolibre.camilo.search.config.EnvironmentConfig;
 import org.mercadolibre.camilo.search.service.facade.CategoriesFacade;
+import org.mercadolibre.camilo.search.service.facade.categories.model.BreadcrumbsResponse;
 import org.mercadolibre.camilo.search.service.facade.categories.model.CategoryResponse;
 import org.mercadolibre.camilo.search.exception.CategoriesInvalidRequestException;
 import org.mercadolibre.camilo.search.exception.CategoriesNotFoundException;
@@ -16,7 +17,9 @@ import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Slf4j
@@ -28,6 +31,8 @@ public class CategoriesFacadeImpl implements CategoriesFacade {
     private final EnvironmentConfig env;
 
     private static final String BREADCRUMB_TMPL = "/categories/{id}/breadcrumb";
+    private static final String BREADCRUMBS_PATH = "/categories/breadcrumbs";
+    private static final int BATCH_SIZE = 100;
 
     @Override
     public Mono<List<CategoryResponse.BreadcrumbNode>> breadcrumb(String categoryId) {
@@ -51,4 +56,34 @@ public class CategoriesFacadeImpl implements CategoriesFacade {
                         .filter(CategoriesUpstreamFailureException.class::isInstance)
                         .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
     }
+
+    @Override
+    public Mono<Map<String, List<CategoryResponse.BreadcrumbNode>>> breadcrumbs(Collection<String> categoryIds) {
+        Objects.requireNonNull(categoryIds, "categoryIds must not be null");
+        return WebClientSupport.batched(categoryIds, BATCH_SIZE, this::breadcrumbsChunk,
+                (acc, resp) -> {
+                    if (resp.getBreadcrumbs() != null) acc.putAll(resp.getBreadcrumbs());
+                });
+    }
+
+    private Mono<BreadcrumbsResponse> breadcrumbsChunk(List<String> ids) {
+        final String url = env.getDomains().getCategoriesBaseUrl().replaceAll("/$", "") + BREADCRUMBS_PATH;
+
+        return webClient.post()
+                .uri(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("ids", ids))
+                .exchangeToMono(resp -> WebClientSupport.mapResponse(
+                        resp, BreadcrumbsResponse.class,
+                        ctx -> new CategoriesNotFoundException(url, ctx.headers(), ctx.body()),
+                        ctx -> new CategoriesInvalidRequestException(url, ctx.headers(), ctx.body()),
+                        ctx -> new CategoriesUpstreamFailureException(ctx.status(), url, ctx.headers(), ctx.body())
+                ))
+                .doOnError(e -> log.error("Categories.breadcrumbs failed url={} size={} msg={}", url, ids.size(), e.getMessage(), e))
+                .retryWhen(Retry
+                        .max(env.getServiceRetry().getMaxAttempts())
+                        .filter(CategoriesUpstreamFailureException.class::isInstance)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
 }
\ No newline at end of file
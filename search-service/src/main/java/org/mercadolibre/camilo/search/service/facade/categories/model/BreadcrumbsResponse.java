@@ -0,0 +1,14 @@
+package org.mercadolibre.camilo.search.service.facade.categories.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+@Value
+@Builder
+public class BreadcrumbsResponse {
+    Map<String, List<CategoryResponse.BreadcrumbNode>> breadcrumbs;
+    List<String> missing;
+}
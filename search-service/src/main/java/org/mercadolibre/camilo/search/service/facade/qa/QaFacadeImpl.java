@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.mercadolibre.camilo.search.config.EnvironmentConfig;
 import org.mercadolibre.camilo.search.service.facade.QaFacade;
+import org.mercadolibre.camilo.search.service.facade.qa.model.QaCountResponse;
+import org.mercadolibre.camilo.search.service.facade.qa.model.QaCountsResponse;
 import org.mercadolibre.camilo.search.service.facade.qa.model.QaResponse;
 import org.mercadolibre.camilo.search.exception.QaInvalidRequestException;
 import org.mercadolibre.camilo.search.exception.QaNotFoundException;
@@ -16,14 +18,24 @@ import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class QaFacadeImpl implements QaFacade {
 
-    private static final String LIST = "/qa?productId=%s";
+    /**
+     * Cantidad de preguntas (las más recientes) que se piden por producto, cada una con su primera respuesta
+     * y el total de respuestas; el resto se puede pedir a qa-service bajo demanda.
+     */
+    static final int PAGE_SIZE = 5;
+    private static final String LIST = "/qa?productId=%s&limit=" + PAGE_SIZE + "&answers=first";
+    private static final String COUNTS_PATH = "/qa/counts";
+    private static final int BATCH_SIZE = 100;
 
     private final WebClient webClient;
     private final EnvironmentConfig env;
@@ -47,4 +59,34 @@ public class QaFacadeImpl implements QaFacade {
                         .filter(QaUpstreamFailureException.class::isInstance)
                         .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
     }
-}
\ No newline at end of file
+
+    @Override
+    public Mono<Map<String, QaCountResponse>> counts(Collection<String> productIds) {
+        Objects.requireNonNull(productIds, "productIds must not be null");
+        return WebClientSupport.batched(productIds, BATCH_SIZE, this::countsChunk,
+                (acc, resp) -> {
+                    if (resp.getCounts() != null) acc.putAll(resp.getCounts());
+                });
+    }
+
+    private Mono<QaCountsResponse> countsChunk(List<String> ids) {
+        final String url = env.getDomains().getQaBaseUrl().replaceAll("/$", "") + COUNTS_PATH;
+
+        return webClient.post()
+                .uri(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("productIds", ids))
+                .exchangeToMono(resp -> WebClientSupport.mapResponse(
+                        resp, QaCountsResponse.class,
+                        ctx -> new QaNotFoundException(url, ctx.headers(), ctx.body()),
+                        ctx -> new QaInvalidRequestException(url, ctx.headers(), ctx.body()),
+                        ctx -> new QaUpstreamFailureException(ctx.status(), url, ctx.headers(), ctx.body())
+                ))
+                .doOnError(e -> log.error("Qa.counts failed url={} size={} msg={}", url, ids.size(), e.getMessage(), e))
+                .retryWhen(Retry
+                        .max(env.getServiceRetry().getMaxAttempts())
+                        .filter(QaUpstreamFailureException.class::isInstance)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+}
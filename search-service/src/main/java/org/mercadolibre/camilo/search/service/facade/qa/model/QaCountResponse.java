@@ -0,0 +1,11 @@
+package org.mercadolibre.camilo.search.service.facade.qa.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class QaCountResponse {
+    int questions;
+    int answered;
+}
@@ -13,6 +13,7 @@ public class QaResponse {
     String author;
     String text;
     String createdAt;
+    Integer answerCount;
     List<AnswerDTO> answers;
 
     @Value
@@ -5,6 +5,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.mercadolibre.camilo.search.config.EnvironmentConfig;
 import org.mercadolibre.camilo.search.service.facade.ReviewsFacade;
 import org.mercadolibre.camilo.search.service.facade.reviews.model.ReviewResponse;
+import org.mercadolibre.camilo.search.service.facade.reviews.model.ReviewSummariesResponse;
+import org.mercadolibre.camilo.search.service.facade.reviews.model.ReviewSummaryResponse;
 import org.mercadolibre.camilo.search.exception.ReviewsInvalidRequestException;
 import org.mercadolibre.camilo.search.exception.ReviewsNotFoundException;
 import org.mercadolibre.camilo.search.exception.ReviewsUpstreamFailureException;
@@ -16,7 +18,9 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Slf4j
@@ -24,7 +28,13 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class ReviewsFacadeImpl implements ReviewsFacade {
 
-    private static final String LIST_TMPL = "/reviews?productId={pid}";
+    /**
+     * Cantidad de reseñas (las más recientes) que se piden por producto; evita transferir el listado completo.
+     */
+    static final int PAGE_SIZE = 20;
+    private static final String LIST_TMPL = "/reviews?productId={pid}&limit=" + PAGE_SIZE;
+    private static final String SUMMARIES_PATH = "/reviews/summaries";
+    private static final int BATCH_SIZE = 100;
 
     private final WebClient webClient;
     private final EnvironmentConfig env;
@@ -53,4 +63,34 @@ public class ReviewsFacadeImpl implements ReviewsFacade {
                         .filter(ReviewsUpstreamFailureException.class::isInstance)
                         .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
     }
-}
\ No newline at end of file
+
+    @Override
+    public Mono<Map<String, ReviewSummaryResponse>> summaries(Collection<String> productIds) {
+        Objects.requireNonNull(productIds, "productIds must not be null");
+        return WebClientSupport.batched(productIds, BATCH_SIZE, this::summariesChunk,
+                (acc, resp) -> {
+                    if (resp.getSummaries() != null) acc.putAll(resp.getSummaries());
+                });
+    }
+
+    private Mono<ReviewSummariesResponse> summariesChunk(List<String> ids) {
+        final String url = env.getDomains().getReviewsBaseUrl().replaceAll("/$", "") + SUMMARIES_PATH;
+
+        return webClient.post()
+                .uri(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("productIds", ids))
+                .exchangeToMono(resp -> WebClientSupport.mapResponse(
+                        resp, ReviewSummariesResponse.class,
+                        ctx -> new ReviewsNotFoundException(url, ctx.headers(), ctx.body()),
+                        ctx -> new ReviewsInvalidRequestException(url, ctx.headers(), ctx.body()),
+                        ctx -> new ReviewsUpstreamFailureException(ctx.status(), url, ctx.headers(), ctx.body())
+                ))
+                .doOnError(e -> log.error("Reviews.summaries failed url={} size={} msg={}", url, ids.size(), e.getMessage(), e))
+                .retryWhen(Retry
+                        .max(env.getServiceRetry().getMaxAttempts())
+                        .filter(ReviewsUpstreamFailureException.class::isInstance)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+}
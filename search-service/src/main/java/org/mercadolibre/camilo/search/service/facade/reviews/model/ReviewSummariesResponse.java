@@ -0,0 +1,12 @@
+package org.mercadolibre.camilo.search.service.facade.reviews.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+@Value
+@Builder
+public class ReviewSummariesResponse {
+    Map<String, ReviewSummaryResponse> summaries;
+}
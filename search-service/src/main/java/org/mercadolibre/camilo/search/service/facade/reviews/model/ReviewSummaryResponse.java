@@ -0,0 +1,15 @@
+package org.mercadolibre.camilo.search.service.facade.reviews.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+@Value
+@Builder
+public class ReviewSummaryResponse {
+    String productId;
+    long count;
+    double avg;
+    Map<Integer, Long> histogram;
+}
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.mercadolibre.camilo.search.config.EnvironmentConfig;
 import org.mercadolibre.camilo.search.service.facade.SellersFacade;
 import org.mercadolibre.camilo.search.service.facade.seller.model.SellerResponse;
+import org.mercadolibre.camilo.search.service.facade.seller.model.SellersBatchResponse;
 import org.mercadolibre.camilo.search.exception.SellersInvalidRequestException;
 import org.mercadolibre.camilo.search.exception.SellersNotFoundException;
 import org.mercadolibre.camilo.search.exception.SellersUpstreamFailureException;
@@ -15,12 +16,19 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SellersFacadeImpl implements SellersFacade {
 
     private static final String GET_BY_ID = "/sellers/%s";
+    private static final String BATCH_PATH = "/sellers/batch?ids={ids}";
+    private static final int BATCH_SIZE = 100;
 
     private final WebClient webClient;
     private final EnvironmentConfig env;
@@ -44,4 +52,34 @@ public class SellersFacadeImpl implements SellersFacade {
                         .filter(SellersUpstreamFailureException.class::isInstance)
                         .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
     }
+
+    @Override
+    public Mono<Map<String, SellerResponse>> getByIds(Collection<String> sellerIds) {
+        Objects.requireNonNull(sellerIds, "sellerIds must not be null");
+        return WebClientSupport.batched(sellerIds, BATCH_SIZE, this::getByIdsChunk,
+                (acc, resp) -> {
+                    if (resp.getSellers() != null) {
+                        resp.getSellers().forEach(s -> acc.put(s.getId(), s));
+                    }
+                });
+    }
+
+    private Mono<SellersBatchResponse> getByIdsChunk(List<String> ids) {
+        final String urlTmpl = env.getDomains().getSellersBaseUrl().replaceAll("/$", "") + BATCH_PATH;
+
+        return webClient.get()
+                .uri(urlTmpl, String.join(",", ids))
+                .accept(MediaType.APPLICATION_JSON)
+                .exchangeToMono(resp -> WebClientSupport.mapResponse(
+                        resp, SellersBatchResponse.class,
+                        ctx -> new SellersNotFoundException(urlTmpl, ctx.headers(), ctx.body()),
+                        ctx -> new SellersInvalidRequestException(urlTmpl, ctx.headers(), ctx.body()),
+                        ctx -> new SellersUpstreamFailureException(ctx.status(), urlTmpl, ctx.headers(), ctx.body())
+                ))
+                .doOnError(e -> log.error("Sellers.getByIds failed url={} size={} msg={}", urlTmpl, ids.size(), e.getMessage(), e))
+                .retryWhen(Retry
+                        .max(env.getServiceRetry().getMaxAttempts())
+                        .filter(SellersUpstreamFailureException.class::isInstance)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
 }
@@ -0,0 +1,13 @@
+package org.mercadolibre.camilo.search.service.facade.seller.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class SellersBatchResponse {
+    List<SellerResponse> sellers;
+    List<String> missing;
+}
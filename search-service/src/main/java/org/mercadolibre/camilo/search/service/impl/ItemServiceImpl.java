@@ -12,12 +12,15 @@ import org.mercadolibre.camilo.search.service.facade.qa.model.QaResponse;
 import org.mercadolibre.camilo.search.service.facade.reviews.model.ReviewResponse;
 import org.mercadolibre.camilo.search.service.facade.categories.model.CategoryResponse;
 import org.mercadolibre.camilo.search.service.facade.seller.model.SellerResponse;
+import org.mercadolibre.camilo.search.util.WebClientSupport;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -55,8 +58,12 @@ public class ItemServiceImpl implements ItemService {
             Integer elements
     ) {
         return products.getAll(categoryId, sellerId, q, page, elements)
-                .flatMap(srcPage -> Flux.fromIterable(srcPage.getItems())
-                        .flatMap(this::enrich, ENRICH_CONCURRENCY)
+                .flatMap(srcPage -> Mono.zip(prefetchBreadcrumbs(srcPage.getItems()), prefetchSellers(srcPage.getItems()))
+                        .flatMapMany(prefetched -> Flux.fromIterable(srcPage.getItems())
+                                .flatMap(prod -> enrich(prod,
+                                                Mono.just(prefetched.getT1().getOrDefault(WebClientSupport.batchKey(prod.getCategoryId()), Collections.emptyList())),
+                                                Mono.justOrEmpty(prefetched.getT2().get(WebClientSupport.batchKey(prod.getSellerId())))),
+                                        ENRICH_CONCURRENCY))
                         .collectList()
                         .map(enrichedItems -> PageResponse.<ItemEnrichedResponse>builder()
                                 .page(srcPage.getPage())
@@ -74,11 +81,58 @@ public class ItemServiceImpl implements ItemService {
                         res.getItems() != null ? res.getItems().size() : 0, res.getPage()));
     }
 
+    /**
+     * Resuelve en una sola llamada batch los breadcrumbs de todas las categorías de la página.
+     * Ante error se degrada a un mapa vacío (los ítems quedan sin breadcrumb, igual que con la llamada individual).
+     */
+    private Mono<Map<String, List<CategoryResponse.BreadcrumbNode>>> prefetchBreadcrumbs(List<ProductResponse> items) {
+        List<String> categoryIds = items.stream()
+                .map(ProductResponse::getCategoryId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (categoryIds.isEmpty()) {
+            return Mono.just(Collections.emptyMap());
+        }
+        return categories.breadcrumbs(categoryIds)
+                .doOnError(ex -> log.warn("ItemService.prefetchBreadcrumbs | batch failed | size={} | msg={}",
+                        categoryIds.size(), ex.getMessage()))
+                .onErrorReturn(Collections.emptyMap());
+    }
+
+    /**
+     * Resuelve en una sola llamada batch los vendedores de la página.
+     * Ante error se degrada a un mapa vacío (los ítems quedan con vendedor vacío, igual que con la llamada individual).
+     */
+    private Mono<Map<String, SellerResponse>> prefetchSellers(List<ProductResponse> items) {
+        List<String> sellerIds = items.stream()
+                .map(ProductResponse::getSellerId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (sellerIds.isEmpty()) {
+            return Mono.just(Collections.emptyMap());
+        }
+        return sellers.getByIds(sellerIds)
+                .doOnError(ex -> log.warn("ItemService.prefetchSellers | batch failed | size={} | msg={}",
+                        sellerIds.size(), ex.getMessage()))
+                .onErrorReturn(Collections.emptyMap());
+    }
+
     private Mono<ItemEnrichedResponse> enrich(ProductResponse prod) {
+        return enrich(prod, categories.breadcrumb(prod.getCategoryId()), sellers.getById(prod.getSellerId()));
+    }
+
+    private Mono<ItemEnrichedResponse> enrich(ProductResponse prod,
+                                              Mono<List<CategoryResponse.BreadcrumbNode>> breadcrumbSource,
+                                              Mono<SellerResponse> sellerSource) {
+        Mono<List<CategoryResponse.BreadcrumbNode>> breadcrumb = breadcrumbSource
+                .onErrorReturn(Collections.emptyList())
+                .cache();
         return Mono.zip(
-                        categories.breadcrumb(prod.getCategoryId())
-                                .onErrorReturn(Collections.emptyList()),
-                        sellers.getById(prod.getSellerId())
+                        breadcrumb,
+                        sellerSource
+                                .defaultIfEmpty(SellerResponse.builder().build())
                                 .onErrorReturn(SellerResponse.builder().build()),
                         reviews.list(prod.getId())
                                 .onErrorReturn(Collections.emptyList()),
@@ -86,12 +140,12 @@ public class ItemServiceImpl implements ItemService {
                                 .onErrorReturn(Collections.emptyList())
                 )
                 .map(tuple -> {
-                    List<CategoryResponse.BreadcrumbNode> breadcrumb = tuple.getT1();
+                    List<CategoryResponse.BreadcrumbNode> path = tuple.getT1();
                     SellerResponse seller = tuple.getT2();
                     List<ReviewResponse> reviewList = tuple.getT3();
                     List<QaResponse> qaList = tuple.getT4();
 
-                    ItemBasicResponse basic = ItemBasicResponse.from(prod, breadcrumb);
+                    ItemBasicResponse basic = ItemBasicResponse.from(prod, path);
                     return ItemEnrichedResponse.builder()
                             .basic(basic)
                             .seller(seller)
@@ -101,8 +155,7 @@ public class ItemServiceImpl implements ItemService {
                 })
                 .doOnError(ex -> log.error("ItemService.enrich | id={} | type={} | msg={}",
                         prod.getId(), ex.getClass().getSimpleName(), ex.getMessage()))
-                .onErrorResume(ex -> categories.breadcrumb(prod.getCategoryId())
-                        .onErrorReturn(Collections.emptyList())
+                .onErrorResume(ex -> breadcrumb
                         .map(breadcrumbNodes -> ItemEnrichedResponse.builder()
                                 .basic(ItemBasicResponse.from(prod, breadcrumbNodes))
                                 .seller(SellerResponse.builder().build())
@@ -0,0 +1,168 @@
+package org.mercadolibre.camilo.search.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Filtro de WebClient que reutiliza los validadores HTTP (ETag / If-None-Match) de los servicios aguas abajo.
+ * <p>
+ * Para cada GET con ETag se guarda la última respuesta 2xx; las siguientes peticiones a la misma URL envían
+ * {@code If-None-Match} y, si el upstream responde {@code 304}, se reconstruye la respuesta desde la copia local
+ * sin volver a transferir el cuerpo.
+ * <p>
+ * Solo se guardan cuerpos de hasta {@code maxBodyBytes}; los más grandes se entregan completos sin guardarse.
+ */
+@Slf4j
+public class ConditionalRequestFilter implements ExchangeFilterFunction {
+
+    static final int DEFAULT_MAX_ENTRIES = 1024;
+    static final int DEFAULT_MAX_BODY_BYTES = 256 * 1024;
+
+    private final int maxBodyBytes;
+    private final Map<String, Entry> entries;
+
+    public ConditionalRequestFilter() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BODY_BYTES);
+    }
+
+    public ConditionalRequestFilter(int maxEntries, int maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (request.method() != HttpMethod.GET) {
+            return next.exchange(request);
+        }
+        String key = request.url().toString();
+        Entry cached = lookup(key);
+
+        ClientRequest outgoing = cached == null ? request : ClientRequest.from(request)
+                .headers(h -> h.setIfNoneMatch(cached.etag()))
+                .build();
+
+        return next.exchange(outgoing).flatMap(response -> {
+            HttpStatusCode status = response.statusCode();
+            if (cached != null && status.value() == HttpStatus.NOT_MODIFIED.value()) {
+                log.debug("ConditionalRequestFilter.filter | not modified | url={}", key);
+                return response.releaseBody().thenReturn(replay(response, cached));
+            }
+            String etag = response.headers().asHttpHeaders().getETag();
+            if (!status.is2xxSuccessful() || etag == null) {
+                return Mono.just(response);
+            }
+            long length = response.headers().contentLength().orElse(-1L);
+            if (length > maxBodyBytes) {
+                return Mono.just(response);
+            }
+            return cacheBounded(key, etag, status, response);
+        });
+    }
+
+    /**
+     * Guarda la respuesta si el cuerpo no supera {@code maxBodyBytes}, también cuando no trae Content-Length
+     * (respuestas chunked). Los buffers se agrupan hasta pasar el máximo, así nunca se retiene más que eso:
+     * si el primer grupo no lo pasa es el cuerpo completo; si lo pasa, la respuesta sigue sin guardarse con ese
+     * grupo más el resto del cuerpo, sin copiarlos.
+     */
+    private Mono<ClientResponse> cacheBounded(String key, String etag, HttpStatusCode status, ClientResponse response) {
+        AtomicLong seen = new AtomicLong();
+        return response.body(BodyExtractors.toDataBuffers())
+                .bufferUntil(buffer -> seen.addAndGet(buffer.readableByteCount()) > maxBodyBytes)
+                // cancelSourceOnComplete=false: si no se guarda, el resto del cuerpo lo lee quien consuma la respuesta.
+                .switchOnFirst((first, parts) -> {
+                    if (first.hasError()) {
+                        return Mono.<ClientResponse>error(first.getThrowable());
+                    }
+                    List<DataBuffer> head = first.hasValue() ? first.get() : List.of();
+                    if (sizeOf(head) > maxBodyBytes) {
+                        log.debug("ConditionalRequestFilter.filter | body too large, not cached | url={}", key);
+                        Flux<DataBuffer> whole = parts.concatMapIterable(Function.identity());
+                        return Mono.just(response.mutate().body(ignored -> whole).build());
+                    }
+                    return DataBufferUtils.join(Flux.fromIterable(head), maxBodyBytes)
+                            .map(ConditionalRequestFilter::toBytes)
+                            .defaultIfEmpty(new byte[0])
+                            .map(body -> {
+                                Entry entry = new Entry(etag, status, copy(response.headers().asHttpHeaders()), body);
+                                store(key, entry);
+                                return replay(response, entry);
+                            });
+                }, false)
+                .single();
+    }
+
+    private Entry lookup(String key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    private void store(String key, Entry entry) {
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Respuesta nueva a partir de la copia local. No se usa {@code origin.mutate()}: al reemplazar el cuerpo
+     * intentaría liberar el original, que a esta altura ya se consumió.
+     */
+    private static ClientResponse replay(ClientResponse origin, Entry entry) {
+        return ClientResponse.create(entry.status(), origin.strategies())
+                .headers(h -> h.putAll(entry.headers()))
+                .request(origin.request())
+                .body(Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(entry.body()))))
+                .build();
+    }
+
+    private static long sizeOf(List<DataBuffer> buffers) {
+        long size = 0;
+        for (DataBuffer buffer : buffers) size += buffer.readableByteCount();
+        return size;
+    }
+
+    private static byte[] toBytes(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private static HttpHeaders copy(HttpHeaders source) {
+        HttpHeaders target = new HttpHeaders();
+        target.putAll(source);
+        return HttpHeaders.readOnlyHttpHeaders(target);
+    }
+
+    private record Entry(String etag, HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+}
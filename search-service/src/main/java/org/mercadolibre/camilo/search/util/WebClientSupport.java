@@ -4,8 +4,18 @@ import lombok.experimental.UtilityClass;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 @UtilityClass
@@ -35,6 +45,49 @@ public class WebClientSupport {
                 });
     }
 
+    /**
+     * Consulta por lotes contra un endpoint batch: descarta ids nulos o en blanco, quita duplicados conservando
+     * el orden, parte el resto en lotes de {@code batchSize} que se piden de a uno y vuelca cada respuesta con
+     * {@code merger} en un único mapa inmodificable. Sin ids válidos devuelve un mapa vacío sin llamar.
+     */
+    public static <R, V> Mono<Map<String, V>> batched(
+            Collection<String> ids,
+            int batchSize,
+            Function<List<String>, Mono<R>> chunkCall,
+            BiConsumer<Map<String, V>, R> merger) {
+
+        Set<String> unique = new LinkedHashSet<>();
+        for (String id : ids) {
+            String key = batchKey(id);
+            if (key != null) unique.add(key);
+        }
+        if (unique.isEmpty()) {
+            return Mono.just(Collections.emptyMap());
+        }
+
+        List<List<String>> chunks = new ArrayList<>();
+        List<String> all = new ArrayList<>(unique);
+        for (int from = 0; from < all.size(); from += batchSize) {
+            chunks.add(all.subList(from, Math.min(from + batchSize, all.size())));
+        }
+
+        return Flux.fromIterable(chunks)
+                .concatMap(chunkCall)
+                .reduceWith(LinkedHashMap<String, V>::new, (acc, resp) -> {
+                    merger.accept(acc, resp);
+                    return acc;
+                })
+                .map(Collections::unmodifiableMap);
+    }
+
+    /**
+     * Clave con la que {@link #batched} indexa un id: recortado, o {@code null} si es nulo o en blanco.
+     * Quien busque en el mapa resultante debe normalizar el id con este mismo método.
+     */
+    public static String batchKey(String id) {
+        return id == null || id.isBlank() ? null : id.trim();
+    }
+
     public record Context(int status, HttpHeaders headers, String uri, String body) {
     }
 }
\ No newline at end of file
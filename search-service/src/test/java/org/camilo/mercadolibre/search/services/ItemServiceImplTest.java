@@ -23,6 +23,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.Mockito.*;
 
@@ -240,8 +241,8 @@ class ItemServiceImplTest {
                             .item(p1)
                             .build()
             ));
-            when(categories.breadcrumb("C1")).thenReturn(Mono.just(List.of()));
-            when(sellers.getById("S1")).thenReturn(Mono.just(SellerResponse.builder().id("S1").nickname("Seller 1").build()));
+            when(categories.breadcrumbs(List.of("C1"))).thenReturn(Mono.just(Map.of("C1", List.of())));
+            when(sellers.getByIds(List.of("S1"))).thenReturn(Mono.just(Map.of("S1", SellerResponse.builder().id("S1").nickname("Seller 1").build())));
             when(reviews.list("P1")).thenReturn(Mono.just(List.of(ReviewResponse.builder().id("r1").productId("P1").rating(5).createdAt(Instant.now().toString()).build())));
             when(qa.listByProduct("P1")).thenReturn(Mono.just(List.of(QaResponse.builder().id("q1").productId("P1").text("hola").author("U").build())));
 
@@ -250,8 +251,8 @@ class ItemServiceImplTest {
                     .verifyComplete();
 
             verify(products).getAll(null, null, "term", 0, 1);
-            verify(categories).breadcrumb("C1");
-            verify(sellers).getById("S1");
+            verify(categories).breadcrumbs(List.of("C1"));
+            verify(sellers).getByIds(List.of("S1"));
             verify(reviews).list("P1");
             verify(qa).listByProduct("P1");
             verifyNoMoreInteractions(products, categories, sellers, reviews, qa);
@@ -268,12 +269,12 @@ class ItemServiceImplTest {
                             .item(ok).item(fail)
                             .build()
             ));
-            when(categories.breadcrumb("C10")).thenReturn(Mono.just(List.of(CategoryResponse.BreadcrumbNode.builder().id("root").name("Root").build())));
-            when(sellers.getById("S10")).thenReturn(Mono.just(SellerResponse.builder().id("S10").nickname("Seller10").build()));
+            when(categories.breadcrumbs(List.of("C10", "C11"))).thenReturn(Mono.just(
+                    Map.of("C10", List.of(CategoryResponse.BreadcrumbNode.builder().id("root").name("Root").build()))));
+            when(sellers.getByIds(List.of("S10", "S11"))).thenReturn(Mono.just(
+                    Map.of("S10", SellerResponse.builder().id("S10").nickname("Seller10").build())));
             when(reviews.list("P10")).thenReturn(Mono.just(List.of()));
             when(qa.listByProduct("P10")).thenReturn(Mono.just(List.of()));
-            when(categories.breadcrumb("C11")).thenReturn(Mono.error(new RuntimeException("cat fail")));
-            when(sellers.getById("S11")).thenReturn(Mono.error(new RuntimeException("seller fail")));
             when(reviews.list("P11")).thenReturn(Mono.error(new RuntimeException("reviews fail")));
             when(qa.listByProduct("P11")).thenReturn(Mono.error(new RuntimeException("qa fail")));
 
@@ -286,10 +287,8 @@ class ItemServiceImplTest {
                     .verifyComplete();
 
             verify(products).getAll("cat", null, null, 1, 2);
-            verify(categories).breadcrumb("C10");
-            verify(categories).breadcrumb("C11");
-            verify(sellers).getById("S10");
-            verify(sellers).getById("S11");
+            verify(categories).breadcrumbs(List.of("C10", "C11"));
+            verify(sellers).getByIds(List.of("S10", "S11"));
             verify(reviews).list("P10");
             verify(reviews).list("P11");
             verify(qa).listByProduct("P10");
@@ -297,6 +296,110 @@ class ItemServiceImplTest {
             verifyNoMoreInteractions(products, categories, sellers, reviews, qa);
         }
 
+        @Test
+        @DisplayName("resuelve los breadcrumbs de la página con una sola llamada batch (ids distintos)")
+        void enrichedPage_prefetches_breadcrumbs_once() {
+            ProductResponse a = product("P1", "C1", "S1", "A");
+            ProductResponse b = product("P2", "C1", "S1", "B");
+            ProductResponse c = product("P3", "C2", "S1", "C");
+            when(products.getAll(null, null, null, 0, 3)).thenReturn(Mono.just(
+                    org.mercadolibre.camilo.search.dto.PageResponse.<ProductResponse>builder()
+                            .page(0).size(3).totalItems(3).totalPages(1).hasPrev(false).hasNext(false)
+                            .item(a).item(b).item(c)
+                            .build()
+            ));
+            when(categories.breadcrumbs(List.of("C1", "C2"))).thenReturn(Mono.just(Map.of(
+                    "C1", List.of(CategoryResponse.BreadcrumbNode.builder().id("C1").name("Uno").build()),
+                    "C2", List.of(CategoryResponse.BreadcrumbNode.builder().id("C2").name("Dos").build()))));
+            when(sellers.getByIds(List.of("S1"))).thenReturn(Mono.just(Map.of("S1", seller())));
+            when(reviews.list(any())).thenReturn(Mono.just(List.of()));
+            when(qa.listByProduct(any())).thenReturn(Mono.just(List.of()));
+
+            StepVerifier.create(service.enrichedPage(null, null, null, 0, 3))
+                    .expectNextMatches(page -> page.getItems().size() == 3 &&
+                            page.getItems().stream().allMatch(e -> e.getBasic().getCategoryBreadcrumb().size() == 1 &&
+                                    e.getBasic().getCategoryBreadcrumb().get(0).getId().equals(
+                                            e.getBasic().getId().equals("P3") ? "C2" : "C1")))
+                    .verifyComplete();
+
+            verify(categories).breadcrumbs(List.of("C1", "C2"));
+            verify(categories, never()).breadcrumb(any());
+            verify(sellers).getByIds(List.of("S1"));
+            verify(sellers, never()).getById(any());
+        }
+
+        @Test
+        @DisplayName("ids con espacios: se buscan en los mapas batch con la misma clave recortada que usan las facades")
+        void enrichedPage_untrimmedIds_matchBatchKeys() {
+            ProductResponse p1 = product("P1", " C1 ", " S1 ", "Prod 1");
+            when(products.getAll(null, null, null, 0, 1)).thenReturn(Mono.just(
+                    org.mercadolibre.camilo.search.dto.PageResponse.<ProductResponse>builder()
+                            .page(0).size(1).totalItems(1).totalPages(1).hasPrev(false).hasNext(false)
+                            .item(p1)
+                            .build()
+            ));
+            when(categories.breadcrumbs(List.of(" C1 "))).thenReturn(Mono.just(Map.of("C1", breadcrumb())));
+            when(sellers.getByIds(List.of(" S1 "))).thenReturn(Mono.just(Map.of("S1", seller())));
+            when(reviews.list("P1")).thenReturn(Mono.just(List.of()));
+            when(qa.listByProduct("P1")).thenReturn(Mono.just(List.of()));
+
+            StepVerifier.create(service.enrichedPage(null, null, null, 0, 1))
+                    .expectNextMatches(page -> page.getItems().get(0).getBasic().getCategoryBreadcrumb().size() == 2 &&
+                            page.getItems().get(0).getSeller().getId().equals(SELLER_ID))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("si falla la llamada batch de vendedores, los ítems se enriquecen con vendedor vacío")
+        void enrichedPage_sellers_batch_fails() {
+            ProductResponse p1 = product("P1", "C1", "S1", "Prod 1");
+            when(products.getAll(null, null, null, 0, 1)).thenReturn(Mono.just(
+                    org.mercadolibre.camilo.search.dto.PageResponse.<ProductResponse>builder()
+                            .page(0).size(1).totalItems(1).totalPages(1).hasPrev(false).hasNext(false)
+                            .item(p1)
+                            .build()
+            ));
+            when(categories.breadcrumbs(List.of("C1"))).thenReturn(Mono.just(Map.of("C1", breadcrumb())));
+            when(sellers.getByIds(List.of("S1"))).thenReturn(Mono.error(new RuntimeException("seller fail")));
+            when(reviews.list("P1")).thenReturn(Mono.just(reviewSummary()));
+            when(qa.listByProduct("P1")).thenReturn(Mono.just(List.of()));
+
+            StepVerifier.create(service.enrichedPage(null, null, null, 0, 1))
+                    .expectNextMatches(page -> page.getItems().size() == 1 &&
+                            page.getItems().get(0).getSeller().getId() == null &&
+                            page.getItems().get(0).getBasic().getCategoryBreadcrumb().size() == 2 &&
+                            page.getItems().get(0).getReviews().size() == 2)
+                    .verifyComplete();
+
+            verify(sellers).getByIds(List.of("S1"));
+            verifyNoMoreInteractions(sellers);
+        }
+
+        @Test
+        @DisplayName("si falla la llamada batch de breadcrumbs, los ítems se enriquecen con breadcrumb vacío")
+        void enrichedPage_breadcrumbs_batch_fails() {
+            ProductResponse p1 = product("P1", "C1", "S1", "Prod 1");
+            when(products.getAll(null, null, null, 0, 1)).thenReturn(Mono.just(
+                    org.mercadolibre.camilo.search.dto.PageResponse.<ProductResponse>builder()
+                            .page(0).size(1).totalItems(1).totalPages(1).hasPrev(false).hasNext(false)
+                            .item(p1)
+                            .build()
+            ));
+            when(categories.breadcrumbs(List.of("C1"))).thenReturn(Mono.error(new RuntimeException("cat fail")));
+            when(sellers.getByIds(List.of("S1"))).thenReturn(Mono.just(Map.of("S1", seller())));
+            when(reviews.list("P1")).thenReturn(Mono.just(List.of()));
+            when(qa.listByProduct("P1")).thenReturn(Mono.just(List.of()));
+
+            StepVerifier.create(service.enrichedPage(null, null, null, 0, 1))
+                    .expectNextMatches(page -> page.getItems().size() == 1 &&
+                            page.getItems().get(0).getBasic().getCategoryBreadcrumb().isEmpty() &&
+                            page.getItems().get(0).getSeller().getId().equals(SELLER_ID))
+                    .verifyComplete();
+
+            verify(categories).breadcrumbs(List.of("C1"));
+            verifyNoMoreInteractions(categories);
+        }
+
         @Test
         @DisplayName("propaga error si falla products.getAll")
         void enrichedPage_products_getAll_error() {
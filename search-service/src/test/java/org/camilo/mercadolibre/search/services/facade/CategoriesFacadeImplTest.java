@@ -14,6 +14,11 @@ import reactor.netty.DisposableServer;
 import reactor.netty.http.server.HttpServer;
 import reactor.test.StepVerifier;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 
 class CategoriesFacadeImplTest {
@@ -179,4 +184,97 @@ class CategoriesFacadeImplTest {
             throw new AssertionError("Expected exactly 2 attempts (1 failure + 1 success), got " + attempts);
         }
     }
+
+    @Test
+    void breadcrumbs_success_returnsMapWithoutMissingIds() {
+        List<String> bodies = new CopyOnWriteArrayList<>();
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/categories/breadcrumbs", (req, resp) ->
+                        req.receive().aggregate().asString().flatMap(body -> {
+                            bodies.add(body);
+                            return resp.header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                                    .sendString(Mono.just("{\"breadcrumbs\":{\"A\":[{\"id\":\"R\",\"name\":\"Root\"},"
+                                            + "{\"id\":\"A\",\"name\":\"Child\"}]},\"missing\":[\"B\"]}"))
+                                    .then();
+                        })))
+                .bindNow();
+
+        String baseUrl = "http://localhost:" + server.port();
+        EnvironmentConfig env = buildEnv(baseUrl, 0);
+        CategoriesFacadeImpl facade = new CategoriesFacadeImpl(WebClient.builder().build(), env);
+
+        StepVerifier.create(facade.breadcrumbs(List.of(" A ", "B", "A")))
+                .expectNextMatches(map -> map.size() == 1
+                        && map.get("A").size() == 2
+                        && map.get("A").get(1).getName().equals("Child"))
+                .verifyComplete();
+
+        if (bodies.size() != 1 || !bodies.get(0).replace(" ", "").equals("{\"ids\":[\"A\",\"B\"]}")) {
+            throw new AssertionError("Expected a single request with deduplicated ids, got " + bodies);
+        }
+    }
+
+    @Test
+    void breadcrumbs_moreThanBatchSize_splitsIntoSeveralCalls() {
+        AtomicInteger counter = new AtomicInteger();
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/categories/breadcrumbs", (req, resp) -> {
+                    int call = counter.incrementAndGet();
+                    return resp.header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                            .sendString(Mono.just("{\"breadcrumbs\":{\"K" + call + "\":[]},\"missing\":[]}"));
+                }))
+                .bindNow();
+
+        String baseUrl = "http://localhost:" + server.port();
+        EnvironmentConfig env = buildEnv(baseUrl, 0);
+        CategoriesFacadeImpl facade = new CategoriesFacadeImpl(WebClient.builder().build(), env);
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 150; i++) ids.add("C" + i);
+
+        StepVerifier.create(facade.breadcrumbs(ids))
+                .expectNextMatches(map -> map.keySet().equals(Set.of("K1", "K2")))
+                .verifyComplete();
+
+        if (counter.get() != 2) {
+            throw new AssertionError("Expected 2 batch calls, got " + counter.get());
+        }
+    }
+
+    @Test
+    void breadcrumbs_emptyInput_returnsEmptyMapWithoutCalling() {
+        EnvironmentConfig env = buildEnv("http://localhost:1", 0);
+        CategoriesFacadeImpl facade = new CategoriesFacadeImpl(WebClient.builder().build(), env);
+
+        StepVerifier.create(facade.breadcrumbs(List.of(" ")))
+                .expectNextMatches(Map::isEmpty)
+                .verifyComplete();
+    }
+
+    @Test
+    void breadcrumbs_upstreamFailure_retriesThenFails() {
+        AtomicInteger counter = new AtomicInteger();
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/categories/breadcrumbs", (req, resp) -> {
+                    counter.incrementAndGet();
+                    return resp.status(503).header("Content-Type", MediaType.TEXT_PLAIN_VALUE)
+                            .sendString(Mono.just("Unavailable"));
+                }))
+                .bindNow();
+
+        String baseUrl = "http://localhost:" + server.port();
+        EnvironmentConfig env = buildEnv(baseUrl, 1);
+        CategoriesFacadeImpl facade = new CategoriesFacadeImpl(WebClient.builder().build(), env);
+
+        StepVerifier.create(facade.breadcrumbs(List.of("A")))
+                .expectError(CategoriesUpstreamFailureException.class)
+                .verify();
+
+        if (counter.get() != 2) {
+            throw new AssertionError("Expected 2 attempts, got " + counter.get());
+        }
+    }
 }
@@ -15,8 +15,13 @@ import reactor.netty.DisposableServer;
 import reactor.netty.http.server.HttpServer;
 import reactor.test.StepVerifier;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 class QaFacadeImplTest {
 
@@ -66,6 +71,29 @@ class QaFacadeImplTest {
                 .verifyComplete();
     }
 
+    @Test
+    void listByProduct_requestsFirstPageWithFirstAnswer() {
+        AtomicReference<String> uri = new AtomicReference<>();
+        server = HttpServer.create()
+                .port(0)
+                .route(r -> r.get("/qa", (req, resp) -> {
+                    uri.set(req.uri());
+                    return resp.header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                            .sendString(Mono.just("[{\"id\":\"Q1\",\"productId\":\"P1\",\"text\":\"Question?\",\"answerCount\":3,\"answers\":[{\"id\":\"A1\",\"questionId\":\"Q1\",\"text\":\"Answer\"}]}]"));
+                }))
+                .bindNow();
+        String base = "http://localhost:" + server.port();
+        QaFacadeImpl facade = new QaFacadeImpl(WebClient.builder().build(), buildEnv(base, 0));
+
+        StepVerifier.create(facade.listByProduct("P1"))
+                .expectNextMatches(list -> list.size() == 1 && list.get(0).getAnswerCount() == 3 && list.get(0).getAnswers().size() == 1)
+                .verifyComplete();
+
+        if (!"/qa?productId=P1&limit=5&answers=first".equals(uri.get())) {
+            throw new AssertionError("Unexpected request uri " + uri.get());
+        }
+    }
+
     @Test
     void listByProduct_notFound_404() {
         server = HttpServer.create()
@@ -177,5 +205,77 @@ class QaFacadeImplTest {
             throw new AssertionError("Expected 2 attempts (1 failure + 1 success), got " + attempts);
         }
     }
-}
 
+    @Test
+    void counts_success_sendsDeduplicatedIdsInOneCall() {
+        List<String> bodies = new CopyOnWriteArrayList<>();
+        server = HttpServer.create().port(0).route(r -> r.post("/qa/counts", (req, resp) ->
+                req.receive().aggregate().asString().flatMap(body -> {
+                    bodies.add(body);
+                    return resp.header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                            .sendString(Mono.just("{\"counts\":{"
+                                    + "\"P1\":{\"questions\":3,\"answered\":2},"
+                                    + "\"P2\":{\"questions\":0,\"answered\":0}}}"))
+                            .then();
+                }))).bindNow();
+        String base = "http://localhost:" + server.port();
+        QaFacadeImpl facade = new QaFacadeImpl(WebClient.builder().build(), buildEnv(base, 0));
+
+        StepVerifier.create(facade.counts(List.of(" P1 ", "P2", "P1")))
+                .expectNextMatches(map -> map.size() == 2
+                        && map.get("P1").getQuestions() == 3
+                        && map.get("P1").getAnswered() == 2
+                        && map.get("P2").getQuestions() == 0)
+                .verifyComplete();
+
+        if (bodies.size() != 1 || !bodies.get(0).replace(" ", "").equals("{\"productIds\":[\"P1\",\"P2\"]}")) {
+            throw new AssertionError("Expected a single request with deduplicated ids, got " + bodies);
+        }
+    }
+
+    @Test
+    void counts_moreThanBatchSize_splitsIntoSeveralCalls() {
+        AtomicInteger counter = new AtomicInteger();
+        server = HttpServer.create().port(0).route(r -> r.post("/qa/counts", (req, resp) -> {
+            int call = counter.incrementAndGet();
+            return resp.header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                    .sendString(Mono.just("{\"counts\":{\"K" + call + "\":{\"questions\":1,\"answered\":0}}}"));
+        })).bindNow();
+        String base = "http://localhost:" + server.port();
+        QaFacadeImpl facade = new QaFacadeImpl(WebClient.builder().build(), buildEnv(base, 0));
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 150; i++) ids.add("P" + i);
+
+        StepVerifier.create(facade.counts(ids))
+                .expectNextMatches(map -> map.keySet().equals(Set.of("K1", "K2")))
+                .verifyComplete();
+
+        if (counter.get() != 2) {
+            throw new AssertionError("Expected 2 batch calls, got " + counter.get());
+        }
+    }
+
+    @Test
+    void counts_emptyInput_returnsEmptyMapWithoutCalling() {
+        QaFacadeImpl facade = new QaFacadeImpl(WebClient.builder().build(), buildEnv("http://localhost:1", 0));
+
+        StepVerifier.create(facade.counts(List.of(" ")))
+                .expectNextMatches(Map::isEmpty)
+                .verifyComplete();
+    }
+
+    @Test
+    void counts_badRequest_mapsToInvalidRequest() {
+        server = HttpServer.create().port(0).route(r -> r.post("/qa/counts", (req, resp) -> resp
+                .status(400)
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .sendString(Mono.just("{\"code\":\"BAD_REQUEST\"}")))).bindNow();
+        String base = "http://localhost:" + server.port();
+        QaFacadeImpl facade = new QaFacadeImpl(WebClient.builder().build(), buildEnv(base, 2));
+
+        StepVerifier.create(facade.counts(List.of("P1")))
+                .expectError(QaInvalidRequestException.class)
+                .verify();
+    }
+}
@@ -15,8 +15,13 @@ import reactor.netty.DisposableServer;
 import reactor.netty.http.server.HttpServer;
 import reactor.test.StepVerifier;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 class ReviewsFacadeImplTest {
 
@@ -153,6 +158,26 @@ class ReviewsFacadeImplTest {
                 .verify();
     }
 
+    @Test
+    void list_requestsBoundedFirstPage() {
+        AtomicReference<String> uri = new AtomicReference<>();
+        server = HttpServer.create().port(0).route(r -> r.get("/reviews", (req, resp) -> {
+            uri.set(req.uri());
+            return resp.header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                    .sendString(Mono.just("[]"));
+        })).bindNow();
+        String base = "http://localhost:" + server.port();
+        ReviewsFacadeImpl facade = new ReviewsFacadeImpl(WebClient.builder().build(), buildEnv(base, 0));
+
+        StepVerifier.create(facade.list("P1"))
+                .expectNextMatches(List::isEmpty)
+                .verifyComplete();
+
+        if (!"/reviews?productId=P1&limit=20".equals(uri.get())) {
+            throw new AssertionError("Unexpected request uri " + uri.get());
+        }
+    }
+
     @Test
     void list_upstreamFailure_retriesThenFails() {
         AtomicInteger counter = new AtomicInteger();
@@ -202,5 +227,78 @@ class ReviewsFacadeImplTest {
             throw new AssertionError("Expected 2 attempts (1 failure + 1 success), got " + attempts);
         }
     }
-}
 
+    @Test
+    void summaries_success_sendsDeduplicatedIdsInOneCall() {
+        List<String> bodies = new CopyOnWriteArrayList<>();
+        server = HttpServer.create().port(0).route(r -> r.post("/reviews/summaries", (req, resp) ->
+                req.receive().aggregate().asString().flatMap(body -> {
+                    bodies.add(body);
+                    return resp.header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                            .sendString(Mono.just("{\"summaries\":{"
+                                    + "\"P1\":{\"productId\":\"P1\",\"count\":2,\"avg\":4.5,\"histogram\":{\"4\":1,\"5\":1}},"
+                                    + "\"P2\":{\"productId\":\"P2\",\"count\":0,\"avg\":0.0,\"histogram\":{}}}}"))
+                            .then();
+                }))).bindNow();
+        String base = "http://localhost:" + server.port();
+        ReviewsFacadeImpl facade = new ReviewsFacadeImpl(WebClient.builder().build(), buildEnv(base, 0));
+
+        StepVerifier.create(facade.summaries(List.of(" P1 ", "P2", "P1")))
+                .expectNextMatches(map -> map.size() == 2
+                        && map.get("P1").getCount() == 2
+                        && map.get("P1").getAvg() == 4.5
+                        && map.get("P1").getHistogram().get(5) == 1L
+                        && map.get("P2").getCount() == 0)
+                .verifyComplete();
+
+        if (bodies.size() != 1 || !bodies.get(0).replace(" ", "").equals("{\"productIds\":[\"P1\",\"P2\"]}")) {
+            throw new AssertionError("Expected a single request with deduplicated ids, got " + bodies);
+        }
+    }
+
+    @Test
+    void summaries_moreThanBatchSize_splitsIntoSeveralCalls() {
+        AtomicInteger counter = new AtomicInteger();
+        server = HttpServer.create().port(0).route(r -> r.post("/reviews/summaries", (req, resp) -> {
+            int call = counter.incrementAndGet();
+            return resp.header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                    .sendString(Mono.just("{\"summaries\":{\"K" + call + "\":{\"productId\":\"K" + call + "\",\"count\":0}}}"));
+        })).bindNow();
+        String base = "http://localhost:" + server.port();
+        ReviewsFacadeImpl facade = new ReviewsFacadeImpl(WebClient.builder().build(), buildEnv(base, 0));
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 150; i++) ids.add("P" + i);
+
+        StepVerifier.create(facade.summaries(ids))
+                .expectNextMatches(map -> map.keySet().equals(Set.of("K1", "K2")))
+                .verifyComplete();
+
+        if (counter.get() != 2) {
+            throw new AssertionError("Expected 2 batch calls, got " + counter.get());
+        }
+    }
+
+    @Test
+    void summaries_emptyInput_returnsEmptyMapWithoutCalling() {
+        ReviewsFacadeImpl facade = new ReviewsFacadeImpl(WebClient.builder().build(), buildEnv("http://localhost:1", 0));
+
+        StepVerifier.create(facade.summaries(List.of(" ")))
+                .expectNextMatches(Map::isEmpty)
+                .verifyComplete();
+    }
+
+    @Test
+    void summaries_badRequest_mapsToInvalidRequest() {
+        server = HttpServer.create().port(0).route(r -> r.post("/reviews/summaries", (req, resp) -> resp
+                .status(400)
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .sendString(Mono.just("{\"code\":\"BAD_REQUEST\"}")))).bindNow();
+        String base = "http://localhost:" + server.port();
+        ReviewsFacadeImpl facade = new ReviewsFacadeImpl(WebClient.builder().build(), buildEnv(base, 2));
+
+        StepVerifier.create(facade.summaries(List.of("P1")))
+                .expectError(ReviewsInvalidRequestException.class)
+                .verify();
+    }
+}
@@ -15,6 +15,11 @@ import reactor.netty.DisposableServer;
 import reactor.netty.http.server.HttpServer;
 import reactor.test.StepVerifier;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 
 class SellersFacadeImplTest {
@@ -156,5 +161,82 @@ class SellersFacadeImplTest {
             throw new AssertionError("Expected 2 attempts (1 failure + 1 success), got " + attempts);
         }
     }
-}
 
+    @Test
+    void getByIds_success_returnsMapWithoutMissingIds() {
+        List<String> uris = new CopyOnWriteArrayList<>();
+        server = HttpServer.create().port(0).route(r -> r.get("/sellers/batch", (req, resp) -> {
+                    uris.add(req.uri());
+                    return resp.header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                            .sendString(Mono.just("{\"sellers\":[{\"id\":\"A\",\"nickname\":\"seller_a\",\"reputation\":0.9,"
+                                    + "\"metrics\":{\"cancellations\":0.01,\"delays\":0.03}}],\"missing\":[\"B\"]}"));
+                }))
+                .bindNow();
+        String base = "http://localhost:" + server.port();
+        SellersFacadeImpl facade = new SellersFacadeImpl(WebClient.builder().build(), buildEnv(base, 0));
+
+        StepVerifier.create(facade.getByIds(List.of(" A ", "B", "A")))
+                .expectNextMatches(map -> map.size() == 1
+                        && map.get("A").getNickname().equals("seller_a")
+                        && map.get("A").getMetrics().getDelays() == 0.03)
+                .verifyComplete();
+
+        if (uris.size() != 1 || !uris.get(0).replace("%2C", ",").equals("/sellers/batch?ids=A,B")) {
+            throw new AssertionError("Expected a single request with deduplicated ids, got " + uris);
+        }
+    }
+
+    @Test
+    void getByIds_moreThanBatchSize_splitsIntoSeveralCalls() {
+        AtomicInteger counter = new AtomicInteger();
+        server = HttpServer.create().port(0).route(r -> r.get("/sellers/batch", (req, resp) -> {
+                    int call = counter.incrementAndGet();
+                    return resp.header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                            .sendString(Mono.just("{\"sellers\":[{\"id\":\"K" + call + "\"}],\"missing\":[]}"));
+                }))
+                .bindNow();
+        String base = "http://localhost:" + server.port();
+        SellersFacadeImpl facade = new SellersFacadeImpl(WebClient.builder().build(), buildEnv(base, 0));
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 150; i++) ids.add("S" + i);
+
+        StepVerifier.create(facade.getByIds(ids))
+                .expectNextMatches(map -> map.keySet().equals(Set.of("K1", "K2")))
+                .verifyComplete();
+
+        if (counter.get() != 2) {
+            throw new AssertionError("Expected 2 batch calls, got " + counter.get());
+        }
+    }
+
+    @Test
+    void getByIds_emptyInput_returnsEmptyMapWithoutCalling() {
+        SellersFacadeImpl facade = new SellersFacadeImpl(WebClient.builder().build(), buildEnv("http://localhost:1", 0));
+
+        StepVerifier.create(facade.getByIds(List.of(" ")))
+                .expectNextMatches(Map::isEmpty)
+                .verifyComplete();
+    }
+
+    @Test
+    void getByIds_upstreamFailure_retriesThenFails() {
+        AtomicInteger counter = new AtomicInteger();
+        server = HttpServer.create().port(0).route(r -> r.get("/sellers/batch", (req, resp) -> {
+            counter.incrementAndGet();
+            return resp.status(503)
+                    .header("Content-Type", MediaType.TEXT_PLAIN_VALUE)
+                    .sendString(Mono.just("Unavailable"));
+        })).bindNow();
+        String base = "http://localhost:" + server.port();
+        SellersFacadeImpl facade = new SellersFacadeImpl(WebClient.builder().build(), buildEnv(base, 1));
+
+        StepVerifier.create(facade.getByIds(List.of("A")))
+                .expectError(SellersUpstreamFailureException.class)
+                .verify();
+
+        if (counter.get() != 2) {
+            throw new AssertionError("Expected 2 attempts, got " + counter.get());
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.camilo.mercadolibre.search.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mercadolibre.camilo.search.util.ConditionalRequestFilter;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalRequestFilterTest {
+
+    private static final String ETAG = "\"1a2b-3c\"";
+    private static final String BODY = "{\"id\":\"S1\",\"nickname\":\"seller\"}";
+
+    private DisposableServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) server.disposeNow();
+    }
+
+    @Test
+    void get_secondCall_sendsIfNoneMatch_andReplaysCachedBodyOn304() {
+        List<String> received = new CopyOnWriteArrayList<>();
+        server = HttpServer.create().port(0).route(r -> r.get("/sellers/S1", (req, resp) -> {
+                    String inm = req.requestHeaders().get("If-None-Match");
+                    received.add(String.valueOf(inm));
+                    if (ETAG.equals(inm)) {
+                        return resp.status(304).header("ETag", ETAG).send();
+                    }
+                    return resp.header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                            .header("ETag", ETAG)
+                            .sendString(Mono.just(BODY));
+                }))
+                .bindNow();
+        WebClient client = WebClient.builder().filter(new ConditionalRequestFilter())
+                .baseUrl("http://localhost:" + server.port()).build();
+
+        StepVerifier.create(client.get().uri("/sellers/S1").retrieve().bodyToMono(String.class))
+                .expectNext(BODY)
+                .verifyComplete();
+        StepVerifier.create(client.get().uri("/sellers/S1").retrieve().toEntity(String.class))
+                .expectNextMatches(e -> e.getStatusCode().value() == 200 && BODY.equals(e.getBody())
+                        && ETAG.equals(e.getHeaders().getETag()))
+                .verifyComplete();
+
+        assertThat(received).containsExactly("null", ETAG);
+    }
+
+    @Test
+    void get_withoutEtag_isNotCached() {
+        List<String> received = new CopyOnWriteArrayList<>();
+        server = HttpServer.create().port(0).route(r -> r.get("/sellers/S1", (req, resp) -> {
+                    received.add(String.valueOf(req.requestHeaders().get("If-None-Match")));
+                    return resp.header("Content-Type", MediaType.APPLICATION_JSON_VALUE).sendString(Mono.just(BODY));
+                }))
+                .bindNow();
+        WebClient client = WebClient.builder().filter(new ConditionalRequestFilter())
+                .baseUrl("http://localhost:" + server.port()).build();
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(client.get().uri("/sellers/S1").retrieve().bodyToMono(String.class))
+                    .expectNext(BODY)
+                    .verifyComplete();
+        }
+
+        assertThat(received).containsExactly("null", "null");
+    }
+
+    @Test
+    void get_changedEtag_replacesCachedEntry() {
+        List<String> received = new CopyOnWriteArrayList<>();
+        String[] current = {"\"v1\"", "{\"v\":1}"};
+        server = HttpServer.create().port(0).route(r -> r.get("/items", (req, resp) -> {
+                    String inm = req.requestHeaders().get("If-None-Match");
+                    received.add(String.valueOf(inm));
+                    if (current[0].equals(inm)) {
+                        return resp.status(304).send();
+                    }
+                    return resp.header("ETag", current[0]).sendString(Mono.just(current[1]));
+                }))
+                .bindNow();
+        WebClient client = WebClient.builder().filter(new ConditionalRequestFilter())
+                .baseUrl("http://localhost:" + server.port()).build();
+
+        StepVerifier.create(client.get().uri("/items").retrieve().bodyToMono(String.class))
+                .expectNext("{\"v\":1}").verifyComplete();
+        current[0] = "\"v2\"";
+        current[1] = "{\"v\":2}";
+        StepVerifier.create(client.get().uri("/items").retrieve().bodyToMono(String.class))
+                .expectNext("{\"v\":2}").verifyComplete();
+        StepVerifier.create(client.get().uri("/items").retrieve().bodyToMono(String.class))
+                .expectNext("{\"v\":2}").verifyComplete();
+
+        assertThat(received).containsExactly("null", "\"v1\"", "\"v2\"");
+    }
+
+    @Test
+    void get_chunkedBodyOverLimit_isPassedThroughIntact_andNotCached() {
+        List<String> received = new CopyOnWriteArrayList<>();
+        server = HttpServer.create().port(0).route(r -> r.get("/items", (req, resp) -> {
+                    received.add(String.valueOf(req.requestHeaders().get("If-None-Match")));
+                    return resp.header("ETag", ETAG)
+                            .sendString(Flux.just("0123456789", "abcdefghij", "KLMNOPQRST", "uvwxyz"));
+                }))
+                .bindNow();
+        WebClient client = WebClient.builder().filter(new ConditionalRequestFilter(16, 16))
+                .baseUrl("http://localhost:" + server.port()).build();
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(client.get().uri("/items").retrieve().bodyToMono(String.class))
+                    .expectNext("0123456789abcdefghijKLMNOPQRSTuvwxyz")
+                    .verifyComplete();
+        }
+
+        assertThat(received).containsExactly("null", "null");
+    }
+
+    @Test
+    void get_chunkedBodyWithinLimit_isCached() {
+        List<String> received = new CopyOnWriteArrayList<>();
+        server = HttpServer.create().port(0).route(r -> r.get("/items", (req, resp) -> {
+                    String inm = req.requestHeaders().get("If-None-Match");
+                    received.add(String.valueOf(inm));
+                    if (ETAG.equals(inm)) {
+                        return resp.status(304).send();
+                    }
+                    return resp.header("ETag", ETAG).sendString(Flux.just("{\"v\":", "1}"));
+                }))
+                .bindNow();
+        WebClient client = WebClient.builder().filter(new ConditionalRequestFilter(16, 64))
+                .baseUrl("http://localhost:" + server.port()).build();
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(client.get().uri("/items").retrieve().bodyToMono(String.class))
+                    .expectNext("{\"v\":1}")
+                    .verifyComplete();
+        }
+
+        assertThat(received).containsExactly("null", ETAG);
+    }
+}
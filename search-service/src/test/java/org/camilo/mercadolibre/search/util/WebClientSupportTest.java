@@ -0,0 +1,71 @@
+package org.camilo.mercadolibre.search.util;
+
+import org.junit.jupiter.api.Test;
+import org.mercadolibre.camilo.search.util.WebClientSupport;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WebClientSupportTest {
+
+    @Test
+    void batched_dedupesTrimsAndChunksInOrder() {
+        List<List<String>> calls = new CopyOnWriteArrayList<>();
+
+        Mono<Map<String, Integer>> result = WebClientSupport.batched(
+                Arrays.asList(" A", "B", null, "A", "  ", "C", "DD", "E"), 2,
+                ids -> {
+                    calls.add(new ArrayList<>(ids));
+                    return Mono.just(ids);
+                },
+                (Map<String, Integer> acc, List<String> ids) -> ids.forEach(id -> acc.put(id, id.length())));
+
+        StepVerifier.create(result)
+                .assertNext(map -> {
+                    assertThat(map).containsExactly(
+                            Map.entry("A", 1), Map.entry("B", 1), Map.entry("C", 1),
+                            Map.entry("DD", 2), Map.entry("E", 1));
+                    assertThatThrownBy(() -> map.put("F", 1)).isInstanceOf(UnsupportedOperationException.class);
+                })
+                .verifyComplete();
+        assertThat(calls).containsExactly(List.of("A", "B"), List.of("C", "DD"), List.of("E"));
+    }
+
+    @Test
+    void batched_noValidIds_returnsEmptyWithoutCalling() {
+        List<List<String>> calls = new CopyOnWriteArrayList<>();
+
+        StepVerifier.create(WebClientSupport.batched(Arrays.asList(null, " "), 100,
+                        ids -> {
+                            calls.add(ids);
+                            return Mono.just(ids);
+                        },
+                        (Map<String, String> acc, List<String> ids) -> ids.forEach(id -> acc.put(id, id))))
+                .assertNext(map -> assertThat(map).isEmpty())
+                .verifyComplete();
+        assertThat(calls).isEmpty();
+    }
+
+    @Test
+    void batched_chunkError_propagatesAndStopsLaterChunks() {
+        List<List<String>> calls = new CopyOnWriteArrayList<>();
+
+        StepVerifier.create(WebClientSupport.batched(List.of("A", "B", "C"), 1,
+                        ids -> {
+                            calls.add(ids);
+                            return ids.contains("B") ? Mono.error(new IllegalStateException("boom")) : Mono.just(ids);
+                        },
+                        (Map<String, String> acc, List<String> ids) -> ids.forEach(id -> acc.put(id, id))))
+                .expectErrorMessage("boom")
+                .verify();
+        assertThat(calls).containsExactly(List.of("A"), List.of("B"));
+    }
+}
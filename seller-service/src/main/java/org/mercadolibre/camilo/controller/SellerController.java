@@ -8,18 +8,24 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.mercadolibre.camilo.dto.SellerResponse;
+import org.mercadolibre.camilo.dto.SellersBatchResponse;
 import org.mercadolibre.camilo.model.ErrorResponse;
 import org.mercadolibre.camilo.service.SellerService;
+import org.mercadolibre.camilo.util.ETags;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @Tag(name = "Sellers", description = "Operaciones relacionadas con vendedores")
 @RestController
 @RequiredArgsConstructor
@@ -28,24 +34,78 @@ public class SellerController {
 
     private final SellerService service;
 
-    @Operation(summary = "Lista todos los vendedores disponibles",
-            description = "Devuelve un flujo (puede ser vacío) con los vendedores registrados.")
+    @Operation(summary = "Lista vendedores, opcionalmente filtrados y ordenados por métricas",
+            description = "Sin parámetros devuelve todos los vendedores registrados. Con filtros, sort o limit devuelve "
+                    + "los mejores según el orden pedido (por defecto reputation_desc, 20 resultados, máximo 100); "
+                    + "los límites de los filtros son inclusivos.")
     @ApiResponse(responseCode = "200", description = "Listado de vendedores (puede ser vacío)",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = SellerResponse.class))))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
+    @ApiResponse(responseCode = "400", description = "Petición inválida (filtro no finito, sort desconocido o limit fuera de rango)",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "500", description = "Error inesperado",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping
-    public ResponseEntity<Flux<SellerResponse>> getAll() {
-        Flux<SellerResponse> body = service.findAll();
+    public ResponseEntity<Flux<SellerResponse>> getAll(
+            @Parameter(description = "Reputación mínima (inclusiva)", example = "4.5")
+            @RequestParam(name = "minReputation", required = false) Double minReputation,
+            @Parameter(description = "Tasa de cancelaciones máxima (inclusiva)", example = "0.03")
+            @RequestParam(name = "maxCancellations", required = false) Double maxCancellations,
+            @Parameter(description = "Tasa de demoras máxima (inclusiva)", example = "0.1")
+            @RequestParam(name = "maxDelays", required = false) Double maxDelays,
+            @Parameter(description = "Orden: reputation_desc (por defecto), reputation_asc, cancellations_asc, delays_asc")
+            @RequestParam(name = "sort", required = false) String sort,
+            @Parameter(description = "Cantidad máxima de vendedores (1..100, por defecto 20)")
+            @RequestParam(name = "limit", required = false) Integer limit,
+            ServerWebExchange exchange) {
+        boolean ranked = minReputation != null || maxCancellations != null || maxDelays != null
+                || sort != null || limit != null;
+        String etag = ranked
+                ? ETags.of(service.dataVersion(), "search", minReputation, maxCancellations, maxDelays, sort, limit)
+                : ETags.of(service.dataVersion(), "list");
+        if (ETags.matches(exchange, etag)) {
+            return ETags.notModified(etag);
+        }
+        Flux<SellerResponse> body = ranked
+                ? service.search(minReputation, maxCancellations, maxDelays, sort, limit)
+                : service.findAll();
         return ResponseEntity.ok()
+                .eTag(etag)
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(body);
     }
 
+    @Operation(summary = "Obtiene varios vendedores en una sola llamada",
+            description = "Devuelve los vendedores encontrados en el orden de la petición (máximo 100 ids). "
+                    + "Los ids inexistentes se listan en missing en lugar de producir un 404.")
+    @ApiResponse(responseCode = "200", description = "Vendedores resueltos",
+            content = @Content(schema = @Schema(implementation = SellersBatchResponse.class)))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
+    @ApiResponse(responseCode = "400", description = "Petición inválida (sin ids, id en blanco o demasiados ids)",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Error inesperado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/batch")
+    public Mono<ResponseEntity<SellersBatchResponse>> getByIds(
+            @Parameter(description = "IDs de vendedor separados por coma", example = "S-50,S-77")
+            @RequestParam(name = "ids", required = false) List<String> ids,
+            ServerWebExchange exchange) {
+        String etag = ETags.of(service.dataVersion(), "batch", ids);
+        if (ETags.matches(exchange, etag)) {
+            return Mono.just(ETags.notModified(etag));
+        }
+        return service.getByIds(ids)
+                .map(body -> ResponseEntity.ok()
+                        .eTag(etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body));
+    }
+
     @Operation(summary = "Obtiene un vendedor por ID",
             description = "Devuelve la información del vendedor si existe.")
     @ApiResponse(responseCode = "200", description = "Vendedor encontrado",
             content = @Content(schema = @Schema(implementation = SellerResponse.class)))
+    @ApiResponse(responseCode = "304", description = "No modificado (If-None-Match coincide con el ETag)")
     @ApiResponse(responseCode = "404", description = "Vendedor no encontrado",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "400", description = "Petición inválida",
@@ -55,10 +115,15 @@ public class SellerController {
     @GetMapping("/{id}")
     public Mono<ResponseEntity<SellerResponse>> get(
             @Parameter(description = "Identificador del vendedor", required = true)
-            @PathVariable String id) {
+            @PathVariable String id,
+            ServerWebExchange exchange) {
+        String etag = ETags.of(service.dataVersion(), id);
         return service.get(id)
-                .map(body -> ResponseEntity.ok()
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .body(body));
+                .map(body -> ETags.matches(exchange, etag)
+                        ? ETags.<SellerResponse>notModified(etag)
+                        : ResponseEntity.ok()
+                                .eTag(etag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(body));
     }
 }
@@ -0,0 +1,22 @@
+package org.mercadolibre.camilo.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+@Schema(description = "Varios vendedores resueltos en una sola llamada")
+public class SellersBatchResponse {
+
+    @ArraySchema(arraySchema = @Schema(description = "Vendedores encontrados, en el orden de la petición"),
+            schema = @Schema(implementation = SellerResponse.class))
+    List<SellerResponse> sellers;
+
+    @ArraySchema(arraySchema = @Schema(description = "IDs solicitados que no existen"),
+            schema = @Schema(example = "S-UNKNOWN"))
+    List<String> missing;
+}
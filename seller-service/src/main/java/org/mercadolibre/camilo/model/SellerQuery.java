@@ -0,0 +1,36 @@
+package org.mercadolibre.camilo.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Filtros y orden de una consulta de vendedores por métricas.
+ * Los límites nulos no filtran; los que se informan son inclusivos.
+ */
+@Value
+@Builder
+public class SellerQuery {
+
+    /**
+     * Reputación mínima.
+     */
+    Double minReputation;
+
+    /**
+     * Tasa de cancelaciones máxima.
+     */
+    Double maxCancellations;
+
+    /**
+     * Tasa de demoras máxima.
+     */
+    Double maxDelays;
+
+    @Builder.Default
+    SellerSort sort = SellerSort.REPUTATION_DESC;
+
+    /**
+     * Cantidad máxima de vendedores a devolver.
+     */
+    int limit;
+}
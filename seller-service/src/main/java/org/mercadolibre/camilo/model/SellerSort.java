@@ -0,0 +1,35 @@
+package org.mercadolibre.camilo.model;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Órdenes disponibles para listar vendedores.
+ * Los empates se resuelven por id (ascendente) y los vendedores sin métricas quedan al final.
+ */
+public enum SellerSort {
+    REPUTATION_DESC,
+    REPUTATION_ASC,
+    CANCELLATIONS_ASC,
+    DELAYS_ASC;
+
+    /**
+     * Interpreta el parámetro {@code sort} ({@code reputation_desc}, {@code reputation_asc},
+     * {@code cancellations_asc}, {@code delays_asc}).
+     *
+     * @param value valor recibido; {@code null} o blanco equivale a {@link #REPUTATION_DESC}
+     * @return orden correspondiente; vacío si el valor no es válido
+     */
+    public static Optional<SellerSort> fromParam(String value) {
+        if (value == null || value.isBlank()) return Optional.of(REPUTATION_DESC);
+        try {
+            return Optional.of(valueOf(value.trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String param() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
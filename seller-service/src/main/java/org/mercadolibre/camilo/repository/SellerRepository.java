@@ -1,8 +1,10 @@
 package org.mercadolibre.camilo.repository;
 
 import org.mercadolibre.camilo.model.Seller;
+import org.mercadolibre.camilo.model.SellerQuery;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -34,4 +36,22 @@ public interface SellerRepository {
      * no debe ser modificable por el consumidor.
      */
     Collection<Seller> findAll();
-}
\ No newline at end of file
+
+    /**
+     * Devuelve los vendedores que cumplen los filtros de la consulta, en el orden pedido.
+     *
+     * @param query filtros por métricas (inclusivos; los nulos no filtran), orden y cantidad máxima
+     * @return lista inmutable de como máximo {@code query.limit} vendedores; nunca {@code null}
+     * @implNote Las implementaciones deben resolver los filtros y el orden con índices construidos en la carga,
+     * sin recorrer todos los vendedores en cada consulta.
+     */
+    List<Seller> search(SellerQuery query);
+
+    /**
+     * Versión del snapshot de datos en memoria. Cambia siempre que cambian los datos,
+     * por lo que sirve como base para validadores HTTP (ETag).
+     *
+     * @return versión opaca del snapshot
+     */
+    long getVersion();
+}
@@ -0,0 +1,272 @@
+package org.mercadolibre.camilo.repository.impl;
+
+import org.mercadolibre.camilo.model.Seller;
+import org.mercadolibre.camilo.model.SellerQuery;
+import org.mercadolibre.camilo.model.SellerSort;
+
+import java.util.*;
+
+/**
+ * Índices ordenados sobre las métricas de los vendedores (reputación, cancelaciones y demoras).
+ * <p>
+ * Cada vendedor recibe un ordinal según su id y cada métrica se guarda en un arreglo primitivo por ordinal,
+ * más un arreglo de ordinales ordenado por el valor de la métrica. Un filtro de mínimo o máximo es entonces
+ * un tramo contiguo de ese arreglo, que se ubica con búsqueda binaria.
+ * <p>
+ * Una consulta recorre el tramo más chico entre los de sus filtros y el de la métrica de orden:
+ * <ul>
+ *   <li>si es el de la métrica de orden, lo recorre en el orden pedido y corta al juntar {@code limit} vendedores
+ *   que cumplen el resto de los filtros;</li>
+ *   <li>si no, recorre ese tramo (ya filtrado) guardando los {@code limit} mejores en un heap acotado.</li>
+ * </ul>
+ * Los vendedores sin métricas tienen cancelaciones y demoras {@code NaN}: no cumplen filtros de máximo y quedan
+ * al final de cualquier orden. Inmutable una vez construido.
+ */
+final class SellerMetricIndex {
+
+    private final Seller[] sellers;
+    private final double[] reputation;
+    private final double[] cancellations;
+    private final double[] delays;
+
+    private final Sorted byReputation;
+    private final Sorted byCancellations;
+    private final Sorted byDelays;
+
+    SellerMetricIndex(Collection<Seller> all) {
+        this.sellers = all.stream()
+                .sorted(Comparator.comparing(Seller::getId, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .toArray(Seller[]::new);
+        int n = sellers.length;
+        this.reputation = new double[n];
+        this.cancellations = new double[n];
+        this.delays = new double[n];
+        for (int i = 0; i < n; i++) {
+            Seller s = sellers[i];
+            reputation[i] = normalize(s.getReputation());
+            cancellations[i] = s.getMetrics() == null ? Double.NaN : normalize(s.getMetrics().getCancellations());
+            delays[i] = s.getMetrics() == null ? Double.NaN : normalize(s.getMetrics().getDelays());
+        }
+        this.byReputation = new Sorted(reputation);
+        this.byCancellations = new Sorted(cancellations);
+        this.byDelays = new Sorted(delays);
+    }
+
+    /**
+     * Vendedores que cumplen todos los filtros de la consulta, en su orden, como máximo {@code limit}.
+     */
+    List<Seller> query(SellerQuery query) {
+        int limit = query.getLimit();
+        if (limit <= 0 || sellers.length == 0) return List.of();
+
+        Range reputationRange = query.getMinReputation() == null
+                ? byReputation.all() : byReputation.atLeast(query.getMinReputation());
+        Range cancellationsRange = query.getMaxCancellations() == null
+                ? byCancellations.all() : byCancellations.atMost(query.getMaxCancellations());
+        Range delaysRange = query.getMaxDelays() == null
+                ? byDelays.all() : byDelays.atMost(query.getMaxDelays());
+
+        SellerSort sort = query.getSort();
+        Sorted sortIndex;
+        Range sortRange;
+        switch (sort) {
+            case CANCELLATIONS_ASC -> {
+                sortIndex = byCancellations;
+                sortRange = cancellationsRange;
+            }
+            case DELAYS_ASC -> {
+                sortIndex = byDelays;
+                sortRange = delaysRange;
+            }
+            default -> {
+                sortIndex = byReputation;
+                sortRange = reputationRange;
+            }
+        }
+
+        Range smallest = reputationRange;
+        Sorted smallestIndex = byReputation;
+        if (cancellationsRange.size() < smallest.size()) {
+            smallest = cancellationsRange;
+            smallestIndex = byCancellations;
+        }
+        if (delaysRange.size() < smallest.size()) {
+            smallest = delaysRange;
+            smallestIndex = byDelays;
+        }
+        if (smallest.size() == 0) return List.of();
+
+        List<Seller> out = smallest.size() < sortRange.size()
+                ? topK(smallestIndex, smallest, query, order(sort), limit)
+                : walk(sortIndex, sortRange, query, sort == SellerSort.REPUTATION_DESC, limit);
+        return Collections.unmodifiableList(out);
+    }
+
+    /**
+     * Recorre el tramo de la métrica de orden en el orden pedido hasta juntar {@code limit} vendedores.
+     * En orden descendente se recorre por tramos de valores iguales para mantener los empates por id.
+     */
+    private List<Seller> walk(Sorted index, Range range, SellerQuery query, boolean descending, int limit) {
+        List<Seller> out = new ArrayList<>(Math.min(limit, range.size()));
+        if (!descending) {
+            for (int i = range.from(); i < range.to() && out.size() < limit; i++) {
+                collect(index.ordinals[i], query, out);
+            }
+            return out;
+        }
+
+        int numbersTo = Math.min(range.to(), index.nanFrom);
+        int i = numbersTo - 1;
+        while (i >= range.from() && out.size() < limit) {
+            int runStart = Math.max(range.from(), index.lowerBound(index.values[i]));
+            for (int j = runStart; j <= i && out.size() < limit; j++) {
+                collect(index.ordinals[j], query, out);
+            }
+            i = runStart - 1;
+        }
+        for (int j = Math.max(range.from(), index.nanFrom); j < range.to() && out.size() < limit; j++) {
+            collect(index.ordinals[j], query, out);
+        }
+        return out;
+    }
+
+    /**
+     * Recorre el tramo completo guardando en un heap acotado los {@code limit} mejores según {@code order}.
+     */
+    private List<Seller> topK(Sorted index, Range range, SellerQuery query, Comparator<Integer> order, int limit) {
+        PriorityQueue<Integer> best = new PriorityQueue<>(Math.min(limit, range.size()) + 1, order.reversed());
+        for (int i = range.from(); i < range.to(); i++) {
+            int ordinal = index.ordinals[i];
+            if (!matches(ordinal, query)) continue;
+            best.add(ordinal);
+            if (best.size() > limit) best.poll();
+        }
+        List<Integer> ranked = new ArrayList<>(best);
+        ranked.sort(order);
+        List<Seller> out = new ArrayList<>(ranked.size());
+        for (int ordinal : ranked) out.add(sellers[ordinal]);
+        return out;
+    }
+
+    private void collect(int ordinal, SellerQuery query, List<Seller> out) {
+        if (matches(ordinal, query)) out.add(sellers[ordinal]);
+    }
+
+    private boolean matches(int ordinal, SellerQuery query) {
+        return (query.getMinReputation() == null || reputation[ordinal] >= query.getMinReputation())
+                && (query.getMaxCancellations() == null || cancellations[ordinal] <= query.getMaxCancellations())
+                && (query.getMaxDelays() == null || delays[ordinal] <= query.getMaxDelays());
+    }
+
+    /**
+     * Orden de la consulta sobre ordinales: por la métrica (sin métricas al final) y, a igual valor, por id.
+     */
+    private Comparator<Integer> order(SellerSort sort) {
+        return switch (sort) {
+            case REPUTATION_ASC -> ascending(reputation);
+            case CANCELLATIONS_ASC -> ascending(cancellations);
+            case DELAYS_ASC -> ascending(delays);
+            case REPUTATION_DESC -> descending(reputation);
+        };
+    }
+
+    private static Comparator<Integer> ascending(double[] values) {
+        // Double.compare ubica NaN después de cualquier número.
+        return (a, b) -> {
+            int c = Double.compare(values[a], values[b]);
+            return c != 0 ? c : Integer.compare(a, b);
+        };
+    }
+
+    private static Comparator<Integer> descending(double[] values) {
+        return (a, b) -> {
+            boolean nanA = Double.isNaN(values[a]);
+            boolean nanB = Double.isNaN(values[b]);
+            if (nanA != nanB) return nanA ? 1 : -1;
+            int c = Double.compare(values[b], values[a]);
+            return c != 0 ? c : Integer.compare(a, b);
+        };
+    }
+
+    /**
+     * Unifica {@code -0.0} con {@code 0.0} para que la búsqueda binaria y los filtros coincidan.
+     */
+    private static double normalize(double value) {
+        return value + 0.0;
+    }
+
+    /**
+     * Tramo {@code [from, to)} de un índice ordenado.
+     */
+    private record Range(int from, int to) {
+
+        int size() {
+            return to - from;
+        }
+    }
+
+    /**
+     * Ordinales ordenados por el valor de una métrica (ascendente, empates por ordinal, {@code NaN} al final).
+     */
+    private static final class Sorted {
+
+        private final int[] ordinals;
+        private final double[] values;
+        private final int nanFrom;
+
+        Sorted(double[] byOrdinal) {
+            Integer[] idx = new Integer[byOrdinal.length];
+            for (int i = 0; i < idx.length; i++) idx[i] = i;
+            Arrays.sort(idx, ascending(byOrdinal));
+            this.ordinals = new int[idx.length];
+            this.values = new double[idx.length];
+            int nans = idx.length;
+            for (int i = 0; i < idx.length; i++) {
+                ordinals[i] = idx[i];
+                values[i] = byOrdinal[idx[i]];
+                if (nans == idx.length && Double.isNaN(values[i])) nans = i;
+            }
+            this.nanFrom = nans;
+        }
+
+        Range all() {
+            return new Range(0, ordinals.length);
+        }
+
+        Range atLeast(double min) {
+            return new Range(lowerBound(min), nanFrom);
+        }
+
+        Range atMost(double max) {
+            return new Range(0, upperBound(max));
+        }
+
+        /**
+         * Primera posición (entre los valores numéricos) con valor {@code >= x}.
+         */
+        int lowerBound(double x) {
+            int lo = 0;
+            int hi = nanFrom;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (values[mid] < x) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        /**
+         * Primera posición (entre los valores numéricos) con valor {@code > x}.
+         */
+        int upperBound(double x) {
+            int lo = 0;
+            int hi = nanFrom;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (values[mid] <= x) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+    }
+}
@@ -3,7 +3,9 @@ package org.mercadolibre.camilo.repository.impl;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.mercadolibre.camilo.model.Seller;
+import org.mercadolibre.camilo.model.SellerQuery;
 import org.mercadolibre.camilo.repository.SellerRepository;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,6 +14,7 @@ import org.springframework.stereotype.Repository;
 
 import java.io.InputStream;
 import java.util.*;
+import java.util.zip.CRC32;
 
 @Slf4j
 @Getter
@@ -23,6 +26,17 @@ public class SellerRepositoryImpl implements SellerRepository {
      */
     private final Map<String, Seller> byId;
 
+    /**
+     * Índices ordenados por reputación, cancelaciones y demoras; resuelven {@link #search(SellerQuery)}.
+     */
+    @Getter(AccessLevel.NONE)
+    private final SellerMetricIndex metrics;
+
+    /**
+     * Versión del snapshot cargado (CRC32 del JSON de origen); base de los ETag.
+     */
+    private final long version;
+
     /**
      * Crea el repositorio leyendo el JSON configurado y construyendo el índice en memoria.
      *
@@ -32,17 +46,26 @@ public class SellerRepositoryImpl implements SellerRepository {
      */
     public SellerRepositoryImpl(@Value("${app.data-path}") Resource data, ObjectMapper mapper) {
         try (InputStream in = data.getInputStream()) {
-            List<Seller> list = mapper.readValue(in, new TypeReference<>() {
+            byte[] bytes = in.readAllBytes();
+            this.version = checksum(bytes);
+            List<Seller> list = mapper.readValue(bytes, new TypeReference<>() {
             });
             Map<String, Seller> map = new HashMap<>();
             for (Seller s : list) map.put(s.getId(), s);
             this.byId = Collections.unmodifiableMap(map);
+            this.metrics = new SellerMetricIndex(map.values());
             log.info("Loaded {} sellers", map.size());
         } catch (Exception e) {
             throw new IllegalStateException("Cannot load sellers data", e);
         }
     }
 
+    private static long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -58,4 +81,12 @@ public class SellerRepositoryImpl implements SellerRepository {
     public Collection<Seller> findAll() {
         return byId.values();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Seller> search(SellerQuery query) {
+        return metrics.query(query);
+    }
 }
@@ -1,14 +1,32 @@
 package org.mercadolibre.camilo.service;
 
 import org.mercadolibre.camilo.dto.SellerResponse;
+import org.mercadolibre.camilo.dto.SellersBatchResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 /**
  * Servicio de negocio para operaciones sobre vendedores.
  */
 public interface SellerService {
 
+    /**
+     * Máximo de ids aceptados por {@link #getByIds(Collection)}.
+     */
+    int MAX_BATCH = 100;
+
+    /**
+     * Cantidad de vendedores devuelta por {@link #search} cuando no se informa {@code limit}.
+     */
+    int DEFAULT_SEARCH_LIMIT = 20;
+
+    /**
+     * Máximo de {@code limit} aceptado por {@link #search}.
+     */
+    int MAX_SEARCH_LIMIT = 100;
+
     /**
      * Obtiene un vendedor por su identificador.
      *
@@ -17,10 +35,38 @@ public interface SellerService {
      */
     Mono<SellerResponse> get(String id);
 
+    /**
+     * Obtiene varios vendedores en una sola llamada.
+     * Los ids inexistentes no producen error: se informan en {@code missing}.
+     *
+     * @param ids ids de vendedor (no vacío, como máximo {@link #MAX_BATCH}); se ignoran duplicados
+     * @return vendedores encontrados en el orden de la petición y los ids faltantes
+     */
+    Mono<SellersBatchResponse> getByIds(Collection<String> ids);
+
     /**
      * Lista todos los vendedores disponibles.
      *
      * @return flujo de vendedores en {@link Flux}
      */
     Flux<SellerResponse> findAll();
-}
\ No newline at end of file
+
+    /**
+     * Lista los mejores vendedores según filtros por métricas (límites inclusivos) y un orden.
+     *
+     * @param minReputation    reputación mínima (opcional)
+     * @param maxCancellations tasa de cancelaciones máxima (opcional)
+     * @param maxDelays        tasa de demoras máxima (opcional)
+     * @param sort             {@code reputation_desc} (por defecto), {@code reputation_asc},
+     *                         {@code cancellations_asc} o {@code delays_asc}
+     * @param limit            cantidad máxima (1..{@link #MAX_SEARCH_LIMIT}; por defecto {@link #DEFAULT_SEARCH_LIMIT})
+     * @return flujo de vendedores en el orden pedido
+     */
+    Flux<SellerResponse> search(Double minReputation, Double maxCancellations, Double maxDelays,
+                                String sort, Integer limit);
+
+    /**
+     * Versión actual de los datos servidos; base para calcular ETags sin serializar.
+     */
+    long dataVersion();
+}
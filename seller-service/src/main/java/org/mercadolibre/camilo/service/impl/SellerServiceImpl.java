@@ -1,8 +1,11 @@
 package org.mercadolibre.camilo.service.impl;
 
 import org.mercadolibre.camilo.dto.SellerResponse;
+import org.mercadolibre.camilo.dto.SellersBatchResponse;
 import org.mercadolibre.camilo.exceptions.InvalidRequestException;
 import org.mercadolibre.camilo.exceptions.SellerNotFoundException;
+import org.mercadolibre.camilo.model.SellerQuery;
+import org.mercadolibre.camilo.model.SellerSort;
 import org.mercadolibre.camilo.repository.SellerRepository;
 import org.mercadolibre.camilo.service.SellerService;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +14,12 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Implementación reactiva de {@link SellerService}.
  * <p>
@@ -54,6 +63,55 @@ public class SellerServiceImpl implements SellerService {
                         id, ex.getClass().getSimpleName(), ex.getMessage()));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cada id se resuelve con una búsqueda O(1) en el índice por id del repositorio.
+     * Errores:
+     * <ul>
+     *   <li>{@link InvalidRequestException} si {@code ids} es nulo o vacío, contiene un id en blanco
+     *   o supera {@link #MAX_BATCH} (HTTP 400).</li>
+     * </ul>
+     */
+    @Override
+    public Mono<SellersBatchResponse> getByIds(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            log.warn("SellerService.getByIds | invalid ids (empty)");
+            return Mono.error(new InvalidRequestException("Seller ids must not be empty"));
+        }
+        if (ids.size() > MAX_BATCH) {
+            log.warn("SellerService.getByIds | too many ids | size={}", ids.size());
+            return Mono.error(new InvalidRequestException(
+                    "At most %d seller ids are allowed per request".formatted(MAX_BATCH)));
+        }
+        Set<String> unique = new LinkedHashSet<>();
+        for (String id : ids) {
+            if (id == null || id.isBlank()) {
+                log.warn("SellerService.getByIds | invalid id (blank)");
+                return Mono.error(new InvalidRequestException("Seller id must not be blank"));
+            }
+            unique.add(id.trim());
+        }
+
+        log.info("SellerService.getByIds | fetching sellers | size={}", unique.size());
+        return Mono.fromCallable(() -> {
+                    List<SellerResponse> found = new ArrayList<>(unique.size());
+                    List<String> missing = new ArrayList<>();
+                    for (String id : unique) {
+                        repo.findById(id).ifPresentOrElse(
+                                s -> found.add(SellerResponse.from(s)),
+                                () -> missing.add(id));
+                    }
+                    log.debug("SellerService.getByIds | ok | found={} missing={}", found.size(), missing.size());
+                    return SellersBatchResponse.builder()
+                            .sellers(found)
+                            .missing(missing)
+                            .build();
+                })
+                .doOnError(ex -> log.error("SellerService.getByIds | error | type={} | msg={}",
+                        ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -64,4 +122,58 @@ public class SellerServiceImpl implements SellerService {
                 .map(SellerResponse::from)
                 .doOnComplete(() -> log.debug("SellerService.findAll | completed"));
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Los filtros y el orden se resuelven con los índices ordenados del repositorio.
+     * Errores:
+     * <ul>
+     *   <li>{@link InvalidRequestException} si algún límite no es un número finito, {@code sort} no es válido
+     *   o {@code limit} está fuera de rango (HTTP 400).</li>
+     * </ul>
+     */
+    @Override
+    public Flux<SellerResponse> search(Double minReputation, Double maxCancellations, Double maxDelays,
+                                       String sort, Integer limit) {
+        if (!finiteOrNull(minReputation) || !finiteOrNull(maxCancellations) || !finiteOrNull(maxDelays)) {
+            log.warn("SellerService.search | invalid bound | minReputation={} maxCancellations={} maxDelays={}",
+                    minReputation, maxCancellations, maxDelays);
+            return Flux.error(new InvalidRequestException("Metric bounds must be finite numbers"));
+        }
+        SellerSort order = SellerSort.fromParam(sort).orElse(null);
+        if (order == null) {
+            log.warn("SellerService.search | invalid sort | sort={}", sort);
+            return Flux.error(new InvalidRequestException(
+                    "sort must be one of reputation_desc, reputation_asc, cancellations_asc, delays_asc"));
+        }
+        if (limit != null && (limit < 1 || limit > MAX_SEARCH_LIMIT)) {
+            log.warn("SellerService.search | invalid limit | limit={}", limit);
+            return Flux.error(new InvalidRequestException("limit must be between 1 and %d".formatted(MAX_SEARCH_LIMIT)));
+        }
+
+        SellerQuery query = SellerQuery.builder()
+                .minReputation(minReputation)
+                .maxCancellations(maxCancellations)
+                .maxDelays(maxDelays)
+                .sort(order)
+                .limit(limit != null ? limit : DEFAULT_SEARCH_LIMIT)
+                .build();
+        log.info("SellerService.search | minReputation={} maxCancellations={} maxDelays={} sort={} limit={}",
+                minReputation, maxCancellations, maxDelays, order.param(), query.getLimit());
+        return Flux.defer(() -> Flux.fromIterable(repo.search(query)))
+                .map(SellerResponse::from)
+                .doOnComplete(() -> log.debug("SellerService.search | completed"))
+                .doOnError(ex -> log.error("SellerService.search | error | type={} | msg={}",
+                        ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
+    @Override
+    public long dataVersion() {
+        return repo.getVersion();
+    }
+
+    private static boolean finiteOrNull(Double value) {
+        return value == null || Double.isFinite(value);
+    }
 }
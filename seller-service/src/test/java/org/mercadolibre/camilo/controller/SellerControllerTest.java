@@ -0,0 +1,116 @@
+package org.mercadolibre.camilo.controller;
+
+import org.mercadolibre.camilo.dto.SellerResponse;
+import org.mercadolibre.camilo.exceptions.GlobalExceptionHandler;
+import org.mercadolibre.camilo.exceptions.SellerNotFoundException;
+import org.mercadolibre.camilo.service.SellerService;
+import org.mercadolibre.camilo.util.ETags;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SellerControllerTest {
+
+    @Mock
+    SellerService service;
+
+    WebTestClient client;
+
+    SellerResponse seller;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToController(new SellerController(service))
+                .controllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        seller = SellerResponse.builder()
+                .id("S-50")
+                .nickname("TechStore")
+                .reputation(4.7)
+                .metrics(SellerResponse.Metrics.builder().cancellations(0.03).delays(0.10).build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("get: 200 con ETag y, repitiendo ese ETag en If-None-Match, 304 sin cuerpo")
+    void get_etagRoundTrip() {
+        when(service.dataVersion()).thenReturn(7L);
+        when(service.get("S-50")).thenReturn(Mono.just(seller));
+
+        String etag = client.get().uri("/sellers/S-50")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists("ETag")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("S-50")
+                .returnResult()
+                .getResponseHeaders()
+                .getETag();
+        assertThat(etag).isNotBlank();
+
+        client.get().uri("/sellers/S-50")
+                .header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_MODIFIED)
+                .expectHeader().valueEquals("ETag", etag)
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    @DisplayName("get: If-None-Match distinto responde 200 con el cuerpo")
+    void get_staleEtag_returnsBody() {
+        when(service.dataVersion()).thenReturn(7L);
+        when(service.get("S-50")).thenReturn(Mono.just(seller));
+
+        client.get().uri("/sellers/S-50")
+                .header("If-None-Match", "\"0-stale\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.nickname").isEqualTo("TechStore");
+    }
+
+    @Test
+    @DisplayName("get: If-None-Match * sobre un id existente responde 304")
+    void get_wildcard_existing_notModified() {
+        when(service.dataVersion()).thenReturn(7L);
+        when(service.get("S-50")).thenReturn(Mono.just(seller));
+
+        client.get().uri("/sellers/S-50")
+                .header("If-None-Match", "*")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @DisplayName("get: If-None-Match * o un ETag adivinado sobre un id inexistente responde 404, no 304")
+    void get_wildcard_missing_notFound() {
+        when(service.dataVersion()).thenReturn(7L);
+        when(service.get("S-404")).thenReturn(Mono.error(new SellerNotFoundException("S-404")));
+
+        client.get().uri("/sellers/S-404")
+                .header("If-None-Match", "*")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.httpStatus").isEqualTo(404);
+
+        client.get().uri("/sellers/S-404")
+                .header("If-None-Match", ETags.of(7L, "S-404"))
+                .exchange()
+                .expectStatus().isNotFound();
+
+        verify(service, times(2)).get("S-404");
+    }
+}
@@ -3,6 +3,8 @@ package org.mercadolibre.camilo.repository;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.mercadolibre.camilo.model.Seller;
+import org.mercadolibre.camilo.model.SellerQuery;
+import org.mercadolibre.camilo.model.SellerSort;
 import org.mercadolibre.camilo.repository.impl.SellerRepositoryImpl;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -135,4 +137,102 @@ class SellerRepositoryImplTest {
                     .isInstanceOf(UnsupportedOperationException.class);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("search(query) con índices por métricas")
+    class Search {
+
+        private final String json = """
+        [
+          {"id":"S-1","nickname":"A","reputation":4.8,"metrics":{"cancellations":0.05,"delays":0.10}},
+          {"id":"S-2","nickname":"B","reputation":4.2,"metrics":{"cancellations":0.01,"delays":0.02}},
+          {"id":"S-3","nickname":"C","reputation":4.8,"metrics":{"cancellations":0.02,"delays":0.07}},
+          {"id":"S-4","nickname":"D","reputation":3.1,"metrics":{"cancellations":0.00,"delays":0.30}},
+          {"id":"S-5","nickname":"E","reputation":4.5}
+        ]
+        """;
+
+        private List<String> ids(List<Seller> sellers) {
+            return sellers.stream().map(Seller::getId).toList();
+        }
+
+        @Test
+        @DisplayName("sin filtros ordena por reputación desc (empates por id) y respeta el límite")
+        void search_topByReputation() {
+            SellerRepositoryImpl repo = new SellerRepositoryImpl(bytes(json), mapper);
+
+            List<Seller> top = repo.search(SellerQuery.builder().limit(3).build());
+
+            assertThat(ids(top)).containsExactly("S-1", "S-3", "S-5");
+            assertThat(ids(repo.search(SellerQuery.builder().sort(SellerSort.REPUTATION_ASC).limit(10).build())))
+                    .containsExactly("S-4", "S-2", "S-5", "S-1", "S-3");
+        }
+
+        @Test
+        @DisplayName("combina filtros inclusivos de reputación, cancelaciones y demoras")
+        void search_filters() {
+            SellerRepositoryImpl repo = new SellerRepositoryImpl(bytes(json), mapper);
+
+            assertThat(ids(repo.search(SellerQuery.builder().minReputation(4.5).limit(10).build())))
+                    .containsExactly("S-1", "S-3", "S-5");
+            assertThat(ids(repo.search(SellerQuery.builder().minReputation(4.2).maxCancellations(0.02).limit(10).build())))
+                    .containsExactly("S-3", "S-2");
+            assertThat(ids(repo.search(SellerQuery.builder().maxDelays(0.07).sort(SellerSort.DELAYS_ASC).limit(10).build())))
+                    .containsExactly("S-2", "S-3");
+            assertThat(repo.search(SellerQuery.builder().minReputation(5.0).limit(10).build())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("orden por métricas asc deja al final a los vendedores sin métricas")
+        void search_metricsSort_missingLast() {
+            SellerRepositoryImpl repo = new SellerRepositoryImpl(bytes(json), mapper);
+
+            assertThat(ids(repo.search(SellerQuery.builder().sort(SellerSort.CANCELLATIONS_ASC).limit(10).build())))
+                    .containsExactly("S-4", "S-2", "S-3", "S-1", "S-5");
+            assertThat(ids(repo.search(SellerQuery.builder().maxCancellations(1.0).limit(10).build())))
+                    .doesNotContain("S-5");
+        }
+
+        @Test
+        @DisplayName("coincide con un recorrido completo para consultas aleatorias")
+        void search_matchesBruteForce() {
+            java.util.Random random = new java.util.Random(42);
+            StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; i < 300; i++) {
+                if (i > 0) sb.append(',');
+                sb.append("{\"id\":\"S-").append(i).append("\",\"reputation\":").append(random.nextInt(11) / 2.0)
+                        .append(",\"metrics\":{\"cancellations\":").append(random.nextInt(20) / 100.0)
+                        .append(",\"delays\":").append(random.nextInt(30) / 100.0).append("}}");
+            }
+            SellerRepositoryImpl repo = new SellerRepositoryImpl(bytes(sb.append(']').toString()), mapper);
+
+            for (int q = 0; q < 500; q++) {
+                SellerQuery query = SellerQuery.builder()
+                        .minReputation(random.nextBoolean() ? random.nextInt(11) / 2.0 : null)
+                        .maxCancellations(random.nextBoolean() ? random.nextInt(20) / 100.0 : null)
+                        .maxDelays(random.nextBoolean() ? random.nextInt(30) / 100.0 : null)
+                        .sort(SellerSort.values()[random.nextInt(SellerSort.values().length)])
+                        .limit(1 + random.nextInt(25))
+                        .build();
+
+                assertThat(ids(repo.search(query))).as("query %s", query).isEqualTo(ids(bruteForce(repo.findAll(), query)));
+            }
+        }
+
+        private List<Seller> bruteForce(Collection<Seller> all, SellerQuery q) {
+            java.util.Comparator<Seller> metric = switch (q.getSort()) {
+                case REPUTATION_DESC -> java.util.Comparator.comparingDouble((Seller s) -> -s.getReputation());
+                case REPUTATION_ASC -> java.util.Comparator.comparingDouble(Seller::getReputation);
+                case CANCELLATIONS_ASC -> java.util.Comparator.comparingDouble((Seller s) -> s.getMetrics().getCancellations());
+                case DELAYS_ASC -> java.util.Comparator.comparingDouble((Seller s) -> s.getMetrics().getDelays());
+            };
+            return all.stream()
+                    .filter(s -> q.getMinReputation() == null || s.getReputation() >= q.getMinReputation())
+                    .filter(s -> q.getMaxCancellations() == null || s.getMetrics().getCancellations() <= q.getMaxCancellations())
+                    .filter(s -> q.getMaxDelays() == null || s.getMetrics().getDelays() <= q.getMaxDelays())
+                    .sorted(metric.thenComparing(Seller::getId))
+                    .limit(q.getLimit())
+                    .toList();
+        }
+    }
+}
@@ -4,6 +4,8 @@ import org.mercadolibre.camilo.dto.SellerResponse;
 import org.mercadolibre.camilo.exceptions.InvalidRequestException;
 import org.mercadolibre.camilo.exceptions.SellerNotFoundException;
 import org.mercadolibre.camilo.model.Seller;
+import org.mercadolibre.camilo.model.SellerQuery;
+import org.mercadolibre.camilo.model.SellerSort;
 import org.mercadolibre.camilo.repository.SellerRepository;
 import org.mercadolibre.camilo.service.impl.SellerServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +20,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -131,6 +135,68 @@ class SellerServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("getByIds(ids)")
+    class GetByIds {
+
+        @Test
+        @DisplayName("debe fallar con InvalidRequestException cuando ids es null o vacío")
+        void getByIds_empty_throwsInvalidRequest() {
+            StepVerifier.create(service.getByIds(null))
+                    .expectErrorSatisfies(err -> assertThat(err)
+                            .isInstanceOf(InvalidRequestException.class)
+                            .hasMessage("Seller ids must not be empty"))
+                    .verify();
+            StepVerifier.create(service.getByIds(List.of()))
+                    .expectError(InvalidRequestException.class)
+                    .verify();
+
+            verifyNoInteractions(repo);
+        }
+
+        @Test
+        @DisplayName("debe fallar con InvalidRequestException cuando supera el máximo o hay un id blank")
+        void getByIds_tooManyOrBlank_throwsInvalidRequest() {
+            List<String> ids = new ArrayList<>();
+            for (int i = 0; i <= SellerService.MAX_BATCH; i++) ids.add("S-" + i);
+
+            StepVerifier.create(service.getByIds(ids))
+                    .expectErrorSatisfies(err -> assertThat(err)
+                            .isInstanceOf(InvalidRequestException.class)
+                            .hasMessage("At most 100 seller ids are allowed per request"))
+                    .verify();
+            StepVerifier.create(service.getByIds(Arrays.asList("S-50", " ")))
+                    .expectErrorSatisfies(err -> assertThat(err)
+                            .isInstanceOf(InvalidRequestException.class)
+                            .hasMessage("Seller id must not be blank"))
+                    .verify();
+
+            verifyNoInteractions(repo);
+        }
+
+        @Test
+        @DisplayName("debe devolver los encontrados en orden, sin duplicados, e informar los faltantes")
+        void getByIds_mixed_returnsFoundAndMissing() {
+            when(repo.findById("S-77")).thenReturn(Optional.of(seller2));
+            when(repo.findById("S-404")).thenReturn(Optional.empty());
+            when(repo.findById("S-50")).thenReturn(Optional.of(seller1));
+
+            StepVerifier.create(service.getByIds(List.of("S-77", " S-404 ", "S-50", "S-77")))
+                    .assertNext(resp -> {
+                        assertThat(resp.getSellers()).extracting(SellerResponse::getId)
+                                .containsExactly("S-77", "S-50");
+                        assertThat(resp.getSellers().get(1).getNickname()).isEqualTo("TechStore");
+                        assertThat(resp.getMissing()).containsExactly("S-404");
+                    })
+                    .verifyComplete();
+
+            verify(repo, times(1)).findById("S-77");
+            verify(repo, times(1)).findById("S-404");
+            verify(repo, times(1)).findById("S-50");
+            verifyNoMoreInteractions(repo);
+        }
+    }
+
     @Nested
     @DisplayName("findAll()")
     class FindAll {
@@ -175,4 +241,61 @@ class SellerServiceImplTest {
             verifyNoMoreInteractions(repo);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("search(minReputation, maxCancellations, maxDelays, sort, limit)")
+    class Search {
+
+        @Test
+        @DisplayName("debe fallar con InvalidRequestException ante sort, limit o límites inválidos")
+        void search_invalidParams_throwsInvalidRequest() {
+            StepVerifier.create(service.search(null, null, null, "nickname", null))
+                    .expectErrorSatisfies(err -> assertThat(err)
+                            .isInstanceOf(InvalidRequestException.class)
+                            .hasMessageContaining("sort must be one of"))
+                    .verify();
+            StepVerifier.create(service.search(null, null, null, null, SellerService.MAX_SEARCH_LIMIT + 1))
+                    .expectErrorSatisfies(err -> assertThat(err)
+                            .isInstanceOf(InvalidRequestException.class)
+                            .hasMessage("limit must be between 1 and 100"))
+                    .verify();
+            StepVerifier.create(service.search(Double.NaN, null, null, null, null))
+                    .expectErrorSatisfies(err -> assertThat(err)
+                            .isInstanceOf(InvalidRequestException.class)
+                            .hasMessage("Metric bounds must be finite numbers"))
+                    .verify();
+
+            verifyNoInteractions(repo);
+        }
+
+        @Test
+        @DisplayName("debe usar reputation_desc y el límite por defecto cuando no se informan")
+        void search_defaults() {
+            when(repo.search(any())).thenReturn(List.of(seller1, seller2));
+
+            StepVerifier.create(service.search(3.5, null, null, null, null))
+                    .assertNext(resp -> assertThat(resp.getId()).isEqualTo("S-50"))
+                    .assertNext(resp -> assertThat(resp.getId()).isEqualTo("S-77"))
+                    .verifyComplete();
+
+            verify(repo).search(SellerQuery.builder()
+                    .minReputation(3.5)
+                    .sort(SellerSort.REPUTATION_DESC)
+                    .limit(SellerService.DEFAULT_SEARCH_LIMIT)
+                    .build());
+            verifyNoMoreInteractions(repo);
+        }
+
+        @Test
+        @DisplayName("debe traducir filtros, sort y limit a la consulta del repositorio")
+        void search_mapsQuery() {
+            when(repo.search(argThat(q -> q.getSort() == SellerSort.CANCELLATIONS_ASC
+                    && q.getMaxCancellations() == 0.04 && q.getMaxDelays() == 0.1 && q.getLimit() == 5)))
+                    .thenReturn(List.of(seller1));
+
+            StepVerifier.create(service.search(null, 0.04, 0.1, " CANCELLATIONS_ASC ", 5))
+                    .assertNext(resp -> assertThat(resp.getNickname()).isEqualTo("TechStore"))
+                    .verifyComplete();
+        }
+    }
+}